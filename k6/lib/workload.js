@@ -0,0 +1,103 @@
+// Building blocks for the workload suite: product generation from the pre-load
+// templates and Zipfian SKU popularity. Kept free of k6 imports so the functions
+// can be checked with plain Node.
+
+const METRIC_LENGTH = { unit: 'CENTIMETERS', factor: 2.54 };
+const METRIC_WEIGHT = { unit: 'KILOGRAMS', factor: 0.45359237 };
+const EXTRA_HAZMAT_UN_NUMBERS = ['UN1263', 'UN1950', 'UN3480', 'UN3481', 'UN1170'];
+
+// Small deterministic PRNG, so product N has the same shape on every run.
+function mulberry32(seed) {
+  let a = seed >>> 0;
+  return function () {
+    a = (a + 0x6d2b79f5) >>> 0;
+    let t = a;
+    t = Math.imul(t ^ (t >>> 15), t | 1);
+    t ^= t + Math.imul(t ^ (t >>> 7), t | 61);
+    return ((t ^ (t >>> 14)) >>> 0) / 4294967296;
+  };
+}
+
+function round2(value) {
+  return Math.max(0.01, Math.round(value * 100) / 100);
+}
+
+function measure(measurement, scale, metric) {
+  if (metric) {
+    return { value: round2(measurement.value * scale * metric.factor), unit: metric.unit };
+  }
+  return { value: round2(measurement.value * scale), unit: measurement.unit };
+}
+
+function dimensionSet(set, scale, metric) {
+  return {
+    length: measure(set.length, scale, metric && METRIC_LENGTH),
+    width: measure(set.width, scale, metric && METRIC_LENGTH),
+    height: measure(set.height, scale, metric && METRIC_LENGTH),
+    weight: measure(set.weight, scale, metric && METRIC_WEIGHT),
+  };
+}
+
+export function skuFor(templates, index) {
+  return `${templates[index % templates.length].sku}-${String(index).padStart(7, '0')}`;
+}
+
+// Product `index`, derived from template `index % templates.length`: dimensions
+// scaled by 0.8-1.25, about a third in metric units, and some extra hazmat items.
+export function productFor(templates, index, titleSuffix) {
+  const template = templates[index % templates.length];
+  const random = mulberry32(index + 1);
+  const scale = 0.8 + random() * 0.45;
+  const metric = random() < 0.33;
+
+  let hazmat = template.attributes.hazmat_info;
+  if (!hazmat.is_hazmat && random() < 0.05) {
+    hazmat = {
+      is_hazmat: true,
+      un_number: EXTRA_HAZMAT_UN_NUMBERS[Math.floor(random() * EXTRA_HAZMAT_UN_NUMBERS.length)],
+    };
+  }
+
+  return {
+    sku: skuFor(templates, index),
+    title: titleSuffix ? `${template.title} ${titleSuffix}` : `${template.title} #${index}`,
+    dimensions: {
+      item: dimensionSet(template.dimensions.item, scale, metric),
+      // Packaging is always at least as large as the item
+      package: dimensionSet(template.dimensions.package, scale * 1.05, metric),
+    },
+    attributes: { hazmat_info: hazmat },
+  };
+}
+
+function zeta(n, theta) {
+  let sum = 0;
+  for (let i = 1; i <= n; i++) {
+    sum += 1 / Math.pow(i, theta);
+  }
+  return sum;
+}
+
+// Ranks in [0, items) with rank 0 the most popular (Gray et al., "Quickly
+// generating billion-record synthetic databases"). A skew of 0 is uniform.
+export function zipfian(items, theta) {
+  if (theta === 0) {
+    return () => Math.floor(Math.random() * items);
+  }
+  const zetaN = zeta(items, theta);
+  const alpha = 1 / (1 - theta);
+  const eta = (1 - Math.pow(2 / items, 1 - theta)) / (1 - zeta(2, theta) / zetaN);
+  const half = 1 + Math.pow(0.5, theta);
+
+  return function () {
+    const u = Math.random();
+    const uz = u * zetaN;
+    if (uz < 1) {
+      return 0;
+    }
+    if (uz < half) {
+      return Math.min(1, items - 1);
+    }
+    return Math.min(items - 1, Math.floor(items * Math.pow(eta * u - eta + 1, alpha)));
+  };
+}
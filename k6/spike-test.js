@@ -2,6 +2,10 @@
 import http from 'k6/http';
 import { check, sleep } from 'k6';
 import { SharedArray } from 'k6/data';
+import { Rate } from 'k6/metrics';
+
+// Requests turned away by admission control (429/503 with Retry-After) rather than served late
+const shed = new Rate('requests_shed');
 
 // Test configuration
 export const options = {
@@ -16,6 +20,7 @@ export const options = {
   ],
   thresholds: {
     'http_req_duration': ['p(99)<1500'], // 99% of requests must complete below 1.5s
+    'requests_shed': ['rate<0.5'], // the service sheds load; it should not shed most of it
   },
 };
 
@@ -50,35 +55,40 @@ const data = new SharedArray('some data', function () {
 
 const BASE_URL = __ENV.BASE_URL || 'http://localhost:8082';
 
+function track(response) {
+  shed.add(response.status === 429 || response.status === 503);
+  return response;
+}
+
 export default function () {
   const product = data[0];
   product.sku = `TEST-SKU-${__VU}`;
 
   // Create a new product
-  let createResponse = http.post(`${BASE_URL}/products`, JSON.stringify(product), {
+  let createResponse = track(http.post(`${BASE_URL}/products`, JSON.stringify(product), {
     headers: { 'Content-Type': 'application/json' },
-  });
+  }));
   check(createResponse, { 'product created': (r) => r.status === 201 });
 
   sleep(1);
 
   // Get the product by SKU
-  let getResponse = http.get(`${BASE_URL}/products/${product.sku}`);
+  let getResponse = track(http.get(`${BASE_URL}/products/${product.sku}`));
   check(getResponse, { 'product retrieved': (r) => r.status === 200 });
 
   sleep(1);
 
   // List all products
-  let listResponse = http.get(`${BASE_URL}/products`);
+  let listResponse = track(http.get(`${BASE_URL}/products`));
   check(listResponse, { 'products listed': (r) => r.status === 200 });
 
   sleep(1);
 
   // Update the product
   product.title = 'Updated Test Product';
-  let updateResponse = http.put(`${BASE_URL}/products/${product.sku}`, JSON.stringify(product), {
+  let updateResponse = track(http.put(`${BASE_URL}/products/${product.sku}`, JSON.stringify(product), {
     headers: { 'Content-Type': 'application/json' },
-  });
+  }));
   check(updateResponse, { 'product updated': (r) => r.status === 200 });
 
   sleep(1);
@@ -90,14 +100,14 @@ export default function () {
     dimensions: product.dimensions,
     attributes: product.attributes,
   };
-  let patchResponse = http.patch(`${BASE_URL}/products/${product.sku}`, JSON.stringify(patchPayload), {
+  let patchResponse = track(http.patch(`${BASE_URL}/products/${product.sku}`, JSON.stringify(patchPayload), {
     headers: { 'Content-Type': 'application/json' },
-  });
+  }));
   check(patchResponse, { 'product patched': (r) => r.status === 200 });
 
   sleep(1);
 
   // Delete the product
-  let deleteResponse = http.del(`${BASE_URL}/products/${product.sku}`);
+  let deleteResponse = track(http.del(`${BASE_URL}/products/${product.sku}`));
   check(deleteResponse, { 'product deleted': (r) => r.status === 204 });
 }
@@ -0,0 +1,181 @@
+import http from 'k6/http';
+import { check } from 'k6';
+import { SharedArray } from 'k6/data';
+import { Counter, Trend } from 'k6/metrics';
+import { textSummary } from 'https://jslib.k6.io/k6-summary/0.0.2/index.js';
+import { productFor, skuFor, zipfian } from './lib/workload.js';
+
+// Workload suite: seeds N products varied from the pre-load templates, then runs
+// Zipfian single reads, batch reads, paginated listing, full exports and
+// concurrent updates to a few hot SKUs side by side. Scenarios use arrival-rate
+// executors, so a slow server shows up as latency instead of a lower request rate.
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8082';
+const PRODUCTS = parseInt(__ENV.PRODUCTS || '10000');
+const SKEW = parseFloat(__ENV.SKEW || '0.99');
+const DURATION = __ENV.DURATION || '5m';
+const BATCH_SIZE = parseInt(__ENV.BATCH_SIZE || '25');
+const PAGE_SIZE = parseInt(__ENV.PAGE_SIZE || '100');
+const PAGES_PER_WALK = parseInt(__ENV.PAGES_PER_WALK || '5');
+const HOT_SKUS = parseInt(__ENV.HOT_SKUS || '3');
+const SEED_BATCH = 50;
+
+const JSON_HEADERS = { headers: { 'Content-Type': 'application/json' } };
+
+const templates = new SharedArray('product templates', function () {
+  return JSON.parse(open('../pre-load-products/products.json')).map(({ request_body, ...product }) => product);
+});
+
+const popularity = zipfian(PRODUCTS, SKEW);
+
+const latency = {
+  get: new Trend('endpoint_get_product', true),
+  batchGet: new Trend('endpoint_batch_get', true),
+  listPage: new Trend('endpoint_list_page', true),
+  export: new Trend('endpoint_export', true),
+  hotUpdate: new Trend('endpoint_hot_update', true),
+};
+const updateConflicts = new Counter('hot_update_conflicts');
+
+function rate(name, fallback) {
+  return parseInt(__ENV[name] || fallback);
+}
+
+function arrivalRate(exec, perSecond, preAllocatedVUs) {
+  return {
+    executor: 'constant-arrival-rate',
+    exec,
+    rate: perSecond,
+    timeUnit: '1s',
+    duration: DURATION,
+    preAllocatedVUs,
+    maxVUs: preAllocatedVUs * 4,
+  };
+}
+
+export const options = {
+  setupTimeout: '10m',
+  summaryTrendStats: ['avg', 'p(50)', 'p(90)', 'p(99)', 'p(99.9)', 'max', 'count'],
+  scenarios: {
+    zipfian_reads: arrivalRate('getProduct', rate('READ_RATE', '400'), 50),
+    batch_reads: arrivalRate('batchGet', rate('BATCH_RATE', '40'), 20),
+    paginated_list: arrivalRate('listPages', rate('LIST_RATE', '5'), 10),
+    exports: {
+      executor: 'constant-arrival-rate',
+      exec: 'exportAll',
+      rate: rate('EXPORTS_PER_MINUTE', '6'),
+      timeUnit: '1m',
+      duration: DURATION,
+      preAllocatedVUs: 2,
+      maxVUs: 4,
+    },
+    hot_sku_updates: arrivalRate('updateHotSku', rate('UPDATE_RATE', '50'), 20),
+  },
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+    endpoint_get_product: ['p(99)<250'],
+    endpoint_batch_get: ['p(99)<500'],
+    endpoint_list_page: ['p(99)<500'],
+    endpoint_hot_update: ['p(99)<1000'],
+  },
+};
+
+// Creates the products through the API; re-running against a seeded service
+// replaces them with the same content.
+export function setup() {
+  for (let start = 0; start < PRODUCTS; start += SEED_BATCH) {
+    const requests = [];
+    for (let i = start; i < Math.min(start + SEED_BATCH, PRODUCTS); i++) {
+      requests.push(['POST', `${BASE_URL}/products`, JSON.stringify(productFor(templates, i)), JSON_HEADERS]);
+    }
+    http.batch(requests).forEach((response, i) => {
+      if (response.status !== 201 && response.status !== 409) {
+        throw new Error(`Seeding ${skuFor(templates, start + i)} returned HTTP ${response.status}`);
+      }
+    });
+  }
+  return { products: PRODUCTS };
+}
+
+export function getProduct() {
+  const sku = skuFor(templates, popularity());
+  const response = http.get(`${BASE_URL}/products/${sku}`, { tags: { name: 'GET /products/{sku}' } });
+  latency.get.add(response.timings.duration);
+  check(response, { 'get: 200': (r) => r.status === 200 });
+}
+
+export function batchGet() {
+  const skus = [];
+  for (let i = 0; i < BATCH_SIZE; i++) {
+    skus.push(skuFor(templates, popularity()));
+  }
+  const response = http.post(`${BASE_URL}/products/batch-get`, JSON.stringify({ skus }),
+    Object.assign({ tags: { name: 'POST /products/batch-get' } }, JSON_HEADERS));
+  latency.batchGet.add(response.timings.duration);
+  check(response, { 'batch-get: 200': (r) => r.status === 200 });
+}
+
+// Walks consecutive pages from a random starting page, like a client paging
+// through the catalog.
+export function listPages() {
+  const pages = Math.max(1, Math.floor(PRODUCTS / PAGE_SIZE));
+  const first = Math.floor(Math.random() * pages);
+  for (let page = first; page < Math.min(first + PAGES_PER_WALK, pages); page++) {
+    const response = http.get(`${BASE_URL}/products?offset=${page * PAGE_SIZE}&limit=${PAGE_SIZE}`,
+      { tags: { name: 'GET /products' } });
+    latency.listPage.add(response.timings.duration);
+    if (!check(response, { 'list: 200': (r) => r.status === 200 })) {
+      return;
+    }
+  }
+}
+
+export function exportAll() {
+  const response = http.get(`${BASE_URL}/products/export`,
+    { tags: { name: 'GET /products/export' }, responseType: 'none', timeout: '5m' });
+  latency.export.add(response.timings.duration);
+  check(response, { 'export: 200': (r) => r.status === 200 });
+}
+
+// Concurrent full updates to the few most popular SKUs; a 409 is a lost
+// optimistic-concurrency race, counted separately from failures.
+export function updateHotSku() {
+  const index = Math.floor(Math.random() * HOT_SKUS);
+  const product = productFor(templates, index, `(rev ${__VU}-${__ITER})`);
+  const response = http.put(`${BASE_URL}/products/${product.sku}`, JSON.stringify(product),
+    Object.assign({ tags: { name: 'PUT /products/{sku}' }, responseCallback: http.expectedStatuses(200, 409) },
+      JSON_HEADERS));
+  latency.hotUpdate.add(response.timings.duration);
+  if (response.status === 409) {
+    updateConflicts.add(1);
+  }
+  check(response, { 'hot update: 200 or 409': (r) => r.status === 200 || r.status === 409 });
+}
+
+function endpointTable(data) {
+  const rows = [
+    ['GET /products/{sku}', 'endpoint_get_product'],
+    ['POST /products/batch-get', 'endpoint_batch_get'],
+    ['GET /products (page)', 'endpoint_list_page'],
+    ['GET /products/export', 'endpoint_export'],
+    ['PUT /products/{sku} (hot)', 'endpoint_hot_update'],
+  ];
+  const lines = ['', 'Per-endpoint latency (ms)', '',
+    'endpoint                     count        p50        p99       p999        max'];
+  for (const [label, metric] of rows) {
+    const values = data.metrics[metric] ? data.metrics[metric].values : null;
+    if (!values) {
+      continue;
+    }
+    lines.push(label.padEnd(26) + [values.count, values['p(50)'], values['p(99)'], values['p(99.9)'], values.max]
+      .map((value, i) => (i === 0 ? String(value) : value.toFixed(2)).padStart(11)).join(''));
+  }
+  return lines.join('\n') + '\n';
+}
+
+export function handleSummary(data) {
+  return {
+    stdout: textSummary(data, { indent: ' ', enableColors: true }) + endpointTable(data),
+    [__ENV.SUMMARY_FILE || 'workload-summary.json']: JSON.stringify(data, null, 2),
+  };
+}
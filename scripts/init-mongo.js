@@ -68,5 +68,14 @@ db.products.createIndex({ sku: 1 }, { unique: true });
 db.products.createIndex({ title: 1 });
 db.products.createIndex({ createdAt: -1 });
 db.products.createIndex({ updatedAt: -1 });
+db.products.createIndex({ updatedAt: 1, sku: 1 });
+db.products.createIndex({ deletedAt: 1 }, { sparse: true });
+
+// Record pre-images so CDC mode can derive deletes and skip no-op writes (MongoDB 6.0+)
+try {
+  db.runCommand({ collMod: 'products', changeStreamPreAndPostImages: { enabled: true } });
+} catch (e) {
+  print('Could not enable change stream pre-images: ' + e.message);
+}
 
 print('MongoDB initialized successfully for Product Catalog service');
\ No newline at end of file
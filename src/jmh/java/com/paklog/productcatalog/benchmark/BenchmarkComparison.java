@@ -0,0 +1,186 @@
+package com.paklog.productcatalog.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH JSON results, benchmark by benchmark, on the primary score and on
+ * normalized allocation ({@code gc.alloc.rate.norm}, bytes per operation).
+ * <p>
+ * A metric counts as a regression when it moved the wrong way by more than the threshold
+ * and by more than the two runs' combined error, so noisy benchmarks do not fail the
+ * build. Allocation is steady within a fork but can differ between forks as the JIT
+ * makes different inlining and escape-analysis decisions, which is why the benchmarks
+ * run two forks and its error is taken into account as well.
+ */
+final class BenchmarkComparison {
+
+    static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+    private static final double ALLOCATION_TOLERANCE_BYTES = 16.0;
+
+    private final Path baseline;
+    private final double threshold;
+    private final List<Row> rows;
+
+    private BenchmarkComparison(Path baseline, double threshold, List<Row> rows) {
+        this.baseline = baseline;
+        this.threshold = threshold;
+        this.rows = rows;
+    }
+
+    static BenchmarkComparison compare(Path baseline, Path current, double threshold) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        Map<String, Measurement> before = Files.exists(baseline) ? read(objectMapper, baseline) : Map.of();
+        Map<String, Measurement> after = read(objectMapper, current);
+
+        List<Row> rows = new ArrayList<>();
+        for (Map.Entry<String, Measurement> entry : new TreeMap<>(after).entrySet()) {
+            Measurement previous = before.get(entry.getKey());
+            rows.add(new Row(entry.getKey(), previous, entry.getValue(), status(previous, entry.getValue(), threshold)));
+        }
+        return new BenchmarkComparison(Files.exists(baseline) ? baseline : null, threshold, rows);
+    }
+
+    boolean hasRegressions() {
+        return rows.stream().anyMatch(row -> row.status() == Status.REGRESSION);
+    }
+
+    List<Row> rows() {
+        return rows;
+    }
+
+    String toMarkdown() {
+        StringBuilder out = new StringBuilder();
+        out.append("## Benchmark comparison\n\n");
+        if (baseline == null) {
+            out.append("No baseline found; run with -Djmh.saveBaseline=true to record one.\n\n");
+        } else {
+            out.append(String.format(Locale.ROOT, "Baseline: `%s`, threshold: %.0f%%%n%n", baseline, threshold * 100));
+        }
+        out.append("| Benchmark | Mode | Baseline | Current | Change | Baseline B/op | Current B/op | Change | Status |\n");
+        out.append("|---|---|---:|---:|---:|---:|---:|---:|---|\n");
+        for (Row row : rows) {
+            Measurement previous = row.baseline();
+            Measurement current = row.current();
+            out.append("| ").append(row.benchmark())
+                    .append(" | ").append(current.mode())
+                    .append(" | ").append(previous != null ? score(previous.score(), previous.unit()) : "-")
+                    .append(" | ").append(score(current.score(), current.unit()))
+                    .append(" | ").append(previous != null ? change(previous.score(), current.score()) : "-")
+                    .append(" | ").append(previous != null ? bytes(previous.allocation()) : "-")
+                    .append(" | ").append(bytes(current.allocation()))
+                    .append(" | ").append(previous != null ? change(previous.allocation(), current.allocation()) : "-")
+                    .append(" | ").append(row.status().label)
+                    .append(" |\n");
+        }
+        return out.toString();
+    }
+
+    private static Status status(Measurement previous, Measurement current, double threshold) {
+        if (previous == null) {
+            return Status.NEW;
+        }
+
+        double scoreDelta = current.score() - previous.score();
+        double worse = current.higherIsBetter() ? -scoreDelta : scoreDelta;
+        boolean scoreRegressed = worse > previous.score() * threshold
+                && Math.abs(scoreDelta) > previous.error() + current.error();
+        boolean scoreImproved = -worse > previous.score() * threshold
+                && Math.abs(scoreDelta) > previous.error() + current.error();
+
+        double allocationDelta = current.allocation() - previous.allocation();
+        boolean allocationRegressed = allocationDelta > ALLOCATION_TOLERANCE_BYTES
+                && allocationDelta > previous.allocation() * threshold
+                && allocationDelta > previous.allocationError() + current.allocationError();
+
+        if (scoreRegressed || allocationRegressed) {
+            return Status.REGRESSION;
+        }
+        return scoreImproved ? Status.IMPROVED : Status.UNCHANGED;
+    }
+
+    private static Map<String, Measurement> read(ObjectMapper objectMapper, Path file) throws IOException {
+        Map<String, Measurement> measurements = new LinkedHashMap<>();
+        for (JsonNode result : objectMapper.readTree(file.toFile())) {
+            JsonNode primary = result.path("primaryMetric");
+            JsonNode allocation = result.path("secondaryMetrics").path(ALLOCATION_METRIC);
+            String mode = result.path("mode").asText();
+            Measurement measurement = new Measurement(
+                    mode,
+                    primary.path("score").asDouble(),
+                    errorOf(primary),
+                    primary.path("scoreUnit").asText(),
+                    allocation.isMissingNode() ? Double.NaN : allocation.path("score").asDouble(),
+                    errorOf(allocation));
+            measurements.put(key(result), measurement);
+        }
+        return measurements;
+    }
+
+    private static double errorOf(JsonNode metric) {
+        double error = metric.path("scoreError").asDouble(0.0);
+        return Double.isNaN(error) ? 0.0 : error;
+    }
+
+    private static String key(JsonNode result) {
+        String benchmark = result.path("benchmark").asText();
+        String name = benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1);
+        JsonNode params = result.path("params");
+        if (params.isMissingNode() || params.isEmpty()) {
+            return name + " " + result.path("mode").asText();
+        }
+        Map<String, String> sorted = new TreeMap<>();
+        params.fields().forEachRemaining(field -> sorted.put(field.getKey(), field.getValue().asText()));
+        StringBuilder key = new StringBuilder(name).append('(');
+        sorted.forEach((param, value) -> key.append(param).append('=').append(value).append(','));
+        key.setCharAt(key.length() - 1, ')');
+        return key.append(' ').append(result.path("mode").asText()).toString();
+    }
+
+    private static String score(double value, String unit) {
+        return String.format(Locale.ROOT, "%.3f %s", value, unit);
+    }
+
+    private static String bytes(double value) {
+        return Double.isNaN(value) ? "-" : String.format(Locale.ROOT, "%.0f", value);
+    }
+
+    private static String change(double before, double after) {
+        if (Double.isNaN(before) || Double.isNaN(after) || before == 0.0) {
+            return "-";
+        }
+        return String.format(Locale.ROOT, "%+.1f%%", (after - before) / before * 100);
+    }
+
+    enum Status {
+        NEW("new"), UNCHANGED("ok"), IMPROVED("improved"), REGRESSION("**regression**");
+
+        private final String label;
+
+        Status(String label) {
+            this.label = label;
+        }
+    }
+
+    record Measurement(String mode, double score, double error, String unit,
+                       double allocation, double allocationError) {
+
+        boolean higherIsBetter() {
+            return "thrpt".equals(mode);
+        }
+    }
+
+    record Row(String benchmark, Measurement baseline, Measurement current, Status status) {
+    }
+}
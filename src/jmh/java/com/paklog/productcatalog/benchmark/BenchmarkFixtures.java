@@ -0,0 +1,100 @@
+package com.paklog.productcatalog.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.paklog.productcatalog.domain.model.Attributes;
+import com.paklog.productcatalog.domain.model.DimensionMeasurement;
+import com.paklog.productcatalog.domain.model.DimensionSet;
+import com.paklog.productcatalog.domain.model.Dimensions;
+import com.paklog.productcatalog.domain.model.HazmatInfo;
+import com.paklog.productcatalog.domain.model.Product;
+import com.paklog.productcatalog.domain.model.SKU;
+import com.paklog.productcatalog.domain.model.WeightMeasurement;
+import com.paklog.productcatalog.infrastructure.web.dto.ProductDto;
+import com.paklog.productcatalog.shared.util.MetricsUtil;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Inputs shared by the benchmarks. Products are fully populated, as on the request
+ * path, and collaborators are built the way the application context builds them.
+ */
+final class BenchmarkFixtures {
+
+    static final Instant CREATED_AT = Instant.parse("2024-01-01T00:00:00Z");
+
+    private BenchmarkFixtures() {
+    }
+
+    static Dimensions dimensions(String length) {
+        DimensionSet item = DimensionSet.of(
+                DimensionMeasurement.of(new BigDecimal(length), DimensionMeasurement.DimensionUnit.INCHES),
+                DimensionMeasurement.of(new BigDecimal("5.25"), DimensionMeasurement.DimensionUnit.INCHES),
+                DimensionMeasurement.of(new BigDecimal("2.75"), DimensionMeasurement.DimensionUnit.INCHES),
+                WeightMeasurement.of(new BigDecimal("1.5"), WeightMeasurement.WeightUnit.POUNDS));
+        DimensionSet packageDimensions = DimensionSet.of(
+                DimensionMeasurement.of(new BigDecimal("30"), DimensionMeasurement.DimensionUnit.CENTIMETERS),
+                DimensionMeasurement.of(new BigDecimal("15"), DimensionMeasurement.DimensionUnit.CENTIMETERS),
+                DimensionMeasurement.of(new BigDecimal("8"), DimensionMeasurement.DimensionUnit.CENTIMETERS),
+                WeightMeasurement.of(new BigDecimal("0.8"), WeightMeasurement.WeightUnit.KILOGRAMS));
+        return Dimensions.of(item, packageDimensions);
+    }
+
+    static Attributes attributes() {
+        return Attributes.of(HazmatInfo.hazmat("UN1950"));
+    }
+
+    static Product product() {
+        return new Product(SKU.of("BENCH-SKU-000001"), "Industrial Grade Widget", dimensions("10.5"), attributes(),
+                CREATED_AT, CREATED_AT.plusSeconds(60), 3L);
+    }
+
+    static ProductDto productDto() {
+        return new ProductDto("BENCH-SKU-000001", "Industrial Grade Widget",
+                new ProductDto.DimensionsDto(
+                        new ProductDto.DimensionSetDto(
+                                inches("10.5"), inches("5.25"), inches("2.75"),
+                                new ProductDto.WeightMeasurementDto(new BigDecimal("1.5"), ProductDto.WeightUnitDto.POUNDS)),
+                        new ProductDto.DimensionSetDto(
+                                centimeters("30"), centimeters("15"), centimeters("8"),
+                                new ProductDto.WeightMeasurementDto(new BigDecimal("0.8"), ProductDto.WeightUnitDto.KILOGRAMS))),
+                new ProductDto.AttributesDto(new ProductDto.HazmatInfoDto(true, "UN1950")));
+    }
+
+    /**
+     * Metrics backed by a Prometheus registry, so mapping timings include the same
+     * histogram recording cost they have in production.
+     */
+    static MetricsUtil metrics() {
+        PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        return new MetricsUtil(registry,
+                registry.counter("product.created"),
+                registry.counter("product.updated"),
+                registry.counter("product.deleted"),
+                registry.counter("domain.event.published"),
+                registry.counter("domain.event.failed"));
+    }
+
+    /**
+     * Object mapper matching the {@code spring.jackson} settings in application.yml.
+     */
+    static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json()
+                .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .build();
+    }
+
+    private static ProductDto.DimensionMeasurementDto inches(String value) {
+        return new ProductDto.DimensionMeasurementDto(new BigDecimal(value), ProductDto.DimensionUnitDto.INCHES);
+    }
+
+    private static ProductDto.DimensionMeasurementDto centimeters(String value) {
+        return new ProductDto.DimensionMeasurementDto(new BigDecimal(value), ProductDto.DimensionUnitDto.CENTIMETERS);
+    }
+}
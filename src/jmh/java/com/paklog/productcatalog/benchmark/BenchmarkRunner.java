@@ -0,0 +1,63 @@
+package com.paklog.productcatalog.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Runs the benchmarks with the GC profiler, writes the JMH JSON result to
+ * {@code target/jmh/result.json} and compares it with the recorded baseline.
+ * <p>
+ * Exits with status 1 when a benchmark regressed by more than the threshold, so the
+ * {@code benchmark} profile can gate a build. Settings are system properties:
+ * {@code jmh.include} (regex), {@code jmh.baseline} (file), {@code jmh.threshold}
+ * (fraction, default 0.10) and {@code jmh.saveBaseline} (replace the baseline with
+ * this run).
+ */
+public final class BenchmarkRunner {
+
+    private static final Path OUTPUT_DIRECTORY = Path.of("target", "jmh");
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        String include = System.getProperty("jmh.include", ".*");
+        Path baseline = Path.of(System.getProperty("jmh.baseline", "src/jmh/baseline.json"));
+        double threshold = Double.parseDouble(System.getProperty("jmh.threshold", "0.10"));
+        boolean saveBaseline = Boolean.getBoolean("jmh.saveBaseline");
+
+        Files.createDirectories(OUTPUT_DIRECTORY);
+        Path result = OUTPUT_DIRECTORY.resolve("result.json");
+
+        Options options = new OptionsBuilder()
+                .include(BenchmarkRunner.class.getPackageName() + "\\..*(" + include + ")")
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(result.toString())
+                .build();
+        new Runner(options).run();
+
+        BenchmarkComparison comparison = BenchmarkComparison.compare(baseline, result, threshold);
+        String report = comparison.toMarkdown();
+        Files.writeString(OUTPUT_DIRECTORY.resolve("report.md"), report);
+        System.out.println();
+        System.out.println(report);
+
+        if (saveBaseline) {
+            Files.createDirectories(baseline.toAbsolutePath().getParent());
+            Files.copy(result, baseline, StandardCopyOption.REPLACE_EXISTING);
+            System.out.println("Baseline updated: " + baseline);
+        } else if (comparison.hasRegressions()) {
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.paklog.productcatalog.benchmark;
+
+import com.paklog.productcatalog.infrastructure.web.dto.ProductDto;
+import com.paklog.productcatalog.shared.validation.JsonSchemaValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Schema validation of a product payload, including schema loading as the validator
+ * performs it on every call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class JsonSchemaValidatorBenchmark {
+
+    private JsonSchemaValidator validator;
+    private ProductDto dto;
+
+    @Setup
+    public void setUp() {
+        validator = new JsonSchemaValidator(BenchmarkFixtures.objectMapper());
+        dto = BenchmarkFixtures.productDto();
+    }
+
+    @Benchmark
+    public JsonSchemaValidator.ValidationResult validateProduct() {
+        return validator.validateProduct(dto);
+    }
+}
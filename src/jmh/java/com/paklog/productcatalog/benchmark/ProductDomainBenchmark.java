@@ -0,0 +1,65 @@
+package com.paklog.productcatalog.benchmark;
+
+import com.paklog.productcatalog.domain.event.DomainEvent;
+import com.paklog.productcatalog.domain.model.Attributes;
+import com.paklog.productcatalog.domain.model.Dimensions;
+import com.paklog.productcatalog.domain.model.Product;
+import com.paklog.productcatalog.domain.model.SKU;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Aggregate construction and update, each producing its domain event and snapshot.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ProductDomainBenchmark {
+
+    private SKU sku;
+    private Dimensions dimensions;
+    private Dimensions updatedDimensions;
+    private Attributes attributes;
+    private Product product;
+    private boolean flip;
+
+    @Setup
+    public void setUp() {
+        sku = SKU.of("BENCH-SKU-000001");
+        dimensions = BenchmarkFixtures.dimensions("10.5");
+        updatedDimensions = BenchmarkFixtures.dimensions("11.5");
+        attributes = BenchmarkFixtures.attributes();
+        product = BenchmarkFixtures.product();
+    }
+
+    @Benchmark
+    public List<DomainEvent> create() {
+        return Product.create(sku, "Industrial Grade Widget", dimensions, attributes).getDomainEvents();
+    }
+
+    /**
+     * Alternates between two states so every call is a real change and records an event.
+     */
+    @Benchmark
+    public List<DomainEvent> update() {
+        flip = !flip;
+        product.clearDomainEvents();
+        product.update(flip ? "Industrial Grade Widget v2" : "Industrial Grade Widget",
+                flip ? updatedDimensions : dimensions, attributes);
+        return product.getDomainEvents();
+    }
+}
@@ -0,0 +1,50 @@
+package com.paklog.productcatalog.benchmark;
+
+import com.paklog.productcatalog.domain.model.Product;
+import com.paklog.productcatalog.infrastructure.web.dto.ProductDto;
+import com.paklog.productcatalog.infrastructure.web.mapper.ProductDtoMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping between the web DTO and the domain model, including the mapping timers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ProductDtoMapperBenchmark {
+
+    private ProductDtoMapper mapper;
+    private Product product;
+    private ProductDto dto;
+
+    @Setup
+    public void setUp() {
+        mapper = new ProductDtoMapper(BenchmarkFixtures.metrics());
+        product = BenchmarkFixtures.product();
+        dto = BenchmarkFixtures.productDto();
+    }
+
+    @Benchmark
+    public ProductDto toDto() {
+        return mapper.toDto(product);
+    }
+
+    @Benchmark
+    public Product toDomain() {
+        return mapper.toDomain(dto);
+    }
+}
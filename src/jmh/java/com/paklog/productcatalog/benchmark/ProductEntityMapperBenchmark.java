@@ -0,0 +1,81 @@
+package com.paklog.productcatalog.benchmark;
+
+import com.paklog.productcatalog.domain.model.Product;
+import com.paklog.productcatalog.infrastructure.persistence.codec.ProductCodec;
+import com.paklog.productcatalog.infrastructure.persistence.entity.ProductEntity;
+import com.paklog.productcatalog.infrastructure.persistence.mapper.ProductEntityMapper;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Persistence mapping: the entity mapper used by Spring Data and the hand-written BSON
+ * codec that replaces it on the driver path.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ProductEntityMapperBenchmark {
+
+    private final ProductEntityMapper mapper = new ProductEntityMapper();
+    private final ProductCodec codec = new ProductCodec();
+
+    private Product product;
+    private ProductEntity entity;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() {
+        product = BenchmarkFixtures.product();
+        entity = mapper.toEntity(product);
+        encoded = encode();
+    }
+
+    @Benchmark
+    public ProductEntity toEntity() {
+        return mapper.toEntity(product);
+    }
+
+    @Benchmark
+    public Product toDomain() {
+        return mapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public byte[] codecEncode() {
+        return encode();
+    }
+
+    @Benchmark
+    public Product codecDecode() {
+        try (BsonBinaryReader reader = new BsonBinaryReader(ByteBuffer.wrap(encoded))) {
+            return codec.decode(reader, DecoderContext.builder().build());
+        }
+    }
+
+    private byte[] encode() {
+        BasicOutputBuffer buffer = new BasicOutputBuffer(512);
+        try (BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+            codec.encode(writer, product, EncoderContext.builder().build());
+        }
+        return buffer.toByteArray();
+    }
+}
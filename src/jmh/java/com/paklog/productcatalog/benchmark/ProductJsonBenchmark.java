@@ -0,0 +1,55 @@
+package com.paklog.productcatalog.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.paklog.productcatalog.infrastructure.web.dto.ProductDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of {@link ProductDto} with the application's SNAKE_CASE naming.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ProductJsonBenchmark {
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private ProductDto dto;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        var objectMapper = BenchmarkFixtures.objectMapper();
+        writer = objectMapper.writerFor(ProductDto.class);
+        reader = objectMapper.readerFor(ProductDto.class);
+        dto = BenchmarkFixtures.productDto();
+        json = writer.writeValueAsBytes(dto);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return writer.writeValueAsBytes(dto);
+    }
+
+    @Benchmark
+    public ProductDto deserialize() throws IOException {
+        return reader.readValue(json);
+    }
+}
@@ -0,0 +1,68 @@
+package com.paklog.productcatalog.benchmark.throughput;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Workload settings, read from {@code harness.*} system properties.
+ *
+ * @param products    products seeded before the run; reads and updates pick among them
+ * @param concurrency concurrency levels to run one after another, one closed-loop worker per level unit
+ * @param mix         relative weight of each operation
+ * @param skew        Zipfian skew of SKU popularity, 0 for uniform
+ * @param batchSize   SKUs per batch-get request
+ * @param pageSize    products per list request
+ * @param warmup      time spent at each level before measuring
+ * @param duration    measured time at each level
+ */
+record HarnessSettings(int products, List<Integer> concurrency, Map<Operation, Integer> mix, double skew,
+                       int batchSize, int pageSize, Duration warmup, Duration duration) {
+
+    enum Operation { GET, BATCH_GET, LIST, UPDATE, CREATE, EXPORT }
+
+    static HarnessSettings fromSystemProperties() {
+        return new HarnessSettings(
+                Integer.getInteger("harness.products", 10_000),
+                Arrays.stream(System.getProperty("harness.concurrency", "1,8,32").split(","))
+                        .map(String::trim)
+                        .map(Integer::valueOf)
+                        .toList(),
+                mix(System.getProperty("harness.mix", "get=70,batch-get=10,list=5,update=15")),
+                Double.parseDouble(System.getProperty("harness.skew", "0.99")),
+                Integer.getInteger("harness.batchSize", 20),
+                Integer.getInteger("harness.pageSize", 20),
+                Duration.parse(System.getProperty("harness.warmup", "PT10S")),
+                Duration.parse(System.getProperty("harness.duration", "PT30S")));
+    }
+
+    /**
+     * Parses {@code get=70,update=30} style weights; operation names are the enum names
+     * in lower case with hyphens.
+     */
+    static Map<Operation, Integer> mix(String spec) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected operation=weight, got: " + entry);
+            }
+            Operation operation = Operation.valueOf(parts[0].trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                mix.put(operation, weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("The operation mix is empty: " + spec);
+        }
+        return mix;
+    }
+
+    static String label(Operation operation) {
+        return operation.name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+}
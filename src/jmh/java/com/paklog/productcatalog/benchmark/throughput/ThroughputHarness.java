@@ -0,0 +1,299 @@
+package com.paklog.productcatalog.benchmark.throughput;
+
+import com.paklog.productcatalog.ProductCatalogApplication;
+import com.paklog.productcatalog.benchmark.throughput.HarnessSettings.Operation;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Drives the whole HTTP stack (controller, use cases, mappers, validation, the event
+ * pipeline and repository decorators) in one JVM, with MongoDB and Kafka replaced by
+ * the {@code in-memory} profile adapters, so what is measured is the service's own cost.
+ * <p>
+ * Every concurrency level runs closed-loop workers that each keep one request in
+ * flight, picking operations by the configured mix and SKUs by Zipfian popularity.
+ * Latencies are recorded in HdrHistograms from the client's point of view. Being
+ * closed-loop, they are not corrected for coordinated omission: a stall slows the
+ * request rate rather than showing up as queued requests.
+ * <p>
+ * Results go to {@code target/throughput}: {@code report.md} and one {@code .hgrm}
+ * percentile distribution per level and operation. Arguments are passed on to the
+ * application, e.g. {@code --logging.level.com.paklog.productcatalog=WARN}.
+ */
+public final class ThroughputHarness {
+
+    private static final Path OUTPUT_DIRECTORY = Path.of("target", "throughput");
+    private static final String SKU_FORMAT = "HARNESS-%08d";
+    private static final int SEED_THREADS = 8;
+
+    private final URI baseUri;
+    private final HarnessSettings settings;
+    private final ZipfianGenerator popularity;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final AtomicLong createdSkus = new AtomicLong();
+
+    private volatile boolean measuring;
+    private volatile boolean stopped;
+
+    private ThroughputHarness(URI baseUri, HarnessSettings settings) {
+        this.baseUri = baseUri;
+        this.settings = settings;
+        this.popularity = new ZipfianGenerator(settings.products(), settings.skew());
+        this.operations = settings.mix().keySet().toArray(Operation[]::new);
+        this.cumulativeWeights = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += settings.mix().get(operations[i]);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        HarnessSettings settings = HarnessSettings.fromSystemProperties();
+
+        SpringApplication application = new SpringApplication(ProductCatalogApplication.class);
+        application.setAdditionalProfiles("in-memory");
+        String[] applicationArgs = new String[args.length + 1];
+        applicationArgs[0] = "--server.port=0";
+        System.arraycopy(args, 0, applicationArgs, 1, args.length);
+
+        try (ConfigurableApplicationContext context = application.run(applicationArgs)) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            ThroughputHarness harness = new ThroughputHarness(URI.create("http://localhost:" + port), settings);
+
+            Files.createDirectories(OUTPUT_DIRECTORY);
+            harness.seed();
+
+            StringBuilder report = new StringBuilder();
+            report.append("## Throughput harness\n\n").append(String.format(Locale.ROOT,
+                    "%d products, mix %s, Zipfian skew %.2f, warmup %s, measured %s per level%n%n",
+                    settings.products(), settings.mix(), settings.skew(), settings.warmup(), settings.duration()));
+            for (int concurrency : settings.concurrency()) {
+                report.append(harness.run(concurrency));
+            }
+            Files.writeString(OUTPUT_DIRECTORY.resolve("report.md"), report);
+            System.out.println();
+            System.out.println(report);
+        }
+    }
+
+    /**
+     * Creates the products through the API, so the seeded state is what the service
+     * itself produces.
+     */
+    private void seed() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(SEED_THREADS);
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int t = 0; t < SEED_THREADS; t++) {
+                int first = t;
+                tasks.add(executor.submit(() -> {
+                    HttpClient client = client();
+                    for (int i = first; i < settings.products(); i += SEED_THREADS) {
+                        String sku = String.format(SKU_FORMAT, i);
+                        int status = client.send(post("/products", productJson(sku, "Product " + i)),
+                                HttpResponse.BodyHandlers.discarding()).statusCode();
+                        if (status != 201) {
+                            throw new IllegalStateException("Seeding " + sku + " returned HTTP " + status);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private String run(int concurrency) throws Exception {
+        Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+        Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+        for (Operation operation : operations) {
+            recorders.put(operation, new Recorder(3));
+            errors.put(operation, new LongAdder());
+        }
+
+        measuring = false;
+        stopped = false;
+        List<Thread> workers = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            Thread worker = new Thread(() -> work(recorders, errors), "harness-worker-" + i);
+            worker.start();
+            workers.add(worker);
+        }
+
+        Thread.sleep(settings.warmup().toMillis());
+        recorders.values().forEach(Recorder::reset);
+        measuring = true;
+        long started = System.nanoTime();
+        Thread.sleep(settings.duration().toMillis());
+        measuring = false;
+        double seconds = (System.nanoTime() - started) / 1e9;
+        stopped = true;
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        StringBuilder out = new StringBuilder();
+        out.append("### Concurrency ").append(concurrency).append("\n\n");
+        out.append("| Operation | Requests | Throughput (ops/s) | Errors | p50 (ms) | p90 (ms) | p99 (ms) | p99.9 (ms) | max (ms) |\n");
+        out.append("|---|---:|---:|---:|---:|---:|---:|---:|---:|\n");
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+        for (Operation operation : operations) {
+            Histogram histogram = recorders.get(operation).getIntervalHistogram();
+            long failed = errors.get(operation).sum();
+            out.append(row(HarnessSettings.label(operation), histogram, failed, seconds));
+            write(histogram, concurrency, HarnessSettings.label(operation));
+            total.add(histogram);
+            totalErrors += failed;
+        }
+        out.append(row("**all**", total, totalErrors, seconds)).append('\n');
+        write(total, concurrency, "all");
+        return out.toString();
+    }
+
+    private void work(Map<Operation, Recorder> recorders, Map<Operation, LongAdder> errors) {
+        HttpClient client = client();
+        while (!stopped) {
+            Operation operation = pick();
+            long started = System.nanoTime();
+            boolean success;
+            try {
+                success = execute(client, operation);
+            } catch (IOException e) {
+                success = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            long elapsedMicros = (System.nanoTime() - started) / 1_000;
+            if (measuring) {
+                recorders.get(operation).recordValue(Math.max(1, elapsedMicros));
+                if (!success) {
+                    errors.get(operation).increment();
+                }
+            }
+        }
+    }
+
+    private boolean execute(HttpClient client, Operation operation) throws IOException, InterruptedException {
+        HttpRequest request = switch (operation) {
+            case GET -> get("/products/" + popularSku());
+            case BATCH_GET -> post("/products/batch-get", batchJson());
+            case LIST -> get("/products?offset=" + ThreadLocalRandom.current()
+                    .nextInt(Math.max(1, settings.products() - settings.pageSize())) + "&limit=" + settings.pageSize());
+            case UPDATE -> {
+                String sku = popularSku();
+                yield HttpRequest.newBuilder(baseUri.resolve("/products/" + sku))
+                        .header("Content-Type", "application/json")
+                        .PUT(HttpRequest.BodyPublishers.ofString(
+                                productJson(sku, "Updated " + ThreadLocalRandom.current().nextInt())))
+                        .build();
+            }
+            case CREATE -> {
+                String sku = "HARNESS-NEW-" + createdSkus.incrementAndGet();
+                yield post("/products", productJson(sku, "Created " + sku));
+            }
+            case EXPORT -> get("/products/export");
+        };
+        int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        return status >= 200 && status < 300;
+    }
+
+    private Operation pick() {
+        int draw = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (draw < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    private String popularSku() {
+        return String.format(SKU_FORMAT, popularity.next());
+    }
+
+    private String batchJson() {
+        StringBuilder json = new StringBuilder("{\"skus\":[");
+        for (int i = 0; i < settings.batchSize(); i++) {
+            json.append(i == 0 ? "\"" : ",\"").append(popularSku()).append('"');
+        }
+        return json.append("]}").toString();
+    }
+
+    private static String productJson(String sku, String title) {
+        return "{\"sku\":\"" + sku + "\",\"title\":\"" + title + "\","
+                + "\"dimensions\":{"
+                + "\"item\":{\"length\":{\"value\":10.5,\"unit\":\"INCHES\"},\"width\":{\"value\":5.25,\"unit\":\"INCHES\"},"
+                + "\"height\":{\"value\":2.75,\"unit\":\"INCHES\"},\"weight\":{\"value\":1.5,\"unit\":\"POUNDS\"}},"
+                + "\"package\":{\"length\":{\"value\":30,\"unit\":\"CENTIMETERS\"},\"width\":{\"value\":15,\"unit\":\"CENTIMETERS\"},"
+                + "\"height\":{\"value\":8,\"unit\":\"CENTIMETERS\"},\"weight\":{\"value\":0.8,\"unit\":\"KILOGRAMS\"}}},"
+                + "\"attributes\":{\"hazmat_info\":{\"is_hazmat\":false}}}";
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path)).GET().build();
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private static HttpClient client() {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    private static String row(String label, Histogram histogram, long errors, double seconds) {
+        return String.format(Locale.ROOT, "| %s | %d | %.0f | %d | %.3f | %.3f | %.3f | %.3f | %.3f |%n",
+                label, histogram.getTotalCount(), histogram.getTotalCount() / seconds, errors,
+                millis(histogram, 50.0), millis(histogram, 90.0), millis(histogram, 99.0), millis(histogram, 99.9),
+                histogram.getMaxValue() / 1_000.0);
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1_000.0;
+    }
+
+    private static void write(Histogram histogram, int concurrency, String label) throws IOException {
+        Path file = OUTPUT_DIRECTORY.resolve("c" + concurrency + "-" + label + ".hgrm");
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            histogram.outputPercentileDistribution(out, 1_000.0);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.paklog.productcatalog.benchmark.throughput;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Draws item ranks in {@code [0, items)} with a Zipfian distribution, rank 0 being the
+ * most popular, using the rejection-free method of Gray et al. ("Quickly generating
+ * billion-record synthetic databases"). A skew of 0 draws uniformly.
+ * <p>
+ * The normalization constant is computed once, so drawing is constant time and safe
+ * from any number of threads.
+ */
+final class ZipfianGenerator {
+
+    private final int items;
+    private final double theta;
+    private final double zetaN;
+    private final double alpha;
+    private final double eta;
+
+    ZipfianGenerator(int items, double theta) {
+        if (items < 1) {
+            throw new IllegalArgumentException("Need at least one item");
+        }
+        if (theta < 0.0 || theta >= 1.0) {
+            throw new IllegalArgumentException("Zipfian skew must be in [0, 1), was " + theta);
+        }
+        this.items = items;
+        this.theta = theta;
+        this.zetaN = zeta(items, theta);
+        this.alpha = 1.0 / (1.0 - theta);
+        this.eta = (1.0 - Math.pow(2.0 / items, 1.0 - theta)) / (1.0 - zeta(2, theta) / zetaN);
+    }
+
+    int next() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (theta == 0.0) {
+            return random.nextInt(items);
+        }
+        double u = random.nextDouble();
+        double uz = u * zetaN;
+        if (uz < 1.0) {
+            return 0;
+        }
+        if (uz < 1.0 + Math.pow(0.5, theta)) {
+            return Math.min(1, items - 1);
+        }
+        return (int) Math.min(items - 1, (long) (items * Math.pow(eta * u - eta + 1.0, alpha)));
+    }
+
+    private static double zeta(int n, double theta) {
+        double sum = 0.0;
+        for (int i = 1; i <= n; i++) {
+            sum += 1.0 / Math.pow(i, theta);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,36 @@
+package com.paklog.productcatalog.application.command;
+
+import com.paklog.productcatalog.domain.model.SKU;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Full-replacement updates to existing products, in the order they were accepted.
+ * Several updates may target the same SKU; the last one wins.
+ * <p>
+ * When updates are applied again after an interruption, {@code readVersions} holds
+ * the version each product was read at when its update was last being written. Such
+ * an update is applied only while the product is still at that version: a product
+ * that has moved on either holds the update already or was changed after it.
+ */
+public record ApplyProductUpdatesCommand(
+    @NotEmpty List<@Valid UpdateProductCommand> updates,
+    @NotNull Map<SKU, Long> readVersions
+) {
+    
+    public ApplyProductUpdatesCommand {
+        readVersions = readVersions != null ? Map.copyOf(readVersions) : Map.of();
+    }
+    
+    public static ApplyProductUpdatesCommand of(List<UpdateProductCommand> updates) {
+        return new ApplyProductUpdatesCommand(updates, Map.of());
+    }
+    
+    public static ApplyProductUpdatesCommand of(List<UpdateProductCommand> updates, Map<SKU, Long> readVersions) {
+        return new ApplyProductUpdatesCommand(updates, readVersions);
+    }
+}
@@ -0,0 +1,19 @@
+package com.paklog.productcatalog.application.command;
+
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+/**
+ * One batch of an import, in feed order. Each product is created, or updates the
+ * product with its SKU. The products are not validated again here: importers check
+ * them in parallel before batching.
+ */
+public record ImportProductsCommand(
+    @NotEmpty List<CreateProductCommand> products
+) {
+    
+    public static ImportProductsCommand of(List<CreateProductCommand> products) {
+        return new ImportProductsCommand(products);
+    }
+}
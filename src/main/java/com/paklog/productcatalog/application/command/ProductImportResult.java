@@ -0,0 +1,21 @@
+package com.paklog.productcatalog.application.command;
+
+import com.paklog.productcatalog.domain.model.SKU;
+
+import java.util.Map;
+
+/**
+ * Outcome of one import batch. Products whose data matched what was stored are
+ * {@code unchanged} and were neither written nor announced.
+ */
+public record ProductImportResult(
+    int created,
+    int updated,
+    int unchanged,
+    Map<SKU, String> failures
+) {
+    
+    public ProductImportResult {
+        failures = Map.copyOf(failures);
+    }
+}
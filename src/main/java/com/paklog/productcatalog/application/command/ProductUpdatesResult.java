@@ -0,0 +1,25 @@
+package com.paklog.productcatalog.application.command;
+
+import com.paklog.productcatalog.domain.model.SKU;
+
+import java.util.Set;
+
+/**
+ * Outcome of applying a batch of updates, counted per SKU after coalescing. SKUs that
+ * kept changing under every attempt are {@code conflicted} and were not updated.
+ * {@code superseded} counts replayed updates skipped because their product had moved
+ * past the version they were being written at.
+ */
+public record ProductUpdatesResult(
+    int updated,
+    int unchanged,
+    int superseded,
+    Set<SKU> notFound,
+    Set<SKU> conflicted
+) {
+    
+    public ProductUpdatesResult {
+        notFound = Set.copyOf(notFound);
+        conflicted = Set.copyOf(conflicted);
+    }
+}
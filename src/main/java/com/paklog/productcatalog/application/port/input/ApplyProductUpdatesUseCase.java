@@ -0,0 +1,22 @@
+package com.paklog.productcatalog.application.port.input;
+
+import com.paklog.productcatalog.application.command.ApplyProductUpdatesCommand;
+import com.paklog.productcatalog.application.command.ProductUpdatesResult;
+import com.paklog.productcatalog.domain.model.SKU;
+import jakarta.validation.Valid;
+
+import java.util.Map;
+import java.util.function.Consumer;
+
+public interface ApplyProductUpdatesUseCase {
+    
+    default ProductUpdatesResult applyUpdates(@Valid ApplyProductUpdatesCommand command) {
+        return applyUpdates(command, readVersions -> { });
+    }
+    
+    /**
+     * Applies the updates, handing {@code beforeWrite} the version each product about to
+     * be written was read at, before every write attempt.
+     */
+    ProductUpdatesResult applyUpdates(@Valid ApplyProductUpdatesCommand command, Consumer<Map<SKU, Long>> beforeWrite);
+}
@@ -0,0 +1,8 @@
+package com.paklog.productcatalog.application.port.input;
+
+import com.paklog.productcatalog.application.query.GetProductChangesQuery;
+import com.paklog.productcatalog.application.query.ProductChanges;
+
+public interface GetProductChangesUseCase {
+    ProductChanges getChanges(GetProductChangesQuery query);
+}
@@ -1,13 +1,18 @@
 package com.paklog.productcatalog.application.port.input;
 
 import com.paklog.productcatalog.application.query.GetProductQuery;
+import com.paklog.productcatalog.application.query.GetProductsQuery;
 import com.paklog.productcatalog.application.query.ListProductsQuery;
 import com.paklog.productcatalog.domain.model.Product;
 import org.springframework.data.domain.Page;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface GetProductUseCase {
     Optional<Product> getProduct(GetProductQuery query);
+    List<Product> getProducts(GetProductsQuery query);
     Page<Product> listProducts(ListProductsQuery query);
-}
\ No newline at end of file
+    void exportProducts(Consumer<Product> sink);
+}
@@ -0,0 +1,9 @@
+package com.paklog.productcatalog.application.port.input;
+
+import com.paklog.productcatalog.application.command.ImportProductsCommand;
+import com.paklog.productcatalog.application.command.ProductImportResult;
+import jakarta.validation.Valid;
+
+public interface ImportProductsUseCase {
+    ProductImportResult importProducts(@Valid ImportProductsCommand command);
+}
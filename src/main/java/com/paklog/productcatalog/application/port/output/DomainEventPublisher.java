@@ -2,6 +2,15 @@ package com.paklog.productcatalog.application.port.output;
 
 import com.paklog.productcatalog.domain.event.DomainEvent;
 
+import java.util.List;
+
 public interface DomainEventPublisher {
     void publish(DomainEvent event);
-}
\ No newline at end of file
+    
+    /**
+     * Publishes the events of one aggregate change, preserving their order.
+     */
+    default void publishAll(List<DomainEvent> events) {
+        events.forEach(this::publish);
+    }
+}
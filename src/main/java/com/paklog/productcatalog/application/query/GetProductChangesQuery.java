@@ -0,0 +1,25 @@
+package com.paklog.productcatalog.application.query;
+
+import com.paklog.productcatalog.domain.model.ChangeCursor;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+public record GetProductChangesQuery(
+    @NotNull ChangeCursor cursor,
+    @Min(1) int limit
+) {
+    
+    /**
+     * The upper bound on {@code limit} is {@code product-catalog.change-feed.max-limit},
+     * which the caller applies; the query only requires a positive limit.
+     */
+    public GetProductChangesQuery {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+    }
+    
+    public static GetProductChangesQuery of(ChangeCursor cursor, int limit) {
+        return new GetProductChangesQuery(cursor, limit);
+    }
+}
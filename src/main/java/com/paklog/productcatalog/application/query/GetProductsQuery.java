@@ -0,0 +1,20 @@
+package com.paklog.productcatalog.application.query;
+
+import com.paklog.productcatalog.domain.model.SKU;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+public record GetProductsQuery(
+    @NotEmpty List<@Valid SKU> skus
+) {
+    
+    public GetProductsQuery {
+        skus = List.copyOf(skus);
+    }
+    
+    public static GetProductsQuery of(List<SKU> skus) {
+        return new GetProductsQuery(skus);
+    }
+}
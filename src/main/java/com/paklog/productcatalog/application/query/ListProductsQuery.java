@@ -7,7 +7,8 @@ import org.springframework.data.domain.Pageable;
 
 public record ListProductsQuery(
     @Min(0) int offset,
-    @Min(1) int limit
+    @Min(1) int limit,
+    boolean exact
 ) {
     
     public ListProductsQuery {
@@ -17,7 +18,11 @@ public record ListProductsQuery(
     }
     
     public static ListProductsQuery of(int offset, int limit) {
-        return new ListProductsQuery(offset, limit);
+        return new ListProductsQuery(offset, limit, false);
+    }
+    
+    public static ListProductsQuery of(int offset, int limit, boolean exact) {
+        return new ListProductsQuery(offset, limit, exact);
     }
     
     public Pageable toPageable() {
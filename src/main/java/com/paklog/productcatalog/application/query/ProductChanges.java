@@ -0,0 +1,22 @@
+package com.paklog.productcatalog.application.query;
+
+import com.paklog.productcatalog.domain.model.ChangeCursor;
+import com.paklog.productcatalog.domain.model.Product;
+
+import java.util.List;
+
+/**
+ * One page of the product change feed. {@code nextCursor} resumes the feed
+ * right after the last returned change, or repeats the requested cursor when
+ * nothing has changed yet.
+ */
+public record ProductChanges(
+    List<Product> changes,
+    ChangeCursor nextCursor,
+    boolean hasMore
+) {
+    
+    public ProductChanges {
+        changes = List.copyOf(changes);
+    }
+}
@@ -0,0 +1,135 @@
+package com.paklog.productcatalog.application.service;
+
+import com.paklog.productcatalog.application.command.ApplyProductUpdatesCommand;
+import com.paklog.productcatalog.application.command.ProductUpdatesResult;
+import com.paklog.productcatalog.application.command.UpdateProductCommand;
+import com.paklog.productcatalog.application.port.input.ApplyProductUpdatesUseCase;
+import com.paklog.productcatalog.domain.model.Product;
+import com.paklog.productcatalog.domain.model.SKU;
+import com.paklog.productcatalog.domain.repository.ProductRepository;
+import com.paklog.productcatalog.shared.util.MetricsUtil;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+@Service
+@Validated
+public class ApplyProductUpdatesService implements ApplyProductUpdatesUseCase {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ApplyProductUpdatesService.class);
+    
+    private final ProductRepository productRepository;
+    private final DomainEventProcessor eventProcessor;
+    private final int conflictAttempts;
+    private final int publishAttempts;
+    private final MetricsUtil metrics;
+    
+    public ApplyProductUpdatesService(ProductRepository productRepository, DomainEventProcessor eventProcessor,
+                                      @Value("${product-catalog.write-behind.conflict-attempts:5}") int conflictAttempts,
+                                      @Value("${product-catalog.write-behind.publish-attempts:60}") int publishAttempts,
+                                      MetricsUtil metrics) {
+        this.productRepository = productRepository;
+        this.eventProcessor = eventProcessor;
+        this.conflictAttempts = conflictAttempts;
+        this.publishAttempts = publishAttempts;
+        this.metrics = metrics;
+    }
+    
+    /**
+     * Keeps only the last update per SKU, applies those to the stored products and
+     * writes the ones that changed in one bulk write, each conditional on the version it
+     * was read at. A product another writer changed in between is read again and its
+     * update applied on top, up to the configured number of attempts, so the other
+     * write is never lost. Each product written announces one update, however many
+     * updates were coalesced into it.
+     * <p>
+     * An update with a read version is skipped once its product is past that version.
+     * A product read at an older version comes from a lagging copy; it is written
+     * regardless, so the version check fails and the product is read again.
+     */
+    @Override
+    public ProductUpdatesResult applyUpdates(@Valid ApplyProductUpdatesCommand command,
+                                             Consumer<Map<SKU, Long>> beforeWrite) {
+        logger.atDebug().addKeyValue("count", command.updates().size()).log("Applying product updates");
+        long started = metrics.start();
+        boolean success = false;
+        try {
+            Map<SKU, UpdateProductCommand> pending = new LinkedHashMap<>();
+            for (UpdateProductCommand update : command.updates()) {
+                pending.put(update.sku(), update);
+            }
+            
+            int updated = 0;
+            int unchanged = 0;
+            int superseded = 0;
+            Set<SKU> notFound = new LinkedHashSet<>();
+            for (int attempt = 1; attempt <= conflictAttempts && !pending.isEmpty(); attempt++) {
+                List<Product> changed = new ArrayList<>();
+                Set<SKU> found = new HashSet<>();
+                for (Product product : productRepository.findAllBySku(pending.keySet())) {
+                    found.add(product.getSku());
+                    Long readVersion = command.readVersions().get(product.getSku());
+                    if (readVersion != null && product.getVersion() > readVersion) {
+                        superseded++;
+                        continue;
+                    }
+                    UpdateProductCommand update = pending.get(product.getSku());
+                    product.update(update.title(), update.dimensions(), update.attributes());
+                    boolean behind = readVersion != null && product.getVersion() < readVersion;
+                    if (product.getDomainEvents().isEmpty() && !behind) {
+                        unchanged++;
+                    } else {
+                        changed.add(product);
+                    }
+                }
+                for (SKU sku : pending.keySet()) {
+                    if (!found.contains(sku)) {
+                        notFound.add(sku);
+                    }
+                }
+                
+                Set<SKU> conflicts = changed.isEmpty() ? Set.of() : write(changed, beforeWrite);
+                List<Product> written = conflicts.isEmpty()
+                        ? changed
+                        : changed.stream().filter(product -> !conflicts.contains(product.getSku())).toList();
+                eventProcessor.processAndClearStored(written, publishAttempts);
+                updated += written.size();
+                
+                Map<SKU, UpdateProductCommand> retry = new LinkedHashMap<>();
+                for (SKU sku : conflicts) {
+                    retry.put(sku, pending.get(sku));
+                }
+                pending = retry;
+            }
+            metrics.incrementProductUpdated(updated);
+            
+            logger.atInfo().addKeyValue("updated", updated).addKeyValue("unchanged", unchanged)
+                    .addKeyValue("superseded", superseded).addKeyValue("notFound", notFound.size()).addKeyValue("conflicted", pending.size())
+                    .log("Product updates applied");
+            success = true;
+            return new ProductUpdatesResult(updated, unchanged, superseded, notFound, pending.keySet());
+        } finally {
+            metrics.recordOperation(MetricsUtil.Operation.APPLY_UPDATES, started, success);
+        }
+    }
+    
+    private Set<SKU> write(List<Product> products, Consumer<Map<SKU, Long>> beforeWrite) {
+        Map<SKU, Long> readVersions = new HashMap<>();
+        products.forEach(product -> readVersions.put(product.getSku(), product.getVersion()));
+        beforeWrite.accept(readVersions);
+        return productRepository.saveAllIfUnmodified(products);
+    }
+}
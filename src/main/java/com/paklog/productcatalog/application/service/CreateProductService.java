@@ -4,6 +4,7 @@ import com.paklog.productcatalog.application.command.CreateProductCommand;
 import com.paklog.productcatalog.application.port.input.CreateProductUseCase;
 import com.paklog.productcatalog.domain.model.Product;
 import com.paklog.productcatalog.domain.repository.ProductRepository;
+import com.paklog.productcatalog.shared.util.MetricsUtil;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,24 +21,34 @@ public class CreateProductService implements CreateProductUseCase {
     
     private final ProductRepository productRepository;
     private final DomainEventProcessor eventProcessor;
+    private final MetricsUtil metrics;
     
-    public CreateProductService(ProductRepository productRepository, DomainEventProcessor eventProcessor) {
+    public CreateProductService(ProductRepository productRepository, DomainEventProcessor eventProcessor,
+                                MetricsUtil metrics) {
         this.productRepository = productRepository;
         this.eventProcessor = eventProcessor;
+        this.metrics = metrics;
     }
     
     @Override
     public Product createProduct(@Valid CreateProductCommand command) {
-        logger.debug("Creating product with SKU: {}", command.sku());
-        
-        Product product = Product.create(command.sku(), command.title(), 
-                                       command.dimensions(), command.attributes());
-        
-        // Repository now handles duplicate key exceptions internally
-        Product savedProduct = productRepository.save(product);
-        eventProcessor.processAndClear(savedProduct);
-        
-        logger.info("Product created successfully with SKU: {}", command.sku());
-        return savedProduct;
+        logger.atDebug().addKeyValue("sku", command.sku().value()).log("Creating product");
+        long started = metrics.start();
+        boolean success = false;
+        try {
+            Product product = Product.create(command.sku(), command.title(), 
+                                           command.dimensions(), command.attributes());
+            
+            // Repository now handles duplicate key exceptions internally
+            Product savedProduct = productRepository.save(product);
+            eventProcessor.processAndClear(savedProduct);
+            
+            logger.atInfo().addKeyValue("sku", command.sku().value()).log("Product created");
+            metrics.incrementProductCreated();
+            success = true;
+            return savedProduct;
+        } finally {
+            metrics.recordOperation(MetricsUtil.Operation.CREATE, started, success);
+        }
     }
 }
\ No newline at end of file
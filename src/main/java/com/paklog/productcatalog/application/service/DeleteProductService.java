@@ -3,6 +3,7 @@ package com.paklog.productcatalog.application.service;
 import com.paklog.productcatalog.application.command.DeleteProductCommand;
 import com.paklog.productcatalog.application.port.input.DeleteProductUseCase;
 import com.paklog.productcatalog.domain.repository.ProductRepository;
+import com.paklog.productcatalog.shared.util.MetricsUtil;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,25 +20,36 @@ public class DeleteProductService implements DeleteProductUseCase {
     
     private final ProductRepository productRepository;
     private final DomainEventProcessor eventProcessor;
+    private final MetricsUtil metrics;
     
-    public DeleteProductService(ProductRepository productRepository, DomainEventProcessor eventProcessor) {
+    public DeleteProductService(ProductRepository productRepository, DomainEventProcessor eventProcessor,
+                                MetricsUtil metrics) {
         this.productRepository = productRepository;
         this.eventProcessor = eventProcessor;
+        this.metrics = metrics;
     }
     
     @Override
     public boolean deleteProduct(@Valid DeleteProductCommand command) {
-        logger.debug("Deleting product with SKU: {}", command.sku());
-        
-        return productRepository.findBySku(command.sku())
-                .map(existingProduct -> {
-                    existingProduct.markForDeletion();
-                    eventProcessor.processAndClear(existingProduct);
-                    
-                    productRepository.delete(existingProduct);
-                    logger.info("Product deleted successfully with SKU: {}", command.sku());
-                    return true;
-                })
-                .orElse(false);
+        logger.atDebug().addKeyValue("sku", command.sku().value()).log("Deleting product");
+        long started = metrics.start();
+        boolean success = false;
+        try {
+            boolean deleted = productRepository.findBySku(command.sku())
+                    .map(existingProduct -> {
+                        existingProduct.markForDeletion();
+                        productRepository.delete(existingProduct);
+                        eventProcessor.processAndClear(existingProduct);
+                        
+                        logger.atInfo().addKeyValue("sku", command.sku().value()).log("Product deleted");
+                        metrics.incrementProductDeleted();
+                        return true;
+                    })
+                    .orElse(false);
+            success = true;
+            return deleted;
+        } finally {
+            metrics.recordOperation(MetricsUtil.Operation.DELETE, started, success);
+        }
     }
 }
\ No newline at end of file
@@ -3,20 +3,23 @@ package com.paklog.productcatalog.application.service;
 import com.paklog.productcatalog.application.port.output.DomainEventPublisher;
 import com.paklog.productcatalog.domain.event.DomainEvent;
 import com.paklog.productcatalog.domain.model.Product;
-import com.paklog.productcatalog.shared.exception.EventPublishingException;
+import com.paklog.productcatalog.shared.exception.EventPipelineFullException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class DomainEventProcessor {
     
     private static final Logger logger = LoggerFactory.getLogger(DomainEventProcessor.class);
     
+    private static final long STORED_RETRY_PAUSE_MILLIS = 100;
+    
     private final DomainEventPublisher eventPublisher;
     
     public DomainEventProcessor(DomainEventPublisher eventPublisher) {
@@ -24,48 +27,67 @@ public class DomainEventProcessor {
     }
     
     /**
-     * Processes and clears domain events from the product synchronously.
-     * This method extracts events and delegates to async processing.
+     * Extracts and clears the product's domain events and hands them to the publisher
+     * as one ordered unit. The publisher buffers them and returns without waiting for
+     * Kafka; it may throw if it cannot accept more events.
      */
     public void processAndClear(Product product) {
         List<DomainEvent> events = List.copyOf(product.getDomainEvents());
         product.clearDomainEvents();
         
         if (!events.isEmpty()) {
-            publishEventsAsync(events);
+            logger.atDebug().addKeyValue("sku", product.getSku().value()).addKeyValue("count", events.size())
+                    .log("Publishing domain events");
+            eventPublisher.publishAll(events);
         }
     }
     
     /**
-     * Publishes events asynchronously in batch.
-     * Errors are logged but don't block the main transaction.
+     * Hands the events of several products to the publisher in one call, product by
+     * product in the given order. The events are cleared only once the publisher has
+     * accepted them, so a rejected call can be repeated.
      */
-    @Async("eventExecutor")
-    public CompletableFuture<Void> publishEventsAsync(List<DomainEvent> events) {
-        logger.debug("Publishing {} domain events asynchronously", events.size());
+    public void processAndClear(Collection<Product> products) {
+        List<DomainEvent> events = new ArrayList<>();
+        for (Product product : products) {
+            events.addAll(product.getDomainEvents());
+        }
         
-        try {
-            for (DomainEvent event : events) {
-                publishSingleEvent(event);
+        if (!events.isEmpty()) {
+            logger.atDebug().addKeyValue("products", products.size()).addKeyValue("count", events.size())
+                    .log("Publishing domain events");
+            eventPublisher.publishAll(events);
+        }
+        products.forEach(Product::clearDomainEvents);
+    }
+    
+    /**
+     * Like {@link #processAndClear(Collection)}, for products that are already stored and
+     * whose events therefore must not be dropped: a full pipeline is waited out, for up to
+     * {@code attempts} tries, rather than failing on the first rejection.
+     */
+    public void processAndClearStored(Collection<Product> products, int attempts) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                processAndClear(products);
+                return;
+            } catch (EventPipelineFullException e) {
+                if (attempt >= attempts) {
+                    logger.atError().addKeyValue("count", e.getEventCount())
+                            .log("Gave up waiting for the event pipeline; events of stored products were not published");
+                    throw e;
+                }
+                pause();
             }
-            logger.debug("Successfully published {} events", events.size());
-            return CompletableFuture.completedFuture(null);
-        } catch (Exception e) {
-            logger.error("Failed to publish domain events batch of size {}", events.size(), e);
-            return CompletableFuture.failedFuture(e);
         }
     }
     
-    private void publishSingleEvent(DomainEvent event) {
+    private static void pause() {
         try {
-            eventPublisher.publish(event);
-            logger.debug("Published domain event: {} with ID: {}", event.getEventType(), event.getEventId());
-        } catch (Exception e) {
-            logger.error("Failed to publish domain event: {} with ID: {}", 
-                        event.getEventType(), event.getEventId(), e);
-            throw new EventPublishingException(event.getEventType(), event.getEventId(), e);
-        
-
-}
-}
+            TimeUnit.MILLISECONDS.sleep(STORED_RETRY_PAUSE_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the event pipeline", e);
+        }
+    }
 }
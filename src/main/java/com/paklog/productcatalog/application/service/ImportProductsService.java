@@ -0,0 +1,100 @@
+package com.paklog.productcatalog.application.service;
+
+import com.paklog.productcatalog.application.command.CreateProductCommand;
+import com.paklog.productcatalog.application.command.ImportProductsCommand;
+import com.paklog.productcatalog.application.command.ProductImportResult;
+import com.paklog.productcatalog.application.port.input.ImportProductsUseCase;
+import com.paklog.productcatalog.domain.model.Product;
+import com.paklog.productcatalog.domain.model.SKU;
+import com.paklog.productcatalog.domain.repository.ProductRepository;
+import com.paklog.productcatalog.shared.util.MetricsUtil;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+@Validated
+public class ImportProductsService implements ImportProductsUseCase {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ImportProductsService.class);
+    
+    private final ProductRepository productRepository;
+    private final DomainEventProcessor eventProcessor;
+    private final int publishAttempts;
+    private final MetricsUtil metrics;
+    
+    public ImportProductsService(ProductRepository productRepository, DomainEventProcessor eventProcessor,
+                                 @Value("${product-catalog.import.publish-attempts:60}") int publishAttempts,
+                                 MetricsUtil metrics) {
+        this.productRepository = productRepository;
+        this.eventProcessor = eventProcessor;
+        this.publishAttempts = publishAttempts;
+        this.metrics = metrics;
+    }
+    
+    /**
+     * Loads the batch's existing products in one query and applies each record to its
+     * product, so a later record for a SKU seen earlier in the batch updates the same
+     * product. Everything that changed is written in one bulk write, and the events of
+     * the products written are handed to the publisher together.
+     * <p>
+     * The products are already stored when the events are published, so a full event
+     * pipeline is waited out rather than failing the batch.
+     */
+    @Override
+    public ProductImportResult importProducts(@Valid ImportProductsCommand command) {
+        List<CreateProductCommand> records = command.products();
+        logger.atDebug().addKeyValue("count", records.size()).log("Importing products");
+        long started = metrics.start();
+        boolean success = false;
+        try {
+            Map<SKU, Product> products = new LinkedHashMap<>();
+            for (Product existing : productRepository.findAllBySku(
+                    records.stream().map(CreateProductCommand::sku).distinct().toList())) {
+                products.put(existing.getSku(), existing);
+            }
+            
+            Set<SKU> created = new HashSet<>();
+            for (CreateProductCommand record : records) {
+                Product product = products.get(record.sku());
+                if (product == null) {
+                    products.put(record.sku(), Product.create(record.sku(), record.title(),
+                            record.dimensions(), record.attributes()));
+                    created.add(record.sku());
+                } else {
+                    product.update(record.title(), record.dimensions(), record.attributes());
+                }
+            }
+            
+            List<Product> changed = products.values().stream()
+                    .filter(product -> !product.getDomainEvents().isEmpty())
+                    .toList();
+            Map<SKU, String> failures = changed.isEmpty() ? Map.of() : productRepository.saveAll(changed);
+            List<Product> written = failures.isEmpty()
+                    ? changed
+                    : changed.stream().filter(product -> !failures.containsKey(product.getSku())).toList();
+            eventProcessor.processAndClearStored(written, publishAttempts);
+            
+            int createdCount = (int) written.stream().filter(product -> created.contains(product.getSku())).count();
+            int updatedCount = written.size() - createdCount;
+            metrics.incrementProductCreated(createdCount);
+            metrics.incrementProductUpdated(updatedCount);
+            
+            logger.atInfo().addKeyValue("created", createdCount).addKeyValue("updated", updatedCount)
+                    .addKeyValue("failed", failures.size()).log("Products imported");
+            success = true;
+            return new ProductImportResult(createdCount, updatedCount, products.size() - changed.size(), failures);
+        } finally {
+            metrics.recordOperation(MetricsUtil.Operation.IMPORT, started, success);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.paklog.productcatalog.application.service;
+
+import com.paklog.productcatalog.application.port.input.GetProductChangesUseCase;
+import com.paklog.productcatalog.application.query.GetProductChangesQuery;
+import com.paklog.productcatalog.application.query.ProductChanges;
+import com.paklog.productcatalog.domain.model.ChangeCursor;
+import com.paklog.productcatalog.domain.model.DomainClock;
+import com.paklog.productcatalog.domain.model.Product;
+import com.paklog.productcatalog.domain.repository.ProductRepository;
+import com.paklog.productcatalog.shared.util.MetricsUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+@Service
+@Validated
+@Transactional(readOnly = true)
+public class ProductChangeFeedService implements GetProductChangesUseCase {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ProductChangeFeedService.class);
+    
+    private final ProductRepository productRepository;
+    private final Duration settleWindow;
+    private final MetricsUtil metrics;
+    
+    public ProductChangeFeedService(ProductRepository productRepository,
+                                    @Value("${product-catalog.change-feed.settle-window:2s}") Duration settleWindow,
+                                    MetricsUtil metrics) {
+        this.productRepository = productRepository;
+        this.settleWindow = settleWindow;
+        this.metrics = metrics;
+    }
+    
+    /**
+     * Reads the next page of changes after the query cursor. Changes younger than
+     * the settle window are held back so that writes still in flight on other
+     * instances cannot land behind a cursor that was already handed out.
+     */
+    @Override
+    public ProductChanges getChanges(GetProductChangesQuery query) {
+        logger.atDebug().addKeyValue("since", query.cursor()).addKeyValue("limit", query.limit())
+                .log("Reading product changes");
+        
+        Instant settledBefore = DomainClock.now().minus(settleWindow);
+        long started = metrics.start();
+        boolean success = false;
+        List<Product> page;
+        try {
+            page = productRepository.findChangedSince(query.cursor(), settledBefore, query.limit() + 1);
+            success = true;
+        } finally {
+            metrics.recordOperation(MetricsUtil.Operation.CHANGES, started, success);
+        }
+        
+        boolean hasMore = page.size() > query.limit();
+        List<Product> changes = hasMore ? page.subList(0, query.limit()) : page;
+        ChangeCursor nextCursor = changes.isEmpty()
+                ? query.cursor()
+                : ChangeCursor.after(changes.get(changes.size() - 1));
+        
+        return new ProductChanges(changes, nextCursor, hasMore);
+    }
+}
@@ -0,0 +1,66 @@
+package com.paklog.productcatalog.application.service;
+
+import com.paklog.productcatalog.domain.repository.ProductRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Holds the estimated number of live products for page totals, so listing does not
+ * count the catalog on every request. The estimate is refreshed at most once per
+ * {@code count-ttl}; while one request refreshes it, the others keep answering with the
+ * previous value. An exact count taken for a request that asked for one replaces it.
+ */
+@Component
+public class ProductCountCache {
+
+    private final ProductRepository productRepository;
+    private final long ttlNanos;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile Count cached;
+
+    public ProductCountCache(ProductRepository productRepository,
+                             @Value("${product-catalog.pagination.count-ttl:5s}") Duration ttl) {
+        this.productRepository = productRepository;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    public long estimatedCount() {
+        Count current = cached;
+        if (current != null && isFresh(current)) {
+            return current.value();
+        }
+        if (current != null) {
+            if (!refreshLock.tryLock()) {
+                return current.value();
+            }
+        } else {
+            refreshLock.lock();
+        }
+        try {
+            Count latest = cached;
+            if (latest != null && isFresh(latest)) {
+                return latest.value();
+            }
+            long value = productRepository.estimatedCount();
+            cached = new Count(value, System.nanoTime());
+            return value;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    public void record(long exactCount) {
+        cached = new Count(exactCount, System.nanoTime());
+    }
+
+    private boolean isFresh(Count count) {
+        return System.nanoTime() - count.takenAt() < ttlNanos;
+    }
+
+    private record Count(long value, long takenAt) {
+    }
+}
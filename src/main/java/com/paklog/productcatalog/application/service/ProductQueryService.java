@@ -2,17 +2,23 @@ package com.paklog.productcatalog.application.service;
 
 import com.paklog.productcatalog.application.port.input.GetProductUseCase;
 import com.paklog.productcatalog.application.query.GetProductQuery;
+import com.paklog.productcatalog.application.query.GetProductsQuery;
 import com.paklog.productcatalog.application.query.ListProductsQuery;
 import com.paklog.productcatalog.domain.model.Product;
 import com.paklog.productcatalog.domain.repository.ProductRepository;
+import com.paklog.productcatalog.shared.util.MetricsUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Service
 @Validated
@@ -22,20 +28,83 @@ public class ProductQueryService implements GetProductUseCase {
     private static final Logger logger = LoggerFactory.getLogger(ProductQueryService.class);
     
     private final ProductRepository productRepository;
+    private final ProductCountCache productCount;
+    private final MetricsUtil metrics;
     
-    public ProductQueryService(ProductRepository productRepository) {
+    public ProductQueryService(ProductRepository productRepository, ProductCountCache productCount,
+                               MetricsUtil metrics) {
         this.productRepository = productRepository;
+        this.productCount = productCount;
+        this.metrics = metrics;
     }
     
     @Override
     public Optional<Product> getProduct(GetProductQuery query) {
-        logger.debug("Retrieving product with SKU: {}", query.sku());
-        return productRepository.findBySku(query.sku());
+        logger.atDebug().addKeyValue("sku", query.sku().value()).log("Retrieving product");
+        long started = metrics.start();
+        boolean success = false;
+        try {
+            Optional<Product> product = productRepository.findBySku(query.sku());
+            success = true;
+            return product;
+        } finally {
+            metrics.recordOperation(MetricsUtil.Operation.GET, started, success);
+        }
     }
 
+    @Override
+    public List<Product> getProducts(GetProductsQuery query) {
+        logger.atDebug().addKeyValue("count", query.skus().size()).log("Retrieving products by SKU");
+        long started = metrics.start();
+        boolean success = false;
+        try {
+            List<Product> products = productRepository.findAllBySku(query.skus());
+            success = true;
+            return products;
+        } finally {
+            metrics.recordOperation(MetricsUtil.Operation.GET_BATCH, started, success);
+        }
+    }
+
+    /**
+     * Page totals come from the cached estimate unless the query asks for an exact count.
+     * Either way no count is needed when the page itself shows where the catalog ends.
+     */
     @Override
     public Page<Product> listProducts(ListProductsQuery query) {
-        logger.debug("Listing products with offset: {} and limit: {}", query.offset(), query.limit());
-        return productRepository.findAll(query.toPageable());
+        logger.atDebug().addKeyValue("offset", query.offset()).addKeyValue("limit", query.limit()).log("Listing products");
+        long started = metrics.start();
+        boolean success = false;
+        try {
+            Pageable pageable = query.toPageable();
+            Page<Product> page;
+            if (query.exact()) {
+                page = productRepository.findAll(pageable);
+                productCount.record(page.getTotalElements());
+            } else {
+                page = PageableExecutionUtils.getPage(productRepository.findPage(pageable), pageable,
+                        productCount::estimatedCount);
+            }
+            success = true;
+            return page;
+        } finally {
+            metrics.recordOperation(MetricsUtil.Operation.LIST, started, success);
+        }
+    }
+
+    /**
+     * The recorded time covers the whole export, including the time the sink spends writing.
+     */
+    @Override
+    public void exportProducts(Consumer<Product> sink) {
+        logger.debug("Exporting all products");
+        long started = metrics.start();
+        boolean success = false;
+        try {
+            productRepository.exportAll(sink);
+            success = true;
+        } finally {
+            metrics.recordOperation(MetricsUtil.Operation.EXPORT, started, success);
+        }
     }
-}
\ No newline at end of file
+}
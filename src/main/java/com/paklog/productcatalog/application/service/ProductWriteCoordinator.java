@@ -0,0 +1,158 @@
+package com.paklog.productcatalog.application.service;
+
+import com.paklog.productcatalog.domain.model.SKU;
+import com.paklog.productcatalog.shared.exception.ConcurrentProductModificationException;
+import com.paklog.productcatalog.shared.util.MetricsUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Serializes read-modify-write cycles on the same SKU within this instance and retries
+ * the ones that lose a version-checked write to another instance.
+ * <p>
+ * Each SKU being written gets its own fair lock, created on first use and dropped
+ * when the last writer leaves, so writers queue only behind writes to the same SKU.
+ * A write rejected with {@link ConcurrentProductModificationException} is run again,
+ * after a full-jitter backoff, up to the configured number of attempts.
+ */
+@Component
+public class ProductWriteCoordinator {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductWriteCoordinator.class);
+
+    private final ConcurrentHashMap<SKU, KeyLock> locks = new ConcurrentHashMap<>();
+
+    private final int maxAttempts;
+    private final long baseBackoffMillis;
+    private final long maxBackoffMillis;
+    private final Duration lockTimeout;
+
+    private final Timer lockWait;
+    private final Counter contended;
+    private final Counter conflicts;
+    private final Counter exhausted;
+
+    public ProductWriteCoordinator(@Value("${product-catalog.write-coordination.max-attempts:5}") int maxAttempts,
+                                   @Value("${product-catalog.write-coordination.base-backoff:5ms}") Duration baseBackoff,
+                                   @Value("${product-catalog.write-coordination.max-backoff:100ms}") Duration maxBackoff,
+                                   @Value("${product-catalog.write-coordination.lock-timeout:2s}") Duration lockTimeout,
+                                   MeterRegistry meterRegistry) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.baseBackoffMillis = Math.max(1, baseBackoff.toMillis());
+        this.maxBackoffMillis = Math.max(baseBackoffMillis, maxBackoff.toMillis());
+        this.lockTimeout = lockTimeout;
+
+        Gauge.builder("product.write.in-flight", locks, ConcurrentHashMap::size)
+                .description("SKUs with a write in progress or waiting on this instance")
+                .register(meterRegistry);
+        this.lockWait = MetricsUtil.latencyTimer("product.write.lock.wait")
+                .description("Time a write waited behind another write to the same SKU")
+                .register(meterRegistry);
+        this.contended = Counter.builder("product.write.contended")
+                .description("Writes that found another write to the same SKU in progress")
+                .register(meterRegistry);
+        this.conflicts = Counter.builder("product.write.conflicts")
+                .description("Version-checked writes rejected because the product had changed, and retried")
+                .register(meterRegistry);
+        this.exhausted = Counter.builder("product.write.exhausted")
+                .description("Writes given up after every attempt conflicted")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs the write while holding the SKU's lock, retrying it while it throws
+     * {@link ConcurrentProductModificationException}. The write must read the product
+     * afresh on every call.
+     *
+     * @throws ConcurrentProductModificationException if the lock is not obtained within
+     *         the lock timeout or every attempt conflicted
+     */
+    public <T> T write(SKU sku, Supplier<T> write) {
+        KeyLock keyLock = locks.compute(sku, (key, current) -> {
+            KeyLock held = current != null ? current : new KeyLock();
+            held.holders++;
+            return held;
+        });
+        try {
+            lock(sku, keyLock.lock);
+            try {
+                return attempt(sku, write);
+            } finally {
+                keyLock.lock.unlock();
+            }
+        } finally {
+            locks.computeIfPresent(sku, (key, current) -> --current.holders == 0 ? null : current);
+        }
+    }
+
+    private void lock(SKU sku, ReentrantLock lock) {
+        if (lock.tryLock()) {
+            return;
+        }
+        contended.increment();
+        long started = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = lock.tryLock(lockTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConcurrentProductModificationException("Interrupted waiting to write product " + sku, e);
+        } finally {
+            lockWait.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+        if (!acquired) {
+            exhausted.increment();
+            throw new ConcurrentProductModificationException(
+                    "Product " + sku + " is being written by too many concurrent requests");
+        }
+    }
+
+    private <T> T attempt(SKU sku, Supplier<T> write) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return write.get();
+            } catch (ConcurrentProductModificationException e) {
+                if (attempt >= maxAttempts) {
+                    exhausted.increment();
+                    logger.atWarn().addKeyValue("sku", sku.value()).addKeyValue("attempts", attempt)
+                            .log("Giving up on a product that kept changing concurrently");
+                    throw e;
+                }
+                conflicts.increment();
+                backoff(sku, attempt, e);
+            }
+        }
+    }
+
+    private void backoff(SKU sku, int attempt, ConcurrentProductModificationException conflict) {
+        long ceiling = Math.min(maxBackoffMillis, baseBackoffMillis << Math.min(attempt - 1, 20));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            conflict.addSuppressed(e);
+            throw conflict;
+        }
+    }
+
+    private static final class KeyLock {
+
+        private final ReentrantLock lock = new ReentrantLock(true);
+
+        /** Writers holding or waiting for the lock; only changed inside a map compute for the SKU. */
+        private int holders;
+    }
+}
@@ -5,6 +5,8 @@ import com.paklog.productcatalog.application.command.UpdateProductCommand;
 import com.paklog.productcatalog.application.port.input.UpdateProductUseCase;
 import com.paklog.productcatalog.domain.model.Product;
 import com.paklog.productcatalog.domain.repository.ProductRepository;
+import com.paklog.productcatalog.shared.exception.ConcurrentProductModificationException;
+import com.paklog.productcatalog.shared.util.MetricsUtil;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,6 +14,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 
+import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -23,45 +26,79 @@ public class UpdateProductService implements UpdateProductUseCase {
     
     private final ProductRepository productRepository;
     private final DomainEventProcessor eventProcessor;
+    private final ProductWriteCoordinator writeCoordinator;
+    private final MetricsUtil metrics;
     
-    public UpdateProductService(ProductRepository productRepository, DomainEventProcessor eventProcessor) {
+    public UpdateProductService(ProductRepository productRepository, DomainEventProcessor eventProcessor,
+                                ProductWriteCoordinator writeCoordinator, MetricsUtil metrics) {
         this.productRepository = productRepository;
         this.eventProcessor = eventProcessor;
+        this.writeCoordinator = writeCoordinator;
+        this.metrics = metrics;
     }
     
     @Override
     public Optional<Product> updateProduct(@Valid UpdateProductCommand command) {
-        logger.debug("Updating product with SKU: {}", command.sku());
-        
-        return productRepository.findBySku(command.sku())
-                .map(existingProduct -> {
-                    existingProduct.updateTitle(command.title());
-                    existingProduct.updateDimensions(command.dimensions());
-                    existingProduct.updateAttributes(command.attributes());
-                    
-                    Product savedProduct = productRepository.save(existingProduct);
-                    eventProcessor.processAndClear(savedProduct);
-                    
-                    logger.info("Product updated successfully with SKU: {}", command.sku());
-                    return savedProduct;
-                });
+        logger.atDebug().addKeyValue("sku", command.sku().value()).log("Updating product");
+        long started = metrics.start();
+        boolean success = false;
+        try {
+            Optional<Product> updated = writeCoordinator.write(command.sku(), () ->
+                    productRepository.findBySku(command.sku())
+                            .map(existingProduct -> {
+                                existingProduct.update(command.title(), command.dimensions(), command.attributes());
+                                return saveIfChanged(existingProduct, "Product updated");
+                            }));
+            success = true;
+            return updated;
+        } finally {
+            metrics.recordOperation(MetricsUtil.Operation.UPDATE, started, success);
+        }
     }
     
     @Override
     public Optional<Product> patchProduct(@Valid PatchProductCommand command) {
-        logger.debug("Patching product with SKU: {}", command.sku());
+        logger.atDebug().addKeyValue("sku", command.sku().value()).log("Patching product");
+        long started = metrics.start();
+        boolean success = false;
+        try {
+            Optional<Product> patched = writeCoordinator.write(command.sku(), () ->
+                    productRepository.findBySku(command.sku())
+                            .map(existingProduct -> {
+                                existingProduct.update(
+                                    command.title().orElse(existingProduct.getTitle()),
+                                    command.dimensions().orElse(existingProduct.getDimensions()),
+                                    command.attributes().orElse(existingProduct.getAttributes())
+                                );
+                                return saveIfChanged(existingProduct, "Product patched");
+                            }));
+            success = true;
+            return patched;
+        } finally {
+            metrics.recordOperation(MetricsUtil.Operation.PATCH, started, success);
+        }
+    }
+    
+    /**
+     * Writes the product only if it still has the version it was read at, so an update
+     * made in between by another instance is never overwritten; the coordinator then
+     * runs the read-modify-write again. An update that changed nothing is not written.
+     */
+    private Product saveIfChanged(Product product, String message) {
+        if (product.getDomainEvents().isEmpty()) {
+            return product;
+        }
+        if (product.getVersion() == null) {
+            // Stored before versions were kept; nothing to check against
+            productRepository.save(product);
+        } else if (!productRepository.saveAllIfUnmodified(List.of(product)).isEmpty()) {
+            throw new ConcurrentProductModificationException(
+                    "Product " + product.getSku() + " was modified concurrently");
+        }
+        eventProcessor.processAndClear(product);
         
-        return productRepository.findBySku(command.sku())
-                .map(existingProduct -> {
-                    command.title().ifPresent(existingProduct::updateTitle);
-                    command.dimensions().ifPresent(existingProduct::updateDimensions);
-                    command.attributes().ifPresent(existingProduct::updateAttributes);
-                    
-                    Product savedProduct = productRepository.save(existingProduct);
-                    eventProcessor.processAndClear(savedProduct);
-                    
-                    logger.info("Product patched successfully with SKU: {}", command.sku());
-                    return savedProduct;
-                });
+        logger.atInfo().addKeyValue("sku", product.getSku().value()).log(message);
+        metrics.incrementProductUpdated();
+        return product;
     }
 }
\ No newline at end of file
@@ -22,7 +22,8 @@ public class NativeRuntimeHintsRegistrar implements RuntimeHintsRegistrar {
         // Register JSON schema resources
         hints.resources()
                 .registerPattern("schemas/*.json")
-                .registerPattern("schemas/**/*.json");
+                .registerPattern("schemas/**/*.json")
+                .registerPattern("schemas/avro/**/*.avsc");
 
         // Register application configuration resources
         hints.resources()
@@ -1,15 +1,34 @@
 package com.paklog.productcatalog.domain.event;
 
+import com.paklog.productcatalog.domain.model.DomainClock;
+
 import java.time.Instant;
-import java.util.UUID;
 
 public abstract class DomainEvent {
     private final String eventId;
     private final Instant occurredOn;
     
     protected DomainEvent() {
-        this.eventId = UUID.randomUUID().toString();
-        this.occurredOn = Instant.now();
+        this(DomainClock.now());
+    }
+    
+    /**
+     * Creates an event that occurred at the given instant, typically the timestamp the
+     * aggregate just recorded, so a change reads the clock once. The ID is time-ordered,
+     * so events sort by occurrence.
+     */
+    protected DomainEvent(Instant occurredOn) {
+        this.occurredOn = occurredOn;
+        this.eventId = EventIds.next(occurredOn);
+    }
+    
+    /**
+     * Creates a copy of the original event under the same ID and timestamp, for events
+     * that are rebuilt with different content before they are published.
+     */
+    protected DomainEvent(DomainEvent original) {
+        this.occurredOn = original.occurredOn;
+        this.eventId = original.eventId;
     }
     
     public String getEventId() {
@@ -21,4 +40,11 @@ public abstract class DomainEvent {
     }
     
     public abstract String getEventType();
+    
+    /**
+     * Identifier of the aggregate the event belongs to. Used as the Kafka record
+     * key so that all events of one product land on the same partition, in order,
+     * and so that topic compaction retains the latest event per product.
+     */
+    public abstract String getAggregateId();
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.paklog.productcatalog.domain.event;
+
+import java.time.Instant;
+
+/**
+ * Produces domain event identifiers.
+ */
+@FunctionalInterface
+public interface EventIdGenerator {
+
+    /**
+     * Returns a new, unique identifier for an event that occurred at the given instant.
+     */
+    String nextId(Instant occurredOn);
+}
@@ -0,0 +1,29 @@
+package com.paklog.productcatalog.domain.event;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * The {@link EventIdGenerator} used by every {@link DomainEvent}. Defaults to
+ * time-ordered UUIDv7 identifiers; the application may install another generator
+ * at startup.
+ */
+public final class EventIds {
+
+    private static volatile EventIdGenerator generator = new UuidV7Generator();
+
+    private EventIds() {
+    }
+
+    public static String next(Instant occurredOn) {
+        return generator.nextId(occurredOn);
+    }
+
+    public static void use(EventIdGenerator generator) {
+        EventIds.generator = Objects.requireNonNull(generator, "Event ID generator cannot be null");
+    }
+
+    public static void reset() {
+        generator = new UuidV7Generator();
+    }
+}
@@ -1,12 +1,19 @@
 package com.paklog.productcatalog.domain.event;
 
+import com.paklog.productcatalog.domain.model.DomainClock;
 import com.paklog.productcatalog.domain.model.SKU;
 
+import java.time.Instant;
+
 public class ProductDeletedEvent extends DomainEvent {
     private final SKU sku;
     
     public ProductDeletedEvent(SKU sku) {
-        super();
+        this(sku, DomainClock.now());
+    }
+    
+    public ProductDeletedEvent(SKU sku, Instant occurredOn) {
+        super(occurredOn);
         this.sku = sku;
     }
     
@@ -18,6 +25,11 @@ public class ProductDeletedEvent extends DomainEvent {
     public String getEventType() {
         return "ProductDeleted";
     }
+    
+    @Override
+    public String getAggregateId() {
+        return sku.value();
+    }
 
     public static Builder builder() { return new Builder(); }
 
@@ -0,0 +1,27 @@
+package com.paklog.productcatalog.domain.event;
+
+import com.paklog.productcatalog.domain.model.Attributes;
+import com.paklog.productcatalog.domain.model.Dimensions;
+import com.paklog.productcatalog.domain.model.SKU;
+
+import java.time.Instant;
+
+/**
+ * Full product state carried by created and updated events, so that the
+ * compacted event topic can serve as a changelog that consumers bootstrap
+ * from without calling back into the REST API.
+ */
+public record ProductSnapshot(
+    SKU sku,
+    String title,
+    Dimensions dimensions,
+    Attributes attributes,
+    Instant createdAt,
+    Instant updatedAt,
+    Long version
+) {
+    
+    public ProductSnapshot withVersion(Long version) {
+        return new ProductSnapshot(sku, title, dimensions, attributes, createdAt, updatedAt, version);
+    }
+}
@@ -1,15 +1,42 @@
 package com.paklog.productcatalog.domain.event;
 
+import com.paklog.productcatalog.domain.model.DomainClock;
 import com.paklog.productcatalog.domain.model.SKU;
 
+import java.time.Instant;
+
 public class ProductUpdatedEvent extends DomainEvent {
     private final SKU sku;
     private final String title;
+    private final ProductSnapshot product;
     
     public ProductUpdatedEvent(SKU sku, String title) {
-        super();
+        this(sku, title, null);
+    }
+    
+    public ProductUpdatedEvent(SKU sku, String title, ProductSnapshot product) {
+        this(sku, title, product, DomainClock.now());
+    }
+    
+    public ProductUpdatedEvent(SKU sku, String title, ProductSnapshot product, Instant occurredOn) {
+        super(occurredOn);
         this.sku = sku;
         this.title = title;
+        this.product = product;
+    }
+    
+    private ProductUpdatedEvent(ProductUpdatedEvent original, ProductSnapshot product) {
+        super(original);
+        this.sku = original.sku;
+        this.title = original.title;
+        this.product = product;
+    }
+    
+    /**
+     * The same event, with its product snapshot at the given version.
+     */
+    public ProductUpdatedEvent atVersion(Long version) {
+        return product == null ? this : new ProductUpdatedEvent(this, product.withVersion(version));
     }
     
     public SKU getSku() {
@@ -20,22 +47,33 @@ public class ProductUpdatedEvent extends DomainEvent {
         return title;
     }
     
+    public ProductSnapshot getProduct() {
+        return product;
+    }
+    
     @Override
     public String getEventType() {
         return "ProductUpdated";
     }
+    
+    @Override
+    public String getAggregateId() {
+        return sku.value();
+    }
 
     public static Builder builder() { return new Builder(); }
 
     public static class Builder {
         private SKU sku;
         private String title;
+        private ProductSnapshot product;
 
         public Builder sku(final SKU sku) { this.sku = sku; return this; }
         public Builder title(final String title) { this.title = title; return this; }
+        public Builder product(final ProductSnapshot product) { this.product = product; return this; }
 
         public ProductUpdatedEvent build() {
-            return new ProductUpdatedEvent(sku, title);
+            return new ProductUpdatedEvent(sku, title, product);
         }
     }
 }
@@ -0,0 +1,53 @@
+package com.paklog.productcatalog.domain.event;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates RFC 9562 version 7 UUIDs: a 48-bit Unix millisecond timestamp followed by
+ * a 12-bit sequence and 62 random bits. Identifiers sort by the time their event
+ * occurred and, within the generator, strictly increase.
+ * <p>
+ * Monotonicity comes from one shared timestamp-and-sequence word advanced with a
+ * compare-and-set. Within a millisecond the sequence starts at a random point in its
+ * lower half and counts up. When it runs out, or the clock steps back, the timestamp
+ * is carried forward rather than reused. The random bits come from
+ * {@link ThreadLocalRandom}, so unlike {@link UUID#randomUUID()} no thread waits on a
+ * shared {@code SecureRandom}. Event IDs need to be unique and ordered, not unguessable.
+ */
+public final class UuidV7Generator implements EventIdGenerator {
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final long SEQUENCE_START_MASK = (1L << (SEQUENCE_BITS - 1)) - 1;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_RFC = 0x8000000000000000L;
+    private static final long RANDOM_62 = 0x3FFFFFFFFFFFFFFFL;
+
+    private final AtomicLong last = new AtomicLong();
+
+    @Override
+    public String nextId(Instant occurredOn) {
+        return next(occurredOn.toEpochMilli()).toString();
+    }
+
+    UUID next(long epochMillis) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long candidate = (epochMillis << SEQUENCE_BITS) | (random.nextLong() & SEQUENCE_START_MASK);
+        long timeAndSequence;
+        while (true) {
+            long previous = last.get();
+            timeAndSequence = candidate > previous ? candidate : previous + 1;
+            if (last.compareAndSet(previous, timeAndSequence)) {
+                break;
+            }
+        }
+
+        long mostSignificant = ((timeAndSequence >>> SEQUENCE_BITS) << 16)
+                | VERSION_7
+                | (timeAndSequence & ((1L << SEQUENCE_BITS) - 1));
+        long leastSignificant = VARIANT_RFC | (random.nextLong() & RANDOM_62);
+        return new UUID(mostSignificant, leastSignificant);
+    }
+}
@@ -0,0 +1,65 @@
+package com.paklog.productcatalog.domain.model;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Position in the product change feed. Changes are ordered by {@code updatedAt}
+ * and then by SKU, so the pair identifies a unique, resumable point in the feed.
+ */
+public record ChangeCursor(Instant changedAt, String sku) {
+
+    private static final ChangeCursor BEGINNING = new ChangeCursor(Instant.EPOCH, "");
+
+    public ChangeCursor {
+        Objects.requireNonNull(changedAt, "Change timestamp cannot be null");
+        Objects.requireNonNull(sku, "SKU cannot be null");
+    }
+
+    public static ChangeCursor beginning() {
+        return BEGINNING;
+    }
+
+    public static ChangeCursor after(Product product) {
+        return new ChangeCursor(product.getUpdatedAt(), product.getSku().value());
+    }
+
+    /**
+     * Encodes the cursor as an opaque, URL-safe continuation token.
+     */
+    public String encode() {
+        String raw = changedAt.toEpochMilli() + ":" + sku;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a continuation token previously produced by {@link #encode()}.
+     * A null or blank token starts the feed from the beginning.
+     */
+    public static ChangeCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return BEGINNING;
+        }
+
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid change token: " + token, e);
+        }
+
+        int separator = raw.indexOf(':');
+        if (separator <= 0) {
+            throw new IllegalArgumentException("Invalid change token: " + token);
+        }
+
+        try {
+            long epochMilli = Long.parseLong(raw.substring(0, separator));
+            return new ChangeCursor(Instant.ofEpochMilli(epochMilli), raw.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid change token: " + token, e);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.paklog.productcatalog.domain.model;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.Objects;
 
 public record DimensionMeasurement(
@@ -27,7 +28,81 @@ public record DimensionMeasurement(
         return new DimensionMeasurement(BigDecimal.valueOf(value), unit);
     }
     
+    /**
+     * Checks what the constructor leaves to the write path: at most 18 significant
+     * digits and a length in micrometres that fits a long. Stored products may predate
+     * these limits, so only new input is held to them.
+     */
+    public DimensionMeasurement validate() {
+        if (!PackedDimensions.isPackable(value)) {
+            throw new IllegalArgumentException("Dimension value has too many digits");
+        }
+        if (!unit.isInRange(value)) {
+            throw new IllegalArgumentException("Dimension value is out of range");
+        }
+        return this;
+    }
+    
+    /**
+     * Whether {@link #validate()} would accept this measurement.
+     */
+    public boolean isPackable() {
+        return PackedDimensions.isPackable(value) && unit.isInRange(value);
+    }
+    
+    /**
+     * The length in whole micrometres, for comparing measurements given in different units.
+     */
+    public long toMicrometres() {
+        return unit.toMicrometres(value);
+    }
+    
+    /**
+     * Whether this is longer than the other measurement. Same-unit measurements compare
+     * their values directly; only mixed units are converted to micrometres.
+     */
+    public boolean isLongerThan(DimensionMeasurement other) {
+        if (unit == other.unit) {
+            return value.compareTo(other.value) > 0;
+        }
+        return toMicrometres() > other.toMicrometres();
+    }
+    
     public enum DimensionUnit {
-        INCHES, CENTIMETERS, MILLIMETERS, FEET, METERS
+        INCHES("25400"), CENTIMETERS("10000"), MILLIMETERS("1000"), FEET("304800"), METERS("1000000");
+        
+        private final BigDecimal micrometres;
+        // digits before the decimal point of the factor
+        private final int magnitude;
+        
+        DimensionUnit(String micrometres) {
+            this.micrometres = new BigDecimal(micrometres);
+            this.magnitude = this.micrometres.precision() - this.micrometres.scale();
+        }
+        
+        /**
+         * Whether the value's length in micrometres fits a long. A value with few enough
+         * integer digits is accepted from its precision and scale alone; only the rest
+         * is converted.
+         */
+        boolean isInRange(BigDecimal value) {
+            if (value.precision() - value.scale() + magnitude <= 18) {
+                return true;
+            }
+            try {
+                toMicrometres(value);
+                return true;
+            } catch (IllegalArgumentException e) {
+                return false;
+            }
+        }
+        
+        long toMicrometres(BigDecimal value) {
+            try {
+                return value.multiply(micrometres).setScale(0, RoundingMode.HALF_EVEN).longValueExact();
+            } catch (ArithmeticException e) {
+                throw new IllegalArgumentException("Dimension value is out of range");
+            }
+        }
     }
-}
\ No newline at end of file
+}
@@ -25,4 +25,19 @@ public record DimensionSet(
     ) {
         return new DimensionSet(length, width, height, weight);
     }
+    
+    /**
+     * Validates each measurement; see {@link DimensionMeasurement#validate()}.
+     */
+    public DimensionSet validate() {
+        length.validate();
+        width.validate();
+        height.validate();
+        weight.validate();
+        return this;
+    }
+    
+    public boolean isPackable() {
+        return length.isPackable() && width.isPackable() && height.isPackable() && weight.isPackable();
+    }
 }
\ No newline at end of file
@@ -8,22 +8,47 @@ public record Dimensions(
     @Valid DimensionSet packageDimensions
 ) {
     
+    /**
+     * Only measurements in the same unit are compared here: those agree under the raw-value
+     * check products used to be stored with, so every stored product still loads. New input
+     * goes through {@link #validate()}.
+     */
     public Dimensions {
         Objects.requireNonNull(item, "Item dimensions cannot be null");
         Objects.requireNonNull(packageDimensions, "Package dimensions cannot be null");
         
-        validateItemFitsInPackage(item, packageDimensions);
+        if (isLongerInSameUnit(item.length(), packageDimensions.length()) ||
+            isLongerInSameUnit(item.width(), packageDimensions.width()) ||
+            isLongerInSameUnit(item.height(), packageDimensions.height())) {
+            
+            throw new IllegalArgumentException(
+                "Item dimensions cannot be larger than package dimensions"
+            );
+        }
     }
     
-    private void validateItemFitsInPackage(DimensionSet item, DimensionSet packageDimensions) {
-        if (item.length().value().compareTo(packageDimensions.length().value()) > 0 ||
-            item.width().value().compareTo(packageDimensions.width().value()) > 0 ||
-            item.height().value().compareTo(packageDimensions.height().value()) > 0) {
+    /**
+     * Checks new input strictly: every measurement must be packable, and measurements in
+     * different units are compared in canonical micrometres, so an item measured in feet
+     * is checked correctly against a package measured in inches.
+     */
+    public Dimensions validate() {
+        item.validate();
+        packageDimensions.validate();
+        
+        if (item.length().isLongerThan(packageDimensions.length()) ||
+            item.width().isLongerThan(packageDimensions.width()) ||
+            item.height().isLongerThan(packageDimensions.height())) {
             
             throw new IllegalArgumentException(
                 "Item dimensions cannot be larger than package dimensions"
             );
         }
+        return this;
+    }
+    
+    private static boolean isLongerInSameUnit(DimensionMeasurement item, DimensionMeasurement packageDimension) {
+        return item.unit() == packageDimension.unit() && item.isLongerThan(packageDimension);
     }
     
     public static Dimensions of(DimensionSet item, DimensionSet packageDimensions) {
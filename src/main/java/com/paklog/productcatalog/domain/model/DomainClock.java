@@ -0,0 +1,35 @@
+package com.paklog.productcatalog.domain.model;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * The clock the domain reads its timestamps from. Aggregates and events are created
+ * outside of the container, so the clock is held here rather than injected; the
+ * application installs its clock at startup and tests can install a fixed or
+ * adjustable one.
+ */
+public final class DomainClock {
+
+    private static volatile Clock clock = Clock.systemUTC();
+
+    private DomainClock() {
+    }
+
+    public static Instant now() {
+        return clock.instant();
+    }
+
+    public static Clock get() {
+        return clock;
+    }
+
+    public static void use(Clock clock) {
+        DomainClock.clock = Objects.requireNonNull(clock, "Clock cannot be null");
+    }
+
+    public static void reset() {
+        clock = Clock.systemUTC();
+    }
+}
@@ -0,0 +1,158 @@
+package com.paklog.productcatalog.domain.model;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Flat form of a product's {@link Dimensions}: the eight measurements live in a single
+ * {@code long[]} instead of a graph of records and {@link BigDecimal}s. Each measurement
+ * keeps its exact unscaled value, scale and unit, so {@link #toDimensions()} returns
+ * precisely what was packed, next to its canonical value in micrometres or micrograms
+ * for comparisons that allocate nothing.
+ */
+public final class PackedDimensions {
+
+    public static final int MEASUREMENTS = 8;
+
+    public static final int ITEM = 0;
+    public static final int PACKAGE = 4;
+    public static final int LENGTH = 0;
+    public static final int WIDTH = 1;
+    public static final int HEIGHT = 2;
+    public static final int WEIGHT = 3;
+
+    private static final int MAX_PRECISION = 18;
+
+    private static final DimensionMeasurement.DimensionUnit[] DIMENSION_UNITS = DimensionMeasurement.DimensionUnit.values();
+    private static final WeightMeasurement.WeightUnit[] WEIGHT_UNITS = WeightMeasurement.WeightUnit.values();
+
+    // [0, 8) unscaled values as supplied, [8, 16) canonical micro-units
+    private final long[] values;
+    // one signed byte of scale per measurement
+    private final long scales;
+    // one nibble of unit ordinal per measurement
+    private final int units;
+
+    private PackedDimensions(long[] values, long scales, int units) {
+        this.values = values;
+        this.scales = scales;
+        this.units = units;
+    }
+
+    public static PackedDimensions of(Dimensions dimensions) {
+        Objects.requireNonNull(dimensions, "Dimensions cannot be null");
+        long[] values = new long[MEASUREMENTS * 2];
+        long[] scales = {0L};
+        int[] units = {0};
+
+        pack(dimensions.item(), ITEM, values, scales, units);
+        pack(dimensions.packageDimensions(), PACKAGE, values, scales, units);
+
+        return new PackedDimensions(values, scales[0], units[0]);
+    }
+
+    /**
+     * Whether the value fits the packed layout: at most 18 significant digits and a scale
+     * within a signed byte. Checked without allocating.
+     */
+    public static boolean isPackable(BigDecimal value) {
+        return value.precision() <= MAX_PRECISION && value.scale() >= Byte.MIN_VALUE && value.scale() <= Byte.MAX_VALUE;
+    }
+
+    /**
+     * Whether the dimensions can be packed. Products stored before the write path enforced
+     * {@link Dimensions#validate()} may hold values that cannot.
+     */
+    public static boolean isPackable(Dimensions dimensions) {
+        return dimensions.item().isPackable() && dimensions.packageDimensions().isPackable();
+    }
+
+    public Dimensions toDimensions() {
+        return new Dimensions(unpack(ITEM), unpack(PACKAGE));
+    }
+
+    /**
+     * Same check as {@link Dimensions#validate()}, on canonical values.
+     */
+    public boolean itemFitsInPackage() {
+        return micros(ITEM + LENGTH) <= micros(PACKAGE + LENGTH)
+                && micros(ITEM + WIDTH) <= micros(PACKAGE + WIDTH)
+                && micros(ITEM + HEIGHT) <= micros(PACKAGE + HEIGHT);
+    }
+
+    /**
+     * Canonical value of a measurement: micrometres for lengths, micrograms for weights.
+     */
+    public long micros(int slot) {
+        return values[MEASUREMENTS + slot];
+    }
+
+    public long unscaled(int slot) {
+        return values[slot];
+    }
+
+    public int scale(int slot) {
+        return (byte) (scales >>> (slot * 8));
+    }
+
+    public int unitOrdinal(int slot) {
+        return (units >>> (slot * 4)) & 0xF;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PackedDimensions other)) return false;
+        return scales == other.scales && units == other.units
+                && Arrays.equals(values, 0, MEASUREMENTS, other.values, 0, MEASUREMENTS);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Long.hashCode(scales) * 31 + units;
+        for (int i = 0; i < MEASUREMENTS; i++) {
+            result = result * 31 + Long.hashCode(values[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "PackedDimensions" + toDimensions();
+    }
+
+    private static void pack(DimensionSet set, int base, long[] values, long[] scales, int[] units) {
+        packLength(set.length(), base + LENGTH, values, scales, units);
+        packLength(set.width(), base + WIDTH, values, scales, units);
+        packLength(set.height(), base + HEIGHT, values, scales, units);
+
+        int slot = base + WEIGHT;
+        WeightMeasurement weight = set.weight();
+        store(weight.value(), weight.unit().ordinal(), weight.toMicrograms(), slot, values, scales, units);
+    }
+
+    private static void packLength(DimensionMeasurement measurement, int slot, long[] values, long[] scales, int[] units) {
+        store(measurement.value(), measurement.unit().ordinal(), measurement.toMicrometres(), slot, values, scales, units);
+    }
+
+    private static void store(BigDecimal value, int unit, long micros, int slot,
+                              long[] values, long[] scales, int[] units) {
+        values[slot] = value.unscaledValue().longValueExact();
+        values[MEASUREMENTS + slot] = micros;
+        scales[0] |= (value.scale() & 0xFFL) << (slot * 8);
+        units[0] |= unit << (slot * 4);
+    }
+
+    private DimensionSet unpack(int base) {
+        return new DimensionSet(
+                new DimensionMeasurement(value(base + LENGTH), DIMENSION_UNITS[unitOrdinal(base + LENGTH)]),
+                new DimensionMeasurement(value(base + WIDTH), DIMENSION_UNITS[unitOrdinal(base + WIDTH)]),
+                new DimensionMeasurement(value(base + HEIGHT), DIMENSION_UNITS[unitOrdinal(base + HEIGHT)]),
+                new WeightMeasurement(value(base + WEIGHT), WEIGHT_UNITS[unitOrdinal(base + WEIGHT)]));
+    }
+
+    private BigDecimal value(int slot) {
+        return BigDecimal.valueOf(unscaled(slot), scale(slot));
+    }
+}
@@ -3,6 +3,7 @@ package com.paklog.productcatalog.domain.model;
 import com.paklog.productcatalog.domain.event.DomainEvent;
 import com.paklog.productcatalog.domain.event.ProductCreatedEvent;
 import com.paklog.productcatalog.domain.event.ProductDeletedEvent;
+import com.paklog.productcatalog.domain.event.ProductSnapshot;
 import com.paklog.productcatalog.domain.event.ProductUpdatedEvent;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
@@ -30,10 +31,15 @@ public class Product {
     private final Instant createdAt;
     private Instant updatedAt;
     private Long version;
+    private Instant deletedAt;
     
     private List<DomainEvent> domainEvents = new ArrayList<>();
     
     public Product(SKU sku, String title, Dimensions dimensions, Attributes attributes, Instant createdAt, Instant updatedAt, Long version) {
+        this(sku, title, dimensions, attributes, createdAt, updatedAt, version, null);
+    }
+    
+    public Product(SKU sku, String title, Dimensions dimensions, Attributes attributes, Instant createdAt, Instant updatedAt, Long version, Instant deletedAt) {
         this.sku = sku;
         this.title = title;
         this.dimensions = dimensions;
@@ -41,6 +47,7 @@ public class Product {
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
         this.version = version;
+        this.deletedAt = deletedAt;
         this.domainEvents = new java.util.ArrayList<>();
     }
 
@@ -49,11 +56,11 @@ public class Product {
         this.title = validateTitle(title);
         this.dimensions = dimensions;
         this.attributes = attributes != null ? attributes : Attributes.withoutHazmat();
-        this.createdAt = Instant.now();
+        this.createdAt = DomainClock.now();
         this.updatedAt = this.createdAt;
         this.version = 0L;
 
-        this.domainEvents.add(new ProductCreatedEvent(this.sku, this.title));
+        this.domainEvents.add(new ProductCreatedEvent(this.sku, this.title, snapshot(), this.createdAt));
     }
     
     public static Product create(SKU sku, String title, Dimensions dimensions, Attributes attributes) {
@@ -64,33 +71,67 @@ public class Product {
         return new Product(sku, title, null, null);
     }
     
+    /**
+     * Applies title, dimensions and attributes in one step and records a single
+     * update event carrying the resulting state, instead of one per field.
+     */
+    public void update(String newTitle, Dimensions newDimensions, Attributes newAttributes) {
+        String validatedTitle = validateTitle(newTitle);
+        Attributes effectiveAttributes = newAttributes != null ? newAttributes : Attributes.withoutHazmat();
+        
+        boolean changed = !this.title.equals(validatedTitle)
+                || !Objects.equals(this.dimensions, newDimensions)
+                || !Objects.equals(this.attributes, effectiveAttributes);
+        
+        if (changed) {
+            this.title = validatedTitle;
+            this.dimensions = newDimensions;
+            this.attributes = effectiveAttributes;
+            recordUpdate();
+        }
+    }
+    
     public void updateTitle(String newTitle) {
         String validatedTitle = validateTitle(newTitle);
         if (!this.title.equals(validatedTitle)) {
             this.title = validatedTitle;
-            this.updatedAt = Instant.now();
-            this.domainEvents.add(new ProductUpdatedEvent(this.sku, this.title));
+            recordUpdate();
         }
     }
     
     public void updateDimensions(Dimensions newDimensions) {
         if (!Objects.equals(this.dimensions, newDimensions)) {
             this.dimensions = newDimensions;
-            this.updatedAt = Instant.now();
-            this.domainEvents.add(new ProductUpdatedEvent(this.sku, this.title));
+            recordUpdate();
         }
     }
     
     public void updateAttributes(Attributes newAttributes) {
         if (!Objects.equals(this.attributes, newAttributes)) {
             this.attributes = newAttributes != null ? newAttributes : Attributes.withoutHazmat();
-            this.updatedAt = Instant.now();
-            this.domainEvents.add(new ProductUpdatedEvent(this.sku, this.title));
+            recordUpdate();
         }
     }
     
+    /**
+     * Turns the product into a tombstone. The record keeps its last state and
+     * version so that change feeds and caches can tell "deleted" from "never existed".
+     */
     public void markForDeletion() {
-        this.domainEvents.add(new ProductDeletedEvent(this.sku));
+        Instant now = DomainClock.now();
+        if (this.deletedAt == null) {
+            this.deletedAt = now;
+            this.updatedAt = now;
+        }
+        this.domainEvents.add(new ProductDeletedEvent(this.sku, now));
+    }
+    
+    /**
+     * Stamps the change with a single clock read, shared by the product and its event.
+     */
+    private void recordUpdate() {
+        this.updatedAt = DomainClock.now();
+        this.domainEvents.add(new ProductUpdatedEvent(this.sku, this.title, snapshot(), this.updatedAt));
     }
     
     private String validateTitle(String title) {
@@ -102,6 +143,10 @@ public class Product {
         return trimmed;
     }
     
+    public ProductSnapshot snapshot() {
+        return new ProductSnapshot(sku, title, dimensions, attributes, createdAt, updatedAt, version);
+    }
+    
     public List<DomainEvent> getDomainEvents() {
         return Collections.unmodifiableList(domainEvents);
     }
@@ -138,8 +183,35 @@ public class Product {
         return version;
     }
     
+    /**
+     * Sets the version the product is stored at. Repositories call this as they write
+     * the product, so the snapshots in its pending events are re-stamped with it; the
+     * events then carry the version that was stored, not the one the product was read at.
+     */
     public void setVersion(Long version) {
         this.version = version;
+        domainEvents.replaceAll(event -> switch (event) {
+            case ProductCreatedEvent created -> created.atVersion(version);
+            case ProductUpdatedEvent updated -> updated.atVersion(version);
+            default -> event;
+        });
+    }
+    
+    /**
+     * Whether the product has not been stored yet: {@link #create} starts products at
+     * version 0, and saving one stores it at version 1. A product without a version was
+     * stored before versions were kept.
+     */
+    public boolean isNew() {
+        return version != null && version == 0L;
+    }
+    
+    public Instant getDeletedAt() {
+        return deletedAt;
+    }
+    
+    public boolean isDeleted() {
+        return deletedAt != null;
     }
     
     @Override
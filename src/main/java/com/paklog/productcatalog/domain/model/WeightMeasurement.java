@@ -3,6 +3,7 @@ package com.paklog.productcatalog.domain.model;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.Objects;
 
 public record WeightMeasurement(
@@ -27,7 +28,70 @@ public record WeightMeasurement(
         return new WeightMeasurement(BigDecimal.valueOf(value), unit);
     }
     
+    /**
+     * Checks what the constructor leaves to the write path: at most 18 significant
+     * digits and a weight in micrograms that fits a long. Stored products may predate
+     * these limits, so only new input is held to them.
+     */
+    public WeightMeasurement validate() {
+        if (!PackedDimensions.isPackable(value)) {
+            throw new IllegalArgumentException("Weight value has too many digits");
+        }
+        if (!unit.isInRange(value)) {
+            throw new IllegalArgumentException("Weight value is out of range");
+        }
+        return this;
+    }
+    
+    /**
+     * Whether {@link #validate()} would accept this measurement.
+     */
+    public boolean isPackable() {
+        return PackedDimensions.isPackable(value) && unit.isInRange(value);
+    }
+    
+    /**
+     * The weight in whole micrograms, for comparing measurements given in different units.
+     */
+    public long toMicrograms() {
+        return unit.toMicrograms(value);
+    }
+    
     public enum WeightUnit {
-        POUNDS, KILOGRAMS, GRAMS, OUNCES
+        POUNDS("453592370"), KILOGRAMS("1000000000"), GRAMS("1000000"), OUNCES("28349523.125");
+        
+        private final BigDecimal micrograms;
+        // digits before the decimal point of the factor
+        private final int magnitude;
+        
+        WeightUnit(String micrograms) {
+            this.micrograms = new BigDecimal(micrograms);
+            this.magnitude = this.micrograms.precision() - this.micrograms.scale();
+        }
+        
+        /**
+         * Whether the value's weight in micrograms fits a long. A value with few enough
+         * integer digits is accepted from its precision and scale alone; only the rest
+         * is converted.
+         */
+        boolean isInRange(BigDecimal value) {
+            if (value.precision() - value.scale() + magnitude <= 18) {
+                return true;
+            }
+            try {
+                toMicrograms(value);
+                return true;
+            } catch (IllegalArgumentException e) {
+                return false;
+            }
+        }
+        
+        long toMicrograms(BigDecimal value) {
+            try {
+                return value.multiply(micrograms).setScale(0, RoundingMode.HALF_EVEN).longValueExact();
+            } catch (ArithmeticException e) {
+                throw new IllegalArgumentException("Weight value is out of range");
+            }
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,20 +1,70 @@
 package com.paklog.productcatalog.domain.repository;
 
+import com.paklog.productcatalog.domain.model.ChangeCursor;
 import com.paklog.productcatalog.domain.model.Product;
 import com.paklog.productcatalog.domain.model.SKU;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface ProductRepository {
     
+    /**
+     * Inserts a {@linkplain Product#isNew() new} product at version 1, or replaces the
+     * stored product with its SKU and moves it on to the next version.
+     *
+     * @throws com.paklog.productcatalog.shared.exception.ProductAlreadyExistsException
+     *         if the product is new and its SKU is already in use
+     */
     Product save(Product product);
     
+    /**
+     * Writes the products as one unordered batch, each inserted or replacing the stored
+     * product with its SKU and moving on to the next version. A product that cannot be
+     * written does not stop the others.
+     *
+     * @return why each product that could not be written failed, by SKU
+     */
+    Map<SKU, String> saveAll(List<Product> products);
+    
+    /**
+     * Writes changes to products read earlier as one unordered batch, each only if the
+     * stored product is still live and at the version it was read at. Products written
+     * move on to the next version; the others were changed or deleted by another writer
+     * in the meantime and are left as stored, to be read again.
+     *
+     * @return the SKUs not written because of a concurrent change
+     */
+    Set<SKU> saveAllIfUnmodified(List<Product> products);
+    
     Optional<Product> findBySku(SKU sku);
     
+    /**
+     * Returns the live products among the given SKUs, in no particular order; unknown
+     * and deleted SKUs are left out.
+     */
+    List<Product> findAllBySku(Collection<SKU> skus);
+    
     Page<Product> findAll(Pageable pageable);
     
+    /**
+     * Returns one page of live products, like {@link #findAll(Pageable)}, without counting them.
+     */
+    List<Product> findPage(Pageable pageable);
+    
+    /**
+     * Returns products, including tombstones, changed strictly after the given cursor and before
+     * {@code settledBefore}, ordered by change timestamp and then SKU.
+     */
+    List<Product> findChangedSince(ChangeCursor cursor, Instant settledBefore, int limit);
+    
     boolean existsBySku(SKU sku);
     
     void delete(Product product);
@@ -22,4 +72,23 @@ public interface ProductRepository {
     void deleteBySku(SKU sku);
     
     long count();
+    
+    /**
+     * Returns the number of live products from what the store can tell without scanning
+     * them. It may lag recent writes, so use {@link #count()} where it has to be exact.
+     */
+    long estimatedCount();
+    
+    /**
+     * Hands every live product to the action, in no particular order, without holding
+     * the whole catalog in memory.
+     */
+    void exportAll(Consumer<Product> action);
+    
+    /**
+     * Permanently removes up to {@code batchSize} tombstones deleted before the cutoff.
+     *
+     * @return the number of tombstones removed
+     */
+    int purgeTombstones(Instant deletedBefore, int batchSize);
 }
\ No newline at end of file
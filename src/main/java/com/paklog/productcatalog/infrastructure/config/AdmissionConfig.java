@@ -0,0 +1,164 @@
+package com.paklog.productcatalog.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "product-catalog.admission")
+public class AdmissionConfig {
+    
+    /**
+     * Kinds of product traffic, each admitted against its own adaptive limit.
+     * {@code EXPORT} covers the long-running whole-catalog transfers, export and import.
+     */
+    public enum EndpointClass { READ, WRITE, BULK, EXPORT }
+    
+    private boolean enabled = true;
+    private double backoffRatio = 0.9;
+    /** Shared by every class; only its limits apply, latency and share come from the request's class. */
+    private Limit global = new Limit(64, 8, 256, null, null, 1.0);
+    private Limit read = new Limit(48, 4, 200, Duration.ofMillis(250), Duration.ofSeconds(1), 0.9);
+    private Limit write = new Limit(32, 4, 128, Duration.ofMillis(500), Duration.ofSeconds(1), 1.0);
+    private Limit bulk = new Limit(16, 2, 64, Duration.ofSeconds(1), Duration.ofSeconds(2), 0.7);
+    private Limit export = new Limit(2, 1, 4, Duration.ofMinutes(5), Duration.ofSeconds(10), 0.5);
+    
+    public Limit forClass(EndpointClass endpointClass) {
+        return switch (endpointClass) {
+            case READ -> read;
+            case WRITE -> write;
+            case BULK -> bulk;
+            case EXPORT -> export;
+        };
+    }
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+    
+    public double getBackoffRatio() {
+        return backoffRatio;
+    }
+    
+    public void setBackoffRatio(double backoffRatio) {
+        this.backoffRatio = backoffRatio;
+    }
+    
+    public Limit getGlobal() {
+        return global;
+    }
+    
+    public void setGlobal(Limit global) {
+        this.global = global;
+    }
+    
+    public Limit getRead() {
+        return read;
+    }
+    
+    public void setRead(Limit read) {
+        this.read = read;
+    }
+    
+    public Limit getWrite() {
+        return write;
+    }
+    
+    public void setWrite(Limit write) {
+        this.write = write;
+    }
+    
+    public Limit getBulk() {
+        return bulk;
+    }
+    
+    public void setBulk(Limit bulk) {
+        this.bulk = bulk;
+    }
+    
+    public Limit getExport() {
+        return export;
+    }
+    
+    public void setExport(Limit export) {
+        this.export = export;
+    }
+    
+    public static class Limit {
+        
+        private int initialLimit;
+        private int minLimit;
+        private int maxLimit;
+        /** Requests slower than this count as a sign of overload and shrink the limit. */
+        private Duration maxLatency;
+        /** Sent as Retry-After when a request is turned away. */
+        private Duration retryAfter;
+        /** Fraction of the global limit this class may fill; lower shares are shed first. */
+        private double share;
+        
+        public Limit() {
+        }
+        
+        public Limit(int initialLimit, int minLimit, int maxLimit, Duration maxLatency, Duration retryAfter, double share) {
+            this.initialLimit = initialLimit;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+            this.maxLatency = maxLatency;
+            this.retryAfter = retryAfter;
+            this.share = share;
+        }
+        
+        public int getInitialLimit() {
+            return initialLimit;
+        }
+        
+        public void setInitialLimit(int initialLimit) {
+            this.initialLimit = initialLimit;
+        }
+        
+        public int getMinLimit() {
+            return minLimit;
+        }
+        
+        public void setMinLimit(int minLimit) {
+            this.minLimit = minLimit;
+        }
+        
+        public int getMaxLimit() {
+            return maxLimit;
+        }
+        
+        public void setMaxLimit(int maxLimit) {
+            this.maxLimit = maxLimit;
+        }
+        
+        public Duration getMaxLatency() {
+            return maxLatency;
+        }
+        
+        public void setMaxLatency(Duration maxLatency) {
+            this.maxLatency = maxLatency;
+        }
+        
+        public Duration getRetryAfter() {
+            return retryAfter;
+        }
+        
+        public void setRetryAfter(Duration retryAfter) {
+            this.retryAfter = retryAfter;
+        }
+        
+        public double getShare() {
+            return share;
+        }
+        
+        public void setShare(double share) {
+            this.share = share;
+        }
+    }
+}
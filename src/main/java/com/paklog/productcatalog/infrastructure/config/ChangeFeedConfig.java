@@ -0,0 +1,28 @@
+package com.paklog.productcatalog.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "product-catalog.change-feed")
+public class ChangeFeedConfig {
+    
+    private int defaultLimit = 100;
+    private int maxLimit = 1000;
+    
+    public int getDefaultLimit() {
+        return defaultLimit;
+    }
+    
+    public void setDefaultLimit(int defaultLimit) {
+        this.defaultLimit = defaultLimit;
+    }
+    
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+    
+    public void setMaxLimit(int maxLimit) {
+        this.maxLimit = maxLimit;
+    }
+}
@@ -0,0 +1,102 @@
+package com.paklog.productcatalog.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "product-catalog.events.change-stream")
+public class ChangeStreamConfig {
+    
+    private boolean enabled = false;
+    private String streamName = "products-cdc";
+    private String offsetCollection = "event_stream_offsets";
+    private boolean enablePreImages = true;
+    private int batchSize = 500;
+    private Duration maxAwait = Duration.ofMillis(500);
+    private Duration ackTimeout = Duration.ofSeconds(30);
+    private Duration lease = Duration.ofSeconds(30);
+    private Duration idleCheckpointInterval = Duration.ofSeconds(10);
+    private Duration retryBackoff = Duration.ofSeconds(5);
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+    
+    public String getStreamName() {
+        return streamName;
+    }
+    
+    public void setStreamName(String streamName) {
+        this.streamName = streamName;
+    }
+    
+    public String getOffsetCollection() {
+        return offsetCollection;
+    }
+    
+    public void setOffsetCollection(String offsetCollection) {
+        this.offsetCollection = offsetCollection;
+    }
+    
+    public boolean isEnablePreImages() {
+        return enablePreImages;
+    }
+    
+    public void setEnablePreImages(boolean enablePreImages) {
+        this.enablePreImages = enablePreImages;
+    }
+    
+    public int getBatchSize() {
+        return batchSize;
+    }
+    
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+    
+    public Duration getMaxAwait() {
+        return maxAwait;
+    }
+    
+    public void setMaxAwait(Duration maxAwait) {
+        this.maxAwait = maxAwait;
+    }
+    
+    public Duration getAckTimeout() {
+        return ackTimeout;
+    }
+    
+    public void setAckTimeout(Duration ackTimeout) {
+        this.ackTimeout = ackTimeout;
+    }
+    
+    public Duration getLease() {
+        return lease;
+    }
+    
+    public void setLease(Duration lease) {
+        this.lease = lease;
+    }
+    
+    public Duration getIdleCheckpointInterval() {
+        return idleCheckpointInterval;
+    }
+    
+    public void setIdleCheckpointInterval(Duration idleCheckpointInterval) {
+        this.idleCheckpointInterval = idleCheckpointInterval;
+    }
+    
+    public Duration getRetryBackoff() {
+        return retryBackoff;
+    }
+    
+    public void setRetryBackoff(Duration retryBackoff) {
+        this.retryBackoff = retryBackoff;
+    }
+}
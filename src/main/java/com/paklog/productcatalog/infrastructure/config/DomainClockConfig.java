@@ -0,0 +1,37 @@
+package com.paklog.productcatalog.infrastructure.config;
+
+import com.paklog.productcatalog.domain.event.EventIdGenerator;
+import com.paklog.productcatalog.domain.event.EventIds;
+import com.paklog.productcatalog.domain.event.UuidV7Generator;
+import com.paklog.productcatalog.domain.model.DomainClock;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+@Configuration
+public class DomainClockConfig {
+    
+    @Bean
+    public Clock clock() {
+        return Clock.systemUTC();
+    }
+    
+    @Bean
+    public EventIdGenerator eventIdGenerator() {
+        return new UuidV7Generator();
+    }
+    
+    /**
+     * Hands the clock and ID generator to the domain, which creates aggregates and
+     * events outside of the container. Override either bean to change what the domain uses.
+     */
+    @Bean
+    public SmartInitializingSingleton domainClockInstaller(Clock clock, EventIdGenerator eventIdGenerator) {
+        return () -> {
+            DomainClock.use(clock);
+            EventIds.use(eventIdGenerator);
+        };
+    }
+}
@@ -0,0 +1,81 @@
+package com.paklog.productcatalog.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "product-catalog.events.pipeline")
+public class EventPipelineConfig {
+    
+    /**
+     * What a writer does when the ring buffer is full.
+     */
+    public enum OverflowPolicy {
+        /** Wait for free slots, up to {@code blockTimeout}, then fail the request. */
+        BLOCK,
+        /**
+         * Hand the events to the local spool behind the events already buffered, waiting
+         * up to {@code blockTimeout} for those to reach it first.
+         */
+        SPILL,
+        /** Fail the request immediately. */
+        FAIL
+    }
+    
+    private int capacity = 8192;
+    private int maxBatchSize = 256;
+    private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+    private Duration blockTimeout = Duration.ofSeconds(5);
+    private Duration idleWait = Duration.ofMillis(1);
+    private Duration drainTimeout = Duration.ofSeconds(30);
+    
+    public int getCapacity() {
+        return capacity;
+    }
+    
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+    
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+    
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+    
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+    
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+    }
+    
+    public Duration getBlockTimeout() {
+        return blockTimeout;
+    }
+    
+    public void setBlockTimeout(Duration blockTimeout) {
+        this.blockTimeout = blockTimeout;
+    }
+    
+    public Duration getIdleWait() {
+        return idleWait;
+    }
+    
+    public void setIdleWait(Duration idleWait) {
+        this.idleWait = idleWait;
+    }
+    
+    public Duration getDrainTimeout() {
+        return drainTimeout;
+    }
+    
+    public void setDrainTimeout(Duration drainTimeout) {
+        this.drainTimeout = drainTimeout;
+    }
+}
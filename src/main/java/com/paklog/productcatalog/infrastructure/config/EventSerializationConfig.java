@@ -0,0 +1,48 @@
+package com.paklog.productcatalog.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "product-catalog.kafka.events")
+public class EventSerializationConfig {
+    
+    public enum Encoding { JSON, AVRO }
+    
+    private Encoding encoding = Encoding.JSON;
+    private String compressionType = "lz4";
+    private String schemaSubject = "product-event";
+    private String schemaRegistryLocation = "classpath:schemas/avro";
+    
+    public Encoding getEncoding() {
+        return encoding;
+    }
+    
+    public void setEncoding(Encoding encoding) {
+        this.encoding = encoding;
+    }
+    
+    public String getCompressionType() {
+        return compressionType;
+    }
+    
+    public void setCompressionType(String compressionType) {
+        this.compressionType = compressionType;
+    }
+    
+    public String getSchemaSubject() {
+        return schemaSubject;
+    }
+    
+    public void setSchemaSubject(String schemaSubject) {
+        this.schemaSubject = schemaSubject;
+    }
+    
+    public String getSchemaRegistryLocation() {
+        return schemaRegistryLocation;
+    }
+    
+    public void setSchemaRegistryLocation(String schemaRegistryLocation) {
+        this.schemaRegistryLocation = schemaRegistryLocation;
+    }
+}
@@ -0,0 +1,93 @@
+package com.paklog.productcatalog.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "product-catalog.events.spool")
+public class EventSpoolConfig {
+    
+    private boolean enabled = true;
+    private String directory = "data/event-spool";
+    private int segmentSize = 64 * 1024 * 1024;
+    private boolean forceOnAppend = false;
+    private int replayBatchSize = 500;
+    private Duration replayInterval = Duration.ofSeconds(1);
+    private Duration replayTimeout = Duration.ofSeconds(10);
+    private Duration producerMaxBlock = Duration.ofSeconds(1);
+    private Duration producerDeliveryTimeout = Duration.ofSeconds(30);
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+    
+    public String getDirectory() {
+        return directory;
+    }
+    
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+    
+    public int getSegmentSize() {
+        return segmentSize;
+    }
+    
+    public void setSegmentSize(int segmentSize) {
+        this.segmentSize = segmentSize;
+    }
+    
+    public boolean isForceOnAppend() {
+        return forceOnAppend;
+    }
+    
+    public void setForceOnAppend(boolean forceOnAppend) {
+        this.forceOnAppend = forceOnAppend;
+    }
+    
+    public int getReplayBatchSize() {
+        return replayBatchSize;
+    }
+    
+    public void setReplayBatchSize(int replayBatchSize) {
+        this.replayBatchSize = replayBatchSize;
+    }
+    
+    public Duration getReplayInterval() {
+        return replayInterval;
+    }
+    
+    public void setReplayInterval(Duration replayInterval) {
+        this.replayInterval = replayInterval;
+    }
+    
+    public Duration getReplayTimeout() {
+        return replayTimeout;
+    }
+    
+    public void setReplayTimeout(Duration replayTimeout) {
+        this.replayTimeout = replayTimeout;
+    }
+    
+    public Duration getProducerMaxBlock() {
+        return producerMaxBlock;
+    }
+    
+    public void setProducerMaxBlock(Duration producerMaxBlock) {
+        this.producerMaxBlock = producerMaxBlock;
+    }
+    
+    public Duration getProducerDeliveryTimeout() {
+        return producerDeliveryTimeout;
+    }
+    
+    public void setProducerDeliveryTimeout(Duration producerDeliveryTimeout) {
+        this.producerDeliveryTimeout = producerDeliveryTimeout;
+    }
+}
@@ -0,0 +1,80 @@
+package com.paklog.productcatalog.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "product-catalog.import")
+public class ImportConfig {
+    
+    /** Records written per bulk write. */
+    private int batchSize = 1000;
+    /** Threads validating and mapping records; zero uses one per processor. */
+    private int parallelism = 0;
+    /** Batches parsed ahead of the one being written; bounds memory together with the batch size. */
+    private int maxBatchesInFlight = 8;
+    /** Record errors returned by the upload endpoint; the rest are only counted. */
+    private int maxReportedErrors = 1000;
+    /** Feed to import at start-up, after which the process exits. */
+    private String file;
+    /** Progress file for the start-up import; an existing one resumes after the records it covers. */
+    private String checkpoint;
+    /** Newline-delimited JSON file receiving one line per rejected record of the start-up import. */
+    private String errorReport;
+    
+    public int getBatchSize() {
+        return batchSize;
+    }
+    
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+    
+    public int getParallelism() {
+        return parallelism;
+    }
+    
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+    
+    public int getMaxBatchesInFlight() {
+        return maxBatchesInFlight;
+    }
+    
+    public void setMaxBatchesInFlight(int maxBatchesInFlight) {
+        this.maxBatchesInFlight = maxBatchesInFlight;
+    }
+    
+    public int getMaxReportedErrors() {
+        return maxReportedErrors;
+    }
+    
+    public void setMaxReportedErrors(int maxReportedErrors) {
+        this.maxReportedErrors = maxReportedErrors;
+    }
+    
+    public String getFile() {
+        return file;
+    }
+    
+    public void setFile(String file) {
+        this.file = file;
+    }
+    
+    public String getCheckpoint() {
+        return checkpoint;
+    }
+    
+    public void setCheckpoint(String checkpoint) {
+        this.checkpoint = checkpoint;
+    }
+    
+    public String getErrorReport() {
+        return errorReport;
+    }
+    
+    public void setErrorReport(String errorReport) {
+        this.errorReport = errorReport;
+    }
+}
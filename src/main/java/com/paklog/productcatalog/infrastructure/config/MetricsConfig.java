@@ -1,9 +1,7 @@
 package com.paklog.productcatalog.infrastructure.config;
 
 import io.micrometer.core.instrument.Counter;
-import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
-import io.micrometer.core.instrument.Timer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -31,13 +29,6 @@ public class MetricsConfig {
                 .register(meterRegistry);
     }
     
-    @Bean
-    public Timer productOperationTimer(MeterRegistry meterRegistry) {
-        return Timer.builder("product.operation")
-                .description("Time taken for product operations")
-                .register(meterRegistry);
-    }
-    
     @Bean
     public Counter domainEventPublishedCounter(MeterRegistry meterRegistry) {
         return Counter.builder("domain.event.published")
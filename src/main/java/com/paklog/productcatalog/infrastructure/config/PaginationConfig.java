@@ -10,6 +10,7 @@ public class PaginationConfig {
     private int defaultLimit = 20;
     private int maxLimit = 100;
     private int defaultOffset = 0;
+    private int maxBatchSize = 100;
     
     public int getDefaultLimit() {
         return defaultLimit;
@@ -34,4 +35,12 @@ public class PaginationConfig {
     public void setDefaultOffset(int defaultOffset) {
         this.defaultOffset = defaultOffset;
     }
-}
\ No newline at end of file
+    
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+    
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+}
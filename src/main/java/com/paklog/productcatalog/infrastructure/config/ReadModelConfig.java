@@ -0,0 +1,164 @@
+package com.paklog.productcatalog.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "product-catalog.read-model")
+public class ReadModelConfig {
+    
+    public enum StoreType { HEAP, OFF_HEAP }
+    
+    private boolean enabled = false;
+    private Duration pollTimeout = Duration.ofMillis(500);
+    private Duration maxCatchUpWait = Duration.ofMinutes(2);
+    private StoreType store = StoreType.HEAP;
+    private OffHeap offHeap = new OffHeap();
+    private Snapshot snapshot = new Snapshot();
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+    
+    public Duration getPollTimeout() {
+        return pollTimeout;
+    }
+    
+    public void setPollTimeout(Duration pollTimeout) {
+        this.pollTimeout = pollTimeout;
+    }
+    
+    public Duration getMaxCatchUpWait() {
+        return maxCatchUpWait;
+    }
+    
+    public void setMaxCatchUpWait(Duration maxCatchUpWait) {
+        this.maxCatchUpWait = maxCatchUpWait;
+    }
+    
+    public StoreType getStore() {
+        return store;
+    }
+    
+    public void setStore(StoreType store) {
+        this.store = store;
+    }
+    
+    public OffHeap getOffHeap() {
+        return offHeap;
+    }
+    
+    public void setOffHeap(OffHeap offHeap) {
+        this.offHeap = offHeap;
+    }
+    
+    public Snapshot getSnapshot() {
+        return snapshot;
+    }
+    
+    public void setSnapshot(Snapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+    
+    /**
+     * Sizing of the off-heap store. Slabs are direct buffers, so {@code maxMemory}
+     * must fit within the JVM's {@code -XX:MaxDirectMemorySize}.
+     */
+    public static class OffHeap {
+        
+        private int slabSize = 64 * 1024 * 1024;
+        private long maxMemory = 2L * 1024 * 1024 * 1024;
+        private double compactionThreshold = 0.5;
+        private int initialCapacity = 1 << 16;
+        
+        public int getSlabSize() {
+            return slabSize;
+        }
+        
+        public void setSlabSize(int slabSize) {
+            this.slabSize = slabSize;
+        }
+        
+        public long getMaxMemory() {
+            return maxMemory;
+        }
+        
+        public void setMaxMemory(long maxMemory) {
+            this.maxMemory = maxMemory;
+        }
+        
+        public double getCompactionThreshold() {
+            return compactionThreshold;
+        }
+        
+        public void setCompactionThreshold(double compactionThreshold) {
+            this.compactionThreshold = compactionThreshold;
+        }
+        
+        public int getInitialCapacity() {
+            return initialCapacity;
+        }
+        
+        public void setInitialCapacity(int initialCapacity) {
+            this.initialCapacity = initialCapacity;
+        }
+    }
+    
+    /**
+     * Periodic catalog snapshot files, memory-mapped at start-up to seed the read model.
+     */
+    public static class Snapshot {
+        
+        private boolean enabled = false;
+        private String directory = "./data/catalog-snapshots";
+        private Duration interval = Duration.ofMinutes(15);
+        private int retain = 2;
+        private boolean verifyChecksum = true;
+        
+        public boolean isEnabled() {
+            return enabled;
+        }
+        
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+        
+        public String getDirectory() {
+            return directory;
+        }
+        
+        public void setDirectory(String directory) {
+            this.directory = directory;
+        }
+        
+        public Duration getInterval() {
+            return interval;
+        }
+        
+        public void setInterval(Duration interval) {
+            this.interval = interval;
+        }
+        
+        public int getRetain() {
+            return retain;
+        }
+        
+        public void setRetain(int retain) {
+            this.retain = retain;
+        }
+        
+        public boolean isVerifyChecksum() {
+            return verifyChecksum;
+        }
+        
+        public void setVerifyChecksum(boolean verifyChecksum) {
+            this.verifyChecksum = verifyChecksum;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.paklog.productcatalog.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Replica-set members used by the lag-tolerant reads. Modes are MongoDB read
+ * preference names ({@code primary}, {@code primaryPreferred}, {@code secondary},
+ * {@code secondaryPreferred}, {@code nearest}). Lookups by SKU, existence checks and
+ * writes always use the primary.
+ */
+@Component
+@ConfigurationProperties(prefix = "product-catalog.read-preference")
+public class ReadPreferenceConfig {
+    
+    private String list = "secondaryPreferred";
+    private String export = "secondaryPreferred";
+    /**
+     * The primary by default: max-staleness is only an estimate from heartbeats, so a
+     * change feed read from a secondary can still skip writes that replicate late.
+     */
+    private String changes = "primary";
+    /**
+     * Secondaries lagging further behind the primary are not read from; MongoDB
+     * requires at least 90 seconds.
+     */
+    private Duration maxStaleness = Duration.ofSeconds(90);
+    
+    public String getList() {
+        return list;
+    }
+    
+    public void setList(String list) {
+        this.list = list;
+    }
+    
+    public String getExport() {
+        return export;
+    }
+    
+    public void setExport(String export) {
+        this.export = export;
+    }
+    
+    public String getChanges() {
+        return changes;
+    }
+    
+    public void setChanges(String changes) {
+        this.changes = changes;
+    }
+    
+    public Duration getMaxStaleness() {
+        return maxStaleness;
+    }
+    
+    public void setMaxStaleness(Duration maxStaleness) {
+        this.maxStaleness = maxStaleness;
+    }
+}
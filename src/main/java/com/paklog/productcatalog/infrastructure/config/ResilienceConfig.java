@@ -0,0 +1,111 @@
+package com.paklog.productcatalog.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "product-catalog.resilience")
+public class ResilienceConfig {
+    
+    private boolean enabled = true;
+    private Duration serverSelectionTimeout = Duration.ofSeconds(2);
+    private Duration socketTimeout = Duration.ofSeconds(5);
+    private Duration slowCallThreshold = Duration.ofSeconds(1);
+    private double failureRateThreshold = 0.5;
+    private int minimumCalls = 20;
+    private Duration window = Duration.ofSeconds(10);
+    private Duration openDuration = Duration.ofSeconds(5);
+    private int halfOpenCalls = 5;
+    private int staleCacheSize = 100_000;
+    private int refreshBatchSize = 100;
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+    
+    public Duration getServerSelectionTimeout() {
+        return serverSelectionTimeout;
+    }
+    
+    public void setServerSelectionTimeout(Duration serverSelectionTimeout) {
+        this.serverSelectionTimeout = serverSelectionTimeout;
+    }
+    
+    public Duration getSocketTimeout() {
+        return socketTimeout;
+    }
+    
+    public void setSocketTimeout(Duration socketTimeout) {
+        this.socketTimeout = socketTimeout;
+    }
+    
+    public Duration getSlowCallThreshold() {
+        return slowCallThreshold;
+    }
+    
+    public void setSlowCallThreshold(Duration slowCallThreshold) {
+        this.slowCallThreshold = slowCallThreshold;
+    }
+    
+    public double getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+    
+    public void setFailureRateThreshold(double failureRateThreshold) {
+        this.failureRateThreshold = failureRateThreshold;
+    }
+    
+    public int getMinimumCalls() {
+        return minimumCalls;
+    }
+    
+    public void setMinimumCalls(int minimumCalls) {
+        this.minimumCalls = minimumCalls;
+    }
+    
+    public Duration getWindow() {
+        return window;
+    }
+    
+    public void setWindow(Duration window) {
+        this.window = window;
+    }
+    
+    public Duration getOpenDuration() {
+        return openDuration;
+    }
+    
+    public void setOpenDuration(Duration openDuration) {
+        this.openDuration = openDuration;
+    }
+    
+    public int getHalfOpenCalls() {
+        return halfOpenCalls;
+    }
+    
+    public void setHalfOpenCalls(int halfOpenCalls) {
+        this.halfOpenCalls = halfOpenCalls;
+    }
+    
+    public int getStaleCacheSize() {
+        return staleCacheSize;
+    }
+    
+    public void setStaleCacheSize(int staleCacheSize) {
+        this.staleCacheSize = staleCacheSize;
+    }
+    
+    public int getRefreshBatchSize() {
+        return refreshBatchSize;
+    }
+    
+    public void setRefreshBatchSize(int refreshBatchSize) {
+        this.refreshBatchSize = refreshBatchSize;
+    }
+}
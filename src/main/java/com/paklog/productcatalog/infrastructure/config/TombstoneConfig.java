@@ -0,0 +1,30 @@
+package com.paklog.productcatalog.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "product-catalog.tombstones")
+public class TombstoneConfig {
+    
+    private Duration retention = Duration.ofDays(7);
+    private int batchSize = 1000;
+    
+    public Duration getRetention() {
+        return retention;
+    }
+    
+    public void setRetention(Duration retention) {
+        this.retention = retention;
+    }
+    
+    public int getBatchSize() {
+        return batchSize;
+    }
+    
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+}
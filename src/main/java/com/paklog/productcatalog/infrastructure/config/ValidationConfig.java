@@ -1,5 +1,9 @@
 package com.paklog.productcatalog.infrastructure.config;
 
+import com.paklog.productcatalog.shared.util.MetricsUtil;
+import com.paklog.productcatalog.shared.validation.TimedValidatorFactoryBean;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
@@ -9,14 +13,18 @@ import org.springframework.validation.beanvalidation.MethodValidationPostProcess
 public class ValidationConfig {
     
     @Bean
-    public LocalValidatorFactoryBean validator() {
-        return new LocalValidatorFactoryBean();
+    public LocalValidatorFactoryBean validator(MetricsUtil metricsUtil) {
+        return new TimedValidatorFactoryBean(metricsUtil);
     }
     
+    /**
+     * Static, with the validator looked up lazily, so this post-processor does not pull the
+     * metrics beans in before the meter registry is fully configured.
+     */
     @Bean
-    public MethodValidationPostProcessor methodValidationPostProcessor() {
+    public static MethodValidationPostProcessor methodValidationPostProcessor(ObjectProvider<Validator> validator) {
         MethodValidationPostProcessor processor = new MethodValidationPostProcessor();
-        processor.setValidator(validator());
+        processor.setValidatorProvider(validator);
         return processor;
     }
-}
\ No newline at end of file
+}
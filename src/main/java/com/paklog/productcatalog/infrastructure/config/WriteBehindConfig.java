@@ -0,0 +1,81 @@
+package com.paklog.productcatalog.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "product-catalog.write-behind")
+public class WriteBehindConfig {
+    
+    /** Accepts updates sent with {@code Prefer: respond-async} into the local buffer. */
+    private boolean enabled = false;
+    /** Directory of the buffer's segment files; must survive a restart. */
+    private String directory = "data/write-behind";
+    private int segmentSize = 16 * 1024 * 1024;
+    /** Forces each accepted update to disk before acknowledging it; concurrent requests share one force. */
+    private boolean sync = true;
+    /** How long updates accumulate before they are applied, unless a full batch is waiting sooner. */
+    private Duration flushInterval = Duration.ofMillis(100);
+    /** Buffered updates applied per bulk write. */
+    private int maxBatchSize = 2000;
+    /** How long shutdown keeps applying buffered updates; the rest are applied after the next start. */
+    private Duration drainTimeout = Duration.ofSeconds(10);
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+    
+    public String getDirectory() {
+        return directory;
+    }
+    
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+    
+    public int getSegmentSize() {
+        return segmentSize;
+    }
+    
+    public void setSegmentSize(int segmentSize) {
+        this.segmentSize = segmentSize;
+    }
+    
+    public boolean isSync() {
+        return sync;
+    }
+    
+    public void setSync(boolean sync) {
+        this.sync = sync;
+    }
+    
+    public Duration getFlushInterval() {
+        return flushInterval;
+    }
+    
+    public void setFlushInterval(Duration flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+    
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+    
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+    
+    public Duration getDrainTimeout() {
+        return drainTimeout;
+    }
+    
+    public void setDrainTimeout(Duration drainTimeout) {
+        this.drainTimeout = drainTimeout;
+    }
+}
@@ -0,0 +1,11 @@
+package com.paklog.productcatalog.infrastructure.importing;
+
+/**
+ * A record that was not imported, by its one-based position in the feed.
+ */
+public record ImportError(
+    long record,
+    String sku,
+    String message
+) {
+}
@@ -0,0 +1,16 @@
+package com.paklog.productcatalog.infrastructure.importing;
+
+/**
+ * Receives the outcome of an import as it goes. Called on the import's writer
+ * thread, one batch at a time and in feed order.
+ */
+public interface ImportListener {
+
+    void onError(ImportError error);
+
+    /**
+     * Called once every record up to {@code progress.records()} has been written or
+     * reported; the natural point to save a checkpoint.
+     */
+    void onBatchWritten(ImportProgress progress);
+}
@@ -0,0 +1,27 @@
+package com.paklog.productcatalog.infrastructure.importing;
+
+/**
+ * Running totals of an import. {@code records} counts every record of the feed
+ * handled so far, in feed order, and is where a resumed import picks up.
+ */
+public record ImportProgress(
+    long records,
+    long created,
+    long updated,
+    long unchanged,
+    long failed
+) {
+
+    public static ImportProgress start() {
+        return new ImportProgress(0, 0, 0, 0, 0);
+    }
+
+    public static ImportProgress after(long records) {
+        return new ImportProgress(records, 0, 0, 0, 0);
+    }
+
+    ImportProgress plus(long lastRecord, long created, long updated, long unchanged, long failed) {
+        return new ImportProgress(lastRecord, this.created + created, this.updated + updated,
+                this.unchanged + unchanged, this.failed + failed);
+    }
+}
@@ -0,0 +1,16 @@
+package com.paklog.productcatalog.infrastructure.importing;
+
+import java.time.Duration;
+
+/**
+ * Result of one import run. An aborted run stopped early because of
+ * {@code abortReason}; {@code progress} is where to resume it.
+ */
+public record ImportSummary(
+    ImportProgress progress,
+    long resumedAfter,
+    Duration elapsed,
+    boolean completed,
+    String abortReason
+) {
+}
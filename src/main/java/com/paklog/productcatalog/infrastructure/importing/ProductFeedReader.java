@@ -0,0 +1,91 @@
+package com.paklog.productcatalog.infrastructure.importing;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads product records one at a time from a feed that is either a JSON array of
+ * objects, like {@code pre-load-products/products.json}, or newline-delimited JSON
+ * objects. Only the records handed out are held in memory, each as a compact copy
+ * of its tokens that a worker binds later without first building a tree.
+ */
+final class ProductFeedReader implements AutoCloseable {
+
+    record FeedRecord(long number, TokenBuffer tokens) {
+    }
+
+    private final JsonParser parser;
+    private boolean array;
+    private boolean started;
+    private boolean finished;
+    private long records;
+
+    ProductFeedReader(JsonParser parser) {
+        this.parser = parser;
+    }
+
+    /**
+     * Skips up to {@code count} records without building them.
+     *
+     * @return the number of records skipped, less than {@code count} if the feed ended
+     */
+    long skip(long count) throws IOException {
+        long skipped = 0;
+        while (skipped < count && advance()) {
+            parser.skipChildren();
+            records++;
+            skipped++;
+        }
+        return skipped;
+    }
+
+    /**
+     * Returns up to {@code max} further records, numbered from one across the whole
+     * feed; empty once the feed is exhausted.
+     */
+    List<FeedRecord> next(int max) throws IOException {
+        List<FeedRecord> batch = new ArrayList<>(max);
+        while (batch.size() < max && advance()) {
+            TokenBuffer tokens = new TokenBuffer(parser);
+            tokens.copyCurrentStructure(parser);
+            batch.add(new FeedRecord(++records, tokens));
+        }
+        return batch;
+    }
+
+    /**
+     * Moves to the start of the next record, or returns false at the end of the feed.
+     */
+    private boolean advance() throws IOException {
+        if (finished) {
+            return false;
+        }
+        JsonToken token = parser.nextToken();
+        if (!started) {
+            started = true;
+            if (token == JsonToken.START_ARRAY) {
+                array = true;
+                token = parser.nextToken();
+            }
+        }
+        if (token == null || (array && token == JsonToken.END_ARRAY)) {
+            finished = true;
+            return false;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw new IOException("Expected a product object at line " + parser.currentLocation().getLineNr()
+                    + " but found " + token);
+        }
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
@@ -0,0 +1,113 @@
+package com.paklog.productcatalog.infrastructure.importing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paklog.productcatalog.infrastructure.config.ImportConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Command-line import: with {@code product-catalog.import.file} set, imports that
+ * feed at start-up and exits, with status 0 if the whole feed was handled. Rejected
+ * records go to the error report, one JSON object per line. Progress is saved to the
+ * checkpoint after every batch. Running again with the same checkpoint resumes after
+ * the last batch written, and the checkpoint is removed once the feed is done.
+ */
+@Component
+@ConditionalOnProperty(prefix = "product-catalog.import", name = "file")
+public class ProductImportRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductImportRunner.class);
+
+    private static final int READ_BUFFER_SIZE = 1 << 16;
+
+    private final ProductImporter importer;
+    private final ImportConfig config;
+    private final ObjectMapper objectMapper;
+    private final ConfigurableApplicationContext context;
+
+    public ProductImportRunner(ProductImporter importer, ImportConfig config, ObjectMapper objectMapper,
+                               ConfigurableApplicationContext context) {
+        this.importer = importer;
+        this.config = config;
+        this.objectMapper = objectMapper;
+        this.context = context;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        Path feed = Path.of(config.getFile());
+        Path checkpoint = config.getCheckpoint() != null ? Path.of(config.getCheckpoint()) : null;
+        Path errorReport = Path.of(config.getErrorReport() != null ? config.getErrorReport() : feed + ".errors.ndjson");
+
+        ImportProgress start = checkpoint != null && Files.exists(checkpoint)
+                ? objectMapper.readValue(checkpoint.toFile(), ImportProgress.class)
+                : ImportProgress.start();
+        logger.atInfo().addKeyValue("file", feed.toString()).addKeyValue("resumeAfter", start.records())
+                .log("Importing products");
+
+        ImportSummary summary;
+        try (InputStream input = new BufferedInputStream(Files.newInputStream(feed), READ_BUFFER_SIZE);
+             BufferedWriter errors = Files.newBufferedWriter(errorReport, StandardCharsets.UTF_8,
+                     StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                     start.records() > 0 ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING)) {
+            summary = importer.importFeed(input, start, new ImportListener() {
+                @Override
+                public void onError(ImportError error) {
+                    try {
+                        errors.write(objectMapper.writeValueAsString(error));
+                        errors.newLine();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+
+                @Override
+                public void onBatchWritten(ImportProgress progress) {
+                    try {
+                        errors.flush();
+                        if (checkpoint != null) {
+                            saveCheckpoint(checkpoint, progress);
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            });
+        }
+
+        if (summary.completed() && checkpoint != null) {
+            Files.deleteIfExists(checkpoint);
+        }
+        ImportProgress progress = summary.progress();
+        logger.atInfo().addKeyValue("records", progress.records()).addKeyValue("created", progress.created())
+                .addKeyValue("updated", progress.updated()).addKeyValue("unchanged", progress.unchanged())
+                .addKeyValue("failed", progress.failed()).addKeyValue("errorReport", errorReport.toString())
+                .log("Import run finished");
+
+        int exitCode = summary.completed() ? 0 : 1;
+        System.exit(SpringApplication.exit(context, () -> exitCode));
+    }
+
+    private void saveCheckpoint(Path checkpoint, ImportProgress progress) throws IOException {
+        Path temporary = checkpoint.resolveSibling(checkpoint.getFileName() + ".tmp");
+        objectMapper.writeValue(temporary.toFile(), progress);
+        Files.move(temporary, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
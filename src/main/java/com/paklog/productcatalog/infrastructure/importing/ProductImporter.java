@@ -0,0 +1,245 @@
+package com.paklog.productcatalog.infrastructure.importing;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.paklog.productcatalog.application.command.CreateProductCommand;
+import com.paklog.productcatalog.application.command.ImportProductsCommand;
+import com.paklog.productcatalog.application.command.ProductImportResult;
+import com.paklog.productcatalog.application.port.input.ImportProductsUseCase;
+import com.paklog.productcatalog.domain.model.Product;
+import com.paklog.productcatalog.domain.model.SKU;
+import com.paklog.productcatalog.infrastructure.config.ImportConfig;
+import com.paklog.productcatalog.infrastructure.web.dto.ProductDto;
+import com.paklog.productcatalog.infrastructure.web.mapper.ProductDtoMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Imports a product feed in three overlapping stages: the calling thread parses
+ * records with the streaming parser and cuts them into batches, a pool of workers
+ * validates and maps each batch, and a single writer hands the batches to
+ * {@link ImportProductsUseCase} in feed order, one bulk write each.
+ * <p>
+ * At most {@code max-batches-in-flight} batches exist at once, so memory stays flat
+ * whatever the size of the feed. A record that fails to map, validate or write is
+ * reported to the {@link ImportListener} and does not stop the import. A malformed
+ * feed or a failed batch does: the summary then says how far the import got, and a
+ * new run can resume from there.
+ */
+@Component
+public class ProductImporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductImporter.class);
+
+    private final ImportProductsUseCase importProductsUseCase;
+    private final ProductDtoMapper mapper;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ImportConfig config;
+
+    public ProductImporter(ImportProductsUseCase importProductsUseCase, ProductDtoMapper mapper, Validator validator,
+                           ObjectMapper objectMapper, ImportConfig config) {
+        this.importProductsUseCase = importProductsUseCase;
+        this.mapper = mapper;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.config = config;
+    }
+
+    /**
+     * Imports the feed, skipping the records already covered by {@code resumeFrom}
+     * and adding to its totals.
+     */
+    public ImportSummary importFeed(InputStream feed, ImportProgress resumeFrom, ImportListener listener) {
+        long started = System.nanoTime();
+        int parallelism = config.getParallelism() > 0 ? config.getParallelism() : Runtime.getRuntime().availableProcessors();
+        ExecutorService workers = Executors.newFixedThreadPool(parallelism, threads("product-import-worker"));
+        ExecutorService writer = Executors.newSingleThreadExecutor(threads("product-import-writer"));
+        BatchWriter writes = new BatchWriter(resumeFrom, listener);
+
+        CompletableFuture<Void> lastWrite = CompletableFuture.completedFuture(null);
+        Deque<CompletableFuture<Void>> inFlight = new ArrayDeque<>();
+        String abortReason = null;
+        try (ProductFeedReader reader = new ProductFeedReader(objectMapper.getFactory().createParser(feed))) {
+            long skipped = reader.skip(resumeFrom.records());
+            if (skipped < resumeFrom.records()) {
+                abortReason = "Feed has " + skipped + " records, fewer than the " + resumeFrom.records()
+                        + " already imported";
+            }
+            List<ProductFeedReader.FeedRecord> records;
+            while (abortReason == null && !(records = reader.next(config.getBatchSize())).isEmpty()) {
+                List<ProductFeedReader.FeedRecord> batch = records;
+                lastWrite = CompletableFuture.supplyAsync(() -> prepare(batch), workers)
+                        .thenCombineAsync(lastWrite, (prepared, previous) -> {
+                            writes.accept(prepared);
+                            return null;
+                        }, writer);
+                inFlight.add(lastWrite);
+                if (inFlight.size() >= config.getMaxBatchesInFlight()) {
+                    inFlight.remove().join();
+                }
+            }
+        } catch (IOException e) {
+            abortReason = "Malformed feed: " + e.getMessage();
+        } catch (CompletionException e) {
+            abortReason = "Import failed: " + e.getCause().getMessage();
+        } finally {
+            try {
+                lastWrite.join();
+            } catch (CompletionException e) {
+                if (abortReason == null) {
+                    abortReason = "Import failed: " + e.getCause().getMessage();
+                }
+            }
+            workers.shutdownNow();
+            writer.shutdownNow();
+        }
+
+        ImportProgress progress = writes.progress;
+        ImportSummary summary = new ImportSummary(progress, resumeFrom.records(),
+                Duration.ofNanos(System.nanoTime() - started), abortReason == null, abortReason);
+        if (abortReason != null) {
+            logger.atWarn().addKeyValue("records", progress.records()).addKeyValue("reason", abortReason)
+                    .log("Product import stopped");
+        } else {
+            logger.atInfo().addKeyValue("records", progress.records()).addKeyValue("created", progress.created())
+                    .addKeyValue("updated", progress.updated()).addKeyValue("failed", progress.failed())
+                    .addKeyValue("elapsedMs", summary.elapsed().toMillis()).log("Product import finished");
+        }
+        return summary;
+    }
+
+    /**
+     * Maps and validates one batch on a worker thread.
+     */
+    private PreparedBatch prepare(List<ProductFeedReader.FeedRecord> records) {
+        List<CreateProductCommand> commands = new ArrayList<>(records.size());
+        List<Long> numbers = new ArrayList<>(records.size());
+        List<ImportError> errors = new ArrayList<>();
+        for (ProductFeedReader.FeedRecord record : records) {
+            ProductDto dto = null;
+            try (JsonParser parser = record.tokens().asParser(objectMapper)) {
+                dto = objectMapper.readValue(parser, ProductDto.class);
+                Set<ConstraintViolation<ProductDto>> violations = validator.validate(dto);
+                if (!violations.isEmpty()) {
+                    errors.add(new ImportError(record.number(), dto.sku(), violations.stream()
+                            .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                            .sorted()
+                            .collect(Collectors.joining(", "))));
+                    continue;
+                }
+                Product product = mapper.toDomain(dto);
+                commands.add(CreateProductCommand.of(product.getSku(), product.getTitle(),
+                        product.getDimensions(), product.getAttributes()));
+                numbers.add(record.number());
+            } catch (JsonProcessingException e) {
+                errors.add(new ImportError(record.number(), skuOf(record.tokens()), e.getOriginalMessage()));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (IllegalArgumentException e) {
+                errors.add(new ImportError(record.number(), dto.sku(), e.getMessage()));
+            }
+        }
+        return new PreparedBatch(records.get(records.size() - 1).number(), commands, numbers, errors);
+    }
+
+    /**
+     * Finds the top-level {@code sku} of a record that could not be bound, for the report.
+     */
+    private String skuOf(TokenBuffer tokens) {
+        try (JsonParser parser = tokens.asParser(objectMapper)) {
+            parser.nextToken();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("sku".equals(field)) {
+                    return value == JsonToken.VALUE_STRING ? parser.getText() : null;
+                }
+                parser.skipChildren();
+            }
+            return null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static ThreadFactory threads(String name) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record PreparedBatch(long lastRecord, List<CreateProductCommand> commands, List<Long> numbers,
+                                 List<ImportError> errors) {
+    }
+
+    /**
+     * Writes batches in feed order and keeps the totals; only ever runs on the writer thread.
+     */
+    private final class BatchWriter {
+
+        private final ImportListener listener;
+        private volatile ImportProgress progress;
+
+        private BatchWriter(ImportProgress start, ImportListener listener) {
+            this.progress = start;
+            this.listener = listener;
+        }
+
+        private void accept(PreparedBatch batch) {
+            List<ImportError> errors = new ArrayList<>(batch.errors());
+            long created = 0;
+            long updated = 0;
+            long unchanged = 0;
+            if (!batch.commands().isEmpty()) {
+                ProductImportResult result = importProductsUseCase.importProducts(
+                        ImportProductsCommand.of(batch.commands()));
+                created = result.created();
+                updated = result.updated();
+                unchanged = result.unchanged();
+                if (!result.failures().isEmpty()) {
+                    // A SKU appearing twice in the batch is reported against its last record
+                    Map<SKU, Long> lastRecord = new HashMap<>();
+                    for (int i = 0; i < batch.commands().size(); i++) {
+                        lastRecord.put(batch.commands().get(i).sku(), batch.numbers().get(i));
+                    }
+                    result.failures().forEach((sku, message) ->
+                            errors.add(new ImportError(lastRecord.get(sku), sku.value(), message)));
+                }
+            }
+            errors.sort(Comparator.comparingLong(ImportError::record));
+            errors.forEach(listener::onError);
+            progress = progress.plus(batch.lastRecord(), created, updated, unchanged, errors.size());
+            listener.onBatchWritten(progress);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.paklog.productcatalog.infrastructure.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Async appender that never makes the logging thread wait. Once the queue is
+ * {@code discardingThreshold} full, TRACE to INFO events are discarded; once it is
+ * completely full, every event is dropped. Both are counted so the loss shows up in
+ * {@code logging.events.dropped} instead of in request latency.
+ * <p>
+ * A full queue is detected just before the event is offered. An event that loses
+ * the race for the last slot is still dropped but may go uncounted.
+ */
+public class DroppingAsyncAppender extends AsyncAppender {
+
+    private final LongAdder discarded = new LongAdder();
+    private final LongAdder overflowed = new LongAdder();
+
+    public DroppingAsyncAppender() {
+        setNeverBlock(true);
+        setIncludeCallerData(false);
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        if (isStarted() && getRemainingCapacity() == 0) {
+            overflowed.increment();
+            return;
+        }
+        super.append(event);
+    }
+
+    @Override
+    protected boolean isDiscardable(ILoggingEvent event) {
+        boolean discardable = super.isDiscardable(event);
+        if (discardable) {
+            discarded.increment();
+        }
+        return discardable;
+    }
+
+    /**
+     * Low-severity events discarded because the queue was past its discarding threshold.
+     */
+    public long getDiscardedCount() {
+        return discarded.sum();
+    }
+
+    /**
+     * Events of any severity dropped because the queue was full.
+     */
+    public long getOverflowCount() {
+        return overflowed.sum();
+    }
+}
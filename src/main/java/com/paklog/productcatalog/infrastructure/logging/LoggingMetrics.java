@@ -0,0 +1,73 @@
+package com.paklog.productcatalog.infrastructure.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Publishes what the logging configuration throws away: events dropped by each
+ * {@link DroppingAsyncAppender} and events suppressed by each {@link SamplingTurboFilter}.
+ * Both are created by Logback rather than Spring, so they are found in the logger
+ * context when the registry is bound.
+ */
+@Component
+public class LoggingMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+            return;
+        }
+
+        for (DroppingAsyncAppender appender : droppingAppenders(context)) {
+            FunctionCounter.builder("logging.events.dropped", appender, DroppingAsyncAppender::getDiscardedCount)
+                    .description("Log events dropped instead of blocking the logging thread")
+                    .tag("appender", appender.getName())
+                    .tag("reason", "threshold")
+                    .register(registry);
+            FunctionCounter.builder("logging.events.dropped", appender, DroppingAsyncAppender::getOverflowCount)
+                    .description("Log events dropped instead of blocking the logging thread")
+                    .tag("appender", appender.getName())
+                    .tag("reason", "overflow")
+                    .register(registry);
+            Gauge.builder("logging.queue.depth", appender, DroppingAsyncAppender::getNumberOfElementsInQueue)
+                    .description("Log events waiting for the async appender's worker")
+                    .tag("appender", appender.getName())
+                    .register(registry);
+        }
+
+        for (TurboFilter filter : context.getTurboFilterList()) {
+            if (filter instanceof SamplingTurboFilter sampling) {
+                FunctionCounter.builder("logging.events.sampled.out", sampling, SamplingTurboFilter::getSuppressedCount)
+                        .description("Log events suppressed by sampling")
+                        .tag("loggers", sampling.getLoggers())
+                        .register(registry);
+            }
+        }
+    }
+
+    private static Iterable<DroppingAsyncAppender> droppingAppenders(LoggerContext context) {
+        Map<DroppingAsyncAppender, Boolean> found = new IdentityHashMap<>();
+        for (Logger logger : context.getLoggerList()) {
+            Iterator<Appender<ILoggingEvent>> appenders = logger.iteratorForAppenders();
+            while (appenders.hasNext()) {
+                if (appenders.next() instanceof DroppingAsyncAppender appender) {
+                    found.put(appender, Boolean.TRUE);
+                }
+            }
+        }
+        return found.keySet();
+    }
+}
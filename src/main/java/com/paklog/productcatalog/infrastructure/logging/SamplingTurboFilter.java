@@ -0,0 +1,90 @@
+package com.paklog.productcatalog.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lets through one in {@code oneIn} events, chosen at random, from the configured
+ * loggers at or below the configured level. Events that carry an exception are
+ * always kept, and so is everything above the level.
+ * <p>
+ * The filter runs before the event is built, so a suppressed line costs neither
+ * formatting nor a queue slot. A statement is sampled at its first check: the level
+ * check behind {@code atInfo()} for the fluent API, or the call itself otherwise.
+ * Wrapping a sampled statement in an explicit {@code isInfoEnabled()} guard therefore
+ * samples it twice, so sampled loggers log through the fluent API without guards.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private String[] loggers = new String[0];
+    private Level level = Level.INFO;
+    private int oneIn = 1;
+    private final LongAdder suppressed = new LongAdder();
+
+    /**
+     * Comma-separated logger names; each also covers the loggers below it.
+     */
+    public void setLoggers(String loggers) {
+        this.loggers = Arrays.stream(loggers.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    public void setLevel(String level) {
+        this.level = Level.toLevel(level, Level.INFO);
+    }
+
+    public void setOneIn(int oneIn) {
+        this.oneIn = oneIn;
+    }
+
+    public String getLoggers() {
+        return String.join(",", loggers);
+    }
+
+    public long getSuppressedCount() {
+        return suppressed.sum();
+    }
+
+    @Override
+    public void start() {
+        if (oneIn < 1) {
+            addError("oneIn must be at least 1 for sampling filter " + getName());
+            return;
+        }
+        super.start();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (!isStarted() || oneIn == 1 || t != null
+                || level.levelInt > this.level.levelInt
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel())
+                || !covers(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        if (ThreadLocalRandom.current().nextInt(oneIn) == 0) {
+            return FilterReply.NEUTRAL;
+        }
+        suppressed.increment();
+        return FilterReply.DENY;
+    }
+
+    private boolean covers(String name) {
+        for (String prefix : loggers) {
+            if (name.startsWith(prefix)
+                    && (name.length() == prefix.length() || name.charAt(prefix.length()) == '.')) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
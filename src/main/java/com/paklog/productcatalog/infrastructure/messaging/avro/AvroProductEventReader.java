@@ -0,0 +1,48 @@
+package com.paklog.productcatalog.infrastructure.messaging.avro;
+
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.DecoderFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reads framed Avro product events, resolving the writer's schema version against
+ * the latest registered schema so older records stay readable after evolution.
+ */
+public class AvroProductEventReader {
+
+    private final FileSchemaRegistry registry;
+    private final String subject;
+    private final Map<Integer, GenericDatumReader<GenericRecord>> readers = new ConcurrentHashMap<>();
+
+    public AvroProductEventReader(FileSchemaRegistry registry, String subject) {
+        this.registry = registry;
+        this.subject = subject;
+    }
+
+    public static boolean isAvro(byte[] value) {
+        return value != null && value.length >= AvroProductEventSerializer.HEADER_SIZE
+                && value[0] == AvroProductEventSerializer.MAGIC_BYTE;
+    }
+
+    public GenericRecord read(byte[] value) {
+        if (!isAvro(value)) {
+            throw new IllegalArgumentException("Value is not a framed Avro product event");
+        }
+        int version = ByteBuffer.wrap(value, 1, Integer.BYTES).getInt();
+        GenericDatumReader<GenericRecord> reader = readers.computeIfAbsent(version, writerVersion ->
+                new GenericDatumReader<>(registry.get(subject, writerVersion).schema(), registry.latest(subject).schema()));
+
+        try {
+            return reader.read(null, DecoderFactory.get().binaryDecoder(value,
+                    AvroProductEventSerializer.HEADER_SIZE, value.length - AvroProductEventSerializer.HEADER_SIZE, null));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unreadable Avro product event (schema v" + version + ")", e);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.paklog.productcatalog.infrastructure.messaging.avro;
+
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaCompatibility;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * File-based stand-in for a schema registry. Schemas live under
+ * {@code <location>/<subject>/v<version>.avsc}; every version of a subject must be
+ * able to read data written with the version before it, which is checked when
+ * the registry loads so an incompatible schema change fails at start-up rather
+ * than on the first consumer.
+ */
+public class FileSchemaRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(FileSchemaRegistry.class);
+
+    private static final Pattern SCHEMA_PATH = Pattern.compile(".*/([^/]+)/v(\\d+)\\.avsc$");
+
+    private final Map<String, List<SchemaVersion>> subjects;
+
+    public FileSchemaRegistry(String location) {
+        this(location, new PathMatchingResourcePatternResolver());
+    }
+
+    public FileSchemaRegistry(String location, ResourcePatternResolver resolver) {
+        this.subjects = load(location, resolver);
+    }
+
+    public SchemaVersion latest(String subject) {
+        List<SchemaVersion> versions = versions(subject);
+        return versions.get(versions.size() - 1);
+    }
+
+    public SchemaVersion get(String subject, int version) {
+        List<SchemaVersion> versions = versions(subject);
+        if (version < 1 || version > versions.size()) {
+            throw new SchemaCompatibilityException(
+                    "Unknown schema version " + version + " for subject " + subject);
+        }
+        return versions.get(version - 1);
+    }
+
+    public List<SchemaVersion> versions(String subject) {
+        List<SchemaVersion> versions = subjects.get(subject);
+        if (versions == null) {
+            throw new SchemaCompatibilityException("No schemas registered for subject " + subject);
+        }
+        return versions;
+    }
+
+    private static Map<String, List<SchemaVersion>> load(String location, ResourcePatternResolver resolver) {
+        Map<String, TreeMap<Integer, Schema>> found = new HashMap<>();
+        try {
+            for (Resource resource : resolver.getResources(location + "/*/v*.avsc")) {
+                Matcher matcher = SCHEMA_PATH.matcher(resource.getURL().toString());
+                if (!matcher.matches()) {
+                    continue;
+                }
+                try (InputStream in = resource.getInputStream()) {
+                    Schema schema = new Schema.Parser().parse(in);
+                    found.computeIfAbsent(matcher.group(1), subject -> new TreeMap<>())
+                            .put(Integer.parseInt(matcher.group(2)), schema);
+                }
+            }
+        } catch (IOException e) {
+            throw new SchemaCompatibilityException("Failed to load schemas from " + location, e);
+        }
+
+        Map<String, List<SchemaVersion>> subjects = new HashMap<>();
+        found.forEach((subject, schemas) -> {
+            List<SchemaVersion> versions = new ArrayList<>();
+            int expected = 1;
+            for (Map.Entry<Integer, Schema> entry : schemas.entrySet()) {
+                if (entry.getKey() != expected) {
+                    throw new SchemaCompatibilityException(
+                            "Schema versions of " + subject + " must be contiguous from 1; missing v" + expected);
+                }
+                if (!versions.isEmpty()) {
+                    checkBackwardCompatible(subject, versions.get(versions.size() - 1), entry);
+                }
+                versions.add(new SchemaVersion(subject, entry.getKey(), entry.getValue()));
+                expected++;
+            }
+            subjects.put(subject, List.copyOf(versions));
+            logger.info("Registered {} schema version(s) for subject {}", versions.size(), subject);
+        });
+        return subjects;
+    }
+
+    private static void checkBackwardCompatible(String subject, SchemaVersion previous, Map.Entry<Integer, Schema> next) {
+        SchemaCompatibility.SchemaPairCompatibility result =
+                SchemaCompatibility.checkReaderWriterCompatibility(next.getValue(), previous.schema());
+        if (result.getType() != SchemaCompatibility.SchemaCompatibilityType.COMPATIBLE) {
+            throw new SchemaCompatibilityException("Schema " + subject + " v" + next.getKey()
+                    + " cannot read data written with v" + previous.version() + ": " + result.getDescription());
+        }
+    }
+}
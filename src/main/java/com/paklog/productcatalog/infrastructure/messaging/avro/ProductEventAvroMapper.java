@@ -0,0 +1,174 @@
+package com.paklog.productcatalog.infrastructure.messaging.avro;
+
+import com.paklog.productcatalog.domain.event.DomainEvent;
+import com.paklog.productcatalog.domain.event.ProductCreatedEvent;
+import com.paklog.productcatalog.domain.event.ProductDeletedEvent;
+import com.paklog.productcatalog.domain.event.ProductSnapshot;
+import com.paklog.productcatalog.domain.event.ProductUpdatedEvent;
+import com.paklog.productcatalog.domain.model.Attributes;
+import com.paklog.productcatalog.domain.model.DimensionMeasurement;
+import com.paklog.productcatalog.domain.model.DimensionSet;
+import com.paklog.productcatalog.domain.model.Dimensions;
+import com.paklog.productcatalog.domain.model.HazmatInfo;
+import com.paklog.productcatalog.domain.model.SKU;
+import com.paklog.productcatalog.domain.model.WeightMeasurement;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Maps product domain events to and from the {@code product-event} Avro schema.
+ * Decimal measurements travel as unscaled bytes plus scale so values round-trip exactly.
+ */
+public final class ProductEventAvroMapper {
+
+    private ProductEventAvroMapper() {
+    }
+
+    public static GenericRecord toRecord(DomainEvent event, Schema schema) {
+        GenericRecord record = new GenericData.Record(schema);
+        record.put("eventId", event.getEventId());
+        record.put("eventType", new GenericData.EnumSymbol(schema.getField("eventType").schema(), event.getEventType()));
+        record.put("occurredOn", toMicros(event.getOccurredOn()));
+        record.put("sku", event.getAggregateId());
+
+        ProductSnapshot snapshot;
+        if (event instanceof ProductCreatedEvent created) {
+            record.put("title", created.getTitle());
+            snapshot = created.getProduct();
+        } else if (event instanceof ProductUpdatedEvent updated) {
+            record.put("title", updated.getTitle());
+            snapshot = updated.getProduct();
+        } else if (event instanceof ProductDeletedEvent) {
+            snapshot = null;
+        } else {
+            throw new IllegalArgumentException("Unsupported event type for Avro encoding: " + event.getEventType());
+        }
+
+        if (snapshot != null) {
+            record.put("product", toStateRecord(snapshot, nonNull(schema.getField("product").schema())));
+        }
+        return record;
+    }
+
+    public static String eventType(GenericRecord record) {
+        return String.valueOf(record.get("eventType"));
+    }
+
+    public static String sku(GenericRecord record) {
+        return String.valueOf(record.get("sku"));
+    }
+
+    /**
+     * @return the product state carried by the event, or {@code null} if it has none
+     */
+    public static ProductSnapshot toSnapshot(GenericRecord record) {
+        GenericRecord state = (GenericRecord) record.get("product");
+        if (state == null) {
+            return null;
+        }
+
+        GenericRecord dimensions = (GenericRecord) state.get("dimensions");
+        Object unNumber = state.get("unNumber");
+        HazmatInfo hazmatInfo = new HazmatInfo((Boolean) state.get("hazmat"),
+                unNumber != null ? unNumber.toString() : null);
+
+        return new ProductSnapshot(
+                SKU.of(sku(record)),
+                state.get("title").toString(),
+                dimensions != null ? toDimensions(dimensions) : null,
+                Attributes.of(hazmatInfo),
+                fromMicros((Long) state.get("createdAt")),
+                fromMicros((Long) state.get("updatedAt")),
+                (Long) state.get("version"));
+    }
+
+    private static GenericRecord toStateRecord(ProductSnapshot snapshot, Schema schema) {
+        GenericRecord state = new GenericData.Record(schema);
+        state.put("title", snapshot.title());
+        if (snapshot.dimensions() != null) {
+            Schema dimensionsSchema = nonNull(schema.getField("dimensions").schema());
+            GenericRecord dimensions = new GenericData.Record(dimensionsSchema);
+            Schema setSchema = dimensionsSchema.getField("item").schema();
+            dimensions.put("item", toSetRecord(snapshot.dimensions().item(), setSchema));
+            dimensions.put("packageDimensions", toSetRecord(snapshot.dimensions().packageDimensions(), setSchema));
+            state.put("dimensions", dimensions);
+        }
+        HazmatInfo hazmatInfo = snapshot.attributes() != null ? snapshot.attributes().hazmatInfo() : null;
+        state.put("hazmat", hazmatInfo != null && hazmatInfo.isHazmat());
+        state.put("unNumber", hazmatInfo != null ? hazmatInfo.unNumber() : null);
+        state.put("createdAt", toMicros(snapshot.createdAt()));
+        state.put("updatedAt", toMicros(snapshot.updatedAt()));
+        state.put("version", snapshot.version());
+        return state;
+    }
+
+    private static GenericRecord toSetRecord(DimensionSet set, Schema schema) {
+        Schema measurementSchema = schema.getField("length").schema();
+        GenericRecord record = new GenericData.Record(schema);
+        record.put("length", toMeasurement(set.length().value(), set.length().unit().name(), measurementSchema));
+        record.put("width", toMeasurement(set.width().value(), set.width().unit().name(), measurementSchema));
+        record.put("height", toMeasurement(set.height().value(), set.height().unit().name(), measurementSchema));
+        record.put("weight", toMeasurement(set.weight().value(), set.weight().unit().name(), measurementSchema));
+        return record;
+    }
+
+    private static GenericRecord toMeasurement(BigDecimal value, String unit, Schema schema) {
+        GenericRecord record = new GenericData.Record(schema);
+        record.put("unscaled", ByteBuffer.wrap(value.unscaledValue().toByteArray()));
+        record.put("scale", value.scale());
+        record.put("unit", unit);
+        return record;
+    }
+
+    private static Dimensions toDimensions(GenericRecord record) {
+        return Dimensions.of(toSet((GenericRecord) record.get("item")),
+                toSet((GenericRecord) record.get("packageDimensions")));
+    }
+
+    private static DimensionSet toSet(GenericRecord record) {
+        return DimensionSet.of(
+                toDimension((GenericRecord) record.get("length")),
+                toDimension((GenericRecord) record.get("width")),
+                toDimension((GenericRecord) record.get("height")),
+                WeightMeasurement.of(toDecimal((GenericRecord) record.get("weight")),
+                        WeightMeasurement.WeightUnit.valueOf(unit((GenericRecord) record.get("weight")))));
+    }
+
+    private static DimensionMeasurement toDimension(GenericRecord record) {
+        return DimensionMeasurement.of(toDecimal(record),
+                DimensionMeasurement.DimensionUnit.valueOf(unit(record)));
+    }
+
+    private static BigDecimal toDecimal(GenericRecord record) {
+        ByteBuffer buffer = ((ByteBuffer) record.get("unscaled")).duplicate();
+        byte[] unscaled = new byte[buffer.remaining()];
+        buffer.get(unscaled);
+        return new BigDecimal(new BigInteger(unscaled), (Integer) record.get("scale"));
+    }
+
+    private static String unit(GenericRecord record) {
+        return record.get("unit").toString();
+    }
+
+    private static Long toMicros(Instant instant) {
+        return instant != null ? ChronoUnit.MICROS.between(Instant.EPOCH, instant) : null;
+    }
+
+    private static Instant fromMicros(Long micros) {
+        return micros != null ? Instant.EPOCH.plus(micros, ChronoUnit.MICROS) : null;
+    }
+
+    private static Schema nonNull(Schema union) {
+        return union.getTypes().stream()
+                .filter(type -> type.getType() != Schema.Type.NULL)
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,12 @@
+package com.paklog.productcatalog.infrastructure.messaging.avro;
+
+public class SchemaCompatibilityException extends RuntimeException {
+
+    public SchemaCompatibilityException(String message) {
+        super(message);
+    }
+
+    public SchemaCompatibilityException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,10 @@
+package com.paklog.productcatalog.infrastructure.messaging.avro;
+
+import org.apache.avro.Schema;
+
+/**
+ * One registered schema of a subject. Versions start at 1 and are what the wire
+ * format carries, so a reader can always find the writer's schema.
+ */
+public record SchemaVersion(String subject, int version, Schema schema) {
+}
@@ -0,0 +1,218 @@
+package com.paklog.productcatalog.infrastructure.messaging.cdc;
+
+import com.mongodb.MongoException;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.client.model.changestream.FullDocumentBeforeChange;
+import com.paklog.productcatalog.domain.event.DomainEvent;
+import com.paklog.productcatalog.infrastructure.config.ChangeStreamConfig;
+import com.paklog.productcatalog.infrastructure.messaging.pipeline.EventBatchSink;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CDC mode: tails the products collection's change stream, turns each change into
+ * domain events and publishes them in batches. The resume token of the last
+ * change in a batch is stored only after the batch is acknowledged, so a restart
+ * or a failover to another instance continues without gaps (at-least-once).
+ */
+public class ChangeStreamEventPublisher implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeStreamEventPublisher.class);
+
+    private final MongoCollection<Document> products;
+    private final ResumeTokenStore tokenStore;
+    private final ProductChangeEventDeriver deriver;
+    private final EventBatchSink sink;
+    private final ChangeStreamConfig config;
+    private final String owner = UUID.randomUUID().toString();
+
+    private final Counter changes;
+    private final Counter published;
+
+    private volatile boolean running;
+    private volatile Instant lastChangeAt;
+    private Thread tailer;
+
+    public ChangeStreamEventPublisher(MongoCollection<Document> products, ResumeTokenStore tokenStore,
+                                      ProductChangeEventDeriver deriver, EventBatchSink sink,
+                                      ChangeStreamConfig config, MeterRegistry meterRegistry) {
+        this.products = products;
+        this.tokenStore = tokenStore;
+        this.deriver = deriver;
+        this.sink = sink;
+        this.config = config;
+
+        this.changes = Counter.builder("domain.event.cdc.changes")
+                .description("Change stream entries read from the products collection")
+                .register(meterRegistry);
+        this.published = Counter.builder("domain.event.cdc.published")
+                .description("Events derived from the change stream and acknowledged by Kafka")
+                .register(meterRegistry);
+        Gauge.builder("domain.event.cdc.lag", this, ChangeStreamEventPublisher::lagSeconds)
+                .description("Age of the last change stream entry processed")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        tailer = new Thread(this::run, "change-stream-publisher");
+        tailer.setDaemon(true);
+        tailer.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (tailer != null) {
+            tailer.interrupt();
+            try {
+                tailer.join(config.getAckTimeout().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            tailer = null;
+        }
+        try {
+            tokenStore.release(owner);
+        } catch (MongoException e) {
+            logger.debug("Could not release change stream lease", e);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                if (tokenStore.tryAcquire(owner, config.getLease())) {
+                    tail();
+                } else {
+                    Thread.sleep(config.getLease().toMillis() / 3);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                logger.error("Change stream publishing failed; resuming from the last stored token in {}",
+                        config.getRetryBackoff(), e);
+                try {
+                    Thread.sleep(config.getRetryBackoff().toMillis());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void tail() throws InterruptedException {
+        Optional<BsonDocument> resumeToken = tokenStore.load();
+        ChangeStreamIterable<Document> stream = products
+                .watch(List.of(Aggregates.match(Filters.in("operationType", "insert", "update", "replace", "delete"))))
+                .fullDocument(FullDocument.UPDATE_LOOKUP)
+                .fullDocumentBeforeChange(FullDocumentBeforeChange.WHEN_AVAILABLE)
+                .batchSize(config.getBatchSize())
+                .maxAwaitTime(config.getMaxAwait().toMillis(), TimeUnit.MILLISECONDS);
+        resumeToken.ifPresent(stream::resumeAfter);
+        logger.info("Tailing products change stream {}", resumeToken.isPresent() ? "from stored token" : "from now");
+
+        List<DomainEvent> batch = new ArrayList<>(config.getBatchSize());
+        BsonDocument pendingToken = null;
+        BsonDocument storedToken = resumeToken.orElse(null);
+        long lastCheckpoint = System.nanoTime();
+
+        try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = stream.cursor()) {
+            while (running) {
+                ChangeStreamDocument<Document> change = cursor.tryNext();
+                if (change != null) {
+                    changes.increment();
+                    batch.addAll(deriver.derive(change.getOperationTypeString(),
+                            change.getFullDocumentBeforeChange(), change.getFullDocument()));
+                    pendingToken = change.getResumeToken();
+                    if (change.getClusterTime() != null) {
+                        lastChangeAt = Instant.ofEpochSecond(change.getClusterTime().getTime());
+                    }
+                    if (batch.size() < config.getBatchSize()) {
+                        continue;
+                    }
+                }
+
+                boolean flushed = !batch.isEmpty();
+                if (flushed) {
+                    publish(batch);
+                    batch.clear();
+                }
+                if (change == null) {
+                    // Caught up: the cursor's post-batch token keeps the stored position inside the oplog window
+                    pendingToken = cursor.getResumeToken();
+                    lastChangeAt = null;
+                }
+
+                boolean checkpointDue = flushed
+                        || System.nanoTime() - lastCheckpoint > config.getIdleCheckpointInterval().toNanos();
+                if (checkpointDue && pendingToken != null && !Objects.equals(pendingToken, storedToken)) {
+                    if (!tokenStore.save(owner, pendingToken, config.getLease())) {
+                        logger.warn("Lost the change stream lease to another instance");
+                        return;
+                    }
+                    storedToken = pendingToken;
+                    lastCheckpoint = System.nanoTime();
+                } else if (System.nanoTime() - lastCheckpoint > config.getLease().toNanos() / 3) {
+                    if (!tokenStore.tryAcquire(owner, config.getLease())) {
+                        logger.warn("Lost the change stream lease to another instance");
+                        return;
+                    }
+                    lastCheckpoint = System.nanoTime();
+                }
+            }
+        }
+    }
+
+    private void publish(List<DomainEvent> batch) throws InterruptedException {
+        try {
+            sink.send(batch).get(config.getAckTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            published.increment(batch.size());
+        } catch (InterruptedException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to publish " + batch.size() + " change stream events", e);
+        }
+    }
+
+    private double lagSeconds() {
+        Instant last = lastChangeAt;
+        return last != null ? Duration.between(last, Instant.now()).toMillis() / 1000.0 : 0.0;
+    }
+}
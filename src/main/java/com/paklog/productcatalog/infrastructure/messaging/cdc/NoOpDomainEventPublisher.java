@@ -0,0 +1,21 @@
+package com.paklog.productcatalog.infrastructure.messaging.cdc;
+
+import com.paklog.productcatalog.application.port.output.DomainEventPublisher;
+import com.paklog.productcatalog.domain.event.DomainEvent;
+
+import java.util.List;
+
+/**
+ * Publisher used in CDC mode: events are derived from the change stream instead,
+ * so the ones raised by the aggregate are dropped on the request path.
+ */
+public class NoOpDomainEventPublisher implements DomainEventPublisher {
+
+    @Override
+    public void publish(DomainEvent event) {
+    }
+
+    @Override
+    public void publishAll(List<DomainEvent> events) {
+    }
+}
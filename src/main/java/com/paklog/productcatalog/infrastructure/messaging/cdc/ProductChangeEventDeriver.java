@@ -0,0 +1,91 @@
+package com.paklog.productcatalog.infrastructure.messaging.cdc;
+
+import com.paklog.productcatalog.domain.event.DomainEvent;
+import com.paklog.productcatalog.domain.event.ProductCreatedEvent;
+import com.paklog.productcatalog.domain.event.ProductDeletedEvent;
+import com.paklog.productcatalog.domain.event.ProductUpdatedEvent;
+import com.paklog.productcatalog.domain.model.Product;
+import com.paklog.productcatalog.infrastructure.persistence.entity.ProductEntity;
+import com.paklog.productcatalog.infrastructure.persistence.mapper.ProductEntityMapper;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Derives product domain events from a change stream entry on the products
+ * collection, using the pre-image when the collection records one.
+ * <p>
+ * Deletions are soft: setting {@code deletedAt} is the delete, clearing it again
+ * is a re-create, and the physical removal by tombstone compaction produces no
+ * event. Without a pre-image, a hard delete cannot be attributed to a SKU and
+ * a write that changes nothing still yields an update.
+ */
+public class ProductChangeEventDeriver {
+
+    private final MongoConverter converter;
+    private final ProductEntityMapper mapper;
+
+    public ProductChangeEventDeriver(MongoConverter converter, ProductEntityMapper mapper) {
+        this.converter = converter;
+        this.mapper = mapper;
+    }
+
+    public List<DomainEvent> derive(String operationType, Document before, Document after) {
+        Product pre = toProduct(before);
+        Product post = toProduct(after);
+
+        return switch (operationType) {
+            case "insert" -> post != null && !post.isDeleted() ? List.of(created(post)) : List.of();
+            case "update", "replace" -> onWrite(pre, post);
+            case "delete" -> pre != null && !pre.isDeleted()
+                    ? List.of(new ProductDeletedEvent(pre.getSku()))
+                    : List.of();
+            default -> List.of();
+        };
+    }
+
+    private List<DomainEvent> onWrite(Product pre, Product post) {
+        if (post == null) {
+            // Removed again before the post-image could be looked up; the delete entry follows
+            return List.of();
+        }
+        if (pre == null) {
+            return post.isDeleted()
+                    ? List.of(new ProductDeletedEvent(post.getSku()))
+                    : List.of(updated(post));
+        }
+        if (pre.isDeleted() && post.isDeleted()) {
+            return List.of();
+        }
+        if (post.isDeleted()) {
+            return List.of(new ProductDeletedEvent(post.getSku()));
+        }
+        if (pre.isDeleted()) {
+            return List.of(created(post));
+        }
+        return hasChanged(pre, post) ? List.of(updated(post)) : List.of();
+    }
+
+    private Product toProduct(Document document) {
+        if (document == null) {
+            return null;
+        }
+        return mapper.toDomain(converter.read(ProductEntity.class, document));
+    }
+
+    private static boolean hasChanged(Product pre, Product post) {
+        return !Objects.equals(pre.getTitle(), post.getTitle())
+                || !Objects.equals(pre.getDimensions(), post.getDimensions())
+                || !Objects.equals(pre.getAttributes(), post.getAttributes());
+    }
+
+    private static DomainEvent created(Product product) {
+        return new ProductCreatedEvent(product.getSku(), product.getTitle(), product.snapshot());
+    }
+
+    private static DomainEvent updated(Product product) {
+        return new ProductUpdatedEvent(product.getSku(), product.getTitle(), product.snapshot());
+    }
+}
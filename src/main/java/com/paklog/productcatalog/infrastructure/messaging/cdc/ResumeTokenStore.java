@@ -0,0 +1,88 @@
+package com.paklog.productcatalog.infrastructure.messaging.cdc;
+
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoWriteException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.Updates;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Optional;
+
+/**
+ * Keeps the change stream resume token in MongoDB next to the data it refers to,
+ * together with a lease so only one instance tails the stream at a time.
+ * Tokens are only written by the current lease owner.
+ */
+public class ResumeTokenStore {
+
+    private final MongoCollection<Document> collection;
+    private final String streamName;
+
+    public ResumeTokenStore(MongoCollection<Document> collection, String streamName) {
+        this.collection = collection;
+        this.streamName = streamName;
+    }
+
+    /**
+     * Takes or renews the lease.
+     *
+     * @return false if another instance holds an unexpired lease
+     */
+    public boolean tryAcquire(String owner, Duration lease) {
+        Instant now = Instant.now();
+        Bson filter = Filters.and(
+                Filters.eq("_id", streamName),
+                Filters.or(
+                        Filters.eq("owner", owner),
+                        Filters.exists("owner", false),
+                        Filters.lt("leaseUntil", Date.from(now))));
+        try {
+            collection.updateOne(filter,
+                    Updates.combine(Updates.set("owner", owner), Updates.set("leaseUntil", Date.from(now.plus(lease)))),
+                    new UpdateOptions().upsert(true));
+            return true;
+        } catch (MongoWriteException e) {
+            if (e.getError().getCategory() == ErrorCategory.DUPLICATE_KEY) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    public Optional<BsonDocument> load() {
+        Document stored = collection.find(Filters.eq("_id", streamName)).first();
+        if (stored == null || stored.get("token") == null) {
+            return Optional.empty();
+        }
+        return Optional.of(stored.get("token", Document.class).toBsonDocument());
+    }
+
+    /**
+     * Stores the token and renews the lease.
+     *
+     * @return false if the lease was lost to another instance
+     */
+    public boolean save(String owner, BsonDocument token, Duration lease) {
+        Instant now = Instant.now();
+        return collection.updateOne(
+                Filters.and(Filters.eq("_id", streamName), Filters.eq("owner", owner)),
+                Updates.combine(
+                        Updates.set("token", token),
+                        Updates.set("updatedAt", Date.from(now)),
+                        Updates.set("leaseUntil", Date.from(now.plus(lease)))))
+                .getMatchedCount() > 0;
+    }
+
+    public void release(String owner) {
+        collection.updateOne(
+                Filters.and(Filters.eq("_id", streamName), Filters.eq("owner", owner)),
+                Updates.unset("owner"));
+    }
+}
@@ -0,0 +1,68 @@
+package com.paklog.productcatalog.infrastructure.messaging.config;
+
+import com.mongodb.MongoException;
+import com.paklog.productcatalog.application.port.output.DomainEventPublisher;
+import com.paklog.productcatalog.infrastructure.config.ChangeStreamConfig;
+import com.paklog.productcatalog.infrastructure.messaging.cdc.ChangeStreamEventPublisher;
+import com.paklog.productcatalog.infrastructure.messaging.cdc.NoOpDomainEventPublisher;
+import com.paklog.productcatalog.infrastructure.messaging.cdc.ProductChangeEventDeriver;
+import com.paklog.productcatalog.infrastructure.messaging.cdc.ResumeTokenStore;
+import com.paklog.productcatalog.infrastructure.messaging.pipeline.EventBatchSink;
+import com.paklog.productcatalog.infrastructure.persistence.entity.ProductEntity;
+import com.paklog.productcatalog.infrastructure.persistence.mapper.ProductEntityMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+/**
+ * CDC mode: events come from the products change stream rather than from the
+ * request path. Requires MongoDB running as a replica set.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "product-catalog.events.change-stream", name = "enabled", havingValue = "true")
+public class ChangeStreamPublishingConfig {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ChangeStreamPublishingConfig.class);
+    
+    @Bean
+    @Primary
+    public DomainEventPublisher noOpDomainEventPublisher() {
+        return new NoOpDomainEventPublisher();
+    }
+    
+    @Bean
+    public ChangeStreamEventPublisher changeStreamEventPublisher(MongoTemplate mongoTemplate,
+                                                                 ProductEntityMapper productEntityMapper,
+                                                                 EventBatchSink eventBatchSink,
+                                                                 ChangeStreamConfig changeStreamConfig,
+                                                                 MeterRegistry meterRegistry) {
+        String collection = mongoTemplate.getCollectionName(ProductEntity.class);
+        if (changeStreamConfig.isEnablePreImages()) {
+            enablePreImages(mongoTemplate, collection);
+        }
+        
+        ResumeTokenStore tokenStore = new ResumeTokenStore(
+                mongoTemplate.getCollection(changeStreamConfig.getOffsetCollection()),
+                changeStreamConfig.getStreamName());
+        ProductChangeEventDeriver deriver = new ProductChangeEventDeriver(mongoTemplate.getConverter(), productEntityMapper);
+        
+        return new ChangeStreamEventPublisher(mongoTemplate.getCollection(collection), tokenStore, deriver,
+                eventBatchSink, changeStreamConfig, meterRegistry);
+    }
+    
+    private void enablePreImages(MongoTemplate mongoTemplate, String collection) {
+        try {
+            mongoTemplate.executeCommand(new Document("collMod", collection)
+                    .append("changeStreamPreAndPostImages", new Document("enabled", true)));
+        } catch (MongoException e) {
+            logger.warn("Could not enable change stream pre-images on {}; deletes and no-op writes "
+                    + "will be derived from post-images only: {}", collection, e.getMessage());
+        }
+    }
+}
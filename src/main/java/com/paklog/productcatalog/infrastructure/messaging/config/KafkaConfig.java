@@ -1,13 +1,28 @@
 package com.paklog.productcatalog.infrastructure.messaging.config;
 
+import com.paklog.productcatalog.infrastructure.config.EventSerializationConfig;
+import com.paklog.productcatalog.infrastructure.config.EventSpoolConfig;
+import com.paklog.productcatalog.infrastructure.messaging.avro.AvroProductEventReader;
+import com.paklog.productcatalog.infrastructure.messaging.avro.AvroProductEventSerializer;
+import com.paklog.productcatalog.infrastructure.messaging.avro.FileSchemaRegistry;
+import com.paklog.productcatalog.infrastructure.messaging.avro.SchemaVersion;
+import com.paklog.productcatalog.infrastructure.messaging.producer.KafkaDomainEventPublisher;
+import com.paklog.productcatalog.infrastructure.messaging.spool.SpoolingEventSink;
+import com.paklog.productcatalog.infrastructure.spool.SegmentLog;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Serializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
 import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
@@ -17,10 +32,12 @@ import org.springframework.kafka.support.serializer.JsonSerializer;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.clients.producer.RecordMetadata;
 
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
 
 @Configuration
+@Profile("!in-memory")
 public class KafkaConfig {
     
     private static final Logger logger = LoggerFactory.getLogger(KafkaConfig.class);
@@ -31,26 +48,39 @@ public class KafkaConfig {
     @Value("${product-catalog.kafka.topics.product-events}")
     private String productEventsTopic;
     
+    private final EventSerializationConfig eventSerializationConfig;
+    private final EventSpoolConfig eventSpoolConfig;
+    
+    public KafkaConfig(EventSerializationConfig eventSerializationConfig, EventSpoolConfig eventSpoolConfig) {
+        this.eventSerializationConfig = eventSerializationConfig;
+        this.eventSpoolConfig = eventSpoolConfig;
+    }
+    
+    @Bean
+    public FileSchemaRegistry schemaRegistry() {
+        return new FileSchemaRegistry(eventSerializationConfig.getSchemaRegistryLocation());
+    }
+    
+    @Bean
+    public AvroProductEventReader avroProductEventReader(FileSchemaRegistry schemaRegistry) {
+        return new AvroProductEventReader(schemaRegistry, eventSerializationConfig.getSchemaSubject());
+    }
+    
+    @Bean
+    public Serializer<Object> eventValueSerializer() {
+        if (eventSerializationConfig.getEncoding() == EventSerializationConfig.Encoding.AVRO) {
+            SchemaVersion schema = schemaRegistry().latest(eventSerializationConfig.getSchemaSubject());
+            logger.info("Encoding product events with Avro schema {} v{}", schema.subject(), schema.version());
+            return new AvroProductEventSerializer(schema);
+        }
+        return new JsonSerializer<>();
+    }
+    
     @Bean
     public ProducerFactory<String, Object> producerFactory() {
-        Map<String, Object> configProps = new HashMap<>();
-        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
-        
-        // Producer reliability settings
-        configProps.put(ProducerConfig.ACKS_CONFIG, "all");
-        configProps.put(ProducerConfig.RETRIES_CONFIG, 3);
-        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
-        configProps.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
-        
-        // Performance settings
-        configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, 16384);
-        configProps.put(ProducerConfig.LINGER_MS_CONFIG, 10);
-        configProps.put(ProducerConfig.BUFFER_MEMORY_CONFIG, 33554432);
-        
-        logger.info("Configured Kafka producer with bootstrap servers: {}", bootstrapServers);
-        return new DefaultKafkaProducerFactory<>(configProps);
+        logger.info("Configured Kafka producer with bootstrap servers: {}, encoding: {}, compression: {}",
+                   bootstrapServers, eventSerializationConfig.getEncoding(), eventSerializationConfig.getCompressionType());
+        return new DefaultKafkaProducerFactory<>(producerProperties(), new StringSerializer(), eventValueSerializer());
     }
     
     @Bean
@@ -60,8 +90,10 @@ public class KafkaConfig {
         template.setProducerListener(new org.springframework.kafka.support.ProducerListener<String, Object>() {
             @Override
             public void onSuccess(ProducerRecord<String, Object> producerRecord, RecordMetadata recordMetadata) {
-                logger.debug("Message sent successfully to topic: {} partition: {} offset: {}",
-                           recordMetadata.topic(), recordMetadata.partition(), recordMetadata.offset());
+                if (logger.isDebugEnabled()) {
+                    logger.atDebug().addKeyValue("topic", recordMetadata.topic()).addKeyValue("partition", recordMetadata.partition())
+                            .addKeyValue("offset", recordMetadata.offset()).log("Message sent");
+                }
             }
             
             @Override
@@ -73,6 +105,58 @@ public class KafkaConfig {
         return template;
     }
     
+    /**
+     * Raw-bytes template used to replay spooled events, which are stored already serialized.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "product-catalog.events.spool", name = "enabled", matchIfMissing = true)
+    public KafkaTemplate<String, byte[]> spoolReplayTemplate() {
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(producerProperties(),
+                new StringSerializer(), new ByteArraySerializer()));
+    }
+    
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "product-catalog.events.spool", name = "enabled", matchIfMissing = true)
+    public SegmentLog eventSpoolLog() {
+        return new SegmentLog(Path.of(eventSpoolConfig.getDirectory()), eventSpoolConfig.getSegmentSize(),
+                eventSpoolConfig.isForceOnAppend());
+    }
+    
+    @Bean
+    @Primary
+    @ConditionalOnProperty(prefix = "product-catalog.events.spool", name = "enabled", matchIfMissing = true)
+    public SpoolingEventSink spoolingEventSink(KafkaDomainEventPublisher kafkaDomainEventPublisher,
+                                               SegmentLog eventSpoolLog, MeterRegistry meterRegistry) {
+        return new SpoolingEventSink(kafkaDomainEventPublisher, spoolReplayTemplate(), eventValueSerializer(),
+                eventSpoolLog, productEventsTopic, eventSpoolConfig, meterRegistry);
+    }
+    
+    private Map<String, Object> producerProperties() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        
+        // Producer reliability settings
+        configProps.put(ProducerConfig.ACKS_CONFIG, "all");
+        configProps.put(ProducerConfig.RETRIES_CONFIG, 3);
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        configProps.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+        
+        // Performance settings
+        configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, 16384);
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, 10);
+        configProps.put(ProducerConfig.BUFFER_MEMORY_CONFIG, 33554432);
+        configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, eventSerializationConfig.getCompressionType());
+        
+        if (eventSpoolConfig.isEnabled()) {
+            // Fail fast into the spool instead of stalling the publisher on a full buffer
+            configProps.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, (int) eventSpoolConfig.getProducerMaxBlock().toMillis());
+            configProps.put(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG, (int) eventSpoolConfig.getProducerDeliveryTimeout().toMillis());
+            configProps.put(ProducerConfig.REQUEST_TIMEOUT_MS_CONFIG,
+                    (int) Math.min(30_000, eventSpoolConfig.getProducerDeliveryTimeout().toMillis() - 10));
+        }
+        return configProps;
+    }
+    
     @Bean
     public NewTopic productEventsTopic() {
         return TopicBuilder.name(productEventsTopic)
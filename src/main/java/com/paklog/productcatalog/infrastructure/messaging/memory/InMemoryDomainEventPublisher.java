@@ -0,0 +1,57 @@
+package com.paklog.productcatalog.infrastructure.messaging.memory;
+
+import com.paklog.productcatalog.application.port.output.DomainEventPublisher;
+import com.paklog.productcatalog.domain.event.DomainEvent;
+import com.paklog.productcatalog.infrastructure.messaging.pipeline.EventBatchSink;
+import com.paklog.productcatalog.shared.util.MetricsUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Acknowledges every event at once instead of sending it to Kafka, for running the
+ * service under the {@code in-memory} profile. It stands in for the Kafka publisher
+ * behind the event pipeline, so writers still pay for buffering and batching, and it
+ * records the same event metrics.
+ */
+@Component
+@Profile("in-memory")
+public class InMemoryDomainEventPublisher implements DomainEventPublisher, EventBatchSink {
+
+    private static final Logger logger = LoggerFactory.getLogger(InMemoryDomainEventPublisher.class);
+
+    private final MetricsUtil metrics;
+    private final LongAdder published = new LongAdder();
+
+    public InMemoryDomainEventPublisher(MetricsUtil metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void publish(DomainEvent event) {
+        long started = metrics.start();
+        if (logger.isDebugEnabled()) {
+            logger.debug("Discarding domain event: {} with ID: {}", event.getEventType(), event.getEventId());
+        }
+        published.increment();
+        metrics.recordEventSend(started, true);
+    }
+
+    @Override
+    public CompletableFuture<Void> send(List<DomainEvent> batch) {
+        metrics.recordEventBatch(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            publish(batch.get(i));
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    public long publishedCount() {
+        return published.sum();
+    }
+}
@@ -0,0 +1,20 @@
+package com.paklog.productcatalog.infrastructure.messaging.pipeline;
+
+import com.paklog.productcatalog.domain.event.DomainEvent;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Final stage of the event pipeline: hands a batch of events to the broker.
+ */
+public interface EventBatchSink {
+
+    /**
+     * Sends the batch without waiting for acknowledgements. The list is reused by
+     * the caller once this method returns and must not be retained.
+     *
+     * @return completes once every event of the batch is acknowledged
+     */
+    CompletableFuture<Void> send(List<DomainEvent> batch);
+}
@@ -0,0 +1,259 @@
+package com.paklog.productcatalog.infrastructure.messaging.pipeline;
+
+import com.paklog.productcatalog.application.port.output.DomainEventPublisher;
+import com.paklog.productcatalog.domain.event.DomainEvent;
+import com.paklog.productcatalog.infrastructure.config.EventPipelineConfig;
+import com.paklog.productcatalog.shared.exception.EventPipelineFullException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Decouples request threads from Kafka. Writers put the events of a change into a
+ * bounded {@link EventRingBuffer}; a single publisher thread drains it in batches
+ * into the {@link EventBatchSink}. When the buffer is full the configured
+ * {@link EventPipelineConfig.OverflowPolicy} decides whether the writer waits,
+ * spills the events locally or fails, so bursts never grow memory without bound.
+ */
+@Component
+@Primary
+@ConditionalOnProperty(prefix = "product-catalog.events.change-stream", name = "enabled", havingValue = "false", matchIfMissing = true)
+public class EventPipeline implements DomainEventPublisher, SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventPipeline.class);
+
+    private static final long BLOCKED_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final EventRingBuffer<DomainEvent> ringBuffer;
+    private final EventBatchSink sink;
+    private final EventSpillover spillover;
+    private final EventPipelineConfig config;
+
+    private final DistributionSummary batchSize;
+    private final Timer publishLatency;
+    private final Counter blocked;
+    private final Counter spilled;
+    private final Counter rejected;
+    private final Counter failed;
+
+    // Ring sequence of the last event handed to the sink; written only by the publisher thread
+    private volatile long dispatched = -1;
+    private volatile boolean running;
+    private volatile boolean publisherIdle;
+    private Thread publisher;
+
+    public EventPipeline(EventBatchSink sink, EventPipelineConfig config, MeterRegistry meterRegistry,
+                         ObjectProvider<EventSpillover> spillover) {
+        this.sink = sink;
+        this.config = config;
+        this.spillover = spillover.getIfAvailable();
+        this.ringBuffer = new EventRingBuffer<>(config.getCapacity());
+
+        if (config.getOverflowPolicy() == EventPipelineConfig.OverflowPolicy.SPILL && this.spillover == null) {
+            logger.warn("Event overflow policy SPILL has no spillover configured; writers will block instead");
+        }
+
+        Gauge.builder("domain.event.pipeline.depth", ringBuffer, EventRingBuffer::size)
+                .description("Events waiting in the publish ring buffer")
+                .register(meterRegistry);
+        Gauge.builder("domain.event.pipeline.capacity", ringBuffer, EventRingBuffer::capacity)
+                .description("Slots in the publish ring buffer")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("domain.event.pipeline.batch.size")
+                .description("Events handed to Kafka per batch")
+                .register(meterRegistry);
+        this.publishLatency = Timer.builder("domain.event.pipeline.publish.latency")
+                .description("Time from handing a batch to Kafka until it is acknowledged")
+                .register(meterRegistry);
+        this.blocked = overflowCounter(meterRegistry, "blocked");
+        this.spilled = overflowCounter(meterRegistry, "spilled");
+        this.rejected = overflowCounter(meterRegistry, "rejected");
+        // Sends are already counted in domain.event.failed by the publisher; this counts the pipeline's batches
+        this.failed = Counter.builder("domain.event.pipeline.failed")
+                .description("Events in batches the publisher thread could not hand to Kafka")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void publish(DomainEvent event) {
+        publishAll(List.of(event));
+    }
+
+    @Override
+    public void publishAll(List<DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        if (!running) {
+            // Before start-up and after shutdown there is no publisher thread to drain the buffer
+            sink.send(events);
+            return;
+        }
+        if (ringBuffer.tryPublish(events)) {
+            signalPublisher();
+            return;
+        }
+
+        switch (config.getOverflowPolicy()) {
+            case FAIL -> reject(events);
+            case SPILL -> {
+                if (spillover != null) {
+                    spillBehindBuffered(events);
+                } else {
+                    awaitCapacity(events);
+                }
+            }
+            case BLOCK -> awaitCapacity(events);
+        }
+    }
+
+    private void awaitCapacity(List<DomainEvent> events) {
+        blocked.increment(events.size());
+        long deadline = System.nanoTime() + config.getBlockTimeout().toNanos();
+        do {
+            signalPublisher();
+            if (System.nanoTime() - deadline > 0) {
+                reject(events);
+            }
+            LockSupport.parkNanos(BLOCKED_PARK_NANOS);
+        } while (!ringBuffer.tryPublish(events));
+        signalPublisher();
+    }
+
+    /**
+     * Spills the events once every event already in the ring buffer has been handed to the
+     * sink, so they reach the spillover after the events published before them. The sink
+     * is diverted to the spillover first, which keeps that hand-off from waiting on Kafka.
+     */
+    private void spillBehindBuffered(List<DomainEvent> events) {
+        long ahead = ringBuffer.lastClaimed();
+        spillover.divert();
+        long deadline = System.nanoTime() + config.getBlockTimeout().toNanos();
+        while (dispatched < ahead) {
+            signalPublisher();
+            if (System.nanoTime() - deadline > 0) {
+                reject(events);
+            }
+            LockSupport.parkNanos(BLOCKED_PARK_NANOS);
+        }
+        spillover.spill(events);
+        spilled.increment(events.size());
+    }
+
+    private void reject(List<DomainEvent> events) {
+        rejected.increment(events.size());
+        throw new EventPipelineFullException(events.size(),
+                "Event pipeline is full (" + ringBuffer.capacity() + " events); retry later");
+    }
+
+    private void signalPublisher() {
+        Thread thread = publisher;
+        if (publisherIdle && thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        publisher = new Thread(this::runPublisher, "event-pipeline-publisher");
+        publisher.setDaemon(true);
+        publisher.start();
+        logger.info("Started event pipeline with {} slots, batches of up to {}, overflow policy {}",
+                ringBuffer.capacity(), config.getMaxBatchSize(), config.getOverflowPolicy());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        Thread thread = publisher;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(config.getDrainTimeout().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!ringBuffer.isEmpty()) {
+            logger.error("Event pipeline stopped with {} events still buffered", ringBuffer.size());
+        }
+        publisher = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    public int depth() {
+        return ringBuffer.size();
+    }
+
+    private void runPublisher() {
+        List<DomainEvent> batch = new ArrayList<>(config.getMaxBatchSize());
+        long idleWaitNanos = config.getIdleWait().toNanos();
+
+        while (true) {
+            int drained = ringBuffer.drainTo(batch, config.getMaxBatchSize());
+            if (drained > 0) {
+                dispatch(batch);
+                batch.clear();
+                continue;
+            }
+            if (!running) {
+                break;
+            }
+
+            publisherIdle = true;
+            if (ringBuffer.isEmpty()) {
+                LockSupport.parkNanos(this, idleWaitNanos);
+            }
+            publisherIdle = false;
+        }
+    }
+
+    private void dispatch(List<DomainEvent> batch) {
+        int size = batch.size();
+        batchSize.record(size);
+        long start = System.nanoTime();
+        try {
+            sink.send(batch).whenComplete((result, throwable) -> {
+                publishLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                if (throwable != null) {
+                    failed.increment(size);
+                }
+            });
+        } catch (RuntimeException e) {
+            failed.increment(size);
+            logger.error("Failed to hand a batch of {} events to Kafka", size, e);
+        } finally {
+            dispatched += size;
+        }
+    }
+
+    private static Counter overflowCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("domain.event.pipeline.overflow")
+                .description("Events that found the publish ring buffer full")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
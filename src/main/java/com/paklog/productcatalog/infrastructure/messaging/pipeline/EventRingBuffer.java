@@ -0,0 +1,123 @@
+package com.paklog.productcatalog.infrastructure.messaging.pipeline;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded multi-producer, single-consumer ring buffer with preallocated slots.
+ * <p>
+ * Producers claim a contiguous range of sequences with a CAS on the claim cursor,
+ * fill their slots and mark each one published; the consumer drains slots in
+ * sequence order and only advances past a slot once it is published, so events
+ * of one claim are never interleaved with another's and never reordered.
+ * Nothing is allocated per event.
+ */
+public class EventRingBuffer<E> {
+
+    private final Object[] slots;
+    private final AtomicLongArray published;
+    private final int mask;
+    private final int capacity;
+
+    private final AtomicLong claimed = new AtomicLong(-1);
+    private final AtomicLong consumed = new AtomicLong(-1);
+
+    public EventRingBuffer(int requestedCapacity) {
+        if (requestedCapacity < 1) {
+            throw new IllegalArgumentException("Ring buffer capacity must be positive");
+        }
+        this.capacity = Integer.highestOneBit(requestedCapacity) == requestedCapacity
+                ? requestedCapacity
+                : Integer.highestOneBit(requestedCapacity) << 1;
+        this.mask = capacity - 1;
+        this.slots = new Object[capacity];
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, -1);
+        }
+    }
+
+    /**
+     * Publishes all events or none of them.
+     *
+     * @return {@code false} if there is not enough free space
+     */
+    public boolean tryPublish(List<? extends E> events) {
+        int count = events.size();
+        if (count == 0) {
+            return true;
+        }
+        if (count > capacity) {
+            return false;
+        }
+
+        long last;
+        long first;
+        do {
+            long current = claimed.get();
+            first = current + 1;
+            last = current + count;
+            if (last - capacity > consumed.get()) {
+                return false;
+            }
+            if (claimed.compareAndSet(current, last)) {
+                break;
+            }
+        } while (true);
+
+        for (int i = 0; i < count; i++) {
+            long sequence = first + i;
+            int index = (int) (sequence & mask);
+            slots[index] = events.get(i);
+            published.lazySet(index, sequence);
+        }
+        return true;
+    }
+
+    /**
+     * Moves up to {@code max} published events into {@code batch}. Must only be
+     * called from the single consumer thread.
+     *
+     * @return the number of events drained
+     */
+    @SuppressWarnings("unchecked")
+    public int drainTo(List<? super E> batch, int max) {
+        long next = consumed.get() + 1;
+        int drained = 0;
+        while (drained < max) {
+            int index = (int) (next & mask);
+            if (published.get(index) != next) {
+                break;
+            }
+            batch.add((E) slots[index]);
+            slots[index] = null;
+            next++;
+            drained++;
+        }
+        if (drained > 0) {
+            consumed.lazySet(next - 1);
+        }
+        return drained;
+    }
+
+    /**
+     * Sequence of the last slot claimed by a producer, or -1 before the first claim.
+     * Sequences start at 0 and the consumer drains them in order.
+     */
+    public long lastClaimed() {
+        return claimed.get();
+    }
+
+    public int size() {
+        return (int) Math.max(0, claimed.get() - consumed.get());
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+}
@@ -0,0 +1,20 @@
+package com.paklog.productcatalog.infrastructure.messaging.pipeline;
+
+import com.paklog.productcatalog.domain.event.DomainEvent;
+
+import java.util.List;
+
+/**
+ * Local overflow target for the {@code SPILL} policy; spilled events are published later.
+ */
+public interface EventSpillover {
+
+    void spill(List<DomainEvent> events);
+
+    /**
+     * Routes events handed to the sink from now on to this spillover as well, so the
+     * events queued ahead of a spill get there quickly, before it.
+     */
+    default void divert() {
+    }
+}
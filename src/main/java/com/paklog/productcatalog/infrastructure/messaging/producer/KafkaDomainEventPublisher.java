@@ -2,59 +2,98 @@ package com.paklog.productcatalog.infrastructure.messaging.producer;
 
 import com.paklog.productcatalog.application.port.output.DomainEventPublisher;
 import com.paklog.productcatalog.domain.event.DomainEvent;
+import com.paklog.productcatalog.domain.event.ProductDeletedEvent;
+import com.paklog.productcatalog.infrastructure.messaging.pipeline.EventBatchSink;
+import com.paklog.productcatalog.shared.util.MetricsUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 @Component
-public class KafkaDomainEventPublisher implements DomainEventPublisher {
+@Profile("!in-memory")
+public class KafkaDomainEventPublisher implements DomainEventPublisher, EventBatchSink {
 
     private static final Logger logger = LoggerFactory.getLogger(KafkaDomainEventPublisher.class);
 
     private final KafkaTemplate<String, Object> kafkaTemplate;
     private final String topicName;
+    private final MetricsUtil metrics;
 
     public KafkaDomainEventPublisher(
         KafkaTemplate<String, Object> kafkaTemplate,
-        @Value("${product-catalog.kafka.topics.product-events}") String topicName
+        @Value("${product-catalog.kafka.topics.product-events}") String topicName,
+        MetricsUtil metrics
     ) {
         this.kafkaTemplate = kafkaTemplate;
         this.topicName = topicName;
+        this.metrics = metrics;
     }
 
     @Override
     public void publish(DomainEvent event) {
-        logger.debug("Publishing domain event: {} with ID: {} to topic: {}",
-                    event.getEventType(), event.getEventId(), topicName);
-
         try {
-            CompletableFuture<SendResult<String, Object>> future =
-                kafkaTemplate.send(topicName, event.getEventId(), event);
-
-            // Use non-blocking callback instead of blocking wait
-            future.whenComplete((result, throwable) -> {
-                if (throwable != null) {
-                    logger.error("Failed to publish event: {} with ID: {} to topic: {}",
-                               event.getEventType(), event.getEventId(), topicName, throwable);
-                } else {
-                    logger.debug("Successfully published event: {} with ID: {} to topic: {} at offset: {}",
-                               event.getEventType(), event.getEventId(), topicName,
-                               result.getRecordMetadata().offset());
-                }
-            });
-
+            send(event);
         } catch (Exception e) {
             logger.error("Unexpected error while publishing event: {} with ID: {}",
                         event.getEventType(), event.getEventId(), e);
             // Use specific exception instead of generic RuntimeException
             throw new RuntimeException("Failed to publish domain event: " + event.getEventType(), e);
+        }
+    }
 
+    /**
+     * Hands every event of the batch to the producer before waiting on any of them,
+     * so the producer can group them into as few requests as its batching allows.
+     */
+    @Override
+    public CompletableFuture<Void> send(List<DomainEvent> batch) {
+        metrics.recordEventBatch(batch.size());
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[batch.size()];
+        for (int i = 0; i < futures.length; i++) {
+            futures[i] = send(batch.get(i));
+        }
+        return CompletableFuture.allOf(futures);
+    }
 
-}
-}
+    /**
+     * Sends one event, followed by a tombstone for deletions.
+     *
+     * @return completes once the last record for the event is acknowledged
+     */
+    public CompletableFuture<SendResult<String, Object>> send(DomainEvent event) {
+        logger.atDebug().addKeyValue("event_type", event.getEventType()).addKeyValue("event_id", event.getEventId())
+                .addKeyValue("topic", topicName).log("Publishing domain event");
+
+        // Keyed by SKU so per-product ordering holds across partitions and compaction keeps the latest state
+        String key = event.getAggregateId();
+        long started = metrics.start();
+        CompletableFuture<SendResult<String, Object>> future =
+            kafkaTemplate.send(topicName, key, event);
+
+        // Use non-blocking callback instead of blocking wait
+        future.whenComplete((result, throwable) -> {
+            metrics.recordEventSend(started, throwable == null);
+            if (throwable != null) {
+                logger.atError().addKeyValue("event_type", event.getEventType()).addKeyValue("event_id", event.getEventId())
+                        .addKeyValue("topic", topicName).setCause(throwable).log("Failed to publish event");
+            } else {
+                logger.atDebug().addKeyValue("event_type", event.getEventType()).addKeyValue("event_id", event.getEventId())
+                        .addKeyValue("topic", topicName).addKeyValue("offset", result.getRecordMetadata().offset())
+                        .log("Published event");
+            }
+        });
+
+        if (event instanceof ProductDeletedEvent) {
+            // Null-value tombstone lets compaction drop the product from the changelog
+            return kafkaTemplate.send(topicName, key, null);
+        }
+        return future;
+    }
 }
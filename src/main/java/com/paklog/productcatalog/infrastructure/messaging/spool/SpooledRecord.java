@@ -0,0 +1,35 @@
+package com.paklog.productcatalog.infrastructure.messaging.spool;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A Kafka record as kept in the spool: the key, the already serialized value and
+ * whether a null-value tombstone must follow it.
+ * <p>
+ * Encoded as {@code [byte flags][int keyLength][key][value]}.
+ */
+public record SpooledRecord(String key, byte[] value, boolean tombstoneAfter) {
+
+    private static final byte TOMBSTONE_AFTER = 0x1;
+
+    public byte[] encode() {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocate(1 + Integer.BYTES + keyBytes.length + value.length)
+                .put(tombstoneAfter ? TOMBSTONE_AFTER : 0)
+                .putInt(keyBytes.length)
+                .put(keyBytes)
+                .put(value)
+                .array();
+    }
+
+    public static SpooledRecord decode(byte[] payload) {
+        ByteBuffer buffer = ByteBuffer.wrap(payload);
+        boolean tombstoneAfter = (buffer.get() & TOMBSTONE_AFTER) != 0;
+        byte[] keyBytes = new byte[buffer.getInt()];
+        buffer.get(keyBytes);
+        byte[] value = new byte[buffer.remaining()];
+        buffer.get(value);
+        return new SpooledRecord(new String(keyBytes, StandardCharsets.UTF_8), value, tombstoneAfter);
+    }
+}
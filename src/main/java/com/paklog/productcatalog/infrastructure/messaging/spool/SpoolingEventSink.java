@@ -0,0 +1,257 @@
+package com.paklog.productcatalog.infrastructure.messaging.spool;
+
+import com.paklog.productcatalog.domain.event.DomainEvent;
+import com.paklog.productcatalog.domain.event.ProductDeletedEvent;
+import com.paklog.productcatalog.infrastructure.config.EventSpoolConfig;
+import com.paklog.productcatalog.infrastructure.messaging.pipeline.EventBatchSink;
+import com.paklog.productcatalog.infrastructure.messaging.pipeline.EventSpillover;
+import com.paklog.productcatalog.infrastructure.messaging.producer.KafkaDomainEventPublisher;
+import com.paklog.productcatalog.infrastructure.spool.LogRecord;
+import com.paklog.productcatalog.infrastructure.spool.SegmentLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.common.serialization.Serializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends events straight to Kafka while the producer is healthy and appends them to
+ * a local {@link SegmentLog} while it is not. Once anything is spooled, every later
+ * event is spooled too until the replay thread has drained the log, so per-SKU
+ * order is kept across an outage. Replay is at-least-once: a batch whose
+ * acknowledgement times out is sent again.
+ */
+public class SpoolingEventSink implements EventBatchSink, EventSpillover, SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(SpoolingEventSink.class);
+
+    private final KafkaDomainEventPublisher kafkaPublisher;
+    private final KafkaTemplate<String, byte[]> replayTemplate;
+    private final Serializer<Object> valueSerializer;
+    private final SegmentLog log;
+    private final String topicName;
+    private final EventSpoolConfig config;
+
+    private final Object lock = new Object();
+    private final Counter spooled;
+    private final Counter replayed;
+
+    private volatile boolean spooling;
+    private volatile boolean running;
+    private Thread replayer;
+
+    public SpoolingEventSink(KafkaDomainEventPublisher kafkaPublisher, KafkaTemplate<String, byte[]> replayTemplate,
+                             Serializer<Object> valueSerializer, SegmentLog log, String topicName,
+                             EventSpoolConfig config, MeterRegistry meterRegistry) {
+        this.kafkaPublisher = kafkaPublisher;
+        this.replayTemplate = replayTemplate;
+        this.valueSerializer = valueSerializer;
+        this.log = log;
+        this.topicName = topicName;
+        this.config = config;
+        this.spooling = !log.isEmpty();
+
+        Gauge.builder("domain.event.spool.size", log, SegmentLog::pendingBytes)
+                .description("Bytes of events waiting in the local spool")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("domain.event.spool.records", log, SegmentLog::pendingRecords)
+                .description("Events waiting in the local spool")
+                .register(meterRegistry);
+        Gauge.builder("domain.event.spool.segments", log, SegmentLog::segmentCount)
+                .description("Segment files held by the local spool")
+                .register(meterRegistry);
+        Gauge.builder("domain.event.spool.age", log, SpoolingEventSink::oldestAgeSeconds)
+                .description("Age of the oldest event waiting in the local spool")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("domain.event.spool.active", this, sink -> sink.spooling ? 1 : 0)
+                .description("Whether events are currently diverted to the local spool")
+                .register(meterRegistry);
+        this.spooled = Counter.builder("domain.event.spool.spooled")
+                .description("Events written to the local spool")
+                .register(meterRegistry);
+        this.replayed = Counter.builder("domain.event.spool.replayed")
+                .description("Spooled events replayed to Kafka")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public CompletableFuture<Void> send(List<DomainEvent> batch) {
+        List<CompletableFuture<?>> futures = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            if (spooling) {
+                spill(batch.subList(i, batch.size()));
+                break;
+            }
+            DomainEvent event = batch.get(i);
+            try {
+                futures.add(kafkaPublisher.send(event).whenComplete((result, throwable) -> {
+                    if (throwable != null) {
+                        divert(event, throwable);
+                    }
+                }));
+            } catch (RuntimeException e) {
+                // Typically the producer buffer staying full for longer than max.block.ms
+                startSpooling(e);
+                spill(batch.subList(i, batch.size()));
+                break;
+            }
+        }
+        // Failed sends are spooled, not lost, so the batch as a whole never fails
+        return CompletableFuture.allOf(futures.stream()
+                .map(future -> future.exceptionally(throwable -> null))
+                .toArray(CompletableFuture[]::new));
+    }
+
+    @Override
+    public void spill(List<DomainEvent> events) {
+        synchronized (lock) {
+            spooling = true;
+            for (DomainEvent event : events) {
+                append(event);
+            }
+        }
+    }
+
+    @Override
+    public void divert() {
+        if (!spooling) {
+            logger.warn("Event pipeline full, spooling events locally");
+        }
+        spooling = true;
+    }
+
+    public boolean isSpooling() {
+        return spooling;
+    }
+
+    private void divert(DomainEvent event, Throwable cause) {
+        startSpooling(cause);
+        synchronized (lock) {
+            append(event);
+        }
+    }
+
+    private void startSpooling(Throwable cause) {
+        if (!spooling) {
+            logger.warn("Kafka producer unhealthy, spooling events locally: {}", cause.getMessage());
+        }
+        spooling = true;
+    }
+
+    private void append(DomainEvent event) {
+        byte[] value = valueSerializer.serialize(topicName, event);
+        log.append(new SpooledRecord(event.getAggregateId(), value, event instanceof ProductDeletedEvent).encode());
+        spooled.increment();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        replayer = new Thread(this::runReplay, "event-spool-replay");
+        replayer.setDaemon(true);
+        replayer.start();
+        if (spooling) {
+            logger.info("Replaying {} events spooled before the last shutdown", log.pendingRecords());
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (replayer != null) {
+            replayer.interrupt();
+            try {
+                replayer.join(config.getReplayTimeout().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            replayer = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Stops after the event pipeline so events it drains on shutdown still reach the spool.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 1;
+    }
+
+    private void runReplay() {
+        while (running) {
+            try {
+                if (!replayBatch()) {
+                    Thread.sleep(config.getReplayInterval().toMillis());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return true if a batch was replayed and more may be waiting
+     */
+    private boolean replayBatch() throws InterruptedException {
+        if (log.isEmpty()) {
+            synchronized (lock) {
+                if (spooling && log.isEmpty()) {
+                    spooling = false;
+                    logger.info("Event spool drained; publishing directly to Kafka again");
+                }
+            }
+            return false;
+        }
+
+        List<LogRecord> records = log.read(config.getReplayBatchSize());
+        List<CompletableFuture<?>> futures = new ArrayList<>(records.size());
+        try {
+            for (LogRecord record : records) {
+                SpooledRecord spooledRecord = SpooledRecord.decode(record.payload());
+                futures.add(replayTemplate.send(topicName, spooledRecord.key(), spooledRecord.value()));
+                if (spooledRecord.tombstoneAfter()) {
+                    futures.add(replayTemplate.send(topicName, spooledRecord.key(), null));
+                }
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                    .get(config.getReplayTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            throw e;
+        } catch (Exception e) {
+            logger.warn("Replay of {} spooled events failed, retrying in {}: {}",
+                    records.size(), config.getReplayInterval(), e.getMessage());
+            return false;
+        }
+
+        log.acknowledge(records.size());
+        replayed.increment(records.size());
+        return true;
+    }
+
+    private static double oldestAgeSeconds(SegmentLog log) {
+        return log.oldestPending()
+                .map(oldest -> Duration.between(oldest, Instant.now()).toMillis() / 1000.0)
+                .orElse(0.0);
+    }
+}
@@ -0,0 +1,286 @@
+package com.paklog.productcatalog.infrastructure.persistence.codec;
+
+import com.paklog.productcatalog.domain.model.*;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Reads and writes product documents directly between BSON and the domain model,
+ * bypassing the reflective entity mapping and the entity-to-domain copy.
+ * <p>
+ * The document layout is the one Spring Data produces for {@code ProductEntity}
+ * (decimal values as strings, instants as dates, null fields omitted), so documents
+ * written either way stay readable by both. {@code _id} and {@code _class} are left
+ * to the server and ignored on read.
+ */
+public class ProductCodec implements Codec<Product> {
+
+    static final String SKU_FIELD = "sku";
+    static final String TITLE = "title";
+    static final String DIMENSIONS = "dimensions";
+    static final String ITEM = "item";
+    static final String PACKAGE_DIMENSIONS = "packageDimensions";
+    static final String LENGTH = "length";
+    static final String WIDTH = "width";
+    static final String HEIGHT = "height";
+    static final String WEIGHT = "weight";
+    static final String VALUE = "value";
+    static final String UNIT = "unit";
+    static final String ATTRIBUTES = "attributes";
+    static final String HAZMAT_INFO = "hazmatInfo";
+    static final String IS_HAZMAT = "isHazmat";
+    static final String UN_NUMBER = "unNumber";
+    static final String CREATED_AT = "createdAt";
+    static final String UPDATED_AT = "updatedAt";
+    static final String VERSION = "version";
+    static final String DELETED_AT = "deletedAt";
+
+    @Override
+    public Class<Product> getEncoderClass() {
+        return Product.class;
+    }
+
+    @Override
+    public void encode(BsonWriter writer, Product product, EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        writer.writeString(SKU_FIELD, product.getSku().value());
+        if (product.getTitle() != null) {
+            writer.writeString(TITLE, product.getTitle());
+        }
+        if (product.getDimensions() != null) {
+            writer.writeName(DIMENSIONS);
+            writer.writeStartDocument();
+            writeDimensionSet(writer, ITEM, product.getDimensions().item());
+            writeDimensionSet(writer, PACKAGE_DIMENSIONS, product.getDimensions().packageDimensions());
+            writer.writeEndDocument();
+        }
+        if (product.getAttributes() != null && product.getAttributes().hazmatInfo() != null) {
+            HazmatInfo hazmatInfo = product.getAttributes().hazmatInfo();
+            writer.writeName(ATTRIBUTES);
+            writer.writeStartDocument();
+            writer.writeName(HAZMAT_INFO);
+            writer.writeStartDocument();
+            writer.writeBoolean(IS_HAZMAT, hazmatInfo.isHazmat());
+            if (hazmatInfo.unNumber() != null) {
+                writer.writeString(UN_NUMBER, hazmatInfo.unNumber());
+            }
+            writer.writeEndDocument();
+            writer.writeEndDocument();
+        }
+        writeInstant(writer, CREATED_AT, product.getCreatedAt());
+        writeInstant(writer, UPDATED_AT, product.getUpdatedAt());
+        if (product.getVersion() != null) {
+            writer.writeInt64(VERSION, product.getVersion());
+        }
+        writeInstant(writer, DELETED_AT, product.getDeletedAt());
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public Product decode(BsonReader reader, DecoderContext decoderContext) {
+        String sku = null;
+        String title = null;
+        Dimensions dimensions = null;
+        Attributes attributes = null;
+        Instant createdAt = null;
+        Instant updatedAt = null;
+        Long version = null;
+        Instant deletedAt = null;
+
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            String name = reader.readName();
+            if (reader.getCurrentBsonType() == BsonType.NULL) {
+                reader.readNull();
+                continue;
+            }
+            switch (name) {
+                case SKU_FIELD -> sku = reader.readString();
+                case TITLE -> title = reader.readString();
+                case DIMENSIONS -> dimensions = readDimensions(reader);
+                case ATTRIBUTES -> attributes = readAttributes(reader);
+                case CREATED_AT -> createdAt = readInstant(reader);
+                case UPDATED_AT -> updatedAt = readInstant(reader);
+                case VERSION -> version = readLong(reader);
+                case DELETED_AT -> deletedAt = readInstant(reader);
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+
+        return new Product(SKU.of(sku), title, dimensions, attributes, createdAt, updatedAt, version, deletedAt);
+    }
+
+    private void writeDimensionSet(BsonWriter writer, String name, DimensionSet dimensionSet) {
+        if (dimensionSet == null) {
+            return;
+        }
+        writer.writeName(name);
+        writer.writeStartDocument();
+        writeMeasurement(writer, LENGTH, dimensionSet.length().value(), dimensionSet.length().unit().name());
+        writeMeasurement(writer, WIDTH, dimensionSet.width().value(), dimensionSet.width().unit().name());
+        writeMeasurement(writer, HEIGHT, dimensionSet.height().value(), dimensionSet.height().unit().name());
+        writeMeasurement(writer, WEIGHT, dimensionSet.weight().value(), dimensionSet.weight().unit().name());
+        writer.writeEndDocument();
+    }
+
+    private void writeMeasurement(BsonWriter writer, String name, BigDecimal value, String unit) {
+        writer.writeName(name);
+        writer.writeStartDocument();
+        writer.writeString(VALUE, value.toString());
+        writer.writeString(UNIT, unit);
+        writer.writeEndDocument();
+    }
+
+    private void writeInstant(BsonWriter writer, String name, Instant instant) {
+        if (instant != null) {
+            writer.writeDateTime(name, instant.toEpochMilli());
+        }
+    }
+
+    private Dimensions readDimensions(BsonReader reader) {
+        DimensionSet item = null;
+        DimensionSet packageDimensions = null;
+
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            String name = reader.readName();
+            if (ITEM.equals(name)) {
+                item = readDimensionSet(reader);
+            } else if (PACKAGE_DIMENSIONS.equals(name)) {
+                packageDimensions = readDimensionSet(reader);
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+
+        return new Dimensions(item, packageDimensions);
+    }
+
+    private DimensionSet readDimensionSet(BsonReader reader) {
+        DimensionMeasurement length = null;
+        DimensionMeasurement width = null;
+        DimensionMeasurement height = null;
+        WeightMeasurement weight = null;
+
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            switch (reader.readName()) {
+                case LENGTH -> length = readDimensionMeasurement(reader);
+                case WIDTH -> width = readDimensionMeasurement(reader);
+                case HEIGHT -> height = readDimensionMeasurement(reader);
+                case WEIGHT -> weight = readWeightMeasurement(reader);
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+
+        return new DimensionSet(length, width, height, weight);
+    }
+
+    private DimensionMeasurement readDimensionMeasurement(BsonReader reader) {
+        BigDecimal value = null;
+        String unit = null;
+
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            switch (reader.readName()) {
+                case VALUE -> value = readDecimal(reader);
+                case UNIT -> unit = reader.readString();
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+
+        return new DimensionMeasurement(value, DimensionMeasurement.DimensionUnit.valueOf(unit));
+    }
+
+    private WeightMeasurement readWeightMeasurement(BsonReader reader) {
+        BigDecimal value = null;
+        String unit = null;
+
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            switch (reader.readName()) {
+                case VALUE -> value = readDecimal(reader);
+                case UNIT -> unit = reader.readString();
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+
+        return new WeightMeasurement(value, WeightMeasurement.WeightUnit.valueOf(unit));
+    }
+
+    private Attributes readAttributes(BsonReader reader) {
+        HazmatInfo hazmatInfo = null;
+
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            if (HAZMAT_INFO.equals(reader.readName())) {
+                hazmatInfo = readHazmatInfo(reader);
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+
+        return hazmatInfo != null ? new Attributes(hazmatInfo) : null;
+    }
+
+    private HazmatInfo readHazmatInfo(BsonReader reader) {
+        boolean hazmat = false;
+        String unNumber = null;
+
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            String name = reader.readName();
+            if (IS_HAZMAT.equals(name)) {
+                hazmat = reader.readBoolean();
+            } else if (UN_NUMBER.equals(name) && reader.getCurrentBsonType() == BsonType.STRING) {
+                unNumber = reader.readString();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+
+        return new HazmatInfo(hazmat, unNumber);
+    }
+
+    /**
+     * Accepts the string form Spring Data writes by default as well as native numeric types,
+     * so documents edited by hand or migrated to Decimal128 still decode.
+     */
+    private BigDecimal readDecimal(BsonReader reader) {
+        return switch (reader.getCurrentBsonType()) {
+            case STRING -> new BigDecimal(reader.readString());
+            case DECIMAL128 -> reader.readDecimal128().bigDecimalValue();
+            case DOUBLE -> BigDecimal.valueOf(reader.readDouble());
+            case INT32 -> BigDecimal.valueOf(reader.readInt32());
+            case INT64 -> BigDecimal.valueOf(reader.readInt64());
+            default -> throw new IllegalStateException("Unexpected BSON type for decimal: " + reader.getCurrentBsonType());
+        };
+    }
+
+    private Long readLong(BsonReader reader) {
+        return switch (reader.getCurrentBsonType()) {
+            case INT64 -> reader.readInt64();
+            case INT32 -> (long) reader.readInt32();
+            case DOUBLE -> (long) reader.readDouble();
+            default -> throw new IllegalStateException("Unexpected BSON type for version: " + reader.getCurrentBsonType());
+        };
+    }
+
+    private Instant readInstant(BsonReader reader) {
+        return Instant.ofEpochMilli(reader.readDateTime());
+    }
+}
@@ -0,0 +1,50 @@
+package com.paklog.productcatalog.infrastructure.persistence.compaction;
+
+import com.paklog.productcatalog.domain.model.DomainClock;
+import com.paklog.productcatalog.domain.repository.ProductRepository;
+import com.paklog.productcatalog.infrastructure.config.TombstoneConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * Background job that purges product tombstones once they are older than the
+ * configured retention. Deletes run in bounded batches so compaction never
+ * holds a long-running operation against the collection.
+ */
+@Component
+@ConditionalOnProperty(prefix = "product-catalog.tombstones", name = "compaction-enabled", matchIfMissing = true)
+public class TombstoneCompactor {
+    
+    private static final Logger logger = LoggerFactory.getLogger(TombstoneCompactor.class);
+    
+    private final ProductRepository productRepository;
+    private final TombstoneConfig tombstoneConfig;
+    
+    public TombstoneCompactor(ProductRepository productRepository, TombstoneConfig tombstoneConfig) {
+        this.productRepository = productRepository;
+        this.tombstoneConfig = tombstoneConfig;
+    }
+    
+    @Scheduled(fixedDelayString = "${product-catalog.tombstones.compaction-interval:PT1H}",
+               initialDelayString = "${product-catalog.tombstones.compaction-interval:PT1H}")
+    public void compact() {
+        Instant cutoff = DomainClock.now().minus(tombstoneConfig.getRetention());
+        int batchSize = tombstoneConfig.getBatchSize();
+        
+        long total = 0;
+        int purged;
+        do {
+            purged = productRepository.purgeTombstones(cutoff, batchSize);
+            total += purged;
+        } while (purged == batchSize);
+        
+        if (total > 0) {
+            logger.info("Compacted {} product tombstones deleted before {}", total, cutoff);
+        }
+    }
+}
@@ -1,13 +1,31 @@
 package com.paklog.productcatalog.infrastructure.persistence.config;
 
+import com.mongodb.MongoClientSettings;
+import com.paklog.productcatalog.infrastructure.config.ResilienceConfig;
+import com.paklog.productcatalog.infrastructure.persistence.codec.ProductCodec;
+import com.paklog.productcatalog.infrastructure.persistence.support.MongoCommandMetricsListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.bson.codecs.configuration.CodecRegistries;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.mongodb.config.AbstractMongoClientConfiguration;
 import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
 
+import java.util.concurrent.TimeUnit;
+
 @Configuration
+@Profile("!in-memory")
 @EnableMongoRepositories(basePackages = "com.paklog.productcatalog.infrastructure.persistence.repository")
 public class MongoConfig extends AbstractMongoClientConfiguration {
     
+    private final MeterRegistry meterRegistry;
+    private final ResilienceConfig resilienceConfig;
+    
+    public MongoConfig(MeterRegistry meterRegistry, ResilienceConfig resilienceConfig) {
+        this.meterRegistry = meterRegistry;
+        this.resilienceConfig = resilienceConfig;
+    }
+    
     @Override
     protected String getDatabaseName() {
         return "productcatalog";
@@ -17,4 +35,23 @@ public class MongoConfig extends AbstractMongoClientConfiguration {
     protected boolean autoIndexCreation() {
         return true;
     }
-}
\ No newline at end of file
+    
+    /**
+     * Registers the product codec ahead of the driver defaults so product collections
+     * can be read and written without going through the reflective entity mapping,
+     * and times every command the driver sends. Server selection and socket reads are
+     * bounded so that an election or a stalled node fails calls quickly instead of
+     * holding request threads for the driver's default 30 seconds or longer.
+     */
+    @Override
+    protected void configureClientSettings(MongoClientSettings.Builder builder) {
+        builder.codecRegistry(CodecRegistries.fromRegistries(
+                CodecRegistries.fromCodecs(new ProductCodec()),
+                MongoClientSettings.getDefaultCodecRegistry()));
+        builder.addCommandListener(new MongoCommandMetricsListener(meterRegistry));
+        builder.applyToClusterSettings(cluster -> cluster.serverSelectionTimeout(
+                resilienceConfig.getServerSelectionTimeout().toMillis(), TimeUnit.MILLISECONDS));
+        builder.applyToSocketSettings(socket -> socket.readTimeout(
+                (int) resilienceConfig.getSocketTimeout().toMillis(), TimeUnit.MILLISECONDS));
+    }
+}
@@ -0,0 +1,80 @@
+package com.paklog.productcatalog.infrastructure.persistence.config;
+
+import com.paklog.productcatalog.domain.repository.ProductRepository;
+import com.paklog.productcatalog.infrastructure.config.ResilienceConfig;
+import com.paklog.productcatalog.infrastructure.persistence.memory.InMemoryProductRepository;
+import com.paklog.productcatalog.infrastructure.persistence.repository.MongoProductRepository;
+import com.paklog.productcatalog.infrastructure.persistence.resilience.ResilientProductRepository;
+import com.paklog.productcatalog.infrastructure.persistence.support.MeteredProductRepository;
+import com.paklog.productcatalog.infrastructure.persistence.support.ProductRepositoryDecorator;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import java.util.List;
+
+@Configuration
+public class ProductRepositoryConfig {
+
+    /**
+     * The repository seen by the application layer: the Mongo adapter wrapped by
+     * every enabled {@link ProductRepositoryDecorator}.
+     */
+    @Bean
+    @Primary
+    @Profile("!in-memory")
+    public ProductRepository productRepository(MongoProductRepository mongoProductRepository,
+                                               ObjectProvider<ProductRepositoryDecorator> decorators) {
+        return decorate(mongoProductRepository, decorators);
+    }
+
+    /**
+     * The in-memory adapter behind the same decorators, so caching and metrics stay
+     * in the path when the service runs without MongoDB.
+     */
+    @Bean("productRepository")
+    @Primary
+    @Profile("in-memory")
+    public ProductRepository inMemoryRepository(InMemoryProductRepository inMemoryProductRepository,
+                                                ObjectProvider<ProductRepositoryDecorator> decorators) {
+        return decorate(inMemoryProductRepository, decorators);
+    }
+
+    /**
+     * Innermost decorator, so only calls that reach the storage adapter are timed.
+     */
+    @Bean
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public ProductRepositoryDecorator meteredRepositoryDecorator(MeterRegistry meterRegistry) {
+        return delegate -> new MeteredProductRepository(delegate, meterRegistry);
+    }
+
+    /**
+     * Just outside the metrics, so every layer above sees the breaker's fast failures
+     * and stale answers instead of a stalled database.
+     */
+    @Bean
+    @Order(Ordered.LOWEST_PRECEDENCE - 1)
+    @ConditionalOnProperty(prefix = "product-catalog.resilience", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public ProductRepositoryDecorator resilientRepositoryDecorator(ResilienceConfig resilienceConfig,
+                                                                   MeterRegistry meterRegistry) {
+        return delegate -> new ResilientProductRepository(delegate, resilienceConfig, meterRegistry);
+    }
+
+    private static ProductRepository decorate(ProductRepository adapter,
+                                              ObjectProvider<ProductRepositoryDecorator> decorators) {
+        List<ProductRepositoryDecorator> ordered = decorators.orderedStream().toList();
+
+        ProductRepository repository = adapter;
+        for (int i = ordered.size() - 1; i >= 0; i--) {
+            repository = ordered.get(i).decorate(repository);
+        }
+        return repository;
+    }
+}
@@ -1,6 +1,7 @@
 package com.paklog.productcatalog.infrastructure.persistence.entity;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.index.Indexed;
 
@@ -8,6 +9,7 @@ import java.math.BigDecimal;
 import java.time.Instant;
 
 @Document(collection = "products")
+@CompoundIndex(name = "updatedAt_1_sku_1", def = "{'updatedAt': 1, 'sku': 1}")
 public class ProductEntity {
 
     @Id
@@ -24,6 +26,9 @@ public class ProductEntity {
     private Instant updatedAt;
 
     private Long version;
+
+    @Indexed(name = "deletedAt_1", sparse = true)
+    private Instant deletedAt;
     
     public ProductEntity() {}
     
@@ -61,6 +66,9 @@ public class ProductEntity {
     public Long getVersion() { return version; }
     public void setVersion(Long version) { this.version = version; }
     
+    public Instant getDeletedAt() { return deletedAt; }
+    public void setDeletedAt(Instant deletedAt) { this.deletedAt = deletedAt; }
+    
     public static class DimensionsEntity {
         private DimensionSetEntity item;
         private DimensionSetEntity packageDimensions;
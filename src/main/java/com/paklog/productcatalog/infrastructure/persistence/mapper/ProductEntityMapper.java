@@ -20,6 +20,7 @@ public class ProductEntityMapper {
         entity.setAttributes(mapAttributes(product.getAttributes()));
         entity.setCreatedAt(product.getCreatedAt());
         entity.setUpdatedAt(product.getUpdatedAt());
+        entity.setDeletedAt(product.getDeletedAt());
 
         // For updates, copy the version (ID will be set in repository from existing entity)
         // For new entities, leave both ID and version as null so Spring Data will INSERT
@@ -41,7 +42,8 @@ public class ProductEntityMapper {
         Attributes attributes = mapAttributes(entity.getAttributes());
         
         return new Product(sku, entity.getTitle(), dimensions, attributes, 
-                          entity.getCreatedAt(), entity.getUpdatedAt(), entity.getVersion());
+                          entity.getCreatedAt(), entity.getUpdatedAt(), entity.getVersion(),
+                          entity.getDeletedAt());
     }
     
     private ProductEntity.DimensionsEntity mapDimensions(Dimensions dimensions) {
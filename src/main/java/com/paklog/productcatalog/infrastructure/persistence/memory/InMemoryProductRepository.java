@@ -0,0 +1,237 @@
+package com.paklog.productcatalog.infrastructure.persistence.memory;
+
+import com.paklog.productcatalog.domain.model.ChangeCursor;
+import com.paklog.productcatalog.domain.model.DomainClock;
+import com.paklog.productcatalog.domain.model.Product;
+import com.paklog.productcatalog.domain.model.SKU;
+import com.paklog.productcatalog.domain.repository.ProductRepository;
+import com.paklog.productcatalog.shared.exception.ProductAlreadyExistsException;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Product persistence in a concurrent map, for running the service without MongoDB
+ * under the {@code in-memory} profile. Behaves like the Mongo adapter where callers
+ * can tell: products are copied on the way in and out, deletions leave tombstones for
+ * the change feed, and unsorted pages come back in SKU order.
+ */
+@Repository
+@Profile("in-memory")
+public class InMemoryProductRepository implements ProductRepository {
+
+    private static final Comparator<Product> CHANGE_FEED_ORDER = Comparator
+            .comparing(Product::getUpdatedAt)
+            .thenComparing(product -> product.getSku().value());
+
+    private final ConcurrentSkipListMap<String, Product> products = new ConcurrentSkipListMap<>();
+
+    @Override
+    public Product save(Product product) {
+        if (product.isNew()) {
+            // A tombstone is taken over, continuing from its version, like the Mongo adapter does
+            products.compute(product.getSku().value(), (sku, current) -> {
+                if (current != null && !current.isDeleted()) {
+                    product.setVersion(0L);
+                    return current;
+                }
+                product.setVersion(current != null && current.getVersion() != null ? current.getVersion() + 1 : 1L);
+                return copy(product, null);
+            });
+            if (product.isNew()) {
+                throw new ProductAlreadyExistsException("Product with SKU " + product.getSku() + " already exists");
+            }
+        } else {
+            product.setVersion(product.getVersion() + 1);
+            products.put(product.getSku().value(), copy(product, product.getDeletedAt()));
+        }
+        return product;
+    }
+
+    @Override
+    public Map<SKU, String> saveAll(List<Product> products) {
+        Map<SKU, String> failures = new LinkedHashMap<>();
+        for (Product product : products) {
+            try {
+                save(product);
+            } catch (ProductAlreadyExistsException e) {
+                failures.put(product.getSku(), e.getMessage());
+            }
+        }
+        return failures;
+    }
+
+    @Override
+    public Set<SKU> saveAllIfUnmodified(List<Product> products) {
+        Set<SKU> conflicts = new LinkedHashSet<>();
+        for (Product product : products) {
+            long readVersion = product.getVersion();
+            product.setVersion(readVersion + 1);
+            Product next = copy(product, null);
+            Product stored = this.products.computeIfPresent(product.getSku().value(),
+                    (sku, current) -> !current.isDeleted() && Long.valueOf(readVersion).equals(current.getVersion()) ? next : current);
+            if (stored != next) {
+                product.setVersion(readVersion);
+                conflicts.add(product.getSku());
+            }
+        }
+        return conflicts;
+    }
+
+    @Override
+    public Optional<Product> findBySku(SKU sku) {
+        Product product = products.get(sku.value());
+        return product != null && !product.isDeleted() ? Optional.of(copy(product, null)) : Optional.empty();
+    }
+
+    @Override
+    public List<Product> findAllBySku(Collection<SKU> skus) {
+        List<Product> found = new ArrayList<>(skus.size());
+        skus.stream().map(SKU::value).distinct().forEach(sku -> {
+            Product product = products.get(sku);
+            if (product != null && !product.isDeleted()) {
+                found.add(copy(product, null));
+            }
+        });
+        return found;
+    }
+
+    @Override
+    public Page<Product> findAll(Pageable pageable) {
+        return PageableExecutionUtils.getPage(findPage(pageable), pageable, this::count);
+    }
+
+    @Override
+    public List<Product> findPage(Pageable pageable) {
+        Stream<Product> live = live();
+        Comparator<Product> order = comparator(pageable.getSort());
+        if (order != null) {
+            live = live.sorted(order);
+        }
+        if (pageable.isPaged()) {
+            live = live.skip(pageable.getOffset()).limit(pageable.getPageSize());
+        }
+        return live.map(product -> copy(product, null)).toList();
+    }
+
+    @Override
+    public List<Product> findChangedSince(ChangeCursor cursor, Instant settledBefore, int limit) {
+        return products.values().stream()
+                .filter(product -> product.getUpdatedAt().isBefore(settledBefore))
+                .filter(product -> product.getUpdatedAt().isAfter(cursor.changedAt())
+                        || product.getUpdatedAt().equals(cursor.changedAt())
+                                && product.getSku().value().compareTo(cursor.sku()) > 0)
+                .sorted(CHANGE_FEED_ORDER)
+                .limit(limit)
+                .map(product -> copy(product, product.getDeletedAt()))
+                .toList();
+    }
+
+    @Override
+    public boolean existsBySku(SKU sku) {
+        Product product = products.get(sku.value());
+        return product != null && !product.isDeleted();
+    }
+
+    @Override
+    public void delete(Product product) {
+        writeTombstone(product.getSku(), product.getDeletedAt() != null ? product.getDeletedAt() : DomainClock.now());
+    }
+
+    @Override
+    public void deleteBySku(SKU sku) {
+        writeTombstone(sku, DomainClock.now());
+    }
+
+    @Override
+    public long count() {
+        return live().count();
+    }
+
+    @Override
+    public long estimatedCount() {
+        return count();
+    }
+
+    @Override
+    public void exportAll(Consumer<Product> action) {
+        live().map(product -> copy(product, null)).forEach(action);
+    }
+
+    @Override
+    public int purgeTombstones(Instant deletedBefore, int batchSize) {
+        int purged = 0;
+        for (Map.Entry<String, Product> entry : products.entrySet()) {
+            if (purged == batchSize) {
+                break;
+            }
+            Product product = entry.getValue();
+            // Removing by value leaves a SKU recreated in between untouched
+            if (product.isDeleted() && product.getDeletedAt().isBefore(deletedBefore)
+                    && products.remove(entry.getKey(), product)) {
+                purged++;
+            }
+        }
+        return purged;
+    }
+
+    private void writeTombstone(SKU sku, Instant deletedAt) {
+        products.computeIfPresent(sku.value(),
+                (key, product) -> product.isDeleted() ? product : copy(product, deletedAt));
+    }
+
+    private Stream<Product> live() {
+        return products.values().stream().filter(product -> !product.isDeleted());
+    }
+
+    /**
+     * Orders by the sortable product properties; unsorted requests and SKU ascending
+     * are the map's own order and need no sort.
+     */
+    private static Comparator<Product> comparator(Sort sort) {
+        if (sort.isUnsorted() || sort.equals(Sort.by("sku"))) {
+            return null;
+        }
+        Comparator<Product> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<Product> next = switch (order.getProperty()) {
+                case "sku" -> Comparator.comparing(product -> product.getSku().value());
+                case "title" -> Comparator.comparing(Product::getTitle);
+                case "createdAt" -> Comparator.comparing(Product::getCreatedAt);
+                case "updatedAt" -> Comparator.comparing(Product::getUpdatedAt);
+                default -> throw new IllegalArgumentException("Cannot sort products by " + order.getProperty());
+            };
+            if (order.isDescending()) {
+                next = next.reversed();
+            }
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        return comparator;
+    }
+
+    /**
+     * Copies the product without its pending events; value objects are immutable and shared.
+     */
+    private static Product copy(Product product, Instant deletedAt) {
+        Instant updatedAt = deletedAt != null && product.getDeletedAt() == null ? deletedAt : product.getUpdatedAt();
+        return new Product(product.getSku(), product.getTitle(), product.getDimensions(), product.getAttributes(),
+                product.getCreatedAt(), updatedAt, product.getVersion(), deletedAt);
+    }
+}
@@ -1,103 +1,413 @@
 package com.paklog.productcatalog.infrastructure.persistence.repository;
 
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ReadPreference;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.Updates;
+import com.paklog.productcatalog.domain.model.ChangeCursor;
+import com.paklog.productcatalog.domain.model.DomainClock;
 import com.paklog.productcatalog.domain.model.Product;
 import com.paklog.productcatalog.domain.model.SKU;
 import com.paklog.productcatalog.domain.repository.ProductRepository;
-import com.paklog.productcatalog.infrastructure.persistence.mapper.ProductEntityMapper;
+import com.paklog.productcatalog.infrastructure.config.ReadPreferenceConfig;
+import com.paklog.productcatalog.infrastructure.persistence.entity.ProductEntity;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonObjectId;
+import org.bson.Document;
+import org.bson.codecs.Codec;
+import org.bson.codecs.EncoderContext;
+import org.bson.types.ObjectId;
+import org.bson.conversions.Bson;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
+/**
+ * Product persistence on MongoDB. Product documents are read and written through
+ * {@link com.paklog.productcatalog.infrastructure.persistence.codec.ProductCodec}
+ * registered on the client; the Spring Data repository is kept for existence checks,
+ * counts and tombstone compaction, which never materialize products.
+ * <p>
+ * Paging, export and change-feed scans tolerate replication lag, so they read from
+ * the members chosen by {@link ReadPreferenceConfig}. Everything else reads from
+ * the primary, so a lookup right after a write sees it.
+ */
 @Repository
+@Profile("!in-memory")
 public class MongoProductRepository implements ProductRepository {
 
     private static final Logger logger = LoggerFactory.getLogger(MongoProductRepository.class);
 
+    private static final Bson CHANGE_FEED_ORDER = Sorts.ascending("updatedAt", "sku");
+    private static final Bson NOT_DELETED = Filters.eq("deletedAt", null);
+    private static final Bson TOMBSTONE = Filters.exists("deletedAt");
+    private static final String WRITE_TOKEN = "writeToken";
+    private static final int EXPORT_BATCH_SIZE = 1000;
+    private static final ReplaceOptions UPSERT = new ReplaceOptions().upsert(true);
+    private static final BulkWriteOptions UNORDERED = new BulkWriteOptions().ordered(false);
+    private static final Duration MIN_MAX_STALENESS = Duration.ofSeconds(90);
+
     private final ProductEntityRepository entityRepository;
-    private final ProductEntityMapper mapper;
+    private final MongoTemplate mongoTemplate;
+    private final String collectionName;
+    private final ReadPreference listPreference;
+    private final ReadPreference exportPreference;
+    private final ReadPreference changesPreference;
+    private final Duration changesLag;
 
     public MongoProductRepository(ProductEntityRepository entityRepository,
-                                ProductEntityMapper mapper) {
+                                MongoTemplate mongoTemplate,
+                                ReadPreferenceConfig readPreferenceConfig) {
         this.entityRepository = entityRepository;
-        this.mapper = mapper;
+        this.mongoTemplate = mongoTemplate;
+        this.collectionName = mongoTemplate.getCollectionName(ProductEntity.class);
+
+        Duration maxStaleness = readPreferenceConfig.getMaxStaleness();
+        if (maxStaleness.compareTo(MIN_MAX_STALENESS) < 0) {
+            throw new IllegalArgumentException("product-catalog.read-preference.max-staleness must be at least "
+                    + MIN_MAX_STALENESS.toSeconds() + "s, was " + maxStaleness.toSeconds() + "s");
+        }
+        this.listPreference = readPreference(readPreferenceConfig.getList(), maxStaleness);
+        this.exportPreference = readPreference(readPreferenceConfig.getExport(), maxStaleness);
+        this.changesPreference = readPreference(readPreferenceConfig.getChanges(), maxStaleness);
+        this.changesLag = changesPreference.equals(ReadPreference.primary()) ? Duration.ZERO : maxStaleness;
     }
 
     @Override
     public Product save(Product product) {
-        logger.debug("Saving product with SKU: {}", product.getSku());
+        logger.atDebug().addKeyValue("sku", product.getSku().value()).log("Saving product");
 
         try {
-            var entity = mapper.toEntity(product);
-
-            // For updates, preserve the existing entity's MongoDB ID
-            if (product.getVersion() != null) {
-                entityRepository.findBySku(product.getSku().value())
-                    .ifPresent(existingEntity -> entity.setId(existingEntity.getId()));
+            if (product.isNew()) {
+                withProducts(collection -> insert(collection, product));
+            } else {
+                product.setVersion(product.getVersion() + 1);
+                // Replaces the existing document for the SKU, including a tombstone, keeping its _id
+                withProducts(collection -> collection.replaceOne(
+                        Filters.eq("sku", product.getSku().value()), product, UPSERT));
             }
 
-            var savedEntity = entityRepository.save(entity);
-            var savedProduct = mapper.toDomain(savedEntity);
-            savedProduct.setVersion(savedEntity.getVersion());
-
-            logger.debug("Product saved successfully with SKU: {}, Version: {}",
-                        savedProduct.getSku(), savedProduct.getVersion());
+            if (logger.isDebugEnabled()) {
+                logger.atDebug().addKeyValue("sku", product.getSku().value()).addKeyValue("version", product.getVersion())
+                        .log("Product saved");
+            }
 
-            return savedProduct;
+            return product;
         } catch (org.springframework.dao.DuplicateKeyException e) {
-            logger.warn("Attempted to save product with duplicate SKU: {}", product.getSku());
+            logger.atWarn().addKeyValue("sku", product.getSku().value()).log("Attempted to save product with duplicate SKU");
             throw new com.paklog.productcatalog.shared.exception.ProductAlreadyExistsException(
                 "Product with SKU " + product.getSku() + " already exists");
         }
     }
     
+    /**
+     * Upserts every product by SKU in one unordered bulk write, so the server applies
+     * them in parallel and a failed write does not stop the rest.
+     */
+    @Override
+    public Map<SKU, String> saveAll(List<Product> products) {
+        if (logger.isDebugEnabled()) {
+            logger.atDebug().addKeyValue("count", products.size()).log("Saving products");
+        }
+        
+        if (products.isEmpty()) {
+            return Map.of();
+        }
+        List<ReplaceOneModel<Product>> writes = new ArrayList<>(products.size());
+        for (Product product : products) {
+            if (product.getVersion() != null) {
+                product.setVersion(product.getVersion() + 1);
+            }
+            writes.add(new ReplaceOneModel<>(Filters.eq("sku", product.getSku().value()), product, UPSERT));
+        }
+        return withProducts(collection -> {
+            try {
+                collection.bulkWrite(writes, UNORDERED);
+                return Map.of();
+            } catch (MongoBulkWriteException e) {
+                if (e.getWriteConcernError() != null) {
+                    throw e;
+                }
+                Map<SKU, String> failures = new LinkedHashMap<>();
+                for (BulkWriteError error : e.getWriteErrors()) {
+                    failures.put(products.get(error.getIndex()).getSku(), error.getMessage());
+                }
+                return failures;
+            }
+        });
+    }
+    
+    @Override
+    public Set<SKU> saveAllIfUnmodified(List<Product> products) {
+        if (products.isEmpty()) {
+            return Set.of();
+        }
+        // Every document this call replaces is stamped with one fresh token, so a product
+        // still carrying another token afterwards was written by someone else
+        BsonObjectId token = new BsonObjectId(new ObjectId());
+        return mongoTemplate.execute(collectionName, collection -> {
+            Codec<Product> codec = collection.getCodecRegistry().get(Product.class);
+            List<ReplaceOneModel<BsonDocument>> writes = new ArrayList<>(products.size());
+            for (Product product : products) {
+                long readVersion = product.getVersion();
+                product.setVersion(readVersion + 1);
+                BsonDocument document = new BsonDocument();
+                codec.encode(new BsonDocumentWriter(document), product, EncoderContext.builder().build());
+                document.put(WRITE_TOKEN, token);
+                writes.add(new ReplaceOneModel<>(Filters.and(Filters.eq("sku", product.getSku().value()),
+                        Filters.eq("version", readVersion), NOT_DELETED), document));
+            }
+            int matched = collection.withDocumentClass(BsonDocument.class).bulkWrite(writes, UNORDERED).getMatchedCount();
+            if (matched == products.size()) {
+                return Set.<SKU>of();
+            }
+
+            // The bulk result only counts matches, so look up which products this call did not write
+            List<String> skus = products.stream().map(product -> product.getSku().value()).toList();
+            Set<String> written = new HashSet<>();
+            for (BsonDocument document : collection.withDocumentClass(BsonDocument.class)
+                    .find(Filters.and(Filters.in("sku", skus), Filters.eq(WRITE_TOKEN, token), NOT_DELETED))
+                    .projection(Projections.include("sku"))) {
+                written.add(document.getString("sku").getValue());
+            }
+            Set<SKU> conflicts = new LinkedHashSet<>();
+            for (Product product : products) {
+                if (!written.contains(product.getSku().value())) {
+                    product.setVersion(product.getVersion() - 1);
+                    conflicts.add(product.getSku());
+                }
+            }
+            logger.atDebug().addKeyValue("count", conflicts.size()).log("Products changed concurrently were not written");
+            return conflicts;
+        });
+    }
+
     @Override
     public Optional<Product> findBySku(SKU sku) {
-        logger.debug("Finding product by SKU: {}", sku);
+        logger.atDebug().addKeyValue("sku", sku.value()).log("Finding product");
+        
+        return Optional.ofNullable(withProducts(collection -> collection
+                .find(Filters.and(Filters.eq("sku", sku.value()), NOT_DELETED))
+                .first()));
+    }
+    
+    @Override
+    public List<Product> findAllBySku(Collection<SKU> skus) {
+        if (logger.isDebugEnabled()) {
+            logger.atDebug().addKeyValue("count", skus.size()).log("Finding products by SKU");
+        }
         
-        return entityRepository.findBySku(sku.value())
-                .map(entity -> {
-                    var product = mapper.toDomain(entity);
-                    product.setVersion(entity.getVersion());
-                    return product;
-                });
+        if (skus.isEmpty()) {
+            return List.of();
+        }
+        List<String> values = skus.stream().map(SKU::value).distinct().toList();
+        return withProducts(collection -> collection
+                .find(Filters.and(Filters.in("sku", values), NOT_DELETED))
+                .into(new ArrayList<>(values.size())));
     }
     
     @Override
     public Page<Product> findAll(Pageable pageable) {
-        logger.debug("Finding all products with pageable: {}", pageable);
+        return PageableExecutionUtils.getPage(findPage(pageable), pageable,
+                () -> withProducts(listPreference, collection -> collection.countDocuments(NOT_DELETED)));
+    }
+    
+    @Override
+    public List<Product> findPage(Pageable pageable) {
+        if (logger.isDebugEnabled()) {
+            logger.atDebug().addKeyValue("pageable", pageable.toString()).log("Finding products");
+        }
         
-        return entityRepository.findAll(pageable)
-                .map(entity -> {
-                    var product = mapper.toDomain(entity);
-                    product.setVersion(entity.getVersion());
-                    return product;
-                });
+        return withProducts(listPreference, collection -> {
+            var find = collection.find(NOT_DELETED).sort(toBson(pageable.getSort()));
+            if (pageable.isPaged()) {
+                find.skip((int) pageable.getOffset()).limit(pageable.getPageSize());
+            }
+            return find.into(new ArrayList<>());
+        });
+    }
+    
+    /**
+     * When read from a secondary, changes are also held back by the max staleness: a
+     * secondary may not have replicated every write older than {@code settledBefore},
+     * and a cursor handed out past such a write would skip it for good. The driver only
+     * estimates staleness from heartbeats, so this narrows that window without closing it.
+     */
+    @Override
+    public List<Product> findChangedSince(ChangeCursor cursor, Instant settledBefore, int limit) {
+        if (logger.isDebugEnabled()) {
+            logger.atDebug().addKeyValue("since", cursor).addKeyValue("before", settledBefore.toString()).addKeyValue("limit", limit)
+                    .log("Finding changed products");
+        }
+
+        Instant replicatedBefore = DomainClock.now().minus(changesLag);
+        Instant before = settledBefore.isBefore(replicatedBefore) ? settledBefore : replicatedBefore;
+        Bson filter = Filters.and(
+                Filters.lt("updatedAt", before),
+                Filters.or(
+                        Filters.gt("updatedAt", cursor.changedAt()),
+                        Filters.and(Filters.eq("updatedAt", cursor.changedAt()), Filters.gt("sku", cursor.sku()))));
+
+        return withProducts(changesPreference, collection -> collection.find(filter)
+                .sort(CHANGE_FEED_ORDER)
+                .limit(limit)
+                .into(new ArrayList<>()));
     }
     
     @Override
     public boolean existsBySku(SKU sku) {
-        logger.debug("Checking existence of product with SKU: {}", sku);
-        return entityRepository.existsBySku(sku.value());
+        logger.atDebug().addKeyValue("sku", sku.value()).log("Checking product exists");
+        return entityRepository.existsBySkuAndDeletedAtIsNull(sku.value());
     }
     
     @Override
     public void delete(Product product) {
-        logger.debug("Deleting product with SKU: {}", product.getSku());
-        entityRepository.deleteBySku(product.getSku().value());
+        logger.atDebug().addKeyValue("sku", product.getSku().value()).log("Deleting product");
+        Instant deletedAt = product.getDeletedAt() != null ? product.getDeletedAt() : DomainClock.now();
+        writeTombstone(product.getSku(), deletedAt);
     }
     
     @Override
     public void deleteBySku(SKU sku) {
-        logger.debug("Deleting product by SKU: {}", sku);
-        entityRepository.deleteBySku(sku.value());
+        logger.atDebug().addKeyValue("sku", sku.value()).log("Deleting product");
+        writeTombstone(sku, DomainClock.now());
     }
     
     @Override
     public long count() {
-        return entityRepository.count();
+        return entityRepository.countByDeletedAtIsNull();
+    }
+    
+    /**
+     * The document count comes from collection metadata. Live products carry no
+     * {@code deletedAt}, so only the tombstones are counted, through the sparse index.
+     */
+    @Override
+    public long estimatedCount() {
+        return withProducts(listPreference, collection ->
+                Math.max(0, collection.estimatedDocumentCount() - collection.countDocuments(TOMBSTONE)));
+    }
+    
+    @Override
+    public void exportAll(Consumer<Product> action) {
+        logger.debug("Exporting all products");
+        
+        withProducts(exportPreference, collection -> {
+            collection.find(NOT_DELETED).batchSize(EXPORT_BATCH_SIZE).forEach(action);
+            return null;
+        });
+    }
+    
+    @Override
+    public int purgeTombstones(Instant deletedBefore, int batchSize) {
+        List<String> ids = entityRepository.findTombstoneIds(deletedBefore, PageRequest.of(0, batchSize))
+                .stream()
+                .map(ProductEntity::getId)
+                .toList();
+        
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        
+        // Re-check the cutoff on delete so a SKU recreated in between is never purged
+        long purged = entityRepository.deleteTombstones(ids, deletedBefore);
+        if (logger.isDebugEnabled()) {
+            logger.atDebug().addKeyValue("count", purged).addKeyValue("before", deletedBefore.toString()).log("Purged tombstones");
+        }
+        return (int) purged;
+    }
+    
+    /**
+     * Inserts a new product. A tombstone left for the SKU is replaced in place, keeping its
+     * {@code _id}, and the product continues from the tombstone's version so readers that
+     * compare versions see the recreation as newer than the deletion. Otherwise the product
+     * is inserted, never upserted, so the unique SKU index rejects a SKU already in use.
+     */
+    private Void insert(MongoCollection<Product> collection, Product product) {
+        Bson sku = Filters.eq("sku", product.getSku().value());
+        Document tombstone = collection.withDocumentClass(Document.class)
+                .find(Filters.and(sku, TOMBSTONE))
+                .projection(Projections.include("version"))
+                .first();
+        if (tombstone != null) {
+            Number buried = tombstone.get("version", Number.class);
+            product.setVersion(buried != null ? buried.longValue() + 1 : 1L);
+            // Matches nothing if the tombstone was purged or the SKU recreated in the meantime
+            if (collection.replaceOne(Filters.and(sku, TOMBSTONE, Filters.eq("version", buried)), product)
+                    .getMatchedCount() == 1) {
+                return null;
+            }
+        }
+        product.setVersion(1L);
+        collection.insertOne(product);
+        return null;
+    }
+
+    /**
+     * Keeps the document as a tombstone with its final state and version,
+     * so that deletions remain visible to the change feed until compacted.
+     */
+    private void writeTombstone(SKU sku, Instant deletedAt) {
+        withProducts(collection -> collection.updateOne(
+                Filters.and(Filters.eq("sku", sku.value()), NOT_DELETED),
+                Updates.combine(Updates.set("deletedAt", deletedAt), Updates.set("updatedAt", deletedAt))));
+    }
+
+    /**
+     * Runs the action on the products collection typed to {@link Product}, with driver
+     * exceptions translated the same way as for template and repository calls.
+     */
+    private <T> T withProducts(Function<MongoCollection<Product>, T> action) {
+        return mongoTemplate.execute(collectionName,
+                collection -> action.apply(collection.withDocumentClass(Product.class)));
+    }
+
+    private <T> T withProducts(ReadPreference readPreference, Function<MongoCollection<Product>, T> action) {
+        return mongoTemplate.execute(collectionName, collection -> action.apply(
+                collection.withDocumentClass(Product.class).withReadPreference(readPreference)));
+    }
+
+    private static ReadPreference readPreference(String mode, Duration maxStaleness) {
+        ReadPreference preference = ReadPreference.valueOf(mode);
+        if (preference.equals(ReadPreference.primary())) {
+            return preference;
+        }
+        return ReadPreference.valueOf(mode, List.of(), maxStaleness.toSeconds(), TimeUnit.SECONDS);
+    }
+
+    private static Bson toBson(Sort sort) {
+        Document order = new Document();
+        sort.forEach(o -> order.append(o.getProperty(), o.isAscending() ? 1 : -1));
+        return order;
     }
-}
\ No newline at end of file
+}
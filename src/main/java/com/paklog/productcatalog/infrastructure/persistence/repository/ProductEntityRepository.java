@@ -1,17 +1,24 @@
 package com.paklog.productcatalog.infrastructure.persistence.repository;
 
 import com.paklog.productcatalog.infrastructure.persistence.entity.ProductEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.time.Instant;
+import java.util.List;
 
 @Repository
 public interface ProductEntityRepository extends MongoRepository<ProductEntity, String> {
     
-    Optional<ProductEntity> findBySku(String sku);
+    boolean existsBySkuAndDeletedAtIsNull(String sku);
     
-    boolean existsBySku(String sku);
+    long countByDeletedAtIsNull();
     
-    void deleteBySku(String sku);
+    @Query(value = "{ 'deletedAt': { '$lt': ?0 } }", fields = "{ '_id': 1 }")
+    List<ProductEntity> findTombstoneIds(Instant deletedBefore, Pageable pageable);
+    
+    @Query(value = "{ '_id': { '$in': ?0 }, 'deletedAt': { '$lt': ?1 } }", delete = true)
+    long deleteTombstones(List<String> ids, Instant deletedBefore);
 }
\ No newline at end of file
@@ -0,0 +1,161 @@
+package com.paklog.productcatalog.infrastructure.persistence.resilience;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Circuit breaker over a time-based window of call outcomes.
+ * <p>
+ * While closed, calls and failures are counted in ten buckets spanning the window.
+ * Once at least {@code minimumCalls} have been seen and the failure rate reaches the
+ * threshold, the breaker opens and refuses calls for {@code openDuration}. It then
+ * lets {@code halfOpenCalls} probes through. If they all succeed it closes, and the
+ * first failure opens it again. Recording a success touches only striped counters,
+ * so the closed path takes no lock.
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private static final int BUCKETS = 10;
+
+    private final double failureRateThreshold;
+    private final int minimumCalls;
+    private final long bucketNanos;
+    private final long openNanos;
+    private final int halfOpenCalls;
+    private final Runnable onClose;
+
+    private final Bucket[] buckets = new Bucket[BUCKETS];
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicLong openedAt = new AtomicLong();
+    private final AtomicInteger probesLeft = new AtomicInteger();
+    private final AtomicInteger probesSucceeded = new AtomicInteger();
+
+    /**
+     * @param onClose run after the breaker closes again, on the thread whose call closed it
+     */
+    public CircuitBreaker(double failureRateThreshold, int minimumCalls, long windowNanos, long openNanos,
+                          int halfOpenCalls, Runnable onClose) {
+        this.failureRateThreshold = failureRateThreshold;
+        this.minimumCalls = minimumCalls;
+        this.bucketNanos = Math.max(1, windowNanos / BUCKETS);
+        this.openNanos = openNanos;
+        this.halfOpenCalls = Math.max(1, halfOpenCalls);
+        this.onClose = onClose;
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new Bucket();
+        }
+    }
+
+    /**
+     * Whether a call may go ahead. A permitted call must be followed by exactly one of
+     * {@link #onSuccess()} or {@link #onFailure()}.
+     */
+    public boolean tryAcquire() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN) {
+            if (System.nanoTime() - openedAt.get() < openNanos) {
+                return false;
+            }
+            if (state.compareAndSet(State.OPEN, State.HALF_OPEN)) {
+                probesSucceeded.set(0);
+                probesLeft.set(halfOpenCalls);
+            }
+        }
+        return state.get() == State.HALF_OPEN && probesLeft.getAndDecrement() > 0;
+    }
+
+    public void onSuccess() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            bucket(System.nanoTime()).calls.increment();
+        } else if (current == State.HALF_OPEN
+                && probesSucceeded.incrementAndGet() >= halfOpenCalls
+                && state.compareAndSet(State.HALF_OPEN, State.CLOSED)) {
+            for (Bucket bucket : buckets) {
+                bucket.reset(Long.MIN_VALUE);
+            }
+            onClose.run();
+        }
+    }
+
+    public void onFailure() {
+        long now = System.nanoTime();
+        State current = state.get();
+        if (current == State.HALF_OPEN) {
+            open(State.HALF_OPEN, now);
+            return;
+        }
+        if (current != State.CLOSED) {
+            return;
+        }
+        Bucket bucket = bucket(now);
+        bucket.calls.increment();
+        bucket.failures.increment();
+
+        long calls = 0;
+        long failures = 0;
+        long oldest = Math.floorDiv(now, bucketNanos) - BUCKETS + 1;
+        for (Bucket candidate : buckets) {
+            if (candidate.epoch >= oldest) {
+                calls += candidate.calls.sum();
+                failures += candidate.failures.sum();
+            }
+        }
+        if (calls >= minimumCalls && failures >= failureRateThreshold * calls) {
+            open(State.CLOSED, now);
+        }
+    }
+
+    public State state() {
+        return state.get();
+    }
+
+    /**
+     * Time until an open breaker lets probes through, zero when it is not open.
+     */
+    public long remainingOpenNanos() {
+        return state.get() == State.OPEN ? Math.max(0, openNanos - (System.nanoTime() - openedAt.get())) : 0;
+    }
+
+    private void open(State from, long now) {
+        if (state.compareAndSet(from, State.OPEN)) {
+            openedAt.set(now);
+        }
+    }
+
+    private Bucket bucket(long now) {
+        long epoch = Math.floorDiv(now, bucketNanos);
+        Bucket bucket = buckets[(int) Math.floorMod(epoch, (long) BUCKETS)];
+        if (bucket.epoch != epoch) {
+            bucket.reset(epoch);
+        }
+        return bucket;
+    }
+
+    /**
+     * Counts for one slice of the window. A bucket that is reused for a newer slice is
+     * reset by whichever thread gets there first; counts racing with the reset may be
+     * lost, which only makes the rate slightly less precise.
+     */
+    private static final class Bucket {
+
+        private volatile long epoch = Long.MIN_VALUE;
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+
+        private synchronized void reset(long newEpoch) {
+            if (epoch != newEpoch) {
+                calls.reset();
+                failures.reset();
+                epoch = newEpoch;
+            }
+        }
+    }
+}
@@ -0,0 +1,362 @@
+package com.paklog.productcatalog.infrastructure.persistence.resilience;
+
+import com.mongodb.MongoException;
+import com.paklog.productcatalog.domain.event.ProductSnapshot;
+import com.paklog.productcatalog.domain.model.ChangeCursor;
+import com.paklog.productcatalog.domain.model.DomainClock;
+import com.paklog.productcatalog.domain.model.Product;
+import com.paklog.productcatalog.domain.model.SKU;
+import com.paklog.productcatalog.domain.repository.ProductRepository;
+import com.paklog.productcatalog.infrastructure.config.ResilienceConfig;
+import com.paklog.productcatalog.infrastructure.persistence.support.DelegatingProductRepository;
+import com.paklog.productcatalog.shared.exception.RepositoryUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Guards the database behind a {@link CircuitBreaker} and keeps answering lookups by
+ * SKU while it is slow or unreachable, as during a replica-set election.
+ * <p>
+ * Every product read or written through this layer is remembered in a bounded
+ * cache. When a lookup fails or is refused by the open breaker, it is answered from
+ * that cache instead. The request is then marked through {@link StaleReads} so the
+ * response carries a warning and its age. A lookup that succeeds but takes longer
+ * than the slow-call threshold still returns its fresh result; it only counts as a
+ * failure towards opening the breaker. Lookups with nothing cached, and every other operation, fail fast with
+ * {@link RepositoryUnavailableException}. When the breaker closes again, the SKUs
+ * served stale are re-read in the background.
+ */
+public class ResilientProductRepository extends DelegatingProductRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResilientProductRepository.class);
+
+    private final CircuitBreaker breaker;
+    private final StaleProductCache cache;
+    private final Set<String> servedStale = ConcurrentHashMap.newKeySet();
+    private final long slowCallNanos;
+    private final int refreshBatchSize;
+    private final Executor refresher;
+    private final Counter staleServed;
+    private final Counter rejected;
+    private final Counter refreshed;
+
+    public ResilientProductRepository(ProductRepository delegate, ResilienceConfig config, MeterRegistry meterRegistry) {
+        this(delegate, config, meterRegistry, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "stale-product-refresh");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    ResilientProductRepository(ProductRepository delegate, ResilienceConfig config, MeterRegistry meterRegistry,
+                               Executor refresher) {
+        super(delegate);
+        this.breaker = new CircuitBreaker(config.getFailureRateThreshold(), config.getMinimumCalls(),
+                config.getWindow().toNanos(), config.getOpenDuration().toNanos(), config.getHalfOpenCalls(),
+                this::scheduleRefresh);
+        this.cache = new StaleProductCache(config.getStaleCacheSize());
+        this.slowCallNanos = config.getSlowCallThreshold().toNanos();
+        this.refreshBatchSize = config.getRefreshBatchSize();
+        this.refresher = refresher;
+
+        Gauge.builder("product.repository.breaker.state", breaker, b -> b.state().ordinal())
+                .description("Repository circuit breaker state: 0 closed, 1 open, 2 half-open")
+                .register(meterRegistry);
+        Gauge.builder("product.repository.stale.cache.size", cache, StaleProductCache::size)
+                .description("Products remembered for serving while the database is unavailable")
+                .register(meterRegistry);
+        this.staleServed = Counter.builder("product.repository.stale.served")
+                .description("Lookups answered from the last known value because the database was unavailable")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("product.repository.breaker.rejected")
+                .description("Repository calls refused by the open circuit breaker")
+                .register(meterRegistry);
+        this.refreshed = Counter.builder("product.repository.stale.refreshed")
+                .description("Products served stale and re-read after the database recovered")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Optional<Product> findBySku(SKU sku) {
+        Optional<Product> found;
+        try {
+            found = call(() -> delegate.findBySku(sku), true);
+        } catch (RuntimeException e) {
+            if (!isOutage(e)) {
+                throw e;
+            }
+            StaleProductCache.Entry entry = cache.get(sku.value());
+            if (entry == null) {
+                throw unavailable(e);
+            }
+            serveStale(sku.value(), entry.readAt());
+            return Optional.of(toProduct(entry.product()));
+        }
+        found.ifPresentOrElse(this::remember, () -> cache.remove(sku.value()));
+        return found;
+    }
+
+    /**
+     * Answered from the cache only when every requested SKU is in it; a partial answer
+     * would report the rest as unknown.
+     */
+    @Override
+    public List<Product> findAllBySku(Collection<SKU> skus) {
+        List<Product> found;
+        try {
+            found = call(() -> delegate.findAllBySku(skus), true);
+        } catch (RuntimeException e) {
+            if (!isOutage(e)) {
+                throw e;
+            }
+            List<StaleProductCache.Entry> entries = new ArrayList<>(skus.size());
+            for (SKU sku : skus) {
+                StaleProductCache.Entry entry = cache.get(sku.value());
+                if (entry == null) {
+                    throw unavailable(e);
+                }
+                entries.add(entry);
+            }
+            List<Product> products = new ArrayList<>(entries.size());
+            for (StaleProductCache.Entry entry : entries) {
+                serveStale(entry.product().sku().value(), entry.readAt());
+                products.add(toProduct(entry.product()));
+            }
+            return products;
+        }
+        rememberAll(skus.stream().map(SKU::value).toList(), found);
+        return found;
+    }
+
+    @Override
+    public boolean existsBySku(SKU sku) {
+        try {
+            return call(() -> delegate.existsBySku(sku), true);
+        } catch (RuntimeException e) {
+            if (!isOutage(e)) {
+                throw e;
+            }
+            StaleProductCache.Entry entry = cache.get(sku.value());
+            if (entry == null) {
+                throw unavailable(e);
+            }
+            serveStale(sku.value(), entry.readAt());
+            return true;
+        }
+    }
+
+    @Override
+    public Product save(Product product) {
+        Product saved = call(() -> delegate.save(product), false);
+        remember(saved);
+        return saved;
+    }
+
+    @Override
+    public Map<SKU, String> saveAll(List<Product> products) {
+        Map<SKU, String> failures = call(() -> delegate.saveAll(products), false);
+        for (Product product : products) {
+            if (!failures.containsKey(product.getSku())) {
+                remember(product);
+            }
+        }
+        return failures;
+    }
+
+    @Override
+    public Set<SKU> saveAllIfUnmodified(List<Product> products) {
+        Set<SKU> conflicts = call(() -> delegate.saveAllIfUnmodified(products), false);
+        for (Product product : products) {
+            if (!conflicts.contains(product.getSku())) {
+                remember(product);
+            }
+        }
+        return conflicts;
+    }
+
+    @Override
+    public Page<Product> findAll(Pageable pageable) {
+        return call(() -> delegate.findAll(pageable), false);
+    }
+
+    @Override
+    public List<Product> findPage(Pageable pageable) {
+        return call(() -> delegate.findPage(pageable), false);
+    }
+
+    @Override
+    public List<Product> findChangedSince(ChangeCursor cursor, Instant settledBefore, int limit) {
+        return call(() -> delegate.findChangedSince(cursor, settledBefore, limit), false);
+    }
+
+    @Override
+    public void delete(Product product) {
+        call(() -> {
+            delegate.delete(product);
+            return null;
+        }, false);
+        cache.remove(product.getSku().value());
+    }
+
+    @Override
+    public void deleteBySku(SKU sku) {
+        call(() -> {
+            delegate.deleteBySku(sku);
+            return null;
+        }, false);
+        cache.remove(sku.value());
+    }
+
+    @Override
+    public long count() {
+        return call(delegate::count, false);
+    }
+
+    @Override
+    public long estimatedCount() {
+        return call(delegate::estimatedCount, false);
+    }
+
+    @Override
+    public void exportAll(Consumer<Product> action) {
+        call(() -> {
+            delegate.exportAll(action);
+            return null;
+        }, false);
+    }
+
+    @Override
+    public int purgeTombstones(Instant deletedBefore, int batchSize) {
+        return call(() -> delegate.purgeTombstones(deletedBefore, batchSize), false);
+    }
+
+    CircuitBreaker breaker() {
+        return breaker;
+    }
+
+    /**
+     * Runs the operation if the breaker allows it and reports the outcome. A timed
+     * call that succeeds but takes longer than the slow-call threshold counts as a
+     * failure for the breaker.
+     */
+    private <T> T call(Supplier<T> operation, boolean timed) {
+        if (!breaker.tryAcquire()) {
+            rejected.increment();
+            throw unavailable(null);
+        }
+        long started = System.nanoTime();
+        T result;
+        try {
+            result = operation.get();
+        } catch (RuntimeException e) {
+            if (isOutage(e)) {
+                breaker.onFailure();
+            } else {
+                breaker.onSuccess();
+            }
+            throw e;
+        }
+        if (timed && System.nanoTime() - started > slowCallNanos) {
+            breaker.onFailure();
+        } else {
+            breaker.onSuccess();
+        }
+        return result;
+    }
+
+    private static boolean isOutage(RuntimeException e) {
+        return e instanceof RepositoryUnavailableException
+                || e instanceof MongoException
+                || e instanceof TransientDataAccessException
+                || e instanceof DataAccessResourceFailureException;
+    }
+
+    private RepositoryUnavailableException unavailable(RuntimeException cause) {
+        if (cause instanceof RepositoryUnavailableException unavailable) {
+            return unavailable;
+        }
+        Duration retryAfter = Duration.ofNanos(Math.max(breaker.remainingOpenNanos(), Duration.ofSeconds(1).toNanos()));
+        return new RepositoryUnavailableException("Product repository is unavailable", retryAfter, cause);
+    }
+
+    private void serveStale(String sku, Instant readAt) {
+        staleServed.increment();
+        servedStale.add(sku);
+        StaleReads.record(readAt);
+    }
+
+    private void remember(Product product) {
+        cache.put(product.snapshot(), DomainClock.now());
+    }
+
+    private void rememberAll(Collection<String> requested, List<Product> found) {
+        Set<String> missing = new HashSet<>(requested);
+        for (Product product : found) {
+            remember(product);
+            missing.remove(product.getSku().value());
+        }
+        missing.forEach(cache::remove);
+    }
+
+    private void scheduleRefresh() {
+        if (!servedStale.isEmpty()) {
+            refresher.execute(this::refreshServedStale);
+        }
+    }
+
+    private void refreshServedStale() {
+        List<String> batch = new ArrayList<>(refreshBatchSize);
+        Iterator<String> skus = servedStale.iterator();
+        while (skus.hasNext()) {
+            batch.add(skus.next());
+            skus.remove();
+            if (batch.size() == refreshBatchSize || !skus.hasNext()) {
+                if (!refresh(batch)) {
+                    servedStale.addAll(batch);
+                    return;
+                }
+                batch.clear();
+            }
+        }
+    }
+
+    private boolean refresh(List<String> skus) {
+        try {
+            List<Product> found = call(() -> delegate.findAllBySku(skus.stream().map(SKU::of).toList()), false);
+            rememberAll(skus, found);
+            refreshed.increment(skus.size());
+            return true;
+        } catch (RuntimeException e) {
+            logger.atWarn().addKeyValue("count", skus.size()).setCause(e).log("Could not refresh products served stale");
+            return false;
+        }
+    }
+
+    private static Product toProduct(ProductSnapshot snapshot) {
+        return new Product(snapshot.sku(), snapshot.title(), snapshot.dimensions(), snapshot.attributes(),
+                snapshot.createdAt(), snapshot.updatedAt(), snapshot.version());
+    }
+}
@@ -0,0 +1,48 @@
+package com.paklog.productcatalog.infrastructure.persistence.resilience;
+
+import com.paklog.productcatalog.domain.event.ProductSnapshot;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The last value read from the database for each recently seen SKU, kept only to
+ * answer reads while the database cannot. Bounded: once full, an arbitrary entry
+ * makes room for the new one.
+ */
+final class StaleProductCache {
+
+    record Entry(ProductSnapshot product, Instant readAt) {
+    }
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final int maxEntries;
+
+    StaleProductCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    Entry get(String sku) {
+        return entries.get(sku);
+    }
+
+    void put(ProductSnapshot product, Instant readAt) {
+        String sku = product.sku().value();
+        if (entries.size() >= maxEntries && !entries.containsKey(sku)) {
+            Iterator<String> victims = entries.keySet().iterator();
+            if (victims.hasNext()) {
+                entries.remove(victims.next());
+            }
+        }
+        entries.put(sku, new Entry(product, readAt));
+    }
+
+    void remove(String sku) {
+        entries.remove(sku);
+    }
+
+    int size() {
+        return entries.size();
+    }
+}
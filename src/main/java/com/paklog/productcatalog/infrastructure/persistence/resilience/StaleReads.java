@@ -0,0 +1,33 @@
+package com.paklog.productcatalog.infrastructure.persistence.resilience;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Instant;
+
+/**
+ * Marks the current web request as answered, at least in part, from values last read
+ * before the given time, so the response can say so. Outside a request this does
+ * nothing.
+ */
+public final class StaleReads {
+
+    public static final String ATTRIBUTE = StaleReads.class.getName() + ".asOf";
+
+    private StaleReads() {
+    }
+
+    /**
+     * Records that a value read at {@code asOf} was served; the oldest such time is kept.
+     */
+    static void record(Instant asOf) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return;
+        }
+        Object previous = attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (!(previous instanceof Instant earlier) || asOf.isBefore(earlier)) {
+            attributes.setAttribute(ATTRIBUTE, asOf, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+}
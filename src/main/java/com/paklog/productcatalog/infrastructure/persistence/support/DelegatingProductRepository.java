@@ -0,0 +1,103 @@
+package com.paklog.productcatalog.infrastructure.persistence.support;
+
+import com.paklog.productcatalog.domain.model.ChangeCursor;
+import com.paklog.productcatalog.domain.model.Product;
+import com.paklog.productcatalog.domain.model.SKU;
+import com.paklog.productcatalog.domain.repository.ProductRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Base class for repository decorators; forwards every call to the wrapped repository.
+ */
+public abstract class DelegatingProductRepository implements ProductRepository {
+
+    protected final ProductRepository delegate;
+
+    protected DelegatingProductRepository(ProductRepository delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Product save(Product product) {
+        return delegate.save(product);
+    }
+
+    @Override
+    public Map<SKU, String> saveAll(List<Product> products) {
+        return delegate.saveAll(products);
+    }
+
+    @Override
+    public Set<SKU> saveAllIfUnmodified(List<Product> products) {
+        return delegate.saveAllIfUnmodified(products);
+    }
+
+    @Override
+    public Optional<Product> findBySku(SKU sku) {
+        return delegate.findBySku(sku);
+    }
+
+    @Override
+    public List<Product> findAllBySku(Collection<SKU> skus) {
+        return delegate.findAllBySku(skus);
+    }
+
+    @Override
+    public Page<Product> findAll(Pageable pageable) {
+        return delegate.findAll(pageable);
+    }
+
+    @Override
+    public List<Product> findPage(Pageable pageable) {
+        return delegate.findPage(pageable);
+    }
+
+    @Override
+    public List<Product> findChangedSince(ChangeCursor cursor, Instant settledBefore, int limit) {
+        return delegate.findChangedSince(cursor, settledBefore, limit);
+    }
+
+    @Override
+    public boolean existsBySku(SKU sku) {
+        return delegate.existsBySku(sku);
+    }
+
+    @Override
+    public void delete(Product product) {
+        delegate.delete(product);
+    }
+
+    @Override
+    public void deleteBySku(SKU sku) {
+        delegate.deleteBySku(sku);
+    }
+
+    @Override
+    public long count() {
+        return delegate.count();
+    }
+
+    @Override
+    public long estimatedCount() {
+        return delegate.estimatedCount();
+    }
+
+    @Override
+    public void exportAll(Consumer<Product> action) {
+        delegate.exportAll(action);
+    }
+
+    @Override
+    public int purgeTombstones(Instant deletedBefore, int batchSize) {
+        return delegate.purgeTombstones(deletedBefore, batchSize);
+    }
+}
@@ -0,0 +1,201 @@
+package com.paklog.productcatalog.infrastructure.persistence.support;
+
+import com.paklog.productcatalog.domain.model.ChangeCursor;
+import com.paklog.productcatalog.domain.model.Product;
+import com.paklog.productcatalog.domain.model.SKU;
+import com.paklog.productcatalog.domain.repository.ProductRepository;
+import com.paklog.productcatalog.shared.util.MetricsUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Times every call into the wrapped repository under {@code product.repository},
+ * tagged by method. Installed innermost, so it measures the calls that reach
+ * MongoDB and not those answered by an outer layer.
+ */
+public class MeteredProductRepository extends DelegatingProductRepository {
+
+    private enum Method {
+        SAVE, SAVE_ALL, SAVE_ALL_IF_UNMODIFIED, FIND_BY_SKU, FIND_ALL_BY_SKU, FIND_ALL, FIND_PAGE, FIND_CHANGED_SINCE,
+        EXISTS_BY_SKU, DELETE, DELETE_BY_SKU, COUNT, ESTIMATED_COUNT, EXPORT_ALL, PURGE_TOMBSTONES
+    }
+
+    private final Timer[] timers;
+
+    public MeteredProductRepository(ProductRepository delegate, MeterRegistry meterRegistry) {
+        super(delegate);
+        Method[] methods = Method.values();
+        this.timers = new Timer[methods.length];
+        for (Method method : methods) {
+            timers[method.ordinal()] = MetricsUtil.latencyTimer("product.repository")
+                    .description("Time taken by product repository calls")
+                    .tag("method", MetricsUtil.tagValue(method))
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public Product save(Product product) {
+        long started = System.nanoTime();
+        try {
+            return delegate.save(product);
+        } finally {
+            record(Method.SAVE, started);
+        }
+    }
+
+    @Override
+    public Map<SKU, String> saveAll(List<Product> products) {
+        long started = System.nanoTime();
+        try {
+            return delegate.saveAll(products);
+        } finally {
+            record(Method.SAVE_ALL, started);
+        }
+    }
+
+    @Override
+    public Set<SKU> saveAllIfUnmodified(List<Product> products) {
+        long started = System.nanoTime();
+        try {
+            return delegate.saveAllIfUnmodified(products);
+        } finally {
+            record(Method.SAVE_ALL_IF_UNMODIFIED, started);
+        }
+    }
+
+    @Override
+    public Optional<Product> findBySku(SKU sku) {
+        long started = System.nanoTime();
+        try {
+            return delegate.findBySku(sku);
+        } finally {
+            record(Method.FIND_BY_SKU, started);
+        }
+    }
+
+    @Override
+    public List<Product> findAllBySku(Collection<SKU> skus) {
+        long started = System.nanoTime();
+        try {
+            return delegate.findAllBySku(skus);
+        } finally {
+            record(Method.FIND_ALL_BY_SKU, started);
+        }
+    }
+
+    @Override
+    public Page<Product> findAll(Pageable pageable) {
+        long started = System.nanoTime();
+        try {
+            return delegate.findAll(pageable);
+        } finally {
+            record(Method.FIND_ALL, started);
+        }
+    }
+
+    @Override
+    public List<Product> findPage(Pageable pageable) {
+        long started = System.nanoTime();
+        try {
+            return delegate.findPage(pageable);
+        } finally {
+            record(Method.FIND_PAGE, started);
+        }
+    }
+
+    @Override
+    public List<Product> findChangedSince(ChangeCursor cursor, Instant settledBefore, int limit) {
+        long started = System.nanoTime();
+        try {
+            return delegate.findChangedSince(cursor, settledBefore, limit);
+        } finally {
+            record(Method.FIND_CHANGED_SINCE, started);
+        }
+    }
+
+    @Override
+    public boolean existsBySku(SKU sku) {
+        long started = System.nanoTime();
+        try {
+            return delegate.existsBySku(sku);
+        } finally {
+            record(Method.EXISTS_BY_SKU, started);
+        }
+    }
+
+    @Override
+    public void delete(Product product) {
+        long started = System.nanoTime();
+        try {
+            delegate.delete(product);
+        } finally {
+            record(Method.DELETE, started);
+        }
+    }
+
+    @Override
+    public void deleteBySku(SKU sku) {
+        long started = System.nanoTime();
+        try {
+            delegate.deleteBySku(sku);
+        } finally {
+            record(Method.DELETE_BY_SKU, started);
+        }
+    }
+
+    @Override
+    public long count() {
+        long started = System.nanoTime();
+        try {
+            return delegate.count();
+        } finally {
+            record(Method.COUNT, started);
+        }
+    }
+
+    @Override
+    public long estimatedCount() {
+        long started = System.nanoTime();
+        try {
+            return delegate.estimatedCount();
+        } finally {
+            record(Method.ESTIMATED_COUNT, started);
+        }
+    }
+
+    @Override
+    public void exportAll(Consumer<Product> action) {
+        long started = System.nanoTime();
+        try {
+            delegate.exportAll(action);
+        } finally {
+            record(Method.EXPORT_ALL, started);
+        }
+    }
+
+    @Override
+    public int purgeTombstones(Instant deletedBefore, int batchSize) {
+        long started = System.nanoTime();
+        try {
+            return delegate.purgeTombstones(deletedBefore, batchSize);
+        } finally {
+            record(Method.PURGE_TOMBSTONES, started);
+        }
+    }
+
+    private void record(Method method, long started) {
+        timers[method.ordinal()].record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,62 @@
+package com.paklog.productcatalog.infrastructure.persistence.support;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandSucceededEvent;
+import com.paklog.productcatalog.shared.util.MetricsUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Records the driver-measured latency of every MongoDB command under
+ * {@code product.mongo.command}, tagged by command name and outcome. The driver issues
+ * a small, fixed set of command names, so timers are created on first use and then
+ * found with a single map lookup.
+ */
+public class MongoCommandMetricsListener implements CommandListener {
+
+    private static final int SUCCESS = 0;
+    private static final int FAILURE = 1;
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentHashMap<String, Timer[]> timers = new ConcurrentHashMap<>();
+    private final Function<String, Timer[]> register = this::register;
+
+    public MongoCommandMetricsListener(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        timers(event.getCommandName())[SUCCESS].record(event.getElapsedTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        timers(event.getCommandName())[FAILURE].record(event.getElapsedTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+    }
+
+    private Timer[] timers(String commandName) {
+        Timer[] existing = timers.get(commandName);
+        return existing != null ? existing : timers.computeIfAbsent(commandName, register);
+    }
+
+    private Timer[] register(String commandName) {
+        return new Timer[] {
+            timer(commandName, MetricsUtil.OUTCOME_SUCCESS),
+            timer(commandName, MetricsUtil.OUTCOME_FAILURE)
+        };
+    }
+
+    private Timer timer(String commandName, String outcome) {
+        return MetricsUtil.latencyTimer("product.mongo.command")
+                .description("Latency of MongoDB commands as measured by the driver")
+                .tag("command", commandName)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
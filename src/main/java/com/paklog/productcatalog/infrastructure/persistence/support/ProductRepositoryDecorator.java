@@ -0,0 +1,15 @@
+package com.paklog.productcatalog.infrastructure.persistence.support;
+
+import com.paklog.productcatalog.domain.repository.ProductRepository;
+
+/**
+ * Contributes a layer around the persistent {@link ProductRepository}, such as a
+ * local read model or a resilience guard. Decorators are applied in
+ * {@link org.springframework.core.annotation.Order} order, the lowest order
+ * ending up outermost.
+ */
+@FunctionalInterface
+public interface ProductRepositoryDecorator {
+
+    ProductRepository decorate(ProductRepository delegate);
+}
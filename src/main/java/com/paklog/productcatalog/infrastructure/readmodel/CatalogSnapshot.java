@@ -0,0 +1,270 @@
+package com.paklog.productcatalog.infrastructure.readmodel;
+
+import com.paklog.productcatalog.domain.event.ProductSnapshot;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+/**
+ * Immutable, memory-mapped catalog snapshot written by {@link CatalogSnapshotWriter}.
+ * <pre>
+ * header   int magic, int format version, long createdAt millis, long products,
+ *          long sources offset, long data offset, long index offset, int crc32c
+ *          (over everything after the header), zero padded to {@value #HEADER_SIZE} bytes
+ * sources  short topic length, topic bytes, int partitions, [int partition, long offset]
+ * data     product records in {@link ProductRecordFormat}, sorted by SKU
+ * index    products x (long sku prefix, long data offset), fixed width, sorted by SKU
+ * </pre>
+ * SKUs are ordered by their unsigned UTF-8 bytes; the index prefix holds the first
+ * eight of them so most binary search steps never touch a record. The source offsets
+ * are the changelog positions the contents reflect, so a consumer seeded from the
+ * snapshot resumes from there.
+ * <p>
+ * Opening only maps the file; pages are faulted in by the reads that need them,
+ * apart from the checksum pass when verification is requested.
+ */
+public final class CatalogSnapshot implements Closeable {
+
+    static final int MAGIC = 0x504B4353;
+    static final int FORMAT_VERSION = 1;
+    static final int HEADER_SIZE = 64;
+    static final int INDEX_ENTRY_SIZE = 2 * Long.BYTES;
+    static final int MAX_RECORD_SIZE = 1 << 20;
+    static final long MAX_PRODUCTS = Integer.MAX_VALUE / INDEX_ENTRY_SIZE;
+
+    /**
+     * Data is mapped in regions starting every {@code REGION_STRIDE} bytes and overlapping
+     * by {@link #MAX_RECORD_SIZE}, so any record lies entirely within the region it starts in.
+     */
+    static final long REGION_STRIDE = 1L << 30;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final long fileSize;
+    private final Instant createdAt;
+    private final long products;
+    private final int checksum;
+    private final String topic;
+    private final Map<Integer, Long> sourceOffsets;
+    private final ByteBuffer index;
+    private final ByteBuffer[] regions;
+
+    private CatalogSnapshot(Path path, FileChannel channel, long fileSize, Instant createdAt, long products,
+                            int checksum, String topic, Map<Integer, Long> sourceOffsets,
+                            ByteBuffer index, ByteBuffer[] regions) {
+        this.path = path;
+        this.channel = channel;
+        this.fileSize = fileSize;
+        this.createdAt = createdAt;
+        this.products = products;
+        this.checksum = checksum;
+        this.topic = topic;
+        this.sourceOffsets = sourceOffsets;
+        this.index = index;
+        this.regions = regions;
+    }
+
+    /**
+     * Maps the snapshot at {@code path}, rejecting unknown formats, truncated files and,
+     * when {@code verify} is set, files whose checksum does not match.
+     */
+    public static CatalogSnapshot open(Path path, boolean verify) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_SIZE) {
+                throw new IllegalStateException("Catalog snapshot " + path + " is truncated");
+            }
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+            if (header.getInt(0) != MAGIC) {
+                throw new IllegalStateException(path + " is not a catalog snapshot");
+            }
+            int formatVersion = header.getInt(4);
+            if (formatVersion != FORMAT_VERSION) {
+                throw new IllegalStateException("Unsupported catalog snapshot format version " + formatVersion);
+            }
+            Instant createdAt = Instant.ofEpochMilli(header.getLong(8));
+            long products = header.getLong(16);
+            long sourcesOffset = header.getLong(24);
+            long dataOffset = header.getLong(32);
+            long indexOffset = header.getLong(40);
+            int checksum = header.getInt(48);
+
+            if (products < 0 || products > MAX_PRODUCTS || sourcesOffset != HEADER_SIZE
+                    || dataOffset < sourcesOffset || indexOffset < dataOffset
+                    || indexOffset + products * INDEX_ENTRY_SIZE != fileSize) {
+                throw new IllegalStateException("Catalog snapshot " + path + " is truncated or corrupt");
+            }
+
+            ByteBuffer sources = channel.map(FileChannel.MapMode.READ_ONLY, sourcesOffset, dataOffset - sourcesOffset);
+            ByteBuffer index = channel.map(FileChannel.MapMode.READ_ONLY, indexOffset, products * INDEX_ENTRY_SIZE);
+            ByteBuffer[] regions = mapRegions(channel, dataOffset, indexOffset - dataOffset);
+
+            if (verify) {
+                CRC32C crc = new CRC32C();
+                crc.update(sources.duplicate());
+                for (ByteBuffer region : regions) {
+                    ByteBuffer stride = region.duplicate();
+                    stride.limit((int) Math.min(region.capacity(), REGION_STRIDE));
+                    crc.update(stride);
+                }
+                crc.update(index.duplicate());
+                if ((int) crc.getValue() != checksum) {
+                    throw new IllegalStateException("Catalog snapshot " + path + " failed its checksum");
+                }
+            }
+
+            byte[] topic = new byte[sources.getShort(0)];
+            sources.get(Short.BYTES, topic);
+            int position = Short.BYTES + topic.length;
+            int partitions = sources.getInt(position);
+            position += Integer.BYTES;
+            Map<Integer, Long> offsets = new LinkedHashMap<>();
+            for (int i = 0; i < partitions; i++) {
+                offsets.put(sources.getInt(position), sources.getLong(position + Integer.BYTES));
+                position += Integer.BYTES + Long.BYTES;
+            }
+
+            return new CatalogSnapshot(path, channel, fileSize, createdAt, products, checksum,
+                    new String(topic, StandardCharsets.UTF_8), Collections.unmodifiableMap(offsets), index, regions);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public Optional<ProductSnapshot> get(String sku) {
+        long offset = find(ProductRecordFormat.utf8(sku));
+        return offset >= 0 ? Optional.of(ProductRecordFormat.decode(region(offset), regionOffset(offset))) : Optional.empty();
+    }
+
+    public boolean contains(String sku) {
+        return find(ProductRecordFormat.utf8(sku)) >= 0;
+    }
+
+    /**
+     * Hands every product to the action in SKU order.
+     */
+    public void forEach(Consumer<ProductSnapshot> action) {
+        for (int i = 0; i < products; i++) {
+            long offset = index.getLong(i * INDEX_ENTRY_SIZE + Long.BYTES);
+            action.accept(ProductRecordFormat.decode(region(offset), regionOffset(offset)));
+        }
+    }
+
+    public long size() {
+        return products;
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    public Instant createdAt() {
+        return createdAt;
+    }
+
+    public String topic() {
+        return topic;
+    }
+
+    /**
+     * Changelog position per partition that the snapshot contents reflect.
+     */
+    public Map<Integer, Long> sourceOffsets() {
+        return sourceOffsets;
+    }
+
+    public Info info() {
+        return new Info(path.getFileName().toString(), FORMAT_VERSION, createdAt, products, fileSize,
+                String.format("%08x", checksum), topic, sourceOffsets);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Big-endian first eight bytes of the SKU, zero padded; compares unsigned in the same order as the bytes.
+     */
+    static long prefix(byte[] sku) {
+        long prefix = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            prefix = (prefix << 8) | (i < sku.length ? sku[i] & 0xFF : 0);
+        }
+        return prefix;
+    }
+
+    /**
+     * Binary search of the index; returns the record's data offset, or -1 when the SKU is absent.
+     */
+    private long find(byte[] key) {
+        long prefix = prefix(key);
+        int low = 0;
+        int high = (int) products - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = Long.compareUnsigned(index.getLong(mid * INDEX_ENTRY_SIZE), prefix);
+            if (cmp == 0) {
+                long offset = index.getLong(mid * INDEX_ENTRY_SIZE + Long.BYTES);
+                cmp = ProductRecordFormat.compareSku(region(offset), regionOffset(offset), key);
+                if (cmp == 0) {
+                    return offset;
+                }
+            }
+            if (cmp < 0) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return -1;
+    }
+
+    private ByteBuffer region(long offset) {
+        return regions[(int) (offset / REGION_STRIDE)];
+    }
+
+    private static int regionOffset(long offset) {
+        return (int) (offset % REGION_STRIDE);
+    }
+
+    private static ByteBuffer[] mapRegions(FileChannel channel, long dataOffset, long dataLength) throws IOException {
+        int count = (int) ((dataLength + REGION_STRIDE - 1) / REGION_STRIDE);
+        ByteBuffer[] regions = new ByteBuffer[count];
+        for (int i = 0; i < count; i++) {
+            long start = i * REGION_STRIDE;
+            long length = Math.min(REGION_STRIDE + MAX_RECORD_SIZE, dataLength - start);
+            regions[i] = channel.map(FileChannel.MapMode.READ_ONLY, dataOffset + start, length);
+        }
+        return regions;
+    }
+
+    /**
+     * Summary of a snapshot file for the actuator endpoint.
+     */
+    public record Info(
+        String file,
+        int formatVersion,
+        Instant createdAt,
+        long products,
+        long bytes,
+        String checksum,
+        String topic,
+        Map<Integer, Long> sourceOffsets
+    ) {
+    }
+}
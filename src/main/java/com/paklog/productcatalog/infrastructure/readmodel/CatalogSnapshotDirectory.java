@@ -0,0 +1,127 @@
+package com.paklog.productcatalog.infrastructure.readmodel;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Directory of catalog snapshot files named after their creation time. Opens the
+ * newest usable snapshot of the configured topic once at start-up, falling back to
+ * older files when the newest one is corrupt, and prunes all but the most recent
+ * files after each write.
+ */
+public class CatalogSnapshotDirectory {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogSnapshotDirectory.class);
+
+    private static final String PREFIX = "catalog-";
+    private static final String SUFFIX = ".snap";
+
+    private final Path directory;
+    private final String topic;
+    private final int retain;
+    private final boolean verifyChecksum;
+
+    private volatile CatalogSnapshot loaded;
+    private volatile Duration loadTime;
+
+    public CatalogSnapshotDirectory(Path directory, String topic, int retain, boolean verifyChecksum) {
+        if (retain < 1) {
+            throw new IllegalArgumentException("At least one catalog snapshot must be retained");
+        }
+        this.directory = directory;
+        this.topic = topic;
+        this.retain = retain;
+        this.verifyChecksum = verifyChecksum;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create catalog snapshot directory " + directory, e);
+        }
+    }
+
+    /**
+     * Maps the newest usable snapshot, once; later calls return the same instance.
+     */
+    public synchronized Optional<CatalogSnapshot> load() {
+        if (loaded != null) {
+            return Optional.of(loaded);
+        }
+        long started = System.nanoTime();
+        for (Path file : files()) {
+            try {
+                CatalogSnapshot snapshot = CatalogSnapshot.open(file, verifyChecksum);
+                if (!snapshot.topic().equals(topic)) {
+                    logger.warn("Ignoring catalog snapshot {} taken from topic {}", file, snapshot.topic());
+                    snapshot.close();
+                    continue;
+                }
+                loaded = snapshot;
+                loadTime = Duration.ofNanos(System.nanoTime() - started);
+                logger.info("Mapped catalog snapshot {} with {} products from {} in {}",
+                        file.getFileName(), snapshot.size(), snapshot.createdAt(), loadTime);
+                return Optional.of(snapshot);
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Skipping unusable catalog snapshot {}", file, e);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public Optional<CatalogSnapshot> loaded() {
+        return Optional.ofNullable(loaded);
+    }
+
+    public Optional<Duration> loadTime() {
+        return Optional.ofNullable(loadTime);
+    }
+
+    public Path newFile(Instant createdAt) {
+        return directory.resolve(String.format("%s%020d%s", PREFIX, createdAt.toEpochMilli(), SUFFIX));
+    }
+
+    /**
+     * Snapshot files, newest first.
+     */
+    public List<Path> files() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+                    })
+                    .sorted(Comparator.comparing((Path file) -> file.getFileName().toString()).reversed())
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list catalog snapshots in " + directory, e);
+        }
+    }
+
+    /**
+     * Deletes all but the newest {@code retain} files. A mapped file stays readable after
+     * its directory entry is removed, so the loaded snapshot is not affected.
+     */
+    public void prune() {
+        List<Path> files = files();
+        for (Path file : files.subList(Math.min(retain, files.size()), files.size())) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                logger.warn("Failed to delete old catalog snapshot {}", file, e);
+            }
+        }
+    }
+
+    public String topic() {
+        return topic;
+    }
+}
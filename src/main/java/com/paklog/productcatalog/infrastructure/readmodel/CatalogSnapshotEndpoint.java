@@ -0,0 +1,36 @@
+package com.paklog.productcatalog.infrastructure.readmodel;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+
+import java.util.Map;
+
+/**
+ * Inspects catalog snapshots at {@code /actuator/catalogsnapshot}; a POST writes a new one.
+ */
+@Endpoint(id = "catalogsnapshot")
+public class CatalogSnapshotEndpoint {
+
+    private final CatalogSnapshotJob job;
+
+    public CatalogSnapshotEndpoint(CatalogSnapshotJob job) {
+        this.job = job;
+    }
+
+    @ReadOperation
+    public Object status() {
+        if (job == null) {
+            return Map.of("enabled", false);
+        }
+        return job.status();
+    }
+
+    @WriteOperation
+    public Object write() {
+        if (job == null) {
+            return Map.of("enabled", false);
+        }
+        return job.write();
+    }
+}
@@ -0,0 +1,163 @@
+package com.paklog.productcatalog.infrastructure.readmodel;
+
+import com.paklog.productcatalog.domain.event.ProductSnapshot;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Writes the read model out as a new catalog snapshot on a fixed delay, or on demand
+ * through the actuator endpoint.
+ * <p>
+ * The changelog positions are captured before the store is read, so the snapshot
+ * holds at least everything up to them; replaying from there on the next start
+ * re-applies a few changes at most, which the store's update-time check absorbs.
+ * Only the SKUs are collected and sorted on the heap; each record is read back from
+ * the store as it is written.
+ */
+public class CatalogSnapshotJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogSnapshotJob.class);
+
+    private final CatalogSnapshotDirectory directory;
+    private final ProductReadStore store;
+    private final ChangelogBootstrapper bootstrapper;
+    private final Timer writeTimer;
+    private final Counter failures;
+
+    private volatile CatalogSnapshot.Info lastWritten;
+    private volatile Duration lastWriteTime;
+    private volatile String lastError;
+
+    public CatalogSnapshotJob(CatalogSnapshotDirectory directory, ProductReadStore store,
+                              ChangelogBootstrapper bootstrapper, MeterRegistry meterRegistry) {
+        this.directory = directory;
+        this.store = store;
+        this.bootstrapper = bootstrapper;
+        this.writeTimer = Timer.builder("product.readmodel.snapshot.write")
+                .description("Time taken to write a catalog snapshot")
+                .register(meterRegistry);
+        this.failures = Counter.builder("product.readmodel.snapshot.failures")
+                .description("Catalog snapshot writes that failed")
+                .register(meterRegistry);
+        Gauge.builder("product.readmodel.snapshot.age", this, CatalogSnapshotJob::ageSeconds)
+                .description("Seconds since the newest catalog snapshot was taken")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${product-catalog.read-model.snapshot.interval:PT15M}",
+               initialDelayString = "${product-catalog.read-model.snapshot.interval:PT15M}")
+    public void scheduledWrite() {
+        if (!bootstrapper.isCaughtUp()) {
+            logger.debug("Skipping catalog snapshot while the read model is catching up");
+            return;
+        }
+        try {
+            write();
+        } catch (RuntimeException e) {
+            logger.error("Scheduled catalog snapshot failed", e);
+        }
+    }
+
+    /**
+     * Writes a snapshot of the current store contents and prunes old files.
+     */
+    public synchronized CatalogSnapshot.Info write() {
+        Map<Integer, Long> positions = bootstrapper.positions();
+        if (positions.isEmpty()) {
+            throw new IllegalStateException("Changelog positions are not known yet; nothing to snapshot against");
+        }
+
+        long started = System.nanoTime();
+        Instant createdAt = Instant.now();
+        Path file = directory.newFile(createdAt);
+        try (CatalogSnapshotWriter writer = new CatalogSnapshotWriter(file, createdAt, bootstrapper.topic(), positions)) {
+            List<byte[]> skus = new ArrayList<>((int) Math.min(store.size(), Integer.MAX_VALUE - 8));
+            store.forEach(snapshot -> skus.add(ProductRecordFormat.utf8(snapshot.sku().value())));
+            skus.sort(Arrays::compareUnsigned);
+
+            byte[] previous = null;
+            for (byte[] sku : skus) {
+                if (previous != null && Arrays.equals(previous, sku)) {
+                    continue;
+                }
+                previous = sku;
+                Optional<ProductSnapshot> product = store.get(new String(sku, StandardCharsets.UTF_8));
+                if (product.isPresent()) {
+                    writer.append(product.get());
+                }
+            }
+            writer.commit();
+        } catch (IOException e) {
+            recordFailure(e);
+            throw new UncheckedIOException("Failed to write catalog snapshot " + file, e);
+        } catch (RuntimeException e) {
+            recordFailure(e);
+            throw e;
+        }
+
+        directory.prune();
+        lastWriteTime = Duration.ofNanos(System.nanoTime() - started);
+        writeTimer.record(lastWriteTime);
+        lastError = null;
+        try (CatalogSnapshot written = CatalogSnapshot.open(file, false)) {
+            lastWritten = written.info();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to reopen catalog snapshot " + file, e);
+        }
+        logger.info("Wrote catalog snapshot {} with {} products at {} in {}",
+                file.getFileName(), lastWritten.products(), positions, lastWriteTime);
+        return lastWritten;
+    }
+
+    public Status status() {
+        return new Status(
+                directory.loaded().map(CatalogSnapshot::info).orElse(null),
+                directory.loadTime().orElse(null),
+                lastWritten,
+                lastWriteTime,
+                lastError,
+                directory.files().stream().map(file -> file.getFileName().toString()).toList());
+    }
+
+    private void recordFailure(Exception e) {
+        failures.increment();
+        lastError = e.getMessage();
+    }
+
+    private double ageSeconds() {
+        Instant newest = lastWritten != null ? lastWritten.createdAt()
+                : directory.loaded().map(CatalogSnapshot::createdAt).orElse(null);
+        return newest != null ? Duration.between(newest, Instant.now()).toMillis() / 1000.0 : Double.NaN;
+    }
+
+    /**
+     * Snapshot the read model was seeded from, the last one written and the files on disk.
+     */
+    public record Status(
+        CatalogSnapshot.Info loaded,
+        Duration loadTime,
+        CatalogSnapshot.Info lastWritten,
+        Duration lastWriteTime,
+        String lastError,
+        List<String> files
+    ) {
+    }
+}
@@ -0,0 +1,160 @@
+package com.paklog.productcatalog.infrastructure.readmodel;
+
+import com.paklog.productcatalog.domain.event.ProductSnapshot;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+/**
+ * Streams products, in ascending SKU order, into a new {@link CatalogSnapshot} file.
+ * Everything goes to a temporary file next to the target, which is fsynced and
+ * atomically renamed on {@link #commit()}, so readers only ever see complete snapshots.
+ * Closing without committing discards the temporary file.
+ */
+public class CatalogSnapshotWriter implements Closeable {
+
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final Path target;
+    private final Path temporary;
+    private final FileChannel channel;
+    private final Instant createdAt;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final CRC32C crc = new CRC32C();
+    private final long dataOffset;
+
+    private long position;
+    private long products;
+    private long[] prefixes = new long[1024];
+    private long[] offsets = new long[1024];
+    private byte[] lastSku;
+    private boolean committed;
+
+    public CatalogSnapshotWriter(Path target, Instant createdAt, String topic,
+                                 Map<Integer, Long> sourceOffsets) throws IOException {
+        this.target = target;
+        this.temporary = target.resolveSibling(target.getFileName() + ".tmp");
+        this.createdAt = createdAt;
+        this.channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        this.position = CatalogSnapshot.HEADER_SIZE;
+        channel.position(position);
+
+        byte[] topicBytes = ProductRecordFormat.utf8(topic);
+        ByteBuffer sources = ByteBuffer.allocate(Short.BYTES + topicBytes.length + Integer.BYTES
+                + sourceOffsets.size() * (Integer.BYTES + Long.BYTES));
+        sources.putShort((short) topicBytes.length).put(topicBytes).putInt(sourceOffsets.size());
+        sourceOffsets.forEach((partition, offset) -> sources.putInt(partition).putLong(offset));
+        write(sources.array());
+        this.dataOffset = position;
+    }
+
+    /**
+     * Appends a product; SKUs must arrive in strictly ascending unsigned UTF-8 order.
+     */
+    public void append(ProductSnapshot snapshot) throws IOException {
+        byte[] sku = ProductRecordFormat.utf8(snapshot.sku().value());
+        if (lastSku != null && Arrays.compareUnsigned(lastSku, sku) >= 0) {
+            throw new IllegalArgumentException("Snapshot products must be appended in ascending SKU order");
+        }
+        if (products == CatalogSnapshot.MAX_PRODUCTS) {
+            throw new IllegalStateException("Catalog snapshot is limited to " + CatalogSnapshot.MAX_PRODUCTS + " products");
+        }
+        byte[] record = ProductRecordFormat.encode(snapshot);
+        if (record.length > CatalogSnapshot.MAX_RECORD_SIZE) {
+            throw new IllegalArgumentException("Product " + snapshot.sku().value() + " is too large for a snapshot");
+        }
+
+        if (products == offsets.length) {
+            prefixes = Arrays.copyOf(prefixes, offsets.length * 2);
+            offsets = Arrays.copyOf(offsets, offsets.length * 2);
+        }
+        prefixes[(int) products] = CatalogSnapshot.prefix(sku);
+        offsets[(int) products] = position - dataOffset;
+        products++;
+        lastSku = sku;
+        write(record);
+    }
+
+    public long products() {
+        return products;
+    }
+
+    /**
+     * Writes the index and header, forces the file to disk and moves it into place.
+     */
+    public void commit() throws IOException {
+        long indexOffset = position;
+        for (int i = 0; i < products; i++) {
+            ensureCapacity(CatalogSnapshot.INDEX_ENTRY_SIZE);
+            buffer.putLong(prefixes[i]).putLong(offsets[i]);
+            position += CatalogSnapshot.INDEX_ENTRY_SIZE;
+        }
+        flush();
+
+        ByteBuffer header = ByteBuffer.allocate(CatalogSnapshot.HEADER_SIZE);
+        header.putInt(CatalogSnapshot.MAGIC)
+                .putInt(CatalogSnapshot.FORMAT_VERSION)
+                .putLong(createdAt.toEpochMilli())
+                .putLong(products)
+                .putLong(CatalogSnapshot.HEADER_SIZE)
+                .putLong(dataOffset)
+                .putLong(indexOffset)
+                .putInt((int) crc.getValue())
+                .rewind();
+        while (header.hasRemaining()) {
+            channel.write(header, header.position());
+        }
+        channel.force(true);
+        channel.close();
+
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        committed = true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel.isOpen()) {
+            channel.close();
+        }
+        if (!committed) {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private void write(byte[] bytes) throws IOException {
+        int written = 0;
+        while (written < bytes.length) {
+            ensureCapacity(1);
+            int chunk = Math.min(buffer.remaining(), bytes.length - written);
+            buffer.put(bytes, written, chunk);
+            written += chunk;
+        }
+        position += bytes.length;
+    }
+
+    private void ensureCapacity(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        crc.update(buffer.duplicate());
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
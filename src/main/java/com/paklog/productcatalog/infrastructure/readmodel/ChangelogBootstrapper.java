@@ -0,0 +1,268 @@
+package com.paklog.productcatalog.infrastructure.readmodel;
+
+import com.paklog.productcatalog.infrastructure.config.ReadModelConfig;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Rebuilds the local read model by replaying the compacted product-events topic
+ * from the beginning, then keeps tailing it so the store follows writes made by
+ * other instances.
+ * <p>
+ * The end offsets captured at start-up are the catch-up target; the read model is
+ * reported ready once every partition has reached them, or once
+ * {@link ReadModelConfig#getMaxCatchUpWait()} has elapsed so a Kafka outage does
+ * not keep the instance out of rotation indefinitely.
+ * <p>
+ * When the store was seeded from a {@link CatalogSnapshot}, replay starts at the
+ * snapshot's source offsets instead, so only the changes made since are applied,
+ * and the store serves reads from the start.
+ */
+public class ChangelogBootstrapper implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangelogBootstrapper.class);
+
+    public enum Phase { STOPPED, CONNECTING, CATCHING_UP, LIVE }
+
+    private final Supplier<Consumer<String, byte[]>> consumerFactory;
+    private final String topic;
+    private final ProductReadStore store;
+    private final ProductChangelogDecoder decoder;
+    private final ReadModelConfig config;
+    private final Map<Integer, Long> startOffsets;
+
+    private final Map<TopicPartition, Long> targetOffsets = new ConcurrentHashMap<>();
+    private final Map<TopicPartition, Long> currentOffsets = new ConcurrentHashMap<>();
+
+    private volatile Phase phase = Phase.STOPPED;
+    private volatile boolean running;
+    private volatile boolean ready;
+    private volatile boolean timedOut;
+    private volatile long recordsApplied;
+    private volatile long recordsSkipped;
+    private volatile Instant startedAt;
+    private volatile Instant caughtUpAt;
+    private volatile Consumer<String, byte[]> consumer;
+    private Thread worker;
+
+    public ChangelogBootstrapper(Supplier<Consumer<String, byte[]>> consumerFactory, String topic,
+                                 ProductReadStore store, ProductChangelogDecoder decoder,
+                                 ReadModelConfig config) {
+        this(consumerFactory, topic, store, decoder, config, Map.of());
+    }
+
+    public ChangelogBootstrapper(Supplier<Consumer<String, byte[]>> consumerFactory, String topic,
+                                 ProductReadStore store, ProductChangelogDecoder decoder,
+                                 ReadModelConfig config, Map<Integer, Long> startOffsets) {
+        this.consumerFactory = consumerFactory;
+        this.topic = topic;
+        this.store = store;
+        this.decoder = decoder;
+        this.config = config;
+        this.startOffsets = Map.copyOf(startOffsets);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        startedAt = Instant.now();
+        phase = Phase.CONNECTING;
+        worker = new Thread(this::run, "read-model-bootstrap");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        Consumer<String, byte[]> active = consumer;
+        if (active != null) {
+            active.wakeup();
+        }
+        if (worker != null) {
+            try {
+                worker.join(Duration.ofSeconds(10).toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            worker = null;
+        }
+        phase = Phase.STOPPED;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * True once the store reflects the topic as of start-up, or the catch-up wait expired.
+     */
+    public boolean isReady() {
+        if (!ready && startedAt != null
+                && Duration.between(startedAt, Instant.now()).compareTo(config.getMaxCatchUpWait()) > 0) {
+            timedOut = true;
+            ready = true;
+            logger.warn("Read model did not catch up within {}; reporting ready with a partial store",
+                    config.getMaxCatchUpWait());
+        }
+        return ready;
+    }
+
+    /**
+     * True only when the store has actually replayed the topic, so reads can be served from it.
+     */
+    public boolean isCaughtUp() {
+        return caughtUpAt != null;
+    }
+
+    /**
+     * True when reads can be served from the store: it has caught up, or it was seeded from
+     * a snapshot and trails the topic only by the changes still being replayed.
+     */
+    public boolean canServeReads() {
+        return !startOffsets.isEmpty() || isCaughtUp();
+    }
+
+    public String topic() {
+        return topic;
+    }
+
+    /**
+     * Position per partition up to which changelog records have been applied to the store.
+     */
+    public Map<Integer, Long> positions() {
+        Map<Integer, Long> positions = new TreeMap<>();
+        currentOffsets.forEach((partition, offset) -> positions.put(partition.partition(), offset));
+        return positions;
+    }
+
+    public ReadModelProgress progress() {
+        Map<String, ReadModelProgress.PartitionProgress> partitions = new LinkedHashMap<>();
+        targetOffsets.forEach((partition, target) -> partitions.put(partition.toString(),
+                new ReadModelProgress.PartitionProgress(currentOffsets.getOrDefault(partition, 0L), target)));
+
+        Instant end = caughtUpAt != null ? caughtUpAt : Instant.now();
+        Duration elapsed = startedAt != null ? Duration.between(startedAt, end) : Duration.ZERO;
+
+        return new ReadModelProgress(phase, isReady(), isCaughtUp(), timedOut, store.size(),
+                recordsApplied, recordsSkipped, elapsed, partitions);
+    }
+
+    private void run() {
+        try (Consumer<String, byte[]> kafkaConsumer = consumerFactory.get()) {
+            consumer = kafkaConsumer;
+
+            List<TopicPartition> partitions = awaitPartitions(kafkaConsumer);
+            if (partitions.isEmpty()) {
+                return;
+            }
+
+            kafkaConsumer.assign(partitions);
+            kafkaConsumer.seekToBeginning(partitions);
+            for (TopicPartition partition : partitions) {
+                Long start = startOffsets.get(partition.partition());
+                if (start != null) {
+                    kafkaConsumer.seek(partition, start);
+                }
+                currentOffsets.put(partition, start != null ? start : 0L);
+            }
+            targetOffsets.putAll(kafkaConsumer.endOffsets(partitions));
+            phase = Phase.CATCHING_UP;
+            logger.info("Bootstrapping read model from {} starting at {} up to offsets {}", topic,
+                    startOffsets.isEmpty() ? "the beginning" : startOffsets, targetOffsets);
+
+            checkCaughtUp();
+            while (running) {
+                ConsumerRecords<String, byte[]> records = kafkaConsumer.poll(config.getPollTimeout());
+                for (ConsumerRecord<String, byte[]> record : records) {
+                    apply(record);
+                }
+                for (TopicPartition partition : partitions) {
+                    currentOffsets.put(partition, kafkaConsumer.position(partition));
+                }
+                if (phase == Phase.CATCHING_UP) {
+                    checkCaughtUp();
+                }
+            }
+        } catch (WakeupException e) {
+            if (running) {
+                logger.error("Read model consumer woken up unexpectedly", e);
+            }
+        } catch (RuntimeException e) {
+            logger.error("Read model bootstrap failed; reads will fall back to MongoDB", e);
+        } finally {
+            consumer = null;
+        }
+    }
+
+    private List<TopicPartition> awaitPartitions(Consumer<String, byte[]> kafkaConsumer) {
+        while (running) {
+            try {
+                List<PartitionInfo> infos = kafkaConsumer.partitionsFor(topic, config.getPollTimeout());
+                if (infos != null && !infos.isEmpty()) {
+                    return infos.stream()
+                            .map(info -> new TopicPartition(info.topic(), info.partition()))
+                            .toList();
+                }
+            } catch (org.apache.kafka.common.errors.TimeoutException e) {
+                logger.debug("Waiting for metadata of topic {}", topic);
+            }
+        }
+        return List.of();
+    }
+
+    private void apply(ConsumerRecord<String, byte[]> record) {
+        ProductChangelogDecoder.ChangelogEntry entry;
+        try {
+            entry = decoder.decode(record.key(), record.value());
+        } catch (RuntimeException e) {
+            recordsSkipped++;
+            logger.warn("Skipping unreadable changelog record at {}-{}@{}",
+                    record.topic(), record.partition(), record.offset(), e);
+            return;
+        }
+
+        if (entry == null || entry.sku() == null) {
+            recordsSkipped++;
+            return;
+        }
+        if (entry.isRemoval()) {
+            store.remove(entry.sku());
+        } else {
+            store.put(entry.snapshot());
+        }
+        recordsApplied++;
+    }
+
+    private void checkCaughtUp() {
+        boolean reached = targetOffsets.entrySet().stream()
+                .allMatch(target -> currentOffsets.getOrDefault(target.getKey(), 0L) >= target.getValue());
+        if (reached) {
+            caughtUpAt = Instant.now();
+            ready = true;
+            phase = Phase.LIVE;
+            logger.info("Read model caught up with {} products after {}", store.size(),
+                    Duration.between(startedAt, caughtUpAt));
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.paklog.productcatalog.infrastructure.readmodel;
+
+import com.paklog.productcatalog.domain.event.ProductSnapshot;
+import com.paklog.productcatalog.domain.model.Attributes;
+import com.paklog.productcatalog.domain.model.Dimensions;
+import com.paklog.productcatalog.domain.model.PackedDimensions;
+import com.paklog.productcatalog.domain.model.SKU;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Keeps products with their dimensions in {@link PackedDimensions} form and the common
+ * non-hazmat attributes shared, which cuts the per-entry footprint to a fraction of the
+ * snapshot graph; snapshots are rebuilt on read. Older products whose dimensions cannot
+ * be packed keep them as they are.
+ */
+public class HeapProductReadStore implements ProductReadStore {
+
+    private static final Attributes NON_HAZMAT = Attributes.withoutHazmat();
+
+    private final ConcurrentHashMap<String, Entry> products = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<ProductSnapshot> get(String sku) {
+        Entry entry = products.get(sku);
+        return entry != null ? Optional.of(entry.toSnapshot()) : Optional.empty();
+    }
+
+    @Override
+    public void put(ProductSnapshot snapshot) {
+        products.merge(snapshot.sku().value(), Entry.of(snapshot),
+                (current, candidate) -> isNewer(candidate.updatedAt(), current.updatedAt()) ? candidate : current);
+    }
+
+    @Override
+    public void remove(String sku) {
+        products.remove(sku);
+    }
+
+    @Override
+    public long size() {
+        return products.size();
+    }
+
+    @Override
+    public void forEach(Consumer<ProductSnapshot> action) {
+        products.values().forEach(entry -> action.accept(entry.toSnapshot()));
+    }
+
+    private static boolean isNewer(Instant candidate, Instant current) {
+        if (candidate == null || current == null) {
+            return true;
+        }
+        return !candidate.isBefore(current);
+    }
+
+    private record Entry(SKU sku, String title, PackedDimensions packed, Dimensions unpacked, Attributes attributes,
+                         Instant createdAt, Instant updatedAt, Long version) {
+
+        static Entry of(ProductSnapshot snapshot) {
+            Attributes attributes = NON_HAZMAT.equals(snapshot.attributes()) ? NON_HAZMAT : snapshot.attributes();
+            Dimensions dimensions = snapshot.dimensions();
+            boolean packable = dimensions != null && PackedDimensions.isPackable(dimensions);
+            return new Entry(snapshot.sku(), snapshot.title(),
+                    packable ? PackedDimensions.of(dimensions) : null, packable ? null : dimensions,
+                    attributes, snapshot.createdAt(), snapshot.updatedAt(), snapshot.version());
+        }
+
+        ProductSnapshot toSnapshot() {
+            return new ProductSnapshot(sku, title, packed != null ? packed.toDimensions() : unpacked,
+                    attributes, createdAt, updatedAt, version);
+        }
+    }
+}
@@ -0,0 +1,474 @@
+package com.paklog.productcatalog.infrastructure.readmodel;
+
+import com.paklog.productcatalog.domain.event.ProductSnapshot;
+import com.paklog.productcatalog.infrastructure.config.ReadModelConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Read store that keeps product records in direct-buffer slabs outside the Java heap,
+ * so a catalog of millions of SKUs costs the collector only a few arrays.
+ * <p>
+ * Records are appended to the current slab in {@link ProductRecordFormat} layout; a
+ * replaced or removed record is marked dead and its space reclaimed later by compacting
+ * the slab with the most dead bytes in place. SKUs map to record addresses through an
+ * open-addressing table with linear probing, keyed by a hash of the UTF-8 SKU bytes so
+ * that compaction can re-point entries without decoding records.
+ * <p>
+ * Exports walk the table in chunks under short read locks and are weakly consistent:
+ * SKUs added or removed while an export runs may or may not be included.
+ */
+public class OffHeapProductReadStore implements ProductReadStore, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(OffHeapProductReadStore.class);
+
+    private static final long EMPTY = -1L;
+    private static final long TOMBSTONE = -2L;
+    private static final double MAX_LOAD = 0.7;
+    // Resizing reorders the table, so it is put off while an export walks it
+    private static final double MAX_LOAD_DURING_EXPORT = 0.9;
+    private static final int EXPORT_CHUNK = 1024;
+
+    private final int slabSize;
+    private final int maxSlabs;
+    private final double compactionThreshold;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicInteger activeExports = new AtomicInteger();
+
+    private final List<ByteBuffer> slabs = new ArrayList<>();
+    private final int[] slabUsed;
+    private final int[] slabDead;
+    private int head = -1;
+    private byte[] scratch = new byte[256];
+
+    private long[] addresses;
+    private int[] hashes;
+    private int mask;
+    private int tombstones;
+
+    private volatile int size;
+    private volatile long usedBytes;
+    private volatile long deadBytes;
+    private volatile boolean fullReported;
+
+    private final Counter rejected;
+    private final Counter compactions;
+
+    public OffHeapProductReadStore(ReadModelConfig.OffHeap config, MeterRegistry meterRegistry) {
+        if (config.getSlabSize() <= ProductRecordFormat.SKU_OFFSET) {
+            throw new IllegalArgumentException("Slab size is too small: " + config.getSlabSize());
+        }
+        this.slabSize = config.getSlabSize();
+        this.maxSlabs = (int) Math.max(1, config.getMaxMemory() / slabSize);
+        this.compactionThreshold = config.getCompactionThreshold();
+        this.slabUsed = new int[maxSlabs];
+        this.slabDead = new int[maxSlabs];
+        allocateTable(tableSizeFor(config.getInitialCapacity()));
+
+        Gauge.builder("product.readmodel.store.entries", this, OffHeapProductReadStore::size)
+                .description("Products held in the off-heap read store")
+                .register(meterRegistry);
+        Gauge.builder("product.readmodel.store.capacity", this, store -> (double) store.allocatedBytes())
+                .description("Off-heap memory allocated to slabs")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("product.readmodel.store.live", this, store -> (double) store.liveBytes())
+                .description("Off-heap bytes holding current product records")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("product.readmodel.store.occupancy", this, OffHeapProductReadStore::occupancy)
+                .description("Share of allocated slab memory holding current records")
+                .register(meterRegistry);
+        Gauge.builder("product.readmodel.store.fragmentation", this, OffHeapProductReadStore::fragmentation)
+                .description("Share of written slab memory taken by replaced or removed records")
+                .register(meterRegistry);
+        Gauge.builder("product.readmodel.store.index.load", this, OffHeapProductReadStore::indexLoad)
+                .description("Load factor of the SKU index")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("product.readmodel.store.rejected")
+                .description("Products not stored because the store was full or the record could not be encoded")
+                .register(meterRegistry);
+        this.compactions = Counter.builder("product.readmodel.store.compactions")
+                .description("Slabs compacted to reclaim dead records")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Optional<ProductSnapshot> get(String sku) {
+        byte[] key = ProductRecordFormat.utf8(sku);
+        int hash = ProductRecordFormat.skuHash(key);
+
+        lock.readLock().lock();
+        try {
+            int slot = find(key, hash);
+            if (slot < 0) {
+                return Optional.empty();
+            }
+            long address = addresses[slot];
+            return Optional.of(ProductRecordFormat.decode(slabs.get(slabOf(address)), offsetOf(address)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void put(ProductSnapshot snapshot) {
+        byte[] record;
+        try {
+            record = ProductRecordFormat.encode(snapshot);
+        } catch (IllegalArgumentException e) {
+            rejected.increment();
+            logger.warn("Cannot store product {} off-heap: {}", snapshot.sku(), e.getMessage());
+            return;
+        }
+        byte[] key = ProductRecordFormat.utf8(snapshot.sku().value());
+        int hash = ProductRecordFormat.skuHash(key);
+
+        lock.writeLock().lock();
+        try {
+            int slot = find(key, hash);
+            if (slot >= 0 && !isNewer(snapshot.updatedAt(), updatedAt(addresses[slot]))) {
+                return;
+            }
+
+            long address = record.length <= slabSize ? allocate(record.length) : EMPTY;
+            if (address < 0) {
+                // Drop the stale copy so reads fall back to the database instead of serving it
+                if (slot >= 0) {
+                    removeAt(slot);
+                }
+                reject(snapshot);
+                return;
+            }
+            slabs.get(slabOf(address)).put(offsetOf(address), record);
+
+            // Compaction during allocation may have moved the previous record; the slot is still valid
+            if (slot >= 0) {
+                release(addresses[slot]);
+                addresses[slot] = address;
+            } else {
+                insert(hash, address);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(String sku) {
+        byte[] key = ProductRecordFormat.utf8(sku);
+        int hash = ProductRecordFormat.skuHash(key);
+
+        lock.writeLock().lock();
+        try {
+            int slot = find(key, hash);
+            if (slot >= 0) {
+                removeAt(slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public void forEach(Consumer<ProductSnapshot> action) {
+        List<ProductSnapshot> chunk = new ArrayList<>(EXPORT_CHUNK);
+        int slot = 0;
+        activeExports.incrementAndGet();
+        try {
+            boolean more = true;
+            while (more) {
+                lock.readLock().lock();
+                try {
+                    int end = Math.min(slot + EXPORT_CHUNK, addresses.length);
+                    for (; slot < end; slot++) {
+                        long address = addresses[slot];
+                        if (address >= 0) {
+                            chunk.add(ProductRecordFormat.decode(slabs.get(slabOf(address)), offsetOf(address)));
+                        }
+                    }
+                    more = slot < addresses.length;
+                } finally {
+                    lock.readLock().unlock();
+                }
+                chunk.forEach(action);
+                chunk.clear();
+            }
+        } finally {
+            activeExports.decrementAndGet();
+        }
+    }
+
+    public long allocatedBytes() {
+        return (long) slabs.size() * slabSize;
+    }
+
+    public long liveBytes() {
+        return usedBytes - deadBytes;
+    }
+
+    public double occupancy() {
+        long allocated = allocatedBytes();
+        return allocated == 0 ? 0.0 : (double) liveBytes() / allocated;
+    }
+
+    public double fragmentation() {
+        long used = usedBytes;
+        return used == 0 ? 0.0 : (double) deadBytes / used;
+    }
+
+    public double indexLoad() {
+        return (double) size / addresses.length;
+    }
+
+    @Override
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            slabs.clear();
+            Arrays.fill(slabUsed, 0);
+            Arrays.fill(slabDead, 0);
+            head = -1;
+            allocateTable(addresses.length);
+            usedBytes = 0;
+            deadBytes = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private int find(byte[] key, int hash) {
+        int i = hash & mask;
+        while (true) {
+            long address = addresses[i];
+            if (address == EMPTY) {
+                return -1;
+            }
+            if (address != TOMBSTONE && hashes[i] == hash
+                    && ProductRecordFormat.skuEquals(slabs.get(slabOf(address)), offsetOf(address), key)) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+    }
+
+    private int findByAddress(int hash, long address) {
+        int i = hash & mask;
+        while (addresses[i] != EMPTY) {
+            if (addresses[i] == address) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void insert(int hash, long address) {
+        double maxLoad = activeExports.get() > 0 ? MAX_LOAD_DURING_EXPORT : MAX_LOAD;
+        if (size + tombstones + 1 > addresses.length * maxLoad) {
+            rehash(size + 1 > addresses.length * MAX_LOAD / 2 ? addresses.length * 2 : addresses.length);
+        }
+        int i = hash & mask;
+        while (addresses[i] >= 0) {
+            i = (i + 1) & mask;
+        }
+        if (addresses[i] == TOMBSTONE) {
+            tombstones--;
+        }
+        addresses[i] = address;
+        hashes[i] = hash;
+        size++;
+    }
+
+    private void removeAt(int slot) {
+        release(addresses[slot]);
+        addresses[slot] = TOMBSTONE;
+        tombstones++;
+        size--;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldAddresses = addresses;
+        int[] oldHashes = hashes;
+        allocateTable(capacity);
+        for (int slot = 0; slot < oldAddresses.length; slot++) {
+            if (oldAddresses[slot] >= 0) {
+                int i = oldHashes[slot] & mask;
+                while (addresses[i] != EMPTY) {
+                    i = (i + 1) & mask;
+                }
+                addresses[i] = oldAddresses[slot];
+                hashes[i] = oldHashes[slot];
+            }
+        }
+    }
+
+    private void allocateTable(int capacity) {
+        addresses = new long[capacity];
+        Arrays.fill(addresses, EMPTY);
+        hashes = new int[capacity];
+        mask = capacity - 1;
+        tombstones = 0;
+    }
+
+    private long allocate(int length) {
+        if (head < 0 || slabUsed[head] + length > slabSize) {
+            int next = nextHead(length);
+            if (next < 0) {
+                return EMPTY;
+            }
+            head = next;
+        }
+        int offset = slabUsed[head];
+        slabUsed[head] += length;
+        usedBytes += length;
+        return address(head, offset);
+    }
+
+    /**
+     * Picks the slab to append to once the current one is full: compacts the most
+     * fragmented slab when dead records dominate or memory is exhausted, otherwise
+     * reuses a slab with room, otherwise allocates a new one.
+     */
+    private int nextHead(int length) {
+        boolean exhausted = slabs.size() >= maxSlabs;
+        if (exhausted || deadBytes > usedBytes * compactionThreshold) {
+            int victim = mostFragmented();
+            if (victim >= 0 && slabDead[victim] > 0) {
+                compact(victim);
+                if (slabSize - slabUsed[victim] >= length) {
+                    return victim;
+                }
+            }
+        }
+
+        int best = -1;
+        for (int i = 0; i < slabs.size(); i++) {
+            int room = slabSize - slabUsed[i];
+            if (room >= length && (best < 0 || room > slabSize - slabUsed[best])) {
+                best = i;
+            }
+        }
+        if (best >= 0) {
+            return best;
+        }
+
+        if (!exhausted) {
+            slabs.add(ByteBuffer.allocateDirect(slabSize));
+            return slabs.size() - 1;
+        }
+        return -1;
+    }
+
+    private int mostFragmented() {
+        int victim = -1;
+        for (int i = 0; i < slabs.size(); i++) {
+            if (victim < 0 || slabDead[i] > slabDead[victim]) {
+                victim = i;
+            }
+        }
+        return victim;
+    }
+
+    /**
+     * Slides the live records of a slab to its start and re-points their index entries.
+     */
+    private void compact(int index) {
+        ByteBuffer slab = slabs.get(index);
+        int used = slabUsed[index];
+        int read = 0;
+        int write = 0;
+        while (read < used) {
+            int length = ProductRecordFormat.length(slab, read);
+            if (ProductRecordFormat.isLive(slab, read)) {
+                int slot = findByAddress(ProductRecordFormat.skuHash(slab, read), address(index, read));
+                if (slot < 0) {
+                    logger.error("Off-heap record at {}:{} is not indexed; discarding it", index, read);
+                } else {
+                    if (write != read) {
+                        if (scratch.length < length) {
+                            scratch = new byte[Math.max(length, scratch.length * 2)];
+                        }
+                        slab.get(read, scratch, 0, length);
+                        slab.put(write, scratch, 0, length);
+                        addresses[slot] = address(index, write);
+                    }
+                    write += length;
+                }
+            }
+            read += length;
+        }
+
+        usedBytes -= used - write;
+        deadBytes -= slabDead[index];
+        slabDead[index] = 0;
+        slabUsed[index] = write;
+        compactions.increment();
+        logger.debug("Compacted off-heap slab {}: reclaimed {} bytes", index, used - write);
+    }
+
+    private void release(long address) {
+        ByteBuffer slab = slabs.get(slabOf(address));
+        int offset = offsetOf(address);
+        int length = ProductRecordFormat.length(slab, offset);
+        ProductRecordFormat.markDead(slab, offset);
+        slabDead[slabOf(address)] += length;
+        deadBytes += length;
+    }
+
+    private Instant updatedAt(long address) {
+        return ProductRecordFormat.updatedAt(slabs.get(slabOf(address)), offsetOf(address));
+    }
+
+    private void reject(ProductSnapshot snapshot) {
+        rejected.increment();
+        if (!fullReported) {
+            fullReported = true;
+            logger.warn("Off-heap read store is full ({} bytes); product {} and later overflow are served from the database",
+                    allocatedBytes(), snapshot.sku());
+        }
+    }
+
+    private static boolean isNewer(Instant candidate, Instant current) {
+        if (candidate == null || current == null) {
+            return true;
+        }
+        return !candidate.isBefore(current);
+    }
+
+    private static long address(int slab, int offset) {
+        return ((long) slab << 32) | offset;
+    }
+
+    private static int slabOf(long address) {
+        return (int) (address >>> 32);
+    }
+
+    private static int offsetOf(long address) {
+        return (int) address;
+    }
+
+    private static int tableSizeFor(int capacity) {
+        int size = Integer.highestOneBit(Math.max(16, capacity) - 1) << 1;
+        return Math.max(16, size);
+    }
+}
@@ -0,0 +1,89 @@
+package com.paklog.productcatalog.infrastructure.readmodel;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paklog.productcatalog.domain.event.ProductSnapshot;
+import com.paklog.productcatalog.infrastructure.messaging.avro.AvroProductEventReader;
+import com.paklog.productcatalog.infrastructure.messaging.avro.ProductEventAvroMapper;
+import org.apache.avro.generic.GenericRecord;
+import org.springframework.kafka.support.JacksonUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Turns records of the compacted product-events topic back into read model changes.
+ * Accepts both the JSON and the framed Avro encoding so the topic can be migrated in place.
+ */
+public class ProductChangelogDecoder {
+
+    // Event timestamps are written as decimal epoch seconds; parsing them as doubles would drop nanos.
+    private final ObjectMapper objectMapper = JacksonUtils.enhancedObjectMapper()
+            .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+
+    private final AvroProductEventReader avroReader;
+
+    public ProductChangelogDecoder() {
+        this(null);
+    }
+
+    public ProductChangelogDecoder(AvroProductEventReader avroReader) {
+        this.avroReader = avroReader;
+    }
+
+    /**
+     * Decodes one changelog record.
+     *
+     * @return the change to apply, or {@code null} if the record carries no product state
+     */
+    public ChangelogEntry decode(String key, byte[] value) {
+        if (value == null) {
+            return ChangelogEntry.removal(key);
+        }
+        if (avroReader != null && AvroProductEventReader.isAvro(value)) {
+            return decodeAvro(key, value);
+        }
+
+        try {
+            JsonNode event = objectMapper.readTree(value);
+            String eventType = event.path("eventType").asText();
+
+            if ("ProductDeleted".equals(eventType)) {
+                return ChangelogEntry.removal(key);
+            }
+
+            JsonNode product = event.get("product");
+            if (product == null || product.isNull()) {
+                return null;
+            }
+            return ChangelogEntry.upsert(key, objectMapper.treeToValue(product, ProductSnapshot.class));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unreadable changelog record for key " + key, e);
+        }
+    }
+
+    private ChangelogEntry decodeAvro(String key, byte[] value) {
+        GenericRecord event = avroReader.read(value);
+        if ("ProductDeleted".equals(ProductEventAvroMapper.eventType(event))) {
+            return ChangelogEntry.removal(key);
+        }
+        ProductSnapshot snapshot = ProductEventAvroMapper.toSnapshot(event);
+        return snapshot != null ? ChangelogEntry.upsert(key, snapshot) : null;
+    }
+
+    public record ChangelogEntry(String sku, ProductSnapshot snapshot) {
+
+        static ChangelogEntry upsert(String sku, ProductSnapshot snapshot) {
+            return new ChangelogEntry(sku, snapshot);
+        }
+
+        static ChangelogEntry removal(String sku) {
+            return new ChangelogEntry(sku, null);
+        }
+
+        public boolean isRemoval() {
+            return snapshot == null;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.paklog.productcatalog.infrastructure.readmodel;
+
+import com.paklog.productcatalog.domain.event.ProductSnapshot;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Local, in-process copy of the catalog used to serve reads without a round trip to Mongo.
+ */
+public interface ProductReadStore {
+
+    Optional<ProductSnapshot> get(String sku);
+
+    /**
+     * Stores the snapshot unless the store already holds a newer state for the SKU.
+     */
+    void put(ProductSnapshot snapshot);
+
+    void remove(String sku);
+
+    long size();
+
+    /**
+     * Hands every stored snapshot to the action, in no particular order.
+     */
+    void forEach(Consumer<ProductSnapshot> action);
+}
@@ -0,0 +1,305 @@
+package com.paklog.productcatalog.infrastructure.readmodel;
+
+import com.paklog.productcatalog.domain.event.ProductSnapshot;
+import com.paklog.productcatalog.domain.model.Attributes;
+import com.paklog.productcatalog.domain.model.DimensionMeasurement;
+import com.paklog.productcatalog.domain.model.DimensionSet;
+import com.paklog.productcatalog.domain.model.Dimensions;
+import com.paklog.productcatalog.domain.model.HazmatInfo;
+import com.paklog.productcatalog.domain.model.PackedDimensions;
+import com.paklog.productcatalog.domain.model.SKU;
+import com.paklog.productcatalog.domain.model.WeightMeasurement;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * Binary layout of a product record in an off-heap slab or a catalog snapshot file.
+ * <pre>
+ * int    length         whole record, header included
+ * byte   state          LIVE or DEAD
+ * long   updatedAt      epoch seconds, Long.MIN_VALUE when absent
+ * int    updatedAt      nanos
+ * short  sku length, sku bytes (UTF-8)
+ * int    title length (-1 when absent), title bytes
+ * byte   content flags
+ * [8 x (long unscaled, byte scale, byte unit)]   when DIMENSIONS
+ * [short un number length, bytes]                when UN_NUMBER
+ * [long seconds, int nanos]                      when CREATED
+ * [long version]                                 when VERSION
+ * </pre>
+ * The fixed header lets the store compare SKUs and update times without decoding.
+ */
+final class ProductRecordFormat {
+
+    static final byte LIVE = 1;
+    static final byte DEAD = 0;
+
+    static final int LENGTH_OFFSET = 0;
+    static final int STATE_OFFSET = 4;
+    static final int UPDATED_SECONDS_OFFSET = 5;
+    static final int UPDATED_NANOS_OFFSET = 13;
+    static final int SKU_LENGTH_OFFSET = 17;
+    static final int SKU_OFFSET = 19;
+
+    private static final byte DIMENSIONS = 1;
+    private static final byte ATTRIBUTES = 1 << 1;
+    private static final byte HAZMAT = 1 << 2;
+    private static final byte UN_NUMBER = 1 << 3;
+    private static final byte CREATED = 1 << 4;
+    private static final byte VERSION = 1 << 5;
+
+    private static final Attributes NON_HAZMAT = Attributes.withoutHazmat();
+
+    private static final int MEASUREMENT_SIZE = Long.BYTES + 2;
+
+    private static final DimensionMeasurement.DimensionUnit[] DIMENSION_UNITS = DimensionMeasurement.DimensionUnit.values();
+    private static final WeightMeasurement.WeightUnit[] WEIGHT_UNITS = WeightMeasurement.WeightUnit.values();
+
+    private ProductRecordFormat() {
+    }
+
+    static byte[] encode(ProductSnapshot snapshot) {
+        byte[] sku = utf8(snapshot.sku().value());
+        if (sku.length > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("SKU is too long for the off-heap store");
+        }
+        byte[] title = snapshot.title() != null ? utf8(snapshot.title()) : null;
+        HazmatInfo hazmat = snapshot.attributes() != null ? snapshot.attributes().hazmatInfo() : null;
+        byte[] unNumber = hazmat != null && hazmat.unNumber() != null ? utf8(hazmat.unNumber()) : null;
+        Dimensions dimensions = snapshot.dimensions();
+
+        byte flags = 0;
+        int size = SKU_OFFSET + sku.length + Integer.BYTES + (title != null ? title.length : 0) + 1;
+        if (dimensions != null) {
+            requireEncodable(dimensions.item());
+            requireEncodable(dimensions.packageDimensions());
+            flags |= DIMENSIONS;
+            size += PackedDimensions.MEASUREMENTS * MEASUREMENT_SIZE;
+        }
+        if (hazmat != null) {
+            flags |= ATTRIBUTES;
+            if (hazmat.isHazmat()) {
+                flags |= HAZMAT;
+            }
+        }
+        if (unNumber != null) {
+            if (unNumber.length > Short.MAX_VALUE) {
+                throw new IllegalArgumentException("UN number is too long for the off-heap store");
+            }
+            flags |= UN_NUMBER;
+            size += Short.BYTES + unNumber.length;
+        }
+        if (snapshot.createdAt() != null) {
+            flags |= CREATED;
+            size += Long.BYTES + Integer.BYTES;
+        }
+        if (snapshot.version() != null) {
+            flags |= VERSION;
+            size += Long.BYTES;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(size);
+        buffer.put(LIVE);
+        putInstant(buffer, snapshot.updatedAt());
+        buffer.putShort((short) sku.length).put(sku);
+        if (title != null) {
+            buffer.putInt(title.length).put(title);
+        } else {
+            buffer.putInt(-1);
+        }
+        buffer.put(flags);
+        if (dimensions != null) {
+            putDimensionSet(buffer, dimensions.item());
+            putDimensionSet(buffer, dimensions.packageDimensions());
+        }
+        if (unNumber != null) {
+            buffer.putShort((short) unNumber.length).put(unNumber);
+        }
+        if (snapshot.createdAt() != null) {
+            putInstant(buffer, snapshot.createdAt());
+        }
+        if (snapshot.version() != null) {
+            buffer.putLong(snapshot.version());
+        }
+        return buffer.array();
+    }
+
+    static ProductSnapshot decode(ByteBuffer slab, int offset) {
+        int position = offset + SKU_LENGTH_OFFSET;
+        int skuLength = slab.getShort(position);
+        position += Short.BYTES;
+        String sku = string(slab, position, skuLength);
+        position += skuLength;
+
+        int titleLength = slab.getInt(position);
+        position += Integer.BYTES;
+        String title = null;
+        if (titleLength >= 0) {
+            title = string(slab, position, titleLength);
+            position += titleLength;
+        }
+
+        byte flags = slab.get(position++);
+        Dimensions dimensions = null;
+        if ((flags & DIMENSIONS) != 0) {
+            DimensionSet item = dimensionSet(slab, position);
+            position += 4 * MEASUREMENT_SIZE;
+            DimensionSet packageDimensions = dimensionSet(slab, position);
+            position += 4 * MEASUREMENT_SIZE;
+            dimensions = new Dimensions(item, packageDimensions);
+        }
+        String unNumber = null;
+        if ((flags & UN_NUMBER) != 0) {
+            int length = slab.getShort(position);
+            position += Short.BYTES;
+            unNumber = string(slab, position, length);
+            position += length;
+        }
+        Attributes attributes = null;
+        if ((flags & ATTRIBUTES) != 0) {
+            attributes = (flags & HAZMAT) != 0 || unNumber != null
+                    ? new Attributes(new HazmatInfo((flags & HAZMAT) != 0, unNumber))
+                    : NON_HAZMAT;
+        }
+        Instant createdAt = null;
+        if ((flags & CREATED) != 0) {
+            createdAt = Instant.ofEpochSecond(slab.getLong(position), slab.getInt(position + Long.BYTES));
+            position += Long.BYTES + Integer.BYTES;
+        }
+        Long version = (flags & VERSION) != 0 ? slab.getLong(position) : null;
+
+        return new ProductSnapshot(SKU.of(sku), title, dimensions, attributes, createdAt, updatedAt(slab, offset), version);
+    }
+
+    static int length(ByteBuffer slab, int offset) {
+        return slab.getInt(offset + LENGTH_OFFSET);
+    }
+
+    static boolean isLive(ByteBuffer slab, int offset) {
+        return slab.get(offset + STATE_OFFSET) == LIVE;
+    }
+
+    static void markDead(ByteBuffer slab, int offset) {
+        slab.put(offset + STATE_OFFSET, DEAD);
+    }
+
+    static Instant updatedAt(ByteBuffer slab, int offset) {
+        long seconds = slab.getLong(offset + UPDATED_SECONDS_OFFSET);
+        return seconds == Long.MIN_VALUE ? null : Instant.ofEpochSecond(seconds, slab.getInt(offset + UPDATED_NANOS_OFFSET));
+    }
+
+    static boolean skuEquals(ByteBuffer slab, int offset, byte[] sku) {
+        if (slab.getShort(offset + SKU_LENGTH_OFFSET) != sku.length) {
+            return false;
+        }
+        int position = offset + SKU_OFFSET;
+        for (int i = 0; i < sku.length; i++) {
+            if (slab.get(position + i) != sku[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Orders the stored SKU against {@code sku} by unsigned UTF-8 bytes, the order snapshot files are sorted in.
+     */
+    static int compareSku(ByteBuffer slab, int offset, byte[] sku) {
+        int length = slab.getShort(offset + SKU_LENGTH_OFFSET);
+        int position = offset + SKU_OFFSET;
+        int common = Math.min(length, sku.length);
+        for (int i = 0; i < common; i++) {
+            int diff = (slab.get(position + i) & 0xFF) - (sku[i] & 0xFF);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return length - sku.length;
+    }
+
+    /**
+     * Hash of the UTF-8 SKU bytes, so it can be computed both from a lookup key and from a stored record.
+     */
+    static int skuHash(ByteBuffer slab, int offset) {
+        int length = slab.getShort(offset + SKU_LENGTH_OFFSET);
+        int hash = 0x811C9DC5;
+        for (int i = 0; i < length; i++) {
+            hash = (hash ^ (slab.get(offset + SKU_OFFSET + i) & 0xFF)) * 0x01000193;
+        }
+        return mix(hash);
+    }
+
+    static int skuHash(byte[] sku) {
+        int hash = 0x811C9DC5;
+        for (byte b : sku) {
+            hash = (hash ^ (b & 0xFF)) * 0x01000193;
+        }
+        return mix(hash);
+    }
+
+    static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int mix(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static void putInstant(ByteBuffer buffer, Instant instant) {
+        if (instant != null) {
+            buffer.putLong(instant.getEpochSecond()).putInt(instant.getNano());
+        } else {
+            buffer.putLong(Long.MIN_VALUE).putInt(0);
+        }
+    }
+
+    /**
+     * Only the digits have to fit; the canonical range is not needed to store a product,
+     * so older products outside it are kept.
+     */
+    private static void requireEncodable(DimensionSet set) {
+        if (!PackedDimensions.isPackable(set.length().value()) || !PackedDimensions.isPackable(set.width().value())
+                || !PackedDimensions.isPackable(set.height().value()) || !PackedDimensions.isPackable(set.weight().value())) {
+            throw new IllegalArgumentException("Dimensions have too many digits for the off-heap store");
+        }
+    }
+
+    private static void putDimensionSet(ByteBuffer buffer, DimensionSet set) {
+        putMeasurement(buffer, set.length().value(), set.length().unit().ordinal());
+        putMeasurement(buffer, set.width().value(), set.width().unit().ordinal());
+        putMeasurement(buffer, set.height().value(), set.height().unit().ordinal());
+        putMeasurement(buffer, set.weight().value(), set.weight().unit().ordinal());
+    }
+
+    private static void putMeasurement(ByteBuffer buffer, BigDecimal value, int unit) {
+        buffer.putLong(value.unscaledValue().longValueExact())
+                .put((byte) value.scale())
+                .put((byte) unit);
+    }
+
+    private static DimensionSet dimensionSet(ByteBuffer slab, int position) {
+        return new DimensionSet(
+                new DimensionMeasurement(decimal(slab, position), DIMENSION_UNITS[unit(slab, position)]),
+                new DimensionMeasurement(decimal(slab, position + MEASUREMENT_SIZE), DIMENSION_UNITS[unit(slab, position + MEASUREMENT_SIZE)]),
+                new DimensionMeasurement(decimal(slab, position + 2 * MEASUREMENT_SIZE), DIMENSION_UNITS[unit(slab, position + 2 * MEASUREMENT_SIZE)]),
+                new WeightMeasurement(decimal(slab, position + 3 * MEASUREMENT_SIZE), WEIGHT_UNITS[unit(slab, position + 3 * MEASUREMENT_SIZE)]));
+    }
+
+    private static BigDecimal decimal(ByteBuffer slab, int position) {
+        return BigDecimal.valueOf(slab.getLong(position), slab.get(position + Long.BYTES));
+    }
+
+    private static int unit(ByteBuffer slab, int position) {
+        return slab.get(position + Long.BYTES + 1);
+    }
+
+    private static String string(ByteBuffer slab, int position, int length) {
+        byte[] bytes = new byte[length];
+        slab.get(position, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
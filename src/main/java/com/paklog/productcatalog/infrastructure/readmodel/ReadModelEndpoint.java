@@ -0,0 +1,27 @@
+package com.paklog.productcatalog.infrastructure.readmodel;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.Map;
+
+/**
+ * Exposes read model bootstrap progress at {@code /actuator/readmodel}.
+ */
+@Endpoint(id = "readmodel")
+public class ReadModelEndpoint {
+
+    private final ChangelogBootstrapper bootstrapper;
+
+    public ReadModelEndpoint(ChangelogBootstrapper bootstrapper) {
+        this.bootstrapper = bootstrapper;
+    }
+
+    @ReadOperation
+    public Object progress() {
+        if (bootstrapper == null) {
+            return Map.of("enabled", false);
+        }
+        return bootstrapper.progress();
+    }
+}
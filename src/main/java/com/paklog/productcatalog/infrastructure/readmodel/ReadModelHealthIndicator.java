@@ -0,0 +1,34 @@
+package com.paklog.productcatalog.infrastructure.readmodel;
+
+import org.springframework.boot.actuate.health.AbstractHealthIndicator;
+import org.springframework.boot.actuate.health.Health;
+
+/**
+ * Keeps the instance out of the readiness group until the read model has caught up.
+ * Reports UP when the read model is disabled so the group stays valid in every profile.
+ */
+public class ReadModelHealthIndicator extends AbstractHealthIndicator {
+
+    private final ChangelogBootstrapper bootstrapper;
+
+    public ReadModelHealthIndicator(ChangelogBootstrapper bootstrapper) {
+        this.bootstrapper = bootstrapper;
+    }
+
+    @Override
+    protected void doHealthCheck(Health.Builder builder) {
+        if (bootstrapper == null) {
+            builder.up().withDetail("enabled", false);
+            return;
+        }
+
+        ReadModelProgress progress = bootstrapper.progress();
+        builder.status(progress.ready() ? "UP" : "OUT_OF_SERVICE")
+                .withDetail("phase", progress.phase())
+                .withDetail("products", progress.products())
+                .withDetail("lag", progress.lag());
+        if (progress.timedOut()) {
+            builder.withDetail("timedOut", true);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.paklog.productcatalog.infrastructure.readmodel;
+
+import com.paklog.productcatalog.domain.event.ProductSnapshot;
+import com.paklog.productcatalog.domain.model.Product;
+import com.paklog.productcatalog.domain.model.SKU;
+import com.paklog.productcatalog.domain.repository.ProductRepository;
+import com.paklog.productcatalog.infrastructure.persistence.support.DelegatingProductRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Serves lookups by SKU, batch lookups and exports from the local read model once
+ * it has caught up with the changelog or was seeded from a snapshot, falling back
+ * to the wrapped repository on a miss. Writes go to the wrapped repository first
+ * and are then applied to the store so this instance reads its own writes without
+ * waiting for the event round trip.
+ */
+public class ReadModelProductRepository extends DelegatingProductRepository {
+
+    private final ProductReadStore store;
+    private final ChangelogBootstrapper bootstrapper;
+
+    public ReadModelProductRepository(ProductRepository delegate, ProductReadStore store,
+                                      ChangelogBootstrapper bootstrapper) {
+        super(delegate);
+        this.store = store;
+        this.bootstrapper = bootstrapper;
+    }
+
+    @Override
+    public Product save(Product product) {
+        Product saved = delegate.save(product);
+        store.put(saved.snapshot());
+        return saved;
+    }
+
+    @Override
+    public Map<SKU, String> saveAll(List<Product> products) {
+        Map<SKU, String> failures = delegate.saveAll(products);
+        for (Product product : products) {
+            if (!failures.containsKey(product.getSku())) {
+                store.put(product.snapshot());
+            }
+        }
+        return failures;
+    }
+
+    @Override
+    public Set<SKU> saveAllIfUnmodified(List<Product> products) {
+        Set<SKU> conflicts = delegate.saveAllIfUnmodified(products);
+        for (Product product : products) {
+            if (conflicts.contains(product.getSku())) {
+                // The store lags the write that won; the retry has to read the database
+                store.remove(product.getSku().value());
+            } else {
+                store.put(product.snapshot());
+            }
+        }
+        return conflicts;
+    }
+
+    @Override
+    public Optional<Product> findBySku(SKU sku) {
+        if (bootstrapper.canServeReads()) {
+            Optional<ProductSnapshot> cached = store.get(sku.value());
+            if (cached.isPresent()) {
+                return cached.map(ReadModelProductRepository::toProduct);
+            }
+        }
+        return delegate.findBySku(sku);
+    }
+
+    /**
+     * Serves what the store holds and looks up only the misses in the database.
+     */
+    @Override
+    public List<Product> findAllBySku(Collection<SKU> skus) {
+        if (!bootstrapper.canServeReads()) {
+            return delegate.findAllBySku(skus);
+        }
+        List<Product> products = new ArrayList<>(skus.size());
+        List<SKU> misses = new ArrayList<>();
+        for (SKU sku : skus) {
+            store.get(sku.value()).ifPresentOrElse(
+                    snapshot -> products.add(toProduct(snapshot)),
+                    () -> misses.add(sku));
+        }
+        if (!misses.isEmpty()) {
+            products.addAll(delegate.findAllBySku(misses));
+        }
+        return products;
+    }
+
+    @Override
+    public void exportAll(Consumer<Product> action) {
+        if (bootstrapper.canServeReads()) {
+            store.forEach(snapshot -> action.accept(toProduct(snapshot)));
+        } else {
+            delegate.exportAll(action);
+        }
+    }
+
+    @Override
+    public boolean existsBySku(SKU sku) {
+        if (bootstrapper.canServeReads() && store.get(sku.value()).isPresent()) {
+            return true;
+        }
+        return delegate.existsBySku(sku);
+    }
+
+    @Override
+    public void delete(Product product) {
+        delegate.delete(product);
+        store.remove(product.getSku().value());
+    }
+
+    @Override
+    public void deleteBySku(SKU sku) {
+        delegate.deleteBySku(sku);
+        store.remove(sku.value());
+    }
+
+    private static Product toProduct(ProductSnapshot snapshot) {
+        return new Product(snapshot.sku(), snapshot.title(), snapshot.dimensions(), snapshot.attributes(),
+                snapshot.createdAt(), snapshot.updatedAt(), snapshot.version());
+    }
+}
@@ -0,0 +1,31 @@
+package com.paklog.productcatalog.infrastructure.readmodel;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Point-in-time view of how far the read model has replayed the changelog.
+ */
+public record ReadModelProgress(
+    ChangelogBootstrapper.Phase phase,
+    boolean ready,
+    boolean caughtUp,
+    boolean timedOut,
+    long products,
+    long recordsApplied,
+    long recordsSkipped,
+    Duration elapsed,
+    Map<String, PartitionProgress> partitions
+) {
+
+    public long lag() {
+        return partitions.values().stream().mapToLong(PartitionProgress::lag).sum();
+    }
+
+    public record PartitionProgress(long position, long target) {
+
+        public long lag() {
+            return Math.max(0, target - position);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.paklog.productcatalog.infrastructure.readmodel;
+
+import com.paklog.productcatalog.domain.event.ProductSnapshot;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Serves a memory-mapped {@link CatalogSnapshot} as the base layer and keeps every
+ * change applied since in a delta store on top of it. A SKU written or removed after
+ * the snapshot is recorded as shadowed, so its snapshot record is never served again.
+ */
+public class SnapshotBackedProductReadStore implements ProductReadStore {
+
+    private final CatalogSnapshot base;
+    private final ProductReadStore delta;
+    private final Set<String> shadowed = ConcurrentHashMap.newKeySet();
+
+    public SnapshotBackedProductReadStore(CatalogSnapshot base, ProductReadStore delta) {
+        this.base = base;
+        this.delta = delta;
+    }
+
+    @Override
+    public Optional<ProductSnapshot> get(String sku) {
+        Optional<ProductSnapshot> changed = delta.get(sku);
+        if (changed.isPresent() || shadowed.contains(sku)) {
+            return changed;
+        }
+        return base.get(sku);
+    }
+
+    @Override
+    public void put(ProductSnapshot snapshot) {
+        String sku = snapshot.sku().value();
+        if (!shadowed.contains(sku)) {
+            Optional<ProductSnapshot> original = base.get(sku);
+            if (original.isPresent()) {
+                if (isOlder(snapshot.updatedAt(), original.get().updatedAt())) {
+                    return;
+                }
+                delta.put(snapshot);
+                shadowed.add(sku);
+                return;
+            }
+        }
+        delta.put(snapshot);
+    }
+
+    @Override
+    public void remove(String sku) {
+        // Shadow first so a concurrent get never falls through to the snapshot record
+        if (base.contains(sku)) {
+            shadowed.add(sku);
+        }
+        delta.remove(sku);
+    }
+
+    @Override
+    public long size() {
+        return base.size() - shadowed.size() + delta.size();
+    }
+
+    @Override
+    public void forEach(Consumer<ProductSnapshot> action) {
+        delta.forEach(action);
+        base.forEach(snapshot -> {
+            if (!shadowed.contains(snapshot.sku().value())) {
+                action.accept(snapshot);
+            }
+        });
+    }
+
+    public CatalogSnapshot base() {
+        return base;
+    }
+
+    private static boolean isOlder(Instant candidate, Instant current) {
+        return candidate != null && current != null && candidate.isBefore(current);
+    }
+}
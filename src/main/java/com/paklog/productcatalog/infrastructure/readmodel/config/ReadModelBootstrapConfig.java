@@ -0,0 +1,128 @@
+package com.paklog.productcatalog.infrastructure.readmodel.config;
+
+import com.paklog.productcatalog.infrastructure.config.ReadModelConfig;
+import com.paklog.productcatalog.infrastructure.messaging.avro.AvroProductEventReader;
+import com.paklog.productcatalog.infrastructure.persistence.support.ProductRepositoryDecorator;
+import com.paklog.productcatalog.infrastructure.readmodel.CatalogSnapshotDirectory;
+import com.paklog.productcatalog.infrastructure.readmodel.CatalogSnapshotEndpoint;
+import com.paklog.productcatalog.infrastructure.readmodel.CatalogSnapshotJob;
+import com.paklog.productcatalog.infrastructure.readmodel.ChangelogBootstrapper;
+import com.paklog.productcatalog.infrastructure.readmodel.HeapProductReadStore;
+import com.paklog.productcatalog.infrastructure.readmodel.OffHeapProductReadStore;
+import com.paklog.productcatalog.infrastructure.readmodel.ProductChangelogDecoder;
+import com.paklog.productcatalog.infrastructure.readmodel.ProductReadStore;
+import com.paklog.productcatalog.infrastructure.readmodel.ReadModelEndpoint;
+import com.paklog.productcatalog.infrastructure.readmodel.ReadModelHealthIndicator;
+import com.paklog.productcatalog.infrastructure.readmodel.ReadModelProductRepository;
+import com.paklog.productcatalog.infrastructure.readmodel.SnapshotBackedProductReadStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+public class ReadModelBootstrapConfig {
+
+    @Value("${spring.kafka.bootstrap-servers}")
+    private String bootstrapServers;
+
+    @Value("${product-catalog.kafka.topics.product-events}")
+    private String productEventsTopic;
+
+    @Bean
+    @ConditionalOnProperty(prefix = "product-catalog.read-model", name = {"enabled", "snapshot.enabled"}, havingValue = "true")
+    public CatalogSnapshotDirectory catalogSnapshotDirectory(ReadModelConfig readModelConfig) {
+        ReadModelConfig.Snapshot snapshot = readModelConfig.getSnapshot();
+        return new CatalogSnapshotDirectory(Path.of(snapshot.getDirectory()), productEventsTopic,
+                snapshot.getRetain(), snapshot.isVerifyChecksum());
+    }
+
+    /**
+     * Layers the configured store over the newest catalog snapshot when there is one.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "product-catalog.read-model", name = "enabled", havingValue = "true")
+    public ProductReadStore productReadStore(ReadModelConfig readModelConfig, MeterRegistry meterRegistry,
+                                             ObjectProvider<CatalogSnapshotDirectory> catalogSnapshotDirectory) {
+        ProductReadStore store = readModelConfig.getStore() == ReadModelConfig.StoreType.OFF_HEAP
+                ? new OffHeapProductReadStore(readModelConfig.getOffHeap(), meterRegistry)
+                : new HeapProductReadStore();
+
+        CatalogSnapshotDirectory directory = catalogSnapshotDirectory.getIfAvailable();
+        if (directory == null) {
+            return store;
+        }
+        return directory.load()
+                .<ProductReadStore>map(snapshot -> new SnapshotBackedProductReadStore(snapshot, store))
+                .orElse(store);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "product-catalog.read-model", name = "enabled", havingValue = "true")
+    public ChangelogBootstrapper changelogBootstrapper(ProductReadStore productReadStore, ReadModelConfig readModelConfig,
+                                                       AvroProductEventReader avroProductEventReader,
+                                                       ObjectProvider<CatalogSnapshotDirectory> catalogSnapshotDirectory) {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        configProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 2000);
+
+        DefaultKafkaConsumerFactory<String, byte[]> consumerFactory = new DefaultKafkaConsumerFactory<>(
+                configProps, new StringDeserializer(), new ByteArrayDeserializer());
+
+        Map<Integer, Long> startOffsets = productReadStore instanceof SnapshotBackedProductReadStore seeded
+                ? seeded.base().sourceOffsets()
+                : Map.of();
+
+        return new ChangelogBootstrapper(consumerFactory::createConsumer, productEventsTopic,
+                productReadStore, new ProductChangelogDecoder(avroProductEventReader), readModelConfig, startOffsets);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "product-catalog.read-model", name = {"enabled", "snapshot.enabled"}, havingValue = "true")
+    public CatalogSnapshotJob catalogSnapshotJob(CatalogSnapshotDirectory catalogSnapshotDirectory,
+                                                 ProductReadStore productReadStore,
+                                                 ChangelogBootstrapper changelogBootstrapper,
+                                                 MeterRegistry meterRegistry) {
+        return new CatalogSnapshotJob(catalogSnapshotDirectory, productReadStore, changelogBootstrapper, meterRegistry);
+    }
+
+    /**
+     * Outermost decorator: reads served locally skip every layer underneath.
+     */
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @ConditionalOnProperty(prefix = "product-catalog.read-model", name = "enabled", havingValue = "true")
+    public ProductRepositoryDecorator readModelRepositoryDecorator(ProductReadStore productReadStore,
+                                                                   ChangelogBootstrapper changelogBootstrapper) {
+        return delegate -> new ReadModelProductRepository(delegate, productReadStore, changelogBootstrapper);
+    }
+
+    @Bean
+    public ReadModelHealthIndicator readModelHealthIndicator(ObjectProvider<ChangelogBootstrapper> changelogBootstrapper) {
+        return new ReadModelHealthIndicator(changelogBootstrapper.getIfAvailable());
+    }
+
+    @Bean
+    public ReadModelEndpoint readModelEndpoint(ObjectProvider<ChangelogBootstrapper> changelogBootstrapper) {
+        return new ReadModelEndpoint(changelogBootstrapper.getIfAvailable());
+    }
+
+    @Bean
+    public CatalogSnapshotEndpoint catalogSnapshotEndpoint(ObjectProvider<CatalogSnapshotJob> catalogSnapshotJob) {
+        return new CatalogSnapshotEndpoint(catalogSnapshotJob.getIfAvailable());
+    }
+}
@@ -0,0 +1,9 @@
+package com.paklog.productcatalog.infrastructure.spool;
+
+import java.time.Instant;
+
+/**
+ * One entry of a {@link SegmentLog}: the payload and when it was appended.
+ */
+public record LogRecord(Instant appendedAt, byte[] payload) {
+}
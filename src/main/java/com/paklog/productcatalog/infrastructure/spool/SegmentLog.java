@@ -0,0 +1,372 @@
+package com.paklog.productcatalog.infrastructure.spool;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only log of opaque records stored in fixed-size, memory-mapped segment
+ * files. Consumers read from a persisted cursor and acknowledge what they have
+ * processed; segments behind the cursor are deleted.
+ * <p>
+ * Each record is {@code [int length][int crc32c][long appendedAtMillis][payload]},
+ * the CRC covering timestamp and payload. A zero length marks the end of a
+ * segment's data, which is what a freshly mapped (zero-filled) file reads as.
+ * On open, every segment is scanned; the first record failing its CRC is treated
+ * as a torn write and everything from there to the end of that segment is discarded.
+ * <p>
+ * All methods but {@link #force()} are synchronized; appends are cheap copies into
+ * the mapped buffer.
+ */
+public class SegmentLog implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(SegmentLog.class);
+
+    static final int HEADER_SIZE = Integer.BYTES + Integer.BYTES + Long.BYTES;
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String CURSOR_FILE = "cursor";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final boolean forceOnAppend;
+    private final List<Segment> segments = new ArrayList<>();
+
+    private int readSegment;
+    private int readPosition;
+    private long pendingRecords;
+    private long pendingBytes;
+    private long discardedRecords;
+
+    public SegmentLog(Path directory, int segmentSize, boolean forceOnAppend) {
+        if (segmentSize <= HEADER_SIZE) {
+            throw new IllegalArgumentException("Segment size must exceed the record header size");
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.forceOnAppend = forceOnAppend;
+        try {
+            Files.createDirectories(directory);
+            open();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open segment log in " + directory, e);
+        }
+    }
+
+    public synchronized void append(byte[] payload) {
+        if (payload.length == 0) {
+            throw new IllegalArgumentException("Empty records cannot be appended");
+        }
+        int recordSize = HEADER_SIZE + payload.length;
+        if (recordSize > segmentSize) {
+            throw new IllegalArgumentException("Record of " + payload.length + " bytes exceeds segment size " + segmentSize);
+        }
+
+        Segment segment = segments.get(segments.size() - 1);
+        if (segment.writePosition + recordSize > segmentSize) {
+            segment = roll();
+        }
+
+        long appendedAt = System.currentTimeMillis();
+        MappedByteBuffer buffer = segment.buffer;
+        int position = segment.writePosition;
+        buffer.putLong(position + 8, appendedAt);
+        buffer.put(position + HEADER_SIZE, payload);
+        buffer.putInt(position + 4, crc(appendedAt, payload));
+        // Length last: a record becomes visible to a scan only once it is complete
+        buffer.putInt(position, payload.length);
+        segment.writePosition += recordSize;
+
+        if (forceOnAppend) {
+            buffer.force(position, recordSize);
+        }
+        pendingRecords++;
+        pendingBytes += recordSize;
+    }
+
+    /**
+     * Writes every record appended so far through to storage. Earlier segments were
+     * forced when they were rolled, so only the active one is written back, outside the
+     * lock so that appends carry on meanwhile.
+     */
+    public void force() {
+        MappedByteBuffer active;
+        synchronized (this) {
+            active = segments.get(segments.size() - 1).buffer;
+        }
+        active.force();
+    }
+
+    /**
+     * Returns up to {@code max} records from the cursor without consuming them.
+     */
+    public synchronized List<LogRecord> read(int max) {
+        List<LogRecord> records = new ArrayList<>(Math.min(max, (int) Math.min(pendingRecords, Integer.MAX_VALUE)));
+        int segmentIndex = readSegment;
+        int position = readPosition;
+
+        while (records.size() < max && segmentIndex < segments.size()) {
+            Segment segment = segments.get(segmentIndex);
+            if (position >= segment.writePosition) {
+                segmentIndex++;
+                position = 0;
+                continue;
+            }
+            ByteBuffer buffer = segment.buffer;
+            int length = buffer.getInt(position);
+            byte[] payload = new byte[length];
+            buffer.get(position + HEADER_SIZE, payload);
+            records.add(new LogRecord(Instant.ofEpochMilli(buffer.getLong(position + 8)), payload));
+            position += HEADER_SIZE + length;
+        }
+        return records;
+    }
+
+    /**
+     * Moves the cursor past the next {@code count} records, persists it and deletes
+     * segments that are now fully consumed.
+     */
+    public synchronized void acknowledge(int count) {
+        for (int i = 0; i < count && pendingRecords > 0; i++) {
+            Segment segment = segments.get(readSegment);
+            while (readPosition >= segment.writePosition) {
+                readSegment++;
+                readPosition = 0;
+                segment = segments.get(readSegment);
+            }
+            int recordSize = HEADER_SIZE + segment.buffer.getInt(readPosition);
+            readPosition += recordSize;
+            pendingRecords--;
+            pendingBytes -= recordSize;
+        }
+
+        try {
+            deleteConsumedSegments();
+            writeCursor();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to persist segment log cursor in " + directory, e);
+        }
+    }
+
+    public synchronized boolean isEmpty() {
+        return pendingRecords == 0;
+    }
+
+    public synchronized long pendingRecords() {
+        return pendingRecords;
+    }
+
+    public synchronized long pendingBytes() {
+        return pendingBytes;
+    }
+
+    public synchronized int segmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * Records dropped on open because they failed their CRC check.
+     */
+    public synchronized long discardedRecords() {
+        return discardedRecords;
+    }
+
+    public synchronized Optional<Instant> oldestPending() {
+        if (pendingRecords == 0) {
+            return Optional.empty();
+        }
+        int segmentIndex = readSegment;
+        int position = readPosition;
+        while (position >= segments.get(segmentIndex).writePosition) {
+            segmentIndex++;
+            position = 0;
+        }
+        return Optional.of(Instant.ofEpochMilli(segments.get(segmentIndex).buffer.getLong(position + 8)));
+    }
+
+    @Override
+    public synchronized void close() {
+        for (Segment segment : segments) {
+            segment.buffer.force();
+            try {
+                segment.channel.close();
+            } catch (IOException e) {
+                logger.warn("Failed to close segment {}", segment.path, e);
+            }
+        }
+        segments.clear();
+    }
+
+    private void open() throws IOException {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+
+        for (Path file : files) {
+            Segment segment = map(file, segmentId(file));
+            segment.writePosition = scan(segment);
+            segments.add(segment);
+        }
+        if (segments.isEmpty()) {
+            segments.add(map(segmentPath(0), 0));
+        }
+
+        readCursor();
+        for (int i = readSegment; i < segments.size(); i++) {
+            Segment segment = segments.get(i);
+            int position = i == readSegment ? readPosition : 0;
+            while (position < segment.writePosition) {
+                int recordSize = HEADER_SIZE + segment.buffer.getInt(position);
+                pendingRecords++;
+                pendingBytes += recordSize;
+                position += recordSize;
+            }
+        }
+        if (pendingRecords > 0) {
+            logger.info("Opened segment log {} with {} pending records in {} segment(s)",
+                    directory, pendingRecords, segments.size());
+        }
+    }
+
+    private int scan(Segment segment) {
+        MappedByteBuffer buffer = segment.buffer;
+        int position = 0;
+        while (position + HEADER_SIZE <= segmentSize) {
+            int length = buffer.getInt(position);
+            if (length == 0) {
+                break;
+            }
+            boolean fits = length > 0 && position + HEADER_SIZE + length <= segmentSize;
+            byte[] payload = fits ? new byte[length] : null;
+            if (fits) {
+                buffer.get(position + HEADER_SIZE, payload);
+            }
+            if (!fits || buffer.getInt(position + 4) != crc(buffer.getLong(position + 8), payload)) {
+                logger.warn("Discarding torn or corrupt data in {} from position {}", segment.path, position);
+                discardedRecords++;
+                for (int i = position; i < segmentSize; i += Long.BYTES) {
+                    if (i + Long.BYTES <= segmentSize) {
+                        buffer.putLong(i, 0L);
+                    } else {
+                        buffer.put(i, (byte) 0);
+                    }
+                }
+                break;
+            }
+            position += HEADER_SIZE + length;
+        }
+        return position;
+    }
+
+    private Segment roll() {
+        Segment current = segments.get(segments.size() - 1);
+        current.buffer.force();
+        try {
+            Segment next = map(segmentPath(current.id + 1), current.id + 1);
+            segments.add(next);
+            return next;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to roll segment log in " + directory, e);
+        }
+    }
+
+    private void deleteConsumedSegments() throws IOException {
+        // Never delete the active segment; appends continue there
+        while (readSegment > 0 || (segments.size() > 1 && readPosition >= segments.get(0).writePosition)) {
+            Segment consumed = segments.remove(0);
+            consumed.channel.close();
+            Files.deleteIfExists(consumed.path);
+            if (readSegment > 0) {
+                readSegment--;
+            } else {
+                readPosition = 0;
+            }
+        }
+    }
+
+    private void readCursor() throws IOException {
+        Path cursor = directory.resolve(CURSOR_FILE);
+        readSegment = 0;
+        readPosition = 0;
+        if (!Files.exists(cursor)) {
+            return;
+        }
+        ByteBuffer data = ByteBuffer.wrap(Files.readAllBytes(cursor));
+        if (data.remaining() < Long.BYTES + Integer.BYTES) {
+            return;
+        }
+        long segmentId = data.getLong();
+        int position = data.getInt();
+        for (int i = 0; i < segments.size(); i++) {
+            if (segments.get(i).id == segmentId) {
+                readSegment = i;
+                readPosition = Math.min(position, segments.get(i).writePosition);
+                return;
+            }
+        }
+    }
+
+    private void writeCursor() throws IOException {
+        ByteBuffer data = ByteBuffer.allocate(Long.BYTES + Integer.BYTES)
+                .putLong(segments.get(readSegment).id)
+                .putInt(readPosition);
+        Path temp = directory.resolve(CURSOR_FILE + ".tmp");
+        Files.write(temp, data.array());
+        Files.move(temp, directory.resolve(CURSOR_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private Segment map(Path path, long id) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        return new Segment(id, path, channel, buffer);
+    }
+
+    private Path segmentPath(long id) {
+        return directory.resolve(String.format("%020d%s", id, SEGMENT_SUFFIX));
+    }
+
+    private static long segmentId(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static int crc(long appendedAt, byte[] payload) {
+        CRC32C crc = new CRC32C();
+        crc.update(ByteBuffer.allocate(Long.BYTES).putLong(0, appendedAt));
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    private static final class Segment {
+        private final long id;
+        private final Path path;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private int writePosition;
+
+        private Segment(long id, Path path, FileChannel channel, MappedByteBuffer buffer) {
+            this.id = id;
+            this.path = path;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+    }
+}
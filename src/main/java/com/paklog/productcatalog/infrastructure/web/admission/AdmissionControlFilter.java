@@ -0,0 +1,204 @@
+package com.paklog.productcatalog.infrastructure.web.admission;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paklog.productcatalog.infrastructure.config.AdmissionConfig;
+import com.paklog.productcatalog.infrastructure.config.AdmissionConfig.EndpointClass;
+import com.paklog.productcatalog.infrastructure.web.dto.ErrorDto;
+import com.paklog.productcatalog.shared.util.MetricsUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Admits product requests against an adaptive concurrency limit per
+ * {@link EndpointClass} and a shared global limit, and turns away the rest before
+ * they reach a Tomcat worker's real work or a MongoDB connection.
+ * <p>
+ * A request over its class's limit gets 429. A request refused by the global limit
+ * gets 503. Both carry Retry-After. Each class may only fill its {@code share} of the
+ * global limit, so as the service saturates, exports go first, then bulk reads, then
+ * single reads, and writes go last.
+ */
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private static final String PRODUCTS = "/products";
+
+    private final AdmissionConfig config;
+    private final ObjectMapper objectMapper;
+    private final AimdLimit global;
+    private final AimdLimit[] limits;
+    private final Counter[] rejectedByLimit;
+    private final Counter[] rejectedByShed;
+
+    public AdmissionControlFilter(AdmissionConfig config, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.config = config;
+        this.objectMapper = objectMapper;
+        this.global = limit(config.getGlobal());
+        registerGauges(meterRegistry, global, "all");
+
+        EndpointClass[] classes = EndpointClass.values();
+        this.limits = new AimdLimit[classes.length];
+        this.rejectedByLimit = new Counter[classes.length];
+        this.rejectedByShed = new Counter[classes.length];
+        for (EndpointClass endpointClass : classes) {
+            AimdLimit limit = limit(config.forClass(endpointClass));
+            String tag = MetricsUtil.tagValue(endpointClass);
+            limits[endpointClass.ordinal()] = limit;
+            registerGauges(meterRegistry, limit, tag);
+            rejectedByLimit[endpointClass.ordinal()] = rejectedCounter(meterRegistry, tag, "limit");
+            rejectedByShed[endpointClass.ordinal()] = rejectedCounter(meterRegistry, tag, "shed");
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        EndpointClass endpointClass = classify(request);
+        int index = endpointClass.ordinal();
+        AimdLimit limit = limits[index];
+        AdmissionConfig.Limit settings = config.forClass(endpointClass);
+
+        if (!limit.tryAcquire(1.0)) {
+            rejectedByLimit[index].increment();
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, settings,
+                    "Too many concurrent " + MetricsUtil.tagValue(endpointClass) + " requests");
+            return;
+        }
+        if (!global.tryAcquire(settings.getShare())) {
+            limit.cancel();
+            rejectedByShed[index].increment();
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, settings, "Service is shedding load");
+            return;
+        }
+
+        long started = System.nanoTime();
+        Release release = new Release(limit, settings.getMaxLatency().toNanos(), started, response);
+        boolean async = false;
+        try {
+            chain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(release);
+                async = true;
+            }
+        } catch (IOException | ServletException | RuntimeException e) {
+            release.complete(true);
+            throw e;
+        } finally {
+            if (!async) {
+                release.complete(false);
+            }
+        }
+    }
+
+    /**
+     * Streaming responses such as the export finish after the filter returns, so their
+     * slots are released when the async request completes.
+     */
+    private final class Release implements AsyncListener {
+
+        private final AimdLimit limit;
+        private final long maxLatencyNanos;
+        private final long started;
+        private final HttpServletResponse response;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Release(AimdLimit limit, long maxLatencyNanos, long started, HttpServletResponse response) {
+            this.limit = limit;
+            this.maxLatencyNanos = maxLatencyNanos;
+            this.started = started;
+            this.response = response;
+        }
+
+        void complete(boolean failed) {
+            if (released.compareAndSet(false, true)) {
+                boolean overloaded = failed || response.getStatus() >= 500
+                        || System.nanoTime() - started > maxLatencyNanos;
+                limit.release(started, overloaded);
+                global.release(started, overloaded);
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            complete(false);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            complete(true);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            complete(true);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+
+    static EndpointClass classify(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String method = request.getMethod();
+        if (path.equals(PRODUCTS + "/export") || path.equals(PRODUCTS + "/import")) {
+            return EndpointClass.EXPORT;
+        }
+        if (path.equals(PRODUCTS + "/batch-get") || path.equals(PRODUCTS + "/changes")) {
+            return EndpointClass.BULK;
+        }
+        if ("GET".equals(method) || "HEAD".equals(method)) {
+            return EndpointClass.READ;
+        }
+        return EndpointClass.WRITE;
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, AdmissionConfig.Limit settings, String message)
+            throws IOException {
+        long retryAfterSeconds = Math.max(1, (settings.getRetryAfter().toMillis() + 999) / 1000);
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ErrorDto.of(status.value(), message));
+    }
+
+    private AimdLimit limit(AdmissionConfig.Limit settings) {
+        return new AimdLimit(settings.getInitialLimit(), settings.getMinLimit(), settings.getMaxLimit(),
+                config.getBackoffRatio());
+    }
+
+    private static void registerGauges(MeterRegistry meterRegistry, AimdLimit limit, String endpointClass) {
+        Tags tags = Tags.of("class", endpointClass);
+        Gauge.builder("http.admission.limit", limit, AimdLimit::limit)
+                .description("Current adaptive concurrency limit")
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder("http.admission.in.flight", limit, AimdLimit::inFlight)
+                .description("Requests currently admitted")
+                .tags(tags)
+                .register(meterRegistry);
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String endpointClass, String reason) {
+        return Counter.builder("http.admission.rejected")
+                .description("Requests turned away by admission control")
+                .tag("class", endpointClass)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,85 @@
+package com.paklog.productcatalog.infrastructure.web.admission;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit adjusted by additive increase, multiplicative decrease. A request
+ * that finishes in time while at least half the limit is in use raises the limit by
+ * one. A request that is too slow or fails cuts it by {@code backoffRatio}.
+ * <p>
+ * Only requests admitted after the last cut can cut it again. When an overload
+ * episode ends, every request that was already in flight finishes slowly, and those
+ * requests describe one episode, not many.
+ */
+final class AimdLimit {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+
+    private final AtomicInteger limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile long lastDecrease = System.nanoTime();
+
+    AimdLimit(int initialLimit, int minLimit, int maxLimit, double backoffRatio) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= min <= max, got " + minLimit + ".." + maxLimit);
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("Backoff ratio must be between 0 and 1, got " + backoffRatio);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.limit = new AtomicInteger(Math.max(minLimit, Math.min(maxLimit, initialLimit)));
+    }
+
+    /**
+     * Takes a slot if fewer than {@code share} of the limit are in use.
+     */
+    boolean tryAcquire(double share) {
+        int ceiling = Math.max(1, (int) (limit.get() * share));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= ceiling) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Gives a slot back without using the request to adjust the limit.
+     */
+    void cancel() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * Gives a slot back and adjusts the limit from how the request went.
+     *
+     * @param startNanos {@link System#nanoTime()} when the request was admitted
+     * @param overloaded whether the request was too slow or failed on the server side
+     */
+    void release(long startNanos, boolean overloaded) {
+        int wasInFlight = inFlight.getAndDecrement();
+        if (overloaded) {
+            if (startNanos - lastDecrease >= 0) {
+                lastDecrease = System.nanoTime();
+                limit.updateAndGet(current -> Math.max(minLimit, (int) (current * backoffRatio)));
+            }
+        } else if (wasInFlight * 2 >= limit.get()) {
+            limit.updateAndGet(current -> Math.min(maxLimit, current + 1));
+        }
+    }
+
+    int limit() {
+        return limit.get();
+    }
+
+    int inFlight() {
+        return inFlight.get();
+    }
+}
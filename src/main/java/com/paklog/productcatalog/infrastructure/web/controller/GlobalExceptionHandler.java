@@ -1,12 +1,16 @@
 package com.paklog.productcatalog.infrastructure.web.controller;
 
 import com.paklog.productcatalog.infrastructure.web.dto.ErrorDto;
+import com.paklog.productcatalog.shared.exception.ConcurrentProductModificationException;
+import com.paklog.productcatalog.shared.exception.EventPipelineFullException;
 import com.paklog.productcatalog.shared.exception.ProductAlreadyExistsException;
 import com.paklog.productcatalog.shared.exception.ProductNotFoundException;
+import com.paklog.productcatalog.shared.exception.RepositoryUnavailableException;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -34,6 +38,34 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
     }
     
+    @ExceptionHandler(ConcurrentProductModificationException.class)
+    public ResponseEntity<ErrorDto> handleConcurrentModification(ConcurrentProductModificationException e) {
+        logger.warn("Concurrent product modification: {}", e.getMessage());
+        var error = ErrorDto.of(HttpStatus.CONFLICT.value(), e.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(error);
+    }
+    
+    @ExceptionHandler(EventPipelineFullException.class)
+    public ResponseEntity<ErrorDto> handleEventPipelineFull(EventPipelineFullException e) {
+        logger.warn("Event pipeline full: {}", e.getMessage());
+        var error = ErrorDto.of(HttpStatus.SERVICE_UNAVAILABLE.value(), e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(error);
+    }
+    
+    @ExceptionHandler(RepositoryUnavailableException.class)
+    public ResponseEntity<ErrorDto> handleRepositoryUnavailable(RepositoryUnavailableException e) {
+        logger.warn("Product repository unavailable: {}", e.getMessage());
+        long retryAfterSeconds = Math.max(1, (e.getRetryAfter().toMillis() + 999) / 1000);
+        var error = ErrorDto.of(HttpStatus.SERVICE_UNAVAILABLE.value(), e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+                .body(error);
+    }
+    
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorDto> handleValidationErrors(MethodArgumentNotValidException e) {
         logger.warn("Validation error: {}", e.getMessage());
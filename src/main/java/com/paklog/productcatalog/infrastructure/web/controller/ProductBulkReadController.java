@@ -0,0 +1,118 @@
+package com.paklog.productcatalog.infrastructure.web.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paklog.productcatalog.application.port.input.GetProductUseCase;
+import com.paklog.productcatalog.application.query.GetProductsQuery;
+import com.paklog.productcatalog.domain.model.Product;
+import com.paklog.productcatalog.domain.model.SKU;
+import com.paklog.productcatalog.infrastructure.config.PaginationConfig;
+import com.paklog.productcatalog.infrastructure.web.dto.ErrorDto;
+import com.paklog.productcatalog.infrastructure.web.dto.ProductBatchDto;
+import com.paklog.productcatalog.infrastructure.web.dto.ProductBatchRequestDto;
+import com.paklog.productcatalog.infrastructure.web.mapper.ProductDtoMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/products")
+@Tag(name = "Products", description = "Operations related to the Product Catalog")
+public class ProductBulkReadController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductBulkReadController.class);
+
+    static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final GetProductUseCase getProductUseCase;
+    private final ProductDtoMapper mapper;
+    private final PaginationConfig paginationConfig;
+    private final ObjectMapper objectMapper;
+
+    public ProductBulkReadController(GetProductUseCase getProductUseCase,
+                                     ProductDtoMapper mapper,
+                                     PaginationConfig paginationConfig,
+                                     ObjectMapper objectMapper) {
+        this.getProductUseCase = getProductUseCase;
+        this.mapper = mapper;
+        this.paginationConfig = paginationConfig;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostMapping("/batch-get")
+    @Operation(
+        summary = "Get several products by SKU",
+        description = "Retrieves up to the configured maximum number of products in one request. " +
+                      "SKUs without a live product are listed under 'missing'.",
+        operationId = "batchGetProducts"
+    )
+    @ApiResponse(responseCode = "200", description = "Products found and SKUs missing")
+    @ApiResponse(responseCode = "400", description = "Empty or oversized batch",
+                content = @Content(schema = @Schema(implementation = ErrorDto.class)))
+    public ResponseEntity<ProductBatchDto> batchGet(@Valid @RequestBody ProductBatchRequestDto request) {
+        List<String> skus = List.copyOf(new LinkedHashSet<>(request.skus()));
+        if (skus.size() > paginationConfig.getMaxBatchSize()) {
+            throw new IllegalArgumentException("Batch cannot exceed " + paginationConfig.getMaxBatchSize() + " SKUs");
+        }
+        logger.atDebug().addKeyValue("count", skus.size()).log("Batch get of products");
+
+        var query = GetProductsQuery.of(skus.stream().map(SKU::of).toList());
+        Map<String, Product> found = getProductUseCase.getProducts(query).stream()
+                .collect(Collectors.toMap(product -> product.getSku().value(), Function.identity(), (a, b) -> b));
+
+        var response = new ProductBatchDto(
+            skus.stream().filter(found::containsKey).map(sku -> mapper.toDto(found.get(sku))).toList(),
+            skus.stream().filter(sku -> !found.containsKey(sku)).toList()
+        );
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    @Operation(
+        summary = "Export the catalog",
+        description = "Streams every product as newline-delimited JSON, in no particular order.",
+        operationId = "exportProducts"
+    )
+    @ApiResponse(responseCode = "200", description = "One product per line")
+    public ResponseEntity<StreamingResponseBody> export() {
+        logger.info("Exporting product catalog");
+
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.setRootValueSeparator(null);
+                getProductUseCase.exportProducts(product -> {
+                    try {
+                        generator.writeObject(mapper.toDto(product));
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+
+        return ResponseEntity.ok().contentType(NDJSON).body(body);
+    }
+}
@@ -0,0 +1,77 @@
+package com.paklog.productcatalog.infrastructure.web.controller;
+
+import com.paklog.productcatalog.application.port.input.GetProductChangesUseCase;
+import com.paklog.productcatalog.application.query.GetProductChangesQuery;
+import com.paklog.productcatalog.domain.model.ChangeCursor;
+import com.paklog.productcatalog.infrastructure.config.ChangeFeedConfig;
+import com.paklog.productcatalog.infrastructure.web.dto.ErrorDto;
+import com.paklog.productcatalog.infrastructure.web.dto.ProductChangePageDto;
+import com.paklog.productcatalog.infrastructure.web.mapper.ProductDtoMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Min;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/products")
+@Tag(name = "Products", description = "Operations related to the Product Catalog")
+public class ProductChangeController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductChangeController.class);
+
+    private final GetProductChangesUseCase getProductChangesUseCase;
+    private final ProductDtoMapper mapper;
+    private final ChangeFeedConfig changeFeedConfig;
+
+    public ProductChangeController(GetProductChangesUseCase getProductChangesUseCase,
+                                   ProductDtoMapper mapper,
+                                   ChangeFeedConfig changeFeedConfig) {
+        this.getProductChangesUseCase = getProductChangesUseCase;
+        this.mapper = mapper;
+        this.changeFeedConfig = changeFeedConfig;
+    }
+
+    @GetMapping("/changes")
+    @Operation(
+        summary = "List product changes since a continuation token",
+        description = "Returns products created, updated or deleted after the given token, oldest first. " +
+                      "Pass the returned next_token as 'since' to resume the feed.",
+        operationId = "listProductChanges"
+    )
+    @ApiResponse(responseCode = "200", description = "A page of product changes")
+    @ApiResponse(responseCode = "400", description = "Invalid continuation token",
+                content = @Content(schema = @Schema(implementation = ErrorDto.class)))
+    public ResponseEntity<ProductChangePageDto> listChanges(
+        @Parameter(description = "Continuation token from a previous response; omit to start from the beginning")
+        @RequestParam(required = false) String since,
+
+        @Parameter(description = "The maximum number of changes to return")
+        @RequestParam(required = false) @Min(1) Integer limit
+    ) {
+        int actualLimit = limit != null
+                ? Math.min(limit, changeFeedConfig.getMaxLimit())
+                : changeFeedConfig.getDefaultLimit();
+        logger.atDebug().addKeyValue("since", since).addKeyValue("limit", actualLimit).log("Listing product changes");
+
+        var query = GetProductChangesQuery.of(ChangeCursor.decode(since), actualLimit);
+        var changes = getProductChangesUseCase.getChanges(query);
+
+        var response = new ProductChangePageDto(
+            changes.changes().stream().map(mapper::toChangeDto).toList(),
+            changes.nextCursor().encode(),
+            changes.hasMore()
+        );
+
+        return ResponseEntity.ok(response);
+    }
+}
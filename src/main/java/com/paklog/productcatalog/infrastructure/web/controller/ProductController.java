@@ -15,6 +15,7 @@ import com.paklog.productcatalog.infrastructure.web.dto.ErrorDto;
 import com.paklog.productcatalog.infrastructure.web.dto.ProductDto;
 import com.paklog.productcatalog.infrastructure.web.dto.ProductPageDto;
 import com.paklog.productcatalog.infrastructure.web.mapper.ProductDtoMapper;
+import com.paklog.productcatalog.infrastructure.writebehind.ProductWriteBehind;
 import com.paklog.productcatalog.shared.exception.ProductAlreadyExistsException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -27,11 +28,13 @@ import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Locale;
 import java.util.Optional;
 
 @RestController
@@ -41,25 +44,31 @@ public class ProductController {
 
     private static final Logger logger = LoggerFactory.getLogger(ProductController.class);
 
+    private static final String PREFER = "Prefer";
+    private static final String RESPOND_ASYNC = "respond-async";
+
     private final CreateProductUseCase createProductUseCase;
     private final GetProductUseCase getProductUseCase;
     private final UpdateProductUseCase updateProductUseCase;
     private final DeleteProductUseCase deleteProductUseCase;
     private final ProductDtoMapper mapper;
     private final com.paklog.productcatalog.infrastructure.config.PaginationConfig paginationConfig;
+    private final ObjectProvider<ProductWriteBehind> writeBehind;
 
     public ProductController(CreateProductUseCase createProductUseCase,
                            GetProductUseCase getProductUseCase,
                            UpdateProductUseCase updateProductUseCase,
                            DeleteProductUseCase deleteProductUseCase,
                            ProductDtoMapper mapper,
-                           com.paklog.productcatalog.infrastructure.config.PaginationConfig paginationConfig) {
+                           com.paklog.productcatalog.infrastructure.config.PaginationConfig paginationConfig,
+                           ObjectProvider<ProductWriteBehind> writeBehind) {
         this.createProductUseCase = createProductUseCase;
         this.getProductUseCase = getProductUseCase;
         this.updateProductUseCase = updateProductUseCase;
         this.deleteProductUseCase = deleteProductUseCase;
         this.mapper = mapper;
         this.paginationConfig = paginationConfig;
+        this.writeBehind = writeBehind;
     }
 
     @PostMapping
@@ -75,7 +84,7 @@ public class ProductController {
                 content = @Content(schema = @Schema(implementation = ErrorDto.class)))
     public ResponseEntity<ProductDto> createProduct(@Valid @RequestBody ProductDto productDto) {
 
-        logger.info("Creating product with SKU: {}", productDto.sku());
+        logger.atDebug().addKeyValue("sku", productDto.sku()).log("Creating product");
 
         try {
             var product = mapper.toDomain(productDto);
@@ -100,7 +109,8 @@ public class ProductController {
     @GetMapping
     @Operation(
         summary = "List all products",
-        description = "Retrieves a paginated list of all products in the catalog.",
+        description = "Retrieves a paginated list of all products in the catalog. The totals are estimated "
+                + "and may lag recent writes by a few seconds unless an exact count is requested.",
         operationId = "listProducts"
     )
     @ApiResponse(responseCode = "200", description = "A paged array of products")
@@ -109,14 +119,17 @@ public class ProductController {
         @RequestParam(required = false) @Min(0) Integer offset,
 
         @Parameter(description = "The number of items to return")
-        @RequestParam(required = false) @Min(1) @Max(100) Integer limit
+        @RequestParam(required = false) @Min(1) @Max(100) Integer limit,
+
+        @Parameter(description = "Count the products for exact totals instead of estimating them")
+        @RequestParam(defaultValue = "false") boolean exact
     ) {
         // Use configuration defaults if not provided
         int actualOffset = offset != null ? offset : paginationConfig.getDefaultOffset();
         int actualLimit = limit != null ? Math.min(limit, paginationConfig.getMaxLimit()) : paginationConfig.getDefaultLimit();
-        logger.debug("Listing products with offset: {} and limit: {}", actualOffset, actualLimit);
+        logger.atDebug().addKeyValue("offset", actualOffset).addKeyValue("limit", actualLimit).log("Listing products");
 
-        var query = ListProductsQuery.of(actualOffset, actualLimit);
+        var query = ListProductsQuery.of(actualOffset, actualLimit, exact);
         var products = getProductUseCase.listProducts(query);
         var productDtos = products.map(mapper::toDto).getContent();
 
@@ -146,7 +159,7 @@ public class ProductController {
         @Parameter(description = "The unique SKU of the product", required = true)
         @PathVariable String sku
     ) {
-        logger.debug("Getting product by SKU: {}", sku);
+        logger.atDebug().addKeyValue("sku", sku).log("Getting product");
 
         var query = GetProductQuery.of(SKU.of(sku));
         return getProductUseCase.getProduct(query)
@@ -161,16 +174,25 @@ public class ProductController {
         operationId = "updateProduct"
     )
     @ApiResponse(responseCode = "200", description = "Product updated successfully")
+    @ApiResponse(responseCode = "202", description = "Update buffered, to be applied shortly; returned for Prefer: respond-async when write-behind is enabled")
     @ApiResponse(responseCode = "404", description = "Product not found")
     public ResponseEntity<ProductDto> updateProduct(
         @Parameter(description = "The unique SKU of the product to update", required = true)
         @PathVariable String sku,
 
+        @Parameter(description = "respond-async to acknowledge the update once it is buffered")
+        @RequestHeader(value = PREFER, required = false) String prefer,
+
         @Valid @RequestBody ProductDto productDto
     ) {
-        logger.info("Updating product with SKU: {}", sku);
+        logger.atDebug().addKeyValue("sku", sku).log("Updating product");
 
         var product = mapper.toDomain(productDto);
+        var buffer = writeBehind(prefer);
+        if (buffer != null) {
+            buffer.submit(SKU.of(sku), productDto);
+            return buffered();
+        }
         var command = UpdateProductCommand.of(
             SKU.of(sku),
             product.getTitle(),
@@ -190,16 +212,26 @@ public class ProductController {
         operationId = "patchProduct"
     )
     @ApiResponse(responseCode = "200", description = "Product partially updated")
+    @ApiResponse(responseCode = "202", description = "Update buffered, to be applied shortly; returned for Prefer: respond-async when write-behind is enabled")
     @ApiResponse(responseCode = "404", description = "Product not found")
     public ResponseEntity<ProductDto> patchProduct(
         @Parameter(description = "The unique SKU of the product to update", required = true)
         @PathVariable String sku,
 
+        @Parameter(description = "respond-async to acknowledge the update once it is buffered")
+        @RequestHeader(value = PREFER, required = false) String prefer,
+
         @Valid @RequestBody ProductDto productDto
     ) {
-        logger.info("Patching product with SKU: {}", sku);
+        logger.atDebug().addKeyValue("sku", sku).log("Patching product");
 
         var product = mapper.toDomain(productDto);
+        var buffer = writeBehind(prefer);
+        if (buffer != null) {
+            // The body carries every field, so buffering it as a full replacement patches the same fields
+            buffer.submit(SKU.of(sku), productDto);
+            return buffered();
+        }
         var command = PatchProductCommand.of(
             SKU.of(sku),
             Optional.ofNullable(product.getTitle()),
@@ -224,11 +256,29 @@ public class ProductController {
         @Parameter(description = "The unique SKU of the product to delete", required = true)
         @PathVariable String sku
     ) {
-        logger.info("Deleting product with SKU: {}", sku);
+        logger.atDebug().addKeyValue("sku", sku).log("Deleting product");
 
         var command = DeleteProductCommand.of(SKU.of(sku));
         boolean deleted = deleteProductUseCase.deleteProduct(command);
 
         return deleted ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
     }
+
+    /**
+     * The write-behind buffer, when it is enabled and the client prefers an early answer.
+     */
+    private ProductWriteBehind writeBehind(String prefer) {
+        if (prefer == null || !prefer.toLowerCase(Locale.ROOT).contains(RESPOND_ASYNC)) {
+            return null;
+        }
+        return writeBehind.getIfAvailable();
+    }
+
+    /**
+     * 202 for an update that is durable but not yet applied; a SKU that does not exist
+     * by then is dropped, since checking now would cost the read the buffer saves.
+     */
+    private static ResponseEntity<ProductDto> buffered() {
+        return ResponseEntity.accepted().header("Preference-Applied", RESPOND_ASYNC).build();
+    }
 }
@@ -0,0 +1,118 @@
+package com.paklog.productcatalog.infrastructure.web.controller;
+
+import com.paklog.productcatalog.infrastructure.config.ImportConfig;
+import com.paklog.productcatalog.infrastructure.importing.ImportError;
+import com.paklog.productcatalog.infrastructure.importing.ImportListener;
+import com.paklog.productcatalog.infrastructure.importing.ImportProgress;
+import com.paklog.productcatalog.infrastructure.importing.ImportSummary;
+import com.paklog.productcatalog.infrastructure.importing.ProductImporter;
+import com.paklog.productcatalog.infrastructure.web.dto.ErrorDto;
+import com.paklog.productcatalog.infrastructure.web.dto.ProductImportDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+@RestController
+@RequestMapping("/products")
+@Tag(name = "Products", description = "Operations related to the Product Catalog")
+public class ProductImportController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductImportController.class);
+
+    private final ProductImporter importer;
+    private final ImportConfig config;
+
+    public ProductImportController(ProductImporter importer, ImportConfig config) {
+        this.importer = importer;
+        this.config = config;
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(
+        summary = "Import a catalog feed",
+        description = "Creates or updates a product for every record of an uploaded JSON array or " +
+                      "newline-delimited JSON file. Invalid records are reported and skipped. If the import " +
+                      "stops early, upload the same file again with resumeAfter set to the records handled.",
+        operationId = "importProducts"
+    )
+    @ApiResponse(responseCode = "200", description = "Feed imported; rejected records are listed")
+    @ApiResponse(responseCode = "503", description = "Import stopped early; the body says how far it got",
+                content = @Content(schema = @Schema(implementation = ProductImportDto.class)))
+    @ApiResponse(responseCode = "400", description = "Negative resumeAfter",
+                content = @Content(schema = @Schema(implementation = ErrorDto.class)))
+    public ResponseEntity<ProductImportDto> importProducts(
+            @RequestPart("file") MultipartFile file,
+            @Parameter(description = "Records of the feed already imported by an earlier, aborted upload")
+            @RequestParam(defaultValue = "0") long resumeAfter) throws IOException {
+        if (resumeAfter < 0) {
+            throw new IllegalArgumentException("resumeAfter cannot be negative");
+        }
+        logger.atInfo().addKeyValue("file", file.getOriginalFilename()).addKeyValue("bytes", file.getSize())
+                .addKeyValue("resumeAfter", resumeAfter).log("Importing product feed");
+
+        ErrorCollector errors = new ErrorCollector(config.getMaxReportedErrors());
+        ImportSummary summary;
+        try (InputStream input = file.getInputStream()) {
+            summary = importer.importFeed(input, ImportProgress.after(resumeAfter), errors);
+        }
+
+        ImportProgress progress = summary.progress();
+        var response = new ProductImportDto(
+            summary.completed(),
+            summary.abortReason(),
+            progress.records(),
+            summary.resumedAfter(),
+            progress.created(),
+            progress.updated(),
+            progress.unchanged(),
+            progress.failed(),
+            summary.elapsed().toMillis(),
+            errors.reported
+        );
+        return ResponseEntity.status(summary.completed() ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE)
+                .body(response);
+    }
+
+    /**
+     * Keeps the first rejected records for the response; later ones are only counted.
+     */
+    private static final class ErrorCollector implements ImportListener {
+
+        private final int max;
+        private final List<ProductImportDto.RecordErrorDto> reported = new ArrayList<>();
+
+        private ErrorCollector(int max) {
+            this.max = max;
+        }
+
+        @Override
+        public void onError(ImportError error) {
+            if (reported.size() < max) {
+                reported.add(new ProductImportDto.RecordErrorDto(error.record(), error.sku(), error.message()));
+            }
+        }
+
+        @Override
+        public void onBatchWritten(ImportProgress progress) {
+        }
+    }
+}
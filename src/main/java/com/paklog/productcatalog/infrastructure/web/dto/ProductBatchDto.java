@@ -0,0 +1,14 @@
+package com.paklog.productcatalog.infrastructure.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Products found for a batch lookup, and the SKUs that were not found")
+public record ProductBatchDto(
+    @Schema(description = "Products found, in request order")
+    List<ProductDto> products,
+
+    @Schema(description = "Requested SKUs with no live product")
+    List<String> missing
+) {}
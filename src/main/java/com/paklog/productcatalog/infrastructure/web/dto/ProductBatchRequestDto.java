@@ -0,0 +1,13 @@
+package com.paklog.productcatalog.infrastructure.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+@Schema(description = "SKUs to retrieve in a single request")
+public record ProductBatchRequestDto(
+    @Schema(description = "The SKUs to look up", example = "[\"EXAMPLE-SKU-123\", \"EXAMPLE-SKU-456\"]")
+    @NotEmpty List<@NotBlank String> skus
+) {}
@@ -0,0 +1,29 @@
+package com.paklog.productcatalog.infrastructure.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+@Schema(description = "A single entry of the product change feed")
+public record ProductChangeDto(
+    @Schema(description = "Kind of change recorded for the product", example = "UPDATED")
+    @JsonProperty("change_type") ChangeType changeType,
+
+    @Schema(description = "SKU of the changed product", example = "EXAMPLE-SKU-123")
+    String sku,
+
+    @Schema(description = "Version of the product after the change")
+    Long version,
+
+    @Schema(description = "Timestamp of the change")
+    @JsonProperty("changed_at") Instant changedAt,
+
+    @Schema(description = "Full product state after the change; absent for deletions")
+    ProductDto product
+) {
+    
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+}
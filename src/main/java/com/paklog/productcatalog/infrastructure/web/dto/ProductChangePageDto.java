@@ -0,0 +1,18 @@
+package com.paklog.productcatalog.infrastructure.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "A page of the product change feed with its continuation token")
+public record ProductChangePageDto(
+    @Schema(description = "Changes in feed order (oldest first)")
+    List<ProductChangeDto> changes,
+
+    @Schema(description = "Opaque token to pass as 'since' to resume the feed after this page")
+    @JsonProperty("next_token") String nextToken,
+
+    @Schema(description = "Indicates whether more changes are immediately available")
+    @JsonProperty("has_more") boolean hasMore
+) {}
@@ -0,0 +1,50 @@
+package com.paklog.productcatalog.infrastructure.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Outcome of a catalog import")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ProductImportDto(
+    @Schema(description = "Whether every record of the feed was handled")
+    boolean completed,
+
+    @Schema(description = "Why the import stopped early, if it did")
+    String abortReason,
+
+    @Schema(description = "Records handled, counted from the start of the feed; pass as resumeAfter to continue an aborted import",
+            example = "250000")
+    long records,
+
+    @Schema(description = "Records skipped because an earlier import already handled them", example = "0")
+    long resumedAfter,
+
+    long created,
+    long updated,
+
+    @Schema(description = "Products whose data already matched the feed")
+    long unchanged,
+
+    @Schema(description = "Records rejected")
+    long failed,
+
+    long elapsedMillis,
+
+    @Schema(description = "Rejected records, up to the configured maximum")
+    List<RecordErrorDto> errors
+) {
+
+    @Schema(description = "A rejected record")
+    public record RecordErrorDto(
+        @Schema(description = "One-based position of the record in the feed", example = "42")
+        long record,
+
+        @Schema(example = "EXAMPLE-SKU-123")
+        String sku,
+
+        @Schema(example = "title: must not be blank")
+        String message
+    ) {}
+}
@@ -1,23 +1,40 @@
 package com.paklog.productcatalog.infrastructure.web.mapper;
 
 import com.paklog.productcatalog.domain.model.*;
+import com.paklog.productcatalog.infrastructure.web.dto.ProductChangeDto;
 import com.paklog.productcatalog.infrastructure.web.dto.ProductDto;
+import com.paklog.productcatalog.shared.util.MetricsUtil;
 import org.springframework.stereotype.Component;
 
 @Component
 public class ProductDtoMapper {
     
+    private final MetricsUtil metrics;
+    
+    public ProductDtoMapper(MetricsUtil metrics) {
+        this.metrics = metrics;
+    }
+    
     public ProductDto toDto(Product product) {
         if (product == null) {
             return null;
         }
         
-        return new ProductDto(
-            product.getSku().value(),
-            product.getTitle(),
-            mapDimensions(product.getDimensions()),
-            mapAttributes(product.getAttributes())
-        );
+        long started = metrics.start();
+        ProductDto dto = mapProduct(product);
+        metrics.recordMapping(MetricsUtil.Mapping.TO_DTO, started);
+        return dto;
+    }
+    
+    public ProductChangeDto toChangeDto(Product product) {
+        if (product == null) {
+            return null;
+        }
+        
+        long started = metrics.start();
+        ProductChangeDto dto = mapChange(product);
+        metrics.recordMapping(MetricsUtil.Mapping.TO_CHANGE_DTO, started);
+        return dto;
     }
     
     public Product toDomain(ProductDto dto) {
@@ -25,11 +42,47 @@ public class ProductDtoMapper {
             return null;
         }
         
+        long started = metrics.start();
         SKU sku = SKU.of(dto.sku());
         Dimensions dimensions = mapDimensions(dto.dimensions());
         Attributes attributes = mapAttributes(dto.attributes());
         
-        return Product.create(sku, dto.title(), dimensions, attributes);
+        Product product = Product.create(sku, dto.title(), dimensions, attributes);
+        metrics.recordMapping(MetricsUtil.Mapping.TO_DOMAIN, started);
+        return product;
+    }
+    
+    private ProductDto mapProduct(Product product) {
+        return new ProductDto(
+            product.getSku().value(),
+            product.getTitle(),
+            mapDimensions(product.getDimensions()),
+            mapAttributes(product.getAttributes())
+        );
+    }
+    
+    private ProductChangeDto mapChange(Product product) {
+        if (product.isDeleted()) {
+            return new ProductChangeDto(
+                ProductChangeDto.ChangeType.DELETED,
+                product.getSku().value(),
+                product.getVersion(),
+                product.getDeletedAt(),
+                null
+            );
+        }
+        
+        var changeType = product.getCreatedAt().equals(product.getUpdatedAt())
+                ? ProductChangeDto.ChangeType.CREATED
+                : ProductChangeDto.ChangeType.UPDATED;
+        
+        return new ProductChangeDto(
+            changeType,
+            product.getSku().value(),
+            product.getVersion(),
+            product.getUpdatedAt(),
+            mapProduct(product)
+        );
     }
     
     private ProductDto.DimensionsDto mapDimensions(Dimensions dimensions) {
@@ -51,7 +104,7 @@ public class ProductDtoMapper {
         return new Dimensions(
             mapDimensionSet(dimensionsDto.item()),
             mapDimensionSet(dimensionsDto.packageDimensions())
-        );
+        ).validate();
     }
     
     private ProductDto.DimensionSetDto mapDimensionSet(DimensionSet dimensionSet) {
@@ -0,0 +1,38 @@
+package com.paklog.productcatalog.infrastructure.writebehind;
+
+import com.paklog.productcatalog.infrastructure.spool.LogRecord;
+
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+/**
+ * The batch of buffered updates being written: how many records it spans from the head
+ * of the log, which record heads it, and the version each product was read at for its
+ * latest write attempt. Kept on disk until the batch is acknowledged.
+ */
+record AppliedBatch(int records, long firstAppendedAt, long firstChecksum, Map<String, Long> readVersions) {
+
+    static AppliedBatch of(List<LogRecord> records, Map<String, Long> readVersions) {
+        LogRecord first = records.get(0);
+        return new AppliedBatch(records.size(), first.appendedAt().toEpochMilli(), checksum(first), readVersions);
+    }
+
+    /**
+     * Whether the log still starts with this batch, i.e. it was interrupted before being
+     * acknowledged.
+     */
+    boolean heads(List<LogRecord> pending) {
+        if (pending.size() < records) {
+            return false;
+        }
+        LogRecord first = pending.get(0);
+        return first.appendedAt().toEpochMilli() == firstAppendedAt && checksum(first) == firstChecksum;
+    }
+
+    private static long checksum(LogRecord record) {
+        CRC32C crc = new CRC32C();
+        crc.update(record.payload());
+        return crc.getValue();
+    }
+}
@@ -0,0 +1,10 @@
+package com.paklog.productcatalog.infrastructure.writebehind;
+
+import com.paklog.productcatalog.infrastructure.web.dto.ProductDto;
+
+/**
+ * An accepted update as kept in the write-behind buffer: the SKU addressed and the
+ * request body, stored as JSON.
+ */
+record BufferedUpdate(String sku, ProductDto product) {
+}
@@ -0,0 +1,344 @@
+package com.paklog.productcatalog.infrastructure.writebehind;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paklog.productcatalog.application.command.ApplyProductUpdatesCommand;
+import com.paklog.productcatalog.application.command.ProductUpdatesResult;
+import com.paklog.productcatalog.application.command.UpdateProductCommand;
+import com.paklog.productcatalog.application.port.input.ApplyProductUpdatesUseCase;
+import com.paklog.productcatalog.domain.model.Product;
+import com.paklog.productcatalog.domain.model.SKU;
+import com.paklog.productcatalog.infrastructure.config.WriteBehindConfig;
+import com.paklog.productcatalog.infrastructure.spool.LogRecord;
+import com.paklog.productcatalog.infrastructure.spool.SegmentLog;
+import com.paklog.productcatalog.infrastructure.web.dto.ProductDto;
+import com.paklog.productcatalog.infrastructure.web.mapper.ProductDtoMapper;
+import com.paklog.productcatalog.shared.util.MetricsUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Group commit for product updates. An update is acknowledged once it is appended to
+ * a local {@link SegmentLog} and, with {@code sync} on, forced to disk; requests
+ * arriving while a force is under way share the next one. A flusher thread takes what
+ * has accumulated every {@code flush-interval}, or as soon as a full batch is waiting,
+ * and hands it to {@link ApplyProductUpdatesUseCase}, which keeps the last update per
+ * SKU and writes them in one version-checked bulk write.
+ * <p>
+ * Records are consumed from the log only once their batch is applied, so a crash or
+ * a database outage replays them. Before each write attempt the version every product
+ * was read at is forced to a journal next to the log. A batch found in the journal on
+ * replay is applied only to products still at those versions, so an update that was
+ * written, or overtaken by a newer write, before the crash is not applied again.
+ */
+public class ProductWriteBehind implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductWriteBehind.class);
+
+    private static final String JOURNAL_FILE = "applying.json";
+
+    private final SegmentLog log;
+    private final ApplyProductUpdatesUseCase applyUpdatesUseCase;
+    private final ObjectMapper objectMapper;
+    private final ProductDtoMapper mapper;
+    private final WriteBehindConfig config;
+    private final Path journal;
+
+    private final Object appendLock = new Object();
+    private final Object syncLock = new Object();
+    private long appended;
+    private long synced;
+
+    private final Counter accepted;
+    private final Counter notFound;
+    private final Counter conflicted;
+    private final Counter unreadable;
+    private final Counter superseded;
+    private final Timer flushSuccess;
+    private final Timer flushFailure;
+    private final DistributionSummary batchSize;
+    private final DistributionSummary coalescingRatio;
+
+    private volatile boolean running;
+    private volatile Thread flusher;
+
+    public ProductWriteBehind(SegmentLog log, ApplyProductUpdatesUseCase applyUpdatesUseCase, ObjectMapper objectMapper,
+                              ProductDtoMapper mapper, WriteBehindConfig config, MeterRegistry meterRegistry) {
+        this.log = log;
+        this.applyUpdatesUseCase = applyUpdatesUseCase;
+        this.objectMapper = objectMapper;
+        this.mapper = mapper;
+        this.config = config;
+        this.journal = Path.of(config.getDirectory()).resolve(JOURNAL_FILE);
+
+        Gauge.builder("product.write-behind.pending", log, SegmentLog::pendingRecords)
+                .description("Accepted updates not yet applied to the database")
+                .register(meterRegistry);
+        Gauge.builder("product.write-behind.age", log, ProductWriteBehind::oldestAgeSeconds)
+                .description("Age of the oldest accepted update not yet applied")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.accepted = Counter.builder("product.write-behind.accepted")
+                .description("Updates acknowledged from the write-behind buffer")
+                .register(meterRegistry);
+        this.notFound = dropped(meterRegistry, "not-found");
+        this.conflicted = dropped(meterRegistry, "conflict");
+        this.unreadable = dropped(meterRegistry, "unreadable");
+        this.superseded = dropped(meterRegistry, "superseded");
+        this.flushSuccess = flushTimer(meterRegistry, MetricsUtil.OUTCOME_SUCCESS);
+        this.flushFailure = flushTimer(meterRegistry, MetricsUtil.OUTCOME_FAILURE);
+        this.batchSize = DistributionSummary.builder("product.write-behind.batch.size")
+                .description("Buffered updates applied per flush")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(1.0)
+                .maximumExpectedValue((double) Math.max(config.getMaxBatchSize(), 2))
+                .register(meterRegistry);
+        this.coalescingRatio = DistributionSummary.builder("product.write-behind.coalescing.ratio")
+                .description("Buffered updates per SKU written in a flush")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Buffers a full-replacement update of the product and returns once it is durable.
+     * The body is expected to have been validated and mapped by the caller already.
+     */
+    public void submit(SKU sku, ProductDto product) {
+        byte[] payload;
+        try {
+            payload = objectMapper.writeValueAsBytes(new BufferedUpdate(sku.value(), product));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Update for " + sku + " cannot be buffered", e);
+        }
+
+        long sequence;
+        synchronized (appendLock) {
+            log.append(payload);
+            sequence = ++appended;
+        }
+        if (config.isSync()) {
+            sync(sequence);
+        }
+        accepted.increment();
+
+        if (log.pendingRecords() >= config.getMaxBatchSize()) {
+            LockSupport.unpark(flusher);
+        }
+    }
+
+    private void sync(long sequence) {
+        synchronized (syncLock) {
+            if (synced >= sequence) {
+                // Covered by a force issued while this request waited for the lock
+                return;
+            }
+            long upTo;
+            synchronized (appendLock) {
+                upTo = appended;
+            }
+            log.force();
+            synced = upTo;
+        }
+    }
+
+    /**
+     * Applies up to one batch of buffered updates.
+     *
+     * @return true if a full batch was applied and more may be waiting
+     */
+    boolean flush() {
+        List<LogRecord> records = log.read(config.getMaxBatchSize());
+        if (records.isEmpty()) {
+            return false;
+        }
+        AppliedBatch interrupted = readJournal();
+        if (interrupted != null && interrupted.heads(records)) {
+            records = records.subList(0, interrupted.records());
+        } else {
+            interrupted = null;
+        }
+
+        long started = System.nanoTime();
+        List<UpdateProductCommand> updates = new ArrayList<>(records.size());
+        for (LogRecord record : records) {
+            try {
+                BufferedUpdate update = objectMapper.readValue(record.payload(), BufferedUpdate.class);
+                Product product = mapper.toDomain(update.product());
+                updates.add(UpdateProductCommand.of(SKU.of(update.sku()), product.getTitle(),
+                        product.getDimensions(), product.getAttributes()));
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Skipping buffered update accepted at {} that can no longer be read: {}",
+                        record.appendedAt(), e.getMessage());
+                unreadable.increment();
+            }
+        }
+
+        try {
+            if (!updates.isEmpty()) {
+                Map<SKU, Long> readVersions = new HashMap<>();
+                Map<String, Long> journaled = new HashMap<>();
+                if (interrupted != null) {
+                    interrupted.readVersions().forEach((sku, version) -> readVersions.put(SKU.of(sku), version));
+                    journaled.putAll(interrupted.readVersions());
+                }
+                List<LogRecord> batch = records;
+                ProductUpdatesResult result = applyUpdatesUseCase.applyUpdates(
+                        ApplyProductUpdatesCommand.of(updates, readVersions), versions -> {
+                            // An earlier attempt may have read a copy that lags the database
+                            versions.forEach((sku, version) -> journaled.merge(sku.value(), version, Math::max));
+                            writeJournal(AppliedBatch.of(batch, journaled));
+                        });
+                notFound.increment(result.notFound().size());
+                superseded.increment(result.superseded());
+                conflicted.increment(result.conflicted().size());
+                if (!result.conflicted().isEmpty()) {
+                    logger.atWarn().addKeyValue("count", result.conflicted().size())
+                            .log("Dropped buffered updates to products that kept changing concurrently");
+                }
+                Set<SKU> skus = new HashSet<>();
+                updates.forEach(update -> skus.add(update.sku()));
+                coalescingRatio.record((double) updates.size() / skus.size());
+            }
+            log.acknowledge(records.size());
+            Files.deleteIfExists(journal);
+        } catch (IOException | RuntimeException e) {
+            flushFailure.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            logger.warn("Applying {} buffered updates failed, retrying in {}: {}",
+                    records.size(), config.getFlushInterval(), e.getMessage());
+            return false;
+        }
+        batchSize.record(records.size());
+        flushSuccess.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        return records.size() == config.getMaxBatchSize();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        Thread thread = new Thread(this::runFlusher, "write-behind-flusher");
+        thread.setDaemon(true);
+        flusher = thread;
+        thread.start();
+        if (!log.isEmpty()) {
+            logger.info("Applying {} updates buffered before the last shutdown", log.pendingRecords());
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        Thread thread = flusher;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(config.getDrainTimeout().toMillis() + config.getFlushInterval().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!log.isEmpty()) {
+            logger.warn("Write-behind stopped with {} updates still buffered; they are applied after the next start",
+                    log.pendingRecords());
+        }
+        flusher = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void runFlusher() {
+        long intervalNanos = config.getFlushInterval().toNanos();
+        while (running) {
+            if (!flush()) {
+                LockSupport.parkNanos(this, intervalNanos);
+            }
+        }
+
+        // Drain what was accepted before shutdown while the database keeps up
+        long deadline = System.nanoTime() + config.getDrainTimeout().toNanos();
+        while (!log.isEmpty() && System.nanoTime() < deadline) {
+            long pending = log.pendingRecords();
+            flush();
+            if (log.pendingRecords() >= pending) {
+                return;
+            }
+        }
+    }
+
+    private AppliedBatch readJournal() {
+        if (!Files.exists(journal)) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(journal.toFile(), AppliedBatch.class);
+        } catch (IOException e) {
+            // Torn while being written, so its batch was never written either
+            logger.warn("Ignoring unreadable write-behind journal {}: {}", journal, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeJournal(AppliedBatch batch) {
+        Path temp = journal.resolveSibling(JOURNAL_FILE + ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                channel.write(ByteBuffer.wrap(objectMapper.writeValueAsBytes(batch)));
+                channel.force(true);
+            }
+            Files.move(temp, journal, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to journal write-behind batch in " + journal, e);
+        }
+    }
+
+    private static Counter dropped(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("product.write-behind.dropped")
+                .description("Buffered updates discarded instead of applied")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private static Timer flushTimer(MeterRegistry meterRegistry, String outcome) {
+        return MetricsUtil.latencyTimer("product.write-behind.flush")
+                .description("Time taken to apply one batch of buffered updates")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static double oldestAgeSeconds(SegmentLog log) {
+        return log.oldestPending()
+                .map(oldest -> Duration.between(oldest, Instant.now()).toMillis() / 1000.0)
+                .orElse(0.0);
+    }
+}
@@ -0,0 +1,33 @@
+package com.paklog.productcatalog.infrastructure.writebehind.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paklog.productcatalog.application.port.input.ApplyProductUpdatesUseCase;
+import com.paklog.productcatalog.infrastructure.config.WriteBehindConfig;
+import com.paklog.productcatalog.infrastructure.spool.SegmentLog;
+import com.paklog.productcatalog.infrastructure.web.mapper.ProductDtoMapper;
+import com.paklog.productcatalog.infrastructure.writebehind.ProductWriteBehind;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+@Configuration
+@ConditionalOnProperty(prefix = "product-catalog.write-behind", name = "enabled", havingValue = "true")
+public class ProductWriteBehindConfig {
+
+    @Bean(destroyMethod = "close")
+    public SegmentLog writeBehindLog(WriteBehindConfig writeBehindConfig) {
+        // Forced as a group by the write-behind itself rather than once per append
+        return new SegmentLog(Path.of(writeBehindConfig.getDirectory()), writeBehindConfig.getSegmentSize(), false);
+    }
+
+    @Bean
+    public ProductWriteBehind productWriteBehind(SegmentLog writeBehindLog, ApplyProductUpdatesUseCase applyProductUpdatesUseCase,
+                                                 ObjectMapper objectMapper, ProductDtoMapper productDtoMapper,
+                                                 WriteBehindConfig writeBehindConfig, MeterRegistry meterRegistry) {
+        return new ProductWriteBehind(writeBehindLog, applyProductUpdatesUseCase, objectMapper, productDtoMapper,
+                writeBehindConfig, meterRegistry);
+    }
+}
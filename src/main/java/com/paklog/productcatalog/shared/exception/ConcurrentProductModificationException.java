@@ -0,0 +1,12 @@
+package com.paklog.productcatalog.shared.exception;
+
+public class ConcurrentProductModificationException extends RuntimeException {
+    
+    public ConcurrentProductModificationException(String message) {
+        super(message);
+    }
+    
+    public ConcurrentProductModificationException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
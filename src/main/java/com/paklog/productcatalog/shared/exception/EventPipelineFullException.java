@@ -0,0 +1,15 @@
+package com.paklog.productcatalog.shared.exception;
+
+public class EventPipelineFullException extends RuntimeException {
+    
+    private final int eventCount;
+    
+    public EventPipelineFullException(int eventCount, String message) {
+        super(message);
+        this.eventCount = eventCount;
+    }
+    
+    public int getEventCount() {
+        return eventCount;
+    }
+}
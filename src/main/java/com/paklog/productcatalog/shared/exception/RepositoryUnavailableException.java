@@ -0,0 +1,17 @@
+package com.paklog.productcatalog.shared.exception;
+
+import java.time.Duration;
+
+public class RepositoryUnavailableException extends RuntimeException {
+    
+    private final Duration retryAfter;
+    
+    public RepositoryUnavailableException(String message, Duration retryAfter, Throwable cause) {
+        super(message, cause);
+        this.retryAfter = retryAfter;
+    }
+    
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -1,58 +1,183 @@
 package com.paklog.productcatalog.shared.util;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hot-path meters for use cases, DTO mapping, validation and event sends.
+ * <p>
+ * Every tagged meter is registered up front and looked up by enum ordinal, so
+ * recording allocates neither tags nor meter ids. Callers take
+ * {@link #start()} before the work and pass it back when recording.
+ */
 @Component
 public class MetricsUtil {
-    
+
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_FAILURE = "failure";
+
+    private static final Duration[] SLO_BUCKETS = {
+        Duration.ofMillis(1), Duration.ofMillis(5), Duration.ofMillis(10), Duration.ofMillis(25),
+        Duration.ofMillis(50), Duration.ofMillis(100), Duration.ofMillis(250), Duration.ofMillis(500),
+        Duration.ofSeconds(1)
+    };
+
+    public enum Operation { CREATE, UPDATE, PATCH, DELETE, GET, GET_BATCH, LIST, EXPORT, CHANGES, IMPORT, APPLY_UPDATES }
+
+    public enum Mapping { TO_DTO, TO_CHANGE_DTO, TO_DOMAIN }
+
+    public enum Validation { REQUEST, METHOD }
+
     private final Counter productCreatedCounter;
     private final Counter productUpdatedCounter;
     private final Counter productDeletedCounter;
-    private final Timer productOperationTimer;
     private final Counter domainEventPublishedCounter;
     private final Counter domainEventFailedCounter;
-    
-    public MetricsUtil(Counter productCreatedCounter,
+
+    private final Timer[] operationSuccess;
+    private final Timer[] operationFailure;
+    private final Timer[] mapping;
+    private final Timer[] validation;
+    private final Timer eventSendSuccess;
+    private final Timer eventSendFailure;
+    private final DistributionSummary eventBatchSize;
+
+    public MetricsUtil(MeterRegistry meterRegistry,
+                      Counter productCreatedCounter,
                       Counter productUpdatedCounter,
                       Counter productDeletedCounter,
-                      Timer productOperationTimer,
                       Counter domainEventPublishedCounter,
                       Counter domainEventFailedCounter) {
         this.productCreatedCounter = productCreatedCounter;
         this.productUpdatedCounter = productUpdatedCounter;
         this.productDeletedCounter = productDeletedCounter;
-        this.productOperationTimer = productOperationTimer;
         this.domainEventPublishedCounter = domainEventPublishedCounter;
         this.domainEventFailedCounter = domainEventFailedCounter;
+
+        Operation[] operations = Operation.values();
+        this.operationSuccess = new Timer[operations.length];
+        this.operationFailure = new Timer[operations.length];
+        for (Operation operation : operations) {
+            operationSuccess[operation.ordinal()] = operationTimer(meterRegistry, operation, OUTCOME_SUCCESS);
+            operationFailure[operation.ordinal()] = operationTimer(meterRegistry, operation, OUTCOME_FAILURE);
+        }
+
+        Mapping[] mappings = Mapping.values();
+        this.mapping = new Timer[mappings.length];
+        for (Mapping direction : mappings) {
+            mapping[direction.ordinal()] = latencyTimer("product.mapping")
+                    .description("Time taken to map between DTOs and the domain model")
+                    .tag("mapping", tagValue(direction))
+                    .register(meterRegistry);
+        }
+
+        Validation[] validations = Validation.values();
+        this.validation = new Timer[validations.length];
+        for (Validation kind : validations) {
+            validation[kind.ordinal()] = latencyTimer("product.validation")
+                    .description("Time taken by bean validation")
+                    .tag("kind", tagValue(kind))
+                    .register(meterRegistry);
+        }
+
+        this.eventSendSuccess = eventSendTimer(meterRegistry, OUTCOME_SUCCESS);
+        this.eventSendFailure = eventSendTimer(meterRegistry, OUTCOME_FAILURE);
+        this.eventBatchSize = DistributionSummary.builder("domain.event.batch.size")
+                .description("Events handed to the Kafka producer per pipeline batch")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(1.0)
+                .maximumExpectedValue(10_000.0)
+                .register(meterRegistry);
     }
-    
+
+    /**
+     * Timer builder with the percentile histogram and SLO buckets shared by every latency meter.
+     */
+    public static Timer.Builder latencyTimer(String name) {
+        return Timer.builder(name)
+                .publishPercentileHistogram()
+                .serviceLevelObjectives(SLO_BUCKETS)
+                .minimumExpectedValue(Duration.ofNanos(100_000))
+                .maximumExpectedValue(Duration.ofSeconds(10));
+    }
+
+    public static String tagValue(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+
+    public long start() {
+        return System.nanoTime();
+    }
+
+    public void recordOperation(Operation operation, long startNanos, boolean success) {
+        Timer[] timers = success ? operationSuccess : operationFailure;
+        timers[operation.ordinal()].record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordMapping(Mapping direction, long startNanos) {
+        mapping[direction.ordinal()].record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordValidation(Validation kind, long startNanos) {
+        validation[kind.ordinal()].record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records the producer acknowledgement latency of one event and counts it as published or failed.
+     */
+    public void recordEventSend(long startNanos, boolean success) {
+        if (success) {
+            eventSendSuccess.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            domainEventPublishedCounter.increment();
+        } else {
+            eventSendFailure.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            domainEventFailedCounter.increment();
+        }
+    }
+
+    public void recordEventBatch(int size) {
+        eventBatchSize.record(size);
+    }
+
     public void incrementProductCreated() {
         productCreatedCounter.increment();
     }
+
+    public void incrementProductCreated(int count) {
+        productCreatedCounter.increment(count);
+    }
     
     public void incrementProductUpdated() {
         productUpdatedCounter.increment();
     }
     
+    public void incrementProductUpdated(int count) {
+        productUpdatedCounter.increment(count);
+    }
+
     public void incrementProductDeleted() {
         productDeletedCounter.increment();
     }
-    
-    public Timer.Sample startTimer() {
-        return Timer.start();
-    }
-    
-    public void stopTimer(Timer.Sample sample) {
-        sample.stop(productOperationTimer);
-    }
-    
-    public void incrementDomainEventPublished() {
-        domainEventPublishedCounter.increment();
+
+    private static Timer operationTimer(MeterRegistry meterRegistry, Operation operation, String outcome) {
+        return latencyTimer("product.operation")
+                .description("Time taken for product operations")
+                .tag("operation", tagValue(operation))
+                .tag("outcome", outcome)
+                .register(meterRegistry);
     }
-    
-    public void incrementDomainEventFailed() {
-        domainEventFailedCounter.increment();
+
+    private static Timer eventSendTimer(MeterRegistry meterRegistry, String outcome) {
+        return latencyTimer("domain.event.send")
+                .description("Time from handing an event to the Kafka producer to its acknowledgement")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
     }
-}
\ No newline at end of file
+}
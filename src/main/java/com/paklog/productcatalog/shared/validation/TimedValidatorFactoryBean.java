@@ -0,0 +1,94 @@
+package com.paklog.productcatalog.shared.validation;
+
+import com.paklog.productcatalog.shared.util.MetricsUtil;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.executable.ExecutableValidator;
+import org.springframework.validation.Errors;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.Set;
+
+/**
+ * Bean validator that records how long validation takes: request bodies validated by
+ * Spring MVC as {@code request}, use-case arguments and return values checked by
+ * method validation as {@code method}.
+ */
+public class TimedValidatorFactoryBean extends LocalValidatorFactoryBean {
+
+    private final MetricsUtil metrics;
+
+    public TimedValidatorFactoryBean(MetricsUtil metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        long started = metrics.start();
+        try {
+            super.validate(target, errors);
+        } finally {
+            metrics.recordValidation(MetricsUtil.Validation.REQUEST, started);
+        }
+    }
+
+    @Override
+    public void validate(Object target, Errors errors, Object... validationHints) {
+        long started = metrics.start();
+        try {
+            super.validate(target, errors, validationHints);
+        } finally {
+            metrics.recordValidation(MetricsUtil.Validation.REQUEST, started);
+        }
+    }
+
+    @Override
+    public ExecutableValidator forExecutables() {
+        return new TimedExecutableValidator(super.forExecutables());
+    }
+
+    private final class TimedExecutableValidator implements ExecutableValidator {
+
+        private final ExecutableValidator delegate;
+
+        private TimedExecutableValidator(ExecutableValidator delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public <T> Set<ConstraintViolation<T>> validateParameters(T object, Method method, Object[] parameterValues,
+                                                                  Class<?>... groups) {
+            long started = metrics.start();
+            try {
+                return delegate.validateParameters(object, method, parameterValues, groups);
+            } finally {
+                metrics.recordValidation(MetricsUtil.Validation.METHOD, started);
+            }
+        }
+
+        @Override
+        public <T> Set<ConstraintViolation<T>> validateReturnValue(T object, Method method, Object returnValue,
+                                                                   Class<?>... groups) {
+            long started = metrics.start();
+            try {
+                return delegate.validateReturnValue(object, method, returnValue, groups);
+            } finally {
+                metrics.recordValidation(MetricsUtil.Validation.METHOD, started);
+            }
+        }
+
+        @Override
+        public <T> Set<ConstraintViolation<T>> validateConstructorParameters(Constructor<? extends T> constructor,
+                                                                             Object[] parameterValues,
+                                                                             Class<?>... groups) {
+            return delegate.validateConstructorParameters(constructor, parameterValues, groups);
+        }
+
+        @Override
+        public <T> Set<ConstraintViolation<T>> validateConstructorReturnValue(Constructor<? extends T> constructor,
+                                                                              T createdObject, Class<?>... groups) {
+            return delegate.validateConstructorReturnValue(constructor, createdObject, groups);
+        }
+    }
+}
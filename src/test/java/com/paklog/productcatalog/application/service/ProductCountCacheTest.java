@@ -0,0 +1,56 @@
+package com.paklog.productcatalog.application.service;
+
+import com.paklog.productcatalog.domain.model.Product;
+import com.paklog.productcatalog.domain.model.SKU;
+import com.paklog.productcatalog.infrastructure.persistence.memory.InMemoryProductRepository;
+import com.paklog.productcatalog.infrastructure.persistence.support.DelegatingProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Product Count Cache Tests")
+class ProductCountCacheTest {
+
+    private final InMemoryProductRepository store = new InMemoryProductRepository();
+    private final AtomicInteger estimates = new AtomicInteger();
+    private final DelegatingProductRepository repository = new DelegatingProductRepository(store) {
+        @Override
+        public long estimatedCount() {
+            estimates.incrementAndGet();
+            return super.estimatedCount();
+        }
+    };
+
+    @Test
+    @DisplayName("Should reuse the estimate until it expires")
+    void shouldReuseEstimateWithinTtl() throws InterruptedException {
+        store.save(Product.create(SKU.of("SKU-1"), "Scale 1"));
+        ProductCountCache cache = new ProductCountCache(repository, Duration.ofMillis(50));
+
+        assertThat(cache.estimatedCount()).isEqualTo(1);
+        store.save(Product.create(SKU.of("SKU-2"), "Scale 2"));
+        assertThat(cache.estimatedCount()).isEqualTo(1);
+        assertThat(estimates.get()).isEqualTo(1);
+
+        Thread.sleep(60);
+        assertThat(cache.estimatedCount()).isEqualTo(2);
+        assertThat(estimates.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should replace the estimate with a recorded exact count")
+    void shouldPreferRecordedExactCount() {
+        store.save(Product.create(SKU.of("SKU-1"), "Scale 1"));
+        ProductCountCache cache = new ProductCountCache(repository, Duration.ofMinutes(1));
+        cache.estimatedCount();
+
+        cache.record(42);
+
+        assertThat(cache.estimatedCount()).isEqualTo(42);
+        assertThat(estimates.get()).isEqualTo(1);
+    }
+}
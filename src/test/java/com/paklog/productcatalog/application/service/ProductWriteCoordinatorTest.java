@@ -0,0 +1,127 @@
+package com.paklog.productcatalog.application.service;
+
+import com.paklog.productcatalog.domain.model.SKU;
+import com.paklog.productcatalog.shared.exception.ConcurrentProductModificationException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Product Write Coordinator Tests")
+class ProductWriteCoordinatorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ProductWriteCoordinator coordinator = new ProductWriteCoordinator(
+            3, Duration.ofMillis(1), Duration.ofMillis(2), Duration.ofSeconds(5), meterRegistry);
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should run writes to the same SKU one at a time")
+    void shouldSerializeWritesToSameSku() throws Exception {
+        AtomicInteger inside = new AtomicInteger();
+        AtomicInteger maxInside = new AtomicInteger();
+        List<Future<?>> writes = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            writes.add(executor.submit(() -> coordinator.write(SKU.of("SKU-1"), () -> {
+                maxInside.accumulateAndGet(inside.incrementAndGet(), Math::max);
+                sleep(20);
+                return inside.decrementAndGet();
+            })));
+        }
+        for (Future<?> write : writes) {
+            write.get(5, TimeUnit.SECONDS);
+        }
+
+        assertThat(maxInside.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("product.write.contended").counter().count()).isPositive();
+        assertThat(meterRegistry.get("product.write.in-flight").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not hold up writes to other SKUs")
+    void shouldNotBlockUnrelatedSkus() throws Exception {
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> slow = executor.submit(() -> coordinator.write(SKU.of("SKU-1"), () -> {
+            holding.countDown();
+            await(release);
+            return null;
+        }));
+        assertThat(holding.await(5, TimeUnit.SECONDS)).isTrue();
+
+        String result = executor.submit(() -> coordinator.write(SKU.of("SKU-2"), () -> "written"))
+                .get(1, TimeUnit.SECONDS);
+
+        assertThat(result).isEqualTo("written");
+        assertThat(meterRegistry.get("product.write.in-flight").gauge().value()).isEqualTo(1.0);
+        release.countDown();
+        slow.get(5, TimeUnit.SECONDS);
+        assertThat(meterRegistry.get("product.write.contended").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should retry a write that lost to a concurrent modification")
+    void shouldRetryConflicts() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = coordinator.write(SKU.of("SKU-1"), () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new ConcurrentProductModificationException("conflict");
+            }
+            return "written";
+        });
+
+        assertThat(result).isEqualTo("written");
+        assertThat(attempts.get()).isEqualTo(3);
+        assertThat(meterRegistry.get("product.write.conflicts").counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("product.write.exhausted").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should give up after the configured number of attempts")
+    void shouldGiveUpAfterMaxAttempts() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> coordinator.write(SKU.of("SKU-1"), () -> {
+            attempts.incrementAndGet();
+            throw new ConcurrentProductModificationException("conflict");
+        })).isInstanceOf(ConcurrentProductModificationException.class);
+
+        assertThat(attempts.get()).isEqualTo(3);
+        assertThat(meterRegistry.get("product.write.exhausted").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("product.write.in-flight").gauge().value()).isZero();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
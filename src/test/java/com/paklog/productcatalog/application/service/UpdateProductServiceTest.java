@@ -0,0 +1,90 @@
+package com.paklog.productcatalog.application.service;
+
+import com.paklog.productcatalog.application.command.UpdateProductCommand;
+import com.paklog.productcatalog.application.port.output.DomainEventPublisher;
+import com.paklog.productcatalog.domain.event.DomainEvent;
+import com.paklog.productcatalog.domain.event.ProductUpdatedEvent;
+import com.paklog.productcatalog.domain.model.Product;
+import com.paklog.productcatalog.domain.model.SKU;
+import com.paklog.productcatalog.infrastructure.config.ReadModelConfig;
+import com.paklog.productcatalog.infrastructure.persistence.memory.InMemoryProductRepository;
+import com.paklog.productcatalog.infrastructure.readmodel.ChangelogBootstrapper;
+import com.paklog.productcatalog.infrastructure.readmodel.HeapProductReadStore;
+import com.paklog.productcatalog.infrastructure.readmodel.ReadModelProductRepository;
+import com.paklog.productcatalog.shared.util.MetricsUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Update Product Service Tests")
+class UpdateProductServiceTest {
+
+    private final InMemoryProductRepository database = new InMemoryProductRepository();
+    private final HeapProductReadStore readStore = new HeapProductReadStore();
+    private final ReadModelProductRepository repository = new ReadModelProductRepository(database, readStore,
+            new ChangelogBootstrapper(() -> null, "product-events", readStore, null, new ReadModelConfig(), Map.of(0, 0L)));
+    private final List<DomainEvent> published = new CopyOnWriteArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Should re-read and retry an update that lost a version race to another instance")
+    void shouldRetryLostVersionRace() {
+        repository.save(Product.create(SKU.of("SKU-1"), "Original"));
+        // Another instance writes the product; this instance's read model has not seen it yet
+        Product other = database.findBySku(SKU.of("SKU-1")).orElseThrow();
+        other.updateTitle("Written elsewhere");
+        database.save(other);
+        assertThat(repository.findBySku(SKU.of("SKU-1"))).map(Product::getTitle).contains("Original");
+
+        Product updated = service().updateProduct(UpdateProductCommand.of(SKU.of("SKU-1"), "Written here", null, null))
+                .orElseThrow();
+
+        assertThat(updated.getVersion()).isEqualTo(3L);
+        assertThat(database.findBySku(SKU.of("SKU-1"))).map(Product::getTitle).contains("Written here");
+        assertThat(readStore.get("SKU-1")).map(snapshot -> snapshot.version()).contains(3L);
+        assertThat(published).singleElement().isInstanceOfSatisfying(ProductUpdatedEvent.class,
+                event -> assertThat(event.getProduct().version()).isEqualTo(3L));
+        assertThat(meterRegistry.get("product.write.conflicts").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should not write or announce an update that changes nothing")
+    void shouldSkipUnchangedUpdate() {
+        repository.save(Product.create(SKU.of("SKU-1"), "Original"));
+
+        service().updateProduct(UpdateProductCommand.of(SKU.of("SKU-1"), "Original", null, null));
+
+        assertThat(database.findBySku(SKU.of("SKU-1"))).map(Product::getVersion).contains(1L);
+        assertThat(published).isEmpty();
+    }
+
+    private UpdateProductService service() {
+        MetricsUtil metrics = new MetricsUtil(meterRegistry,
+                meterRegistry.counter("product.created"),
+                meterRegistry.counter("product.updated"),
+                meterRegistry.counter("product.deleted"),
+                meterRegistry.counter("domain.event.published"),
+                meterRegistry.counter("domain.event.failed"));
+        DomainEventPublisher publisher = new DomainEventPublisher() {
+            @Override
+            public void publish(DomainEvent event) {
+                published.add(event);
+            }
+
+            @Override
+            public void publishAll(List<DomainEvent> events) {
+                published.addAll(events);
+            }
+        };
+        ProductWriteCoordinator coordinator = new ProductWriteCoordinator(
+                3, Duration.ofMillis(1), Duration.ofMillis(2), Duration.ofSeconds(5), meterRegistry);
+        return new UpdateProductService(repository, new DomainEventProcessor(publisher), coordinator, metrics);
+    }
+}
@@ -0,0 +1,88 @@
+package com.paklog.productcatalog.domain.event;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("UUIDv7 Generator Tests")
+class UuidV7GeneratorTest {
+
+    private static final long MILLIS = Instant.parse("2024-06-01T12:00:00.123Z").toEpochMilli();
+
+    private final UuidV7Generator generator = new UuidV7Generator();
+
+    @Test
+    @DisplayName("Should set the version and variant and embed the timestamp")
+    void shouldProduceVersion7Uuids() {
+        UUID id = generator.next(MILLIS);
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        assertThat(id.getMostSignificantBits() >>> 16).isEqualTo(MILLIS);
+        assertThat(UUID.fromString(generator.nextId(Instant.ofEpochMilli(MILLIS))).version()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Should increase within one millisecond and carry into the next when the sequence runs out")
+    void shouldIncreaseWithinOneMillisecond() {
+        UUID previous = generator.next(MILLIS);
+        for (int i = 0; i < 10_000; i++) {
+            UUID next = generator.next(MILLIS);
+            assertThat(next.toString()).isGreaterThan(previous.toString());
+            previous = next;
+        }
+        assertThat(previous.getMostSignificantBits() >>> 16).isGreaterThan(MILLIS);
+    }
+
+    @Test
+    @DisplayName("Should not go backwards when the clock does")
+    void shouldNotGoBackwards() {
+        UUID later = generator.next(MILLIS + 1_000);
+        UUID earlier = generator.next(MILLIS);
+
+        assertThat(earlier.toString()).isGreaterThan(later.toString());
+    }
+
+    @Test
+    @DisplayName("Should hand out unique, per-thread increasing ids under contention")
+    void shouldStayUniqueAcrossThreads() throws Exception {
+        int threads = 8;
+        int perThread = 20_000;
+        Set<UUID> seen = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    String previous = "";
+                    boolean ordered = true;
+                    for (int i = 0; i < perThread; i++) {
+                        UUID id = generator.next(System.currentTimeMillis());
+                        seen.add(id);
+                        ordered &= id.toString().compareTo(previous) > 0;
+                        previous = id.toString();
+                    }
+                    return ordered;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertThat(result.get()).isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(seen).hasSize(threads * perThread);
+    }
+}
@@ -0,0 +1,49 @@
+package com.paklog.productcatalog.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Change Cursor Tests")
+class ChangeCursorTest {
+
+    @Test
+    @DisplayName("Should round-trip through the continuation token")
+    void shouldRoundTripThroughToken() {
+        var cursor = new ChangeCursor(Instant.ofEpochMilli(1_700_000_000_123L), "SKU:WITH-COLON");
+
+        assertThat(ChangeCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("Should start from the beginning when token is absent")
+    void shouldStartFromBeginningWhenTokenIsAbsent() {
+        assertThat(ChangeCursor.decode(null)).isEqualTo(ChangeCursor.beginning());
+        assertThat(ChangeCursor.decode("  ")).isEqualTo(ChangeCursor.beginning());
+    }
+
+    @Test
+    @DisplayName("Should resume after the given product")
+    void shouldResumeAfterProduct() {
+        Product product = Product.create(SKU.of("TEST-SKU-123"), "Test Product");
+
+        var cursor = ChangeCursor.after(product);
+
+        assertThat(cursor.changedAt()).isEqualTo(product.getUpdatedAt());
+        assertThat(cursor.sku()).isEqualTo("TEST-SKU-123");
+    }
+
+    @Test
+    @DisplayName("Should reject malformed tokens")
+    void shouldRejectMalformedTokens() {
+        assertThatThrownBy(() -> ChangeCursor.decode("not base64!"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid change token");
+        assertThatThrownBy(() -> ChangeCursor.decode("bm90LWEtbnVtYmVyOlNLVQ"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid change token");
+    }
+}
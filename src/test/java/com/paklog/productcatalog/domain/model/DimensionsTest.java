@@ -114,6 +114,69 @@ class DimensionsTest {
         assertEquals("Package dimensions cannot be null", exception.getMessage());
     }
 
+    @Test
+    void shouldCompareDimensionsAcrossUnits() {
+        // Given a 10 inch item in a 1 foot package, and a 1 foot item in a 10 inch package
+        var tenInches = createDimensionSet(
+            BigDecimal.valueOf(10), BigDecimal.valueOf(3.0), BigDecimal.valueOf(2.0), BigDecimal.valueOf(1.0)
+        );
+        var oneFoot = new DimensionSet(
+            new DimensionMeasurement(BigDecimal.ONE, DimensionMeasurement.DimensionUnit.FEET),
+            new DimensionMeasurement(BigDecimal.valueOf(30), DimensionMeasurement.DimensionUnit.CENTIMETERS),
+            new DimensionMeasurement(BigDecimal.valueOf(60), DimensionMeasurement.DimensionUnit.MILLIMETERS),
+            new WeightMeasurement(BigDecimal.valueOf(500), WeightMeasurement.WeightUnit.GRAMS)
+        );
+
+        // Then validation uses the actual lengths, not the raw numbers
+        assertDoesNotThrow(() -> new Dimensions(tenInches, oneFoot).validate());
+        assertThrows(IllegalArgumentException.class, () -> new Dimensions(oneFoot, tenInches).validate());
+    }
+
+    @Test
+    void shouldLoadStoredDimensionsThatValidationRejects() {
+        // Given a 1 foot item stored in a 10 inch package, valid under the raw-value check
+        var oneFoot = new DimensionSet(
+            new DimensionMeasurement(BigDecimal.ONE, DimensionMeasurement.DimensionUnit.FEET),
+            new DimensionMeasurement(BigDecimal.valueOf(3), DimensionMeasurement.DimensionUnit.INCHES),
+            new DimensionMeasurement(BigDecimal.valueOf(2), DimensionMeasurement.DimensionUnit.INCHES),
+            new WeightMeasurement(BigDecimal.ONE, WeightMeasurement.WeightUnit.POUNDS)
+        );
+        var tenInches = createDimensionSet(
+            BigDecimal.valueOf(10), BigDecimal.valueOf(3), BigDecimal.valueOf(2), BigDecimal.ONE
+        );
+
+        // Then it can still be read back, though new input like it is rejected
+        var stored = new Dimensions(oneFoot, tenInches);
+        assertEquals(oneFoot, stored.item());
+        assertThrows(IllegalArgumentException.class, stored::validate);
+
+        var tooPrecise = new DimensionMeasurement(new BigDecimal("1.0000000000000000001"), DimensionMeasurement.DimensionUnit.INCHES);
+        assertFalse(tooPrecise.isPackable());
+    }
+
+    @Test
+    void shouldRejectValuesThatCannotBePacked() {
+        var exception = assertThrows(IllegalArgumentException.class,
+            () -> new DimensionMeasurement(new BigDecimal("1.0000000000000000001"), DimensionMeasurement.DimensionUnit.INCHES).validate());
+
+        assertEquals("Dimension value has too many digits", exception.getMessage());
+    }
+
+    @Test
+    void shouldRejectValuesOutOfCanonicalRange() {
+        // 10^13 m is 10^19 micrometres, past Long.MAX_VALUE
+        var exception = assertThrows(IllegalArgumentException.class,
+            () -> new DimensionMeasurement(new BigDecimal("1E13"), DimensionMeasurement.DimensionUnit.METERS).validate());
+        assertEquals("Dimension value is out of range", exception.getMessage());
+
+        // 9 * 10^12 m needs the exact conversion to be accepted
+        var largest = new DimensionMeasurement(new BigDecimal("9000000000000"), DimensionMeasurement.DimensionUnit.METERS).validate();
+        assertEquals(9_000_000_000_000_000_000L, largest.toMicrometres());
+
+        assertThrows(IllegalArgumentException.class,
+            () -> new WeightMeasurement(new BigDecimal("1E10"), WeightMeasurement.WeightUnit.KILOGRAMS).validate());
+    }
+
     private DimensionSet createDimensionSet(BigDecimal length, BigDecimal width, BigDecimal height, BigDecimal weight) {
         return new DimensionSet(
             new DimensionMeasurement(length, DimensionMeasurement.DimensionUnit.INCHES),
@@ -0,0 +1,68 @@
+package com.paklog.productcatalog.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PackedDimensionsTest {
+
+    @Test
+    void shouldRoundTripValuesScalesAndUnitsExactly() {
+        var dimensions = new Dimensions(
+            new DimensionSet(
+                DimensionMeasurement.of(new BigDecimal("10.50"), DimensionMeasurement.DimensionUnit.INCHES),
+                DimensionMeasurement.of(new BigDecimal("1E+1"), DimensionMeasurement.DimensionUnit.CENTIMETERS),
+                DimensionMeasurement.of(new BigDecimal("0.001"), DimensionMeasurement.DimensionUnit.METERS),
+                WeightMeasurement.of(new BigDecimal("3.125"), WeightMeasurement.WeightUnit.OUNCES)),
+            new DimensionSet(
+                DimensionMeasurement.of(new BigDecimal("1"), DimensionMeasurement.DimensionUnit.FEET),
+                DimensionMeasurement.of(new BigDecimal("100.0"), DimensionMeasurement.DimensionUnit.MILLIMETERS),
+                DimensionMeasurement.of(new BigDecimal("2"), DimensionMeasurement.DimensionUnit.MILLIMETERS),
+                WeightMeasurement.of(new BigDecimal("0.25"), WeightMeasurement.WeightUnit.KILOGRAMS)));
+
+        var unpacked = PackedDimensions.of(dimensions).toDimensions();
+
+        assertEquals(dimensions, unpacked);
+        assertEquals(new BigDecimal("10.50"), unpacked.item().length().value());
+        assertEquals(new BigDecimal("1E+1"), unpacked.item().width().value());
+    }
+
+    @Test
+    void shouldExposeCanonicalMicroUnits() {
+        var packed = PackedDimensions.of(new Dimensions(
+            set("10.5", DimensionMeasurement.DimensionUnit.INCHES, "1", WeightMeasurement.WeightUnit.OUNCES),
+            set("1", DimensionMeasurement.DimensionUnit.FEET, "1", WeightMeasurement.WeightUnit.POUNDS)));
+
+        assertEquals(266_700L, packed.micros(PackedDimensions.ITEM + PackedDimensions.LENGTH));
+        assertEquals(304_800L, packed.micros(PackedDimensions.PACKAGE + PackedDimensions.LENGTH));
+        assertEquals(28_349_523L, packed.micros(PackedDimensions.ITEM + PackedDimensions.WEIGHT));
+        assertEquals(453_592_370L, packed.micros(PackedDimensions.PACKAGE + PackedDimensions.WEIGHT));
+        assertTrue(packed.itemFitsInPackage());
+    }
+
+    @Test
+    void shouldCompareEqualOnlyForIdenticalValuesAndUnits() {
+        var a = PackedDimensions.of(new Dimensions(
+            set("5", DimensionMeasurement.DimensionUnit.INCHES, "1", WeightMeasurement.WeightUnit.POUNDS),
+            set("6", DimensionMeasurement.DimensionUnit.INCHES, "2", WeightMeasurement.WeightUnit.POUNDS)));
+        var b = PackedDimensions.of(new Dimensions(
+            set("5", DimensionMeasurement.DimensionUnit.INCHES, "1", WeightMeasurement.WeightUnit.POUNDS),
+            set("6", DimensionMeasurement.DimensionUnit.INCHES, "2", WeightMeasurement.WeightUnit.POUNDS)));
+        var rescaled = PackedDimensions.of(new Dimensions(
+            set("5.0", DimensionMeasurement.DimensionUnit.INCHES, "1", WeightMeasurement.WeightUnit.POUNDS),
+            set("6", DimensionMeasurement.DimensionUnit.INCHES, "2", WeightMeasurement.WeightUnit.POUNDS)));
+
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertNotEquals(a, rescaled);
+    }
+
+    private static DimensionSet set(String length, DimensionMeasurement.DimensionUnit unit,
+                                    String weight, WeightMeasurement.WeightUnit weightUnit) {
+        var measurement = DimensionMeasurement.of(new BigDecimal(length), unit);
+        return new DimensionSet(measurement, measurement, measurement,
+            WeightMeasurement.of(new BigDecimal(weight), weightUnit));
+    }
+}
@@ -1,12 +1,17 @@
 package com.paklog.productcatalog.domain.model;
 
 import com.paklog.productcatalog.domain.event.ProductCreatedEvent;
+import com.paklog.productcatalog.domain.event.ProductDeletedEvent;
 import com.paklog.productcatalog.domain.event.ProductUpdatedEvent;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Nested;
 
 import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -16,6 +21,11 @@ class ProductTest {
     private final SKU validSku = SKU.of("TEST-SKU-123");
     private final String validTitle = "Test Product";
     
+    @AfterEach
+    void resetClock() {
+        DomainClock.reset();
+    }
+    
     @Nested
     @DisplayName("Product Creation")
     class ProductCreation {
@@ -35,6 +45,19 @@ class ProductTest {
             assertThat(product.getDomainEvents().get(0)).isInstanceOf(ProductCreatedEvent.class);
         }
         
+        @Test
+        @DisplayName("Should stamp product and event from the domain clock")
+        void shouldStampProductAndEventFromDomainClock() {
+            Instant now = Instant.parse("2024-06-01T12:00:00.123Z");
+            DomainClock.use(Clock.fixed(now, ZoneOffset.UTC));
+            
+            Product product = Product.create(validSku, validTitle);
+            
+            assertThat(product.getCreatedAt()).isEqualTo(now);
+            assertThat(product.getUpdatedAt()).isEqualTo(now);
+            assertThat(product.getDomainEvents().get(0).getOccurredOn()).isEqualTo(now);
+        }
+        
         @Test
         @DisplayName("Should create product with dimensions and attributes")
         void shouldCreateProductWithDimensionsAndAttributes() {
@@ -114,6 +137,57 @@ class ProductTest {
             assertThat(product.getDomainEvents()).hasSize(1);
             assertThat(product.getDomainEvents().get(0)).isInstanceOf(ProductUpdatedEvent.class);
         }
+        
+        @Test
+        @DisplayName("Should apply full update as a single event carrying the new state")
+        void shouldApplyFullUpdateAsSingleEvent() {
+            Product product = Product.create(validSku, validTitle);
+            product.clearDomainEvents();
+            
+            Dimensions newDimensions = createValidDimensions();
+            product.update("Updated Product Title", newDimensions, Attributes.of(HazmatInfo.hazmat("UN1950")));
+            
+            assertThat(product.getDomainEvents()).hasSize(1);
+            var event = (ProductUpdatedEvent) product.getDomainEvents().get(0);
+            assertThat(event.getAggregateId()).isEqualTo(validSku.value());
+            assertThat(event.getProduct().title()).isEqualTo("Updated Product Title");
+            assertThat(event.getProduct().dimensions()).isEqualTo(newDimensions);
+            assertThat(event.getProduct().attributes().hazmatInfo().isHazmat()).isTrue();
+        }
+        
+        @Test
+        @DisplayName("Should become a tombstone when marked for deletion")
+        void shouldBecomeTombstoneWhenMarkedForDeletion() {
+            Product product = Product.create(validSku, validTitle);
+            product.clearDomainEvents();
+            
+            product.markForDeletion();
+            
+            assertThat(product.isDeleted()).isTrue();
+            assertThat(product.getDeletedAt()).isNotNull();
+            assertThat(product.getUpdatedAt()).isEqualTo(product.getDeletedAt());
+            assertThat(product.getVersion()).isEqualTo(0L);
+            assertThat(product.getDomainEvents()).hasSize(1);
+            assertThat(product.getDomainEvents().get(0)).isInstanceOf(ProductDeletedEvent.class);
+        }
+        
+        @Test
+        @DisplayName("Should stamp pending event snapshots with the version the product is stored at")
+        void shouldStampPendingEventsWithStoredVersion() {
+            Product product = Product.create(validSku, validTitle);
+            product.updateTitle("Updated Title");
+            String createdId = product.getDomainEvents().get(0).getEventId();
+            
+            product.setVersion(1L);
+            
+            assertThat(product.getDomainEvents()).hasSize(2);
+            ProductCreatedEvent created = (ProductCreatedEvent) product.getDomainEvents().get(0);
+            ProductUpdatedEvent updated = (ProductUpdatedEvent) product.getDomainEvents().get(1);
+            assertThat(created.getEventId()).isEqualTo(createdId);
+            assertThat(created.getProduct().version()).isEqualTo(1L);
+            assertThat(updated.getProduct().version()).isEqualTo(1L);
+            assertThat(updated.getProduct().title()).isEqualTo("Updated Title");
+        }
     }
     
     @Nested
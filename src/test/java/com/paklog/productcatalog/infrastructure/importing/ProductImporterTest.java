@@ -0,0 +1,184 @@
+package com.paklog.productcatalog.infrastructure.importing;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.paklog.productcatalog.application.port.output.DomainEventPublisher;
+import com.paklog.productcatalog.application.service.DomainEventProcessor;
+import com.paklog.productcatalog.application.service.ImportProductsService;
+import com.paklog.productcatalog.domain.event.DomainEvent;
+import com.paklog.productcatalog.domain.event.ProductUpdatedEvent;
+import com.paklog.productcatalog.domain.model.SKU;
+import com.paklog.productcatalog.infrastructure.config.ImportConfig;
+import com.paklog.productcatalog.infrastructure.persistence.memory.InMemoryProductRepository;
+import com.paklog.productcatalog.infrastructure.web.mapper.ProductDtoMapper;
+import com.paklog.productcatalog.shared.util.MetricsUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Product Importer Tests")
+class ProductImporterTest {
+
+    private static final String VALID = """
+            {"sku":"%s","title":"%s","dimensions":{\
+            "item":{"length":{"value":10,"unit":"INCHES"},"width":{"value":5,"unit":"INCHES"},\
+            "height":{"value":2,"unit":"INCHES"},"weight":{"value":1.5,"unit":"POUNDS"}},\
+            "package":{"length":{"value":11,"unit":"INCHES"},"width":{"value":6,"unit":"INCHES"},\
+            "height":{"value":3,"unit":"INCHES"},"weight":{"value":2,"unit":"POUNDS"}}},\
+            "attributes":{"hazmat_info":{"is_hazmat":false}}}""";
+
+    private final InMemoryProductRepository repository = new InMemoryProductRepository();
+    private final List<List<DomainEvent>> published = new CopyOnWriteArrayList<>();
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+    private final ImportConfig config = new ImportConfig();
+    private final Recorder recorder = new Recorder();
+    private ProductImporter importer;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        MetricsUtil metrics = new MetricsUtil(meterRegistry,
+                meterRegistry.counter("product.created"),
+                meterRegistry.counter("product.updated"),
+                meterRegistry.counter("product.deleted"),
+                meterRegistry.counter("domain.event.published"),
+                meterRegistry.counter("domain.event.failed"));
+        DomainEventPublisher publisher = new DomainEventPublisher() {
+            @Override
+            public void publish(DomainEvent event) {
+                published.add(List.of(event));
+            }
+
+            @Override
+            public void publishAll(List<DomainEvent> events) {
+                published.add(List.copyOf(events));
+            }
+        };
+        var service = new ImportProductsService(repository, new DomainEventProcessor(publisher), 1, metrics);
+        config.setBatchSize(7);
+        config.setParallelism(3);
+        config.setMaxBatchesInFlight(2);
+        importer = new ProductImporter(service, new ProductDtoMapper(metrics),
+                Validation.buildDefaultValidatorFactory().getValidator(), objectMapper, config);
+    }
+
+    @Test
+    @DisplayName("Should import the pre-load file with one event batch per write")
+    void shouldImportPreloadFile() throws IOException {
+        ImportSummary summary;
+        try (InputStream feed = Files.newInputStream(Path.of("pre-load-products/products.json"))) {
+            summary = importer.importFeed(feed, ImportProgress.start(), recorder);
+        }
+
+        // Seven products in the file have an item larger than its package, which the domain rejects
+        assertThat(summary.completed()).isTrue();
+        assertThat(summary.progress()).isEqualTo(new ImportProgress(50, 43, 0, 0, 7));
+        assertThat(recorder.errors).extracting(ImportError::record).containsExactly(11L, 12L, 18L, 19L, 20L, 31L, 32L);
+        assertThat(recorder.errors).allSatisfy(error ->
+                assertThat(error.message()).isEqualTo("Item dimensions cannot be larger than package dimensions"));
+        assertThat(repository.count()).isEqualTo(43);
+        assertThat(published).hasSize(8);
+        assertThat(published.stream().mapToInt(List::size).sum()).isEqualTo(43);
+        assertThat(recorder.checkpoints).extracting(ImportProgress::records)
+                .containsExactly(7L, 14L, 21L, 28L, 35L, 42L, 49L, 50L);
+    }
+
+    @Test
+    @DisplayName("Should report invalid records by position and import the rest")
+    void shouldReportInvalidRecords() {
+        String feed = String.join("\n",
+                product("SKU-1", "First"),
+                "{\"sku\":\"SKU-2\",\"title\":\"\"}",
+                product("SKU-3", "Third").replace("\"POUNDS\"}}", "\"STONES\"}}"),
+                product("SKU-4", "Fourth"));
+
+        ImportSummary summary = importer.importFeed(ndjson(feed), ImportProgress.start(), recorder);
+
+        assertThat(summary.completed()).isTrue();
+        assertThat(summary.progress()).isEqualTo(new ImportProgress(4, 2, 0, 0, 2));
+        assertThat(recorder.errors).extracting(ImportError::record, ImportError::sku)
+                .containsExactly(tuple(2L, "SKU-2"), tuple(3L, "SKU-3"));
+        assertThat(recorder.errors.get(0).message()).contains("title", "dimensions");
+        assertThat(repository.existsBySku(SKU.of("SKU-4"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should update changed products and leave identical ones alone on a second import")
+    void shouldUpdateChangedProducts() {
+        importer.importFeed(ndjson(product("SKU-1", "First") + product("SKU-2", "Second")), ImportProgress.start(), recorder);
+        published.clear();
+
+        ImportSummary summary = importer.importFeed(ndjson(product("SKU-1", "First") + product("SKU-2", "Renamed")),
+                ImportProgress.start(), recorder);
+
+        assertThat(summary.progress()).isEqualTo(new ImportProgress(2, 0, 1, 1, 0));
+        assertThat(published).singleElement().satisfies(events ->
+                assertThat(events).singleElement().isInstanceOf(ProductUpdatedEvent.class));
+        assertThat(repository.findBySku(SKU.of("SKU-2")).orElseThrow().getTitle()).isEqualTo("Renamed");
+    }
+
+    @Test
+    @DisplayName("Should stop at a malformed record and resume after the last batch written")
+    void shouldResumeAfterMalformedFeed() {
+        StringBuilder feed = new StringBuilder();
+        for (int i = 1; i <= 10; i++) {
+            feed.append(product("SKU-" + i, "Product " + i)).append('\n');
+        }
+        String broken = feed + "{\"sku\": \n";
+
+        ImportSummary aborted = importer.importFeed(ndjson(broken), ImportProgress.start(), recorder);
+
+        assertThat(aborted.completed()).isFalse();
+        assertThat(aborted.abortReason()).startsWith("Malformed feed");
+        assertThat(aborted.progress().records()).isEqualTo(7);
+        assertThat(repository.count()).isEqualTo(7);
+
+        ImportSummary resumed = importer.importFeed(ndjson(feed.toString()), aborted.progress(), recorder);
+
+        assertThat(resumed.completed()).isTrue();
+        assertThat(resumed.resumedAfter()).isEqualTo(7);
+        assertThat(resumed.progress()).isEqualTo(new ImportProgress(10, 10, 0, 0, 0));
+        assertThat(repository.count()).isEqualTo(10);
+    }
+
+    private static String product(String sku, String title) {
+        return VALID.formatted(sku, title);
+    }
+
+    private static InputStream ndjson(String feed) {
+        return new ByteArrayInputStream(feed.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static final class Recorder implements ImportListener {
+
+        private final List<ImportError> errors = new ArrayList<>();
+        private final List<ImportProgress> checkpoints = new ArrayList<>();
+
+        @Override
+        public void onError(ImportError error) {
+            errors.add(error);
+        }
+
+        @Override
+        public void onBatchWritten(ImportProgress progress) {
+            checkpoints.add(progress);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.paklog.productcatalog.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import org.slf4j.LoggerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Dropping Async Appender Tests")
+class DroppingAsyncAppenderTest {
+
+    private final LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+    private final Logger logger = context.getLogger("com.paklog.productcatalog.test.DroppingAsyncAppender");
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final DroppingAsyncAppender appender = new DroppingAsyncAppender();
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        logger.detachAndStopAllAppenders();
+    }
+
+    @Test
+    @DisplayName("Should drop and count events instead of blocking when the destination stalls")
+    void shouldDropInsteadOfBlocking() {
+        AppenderBase<ILoggingEvent> stalled = new AppenderBase<>() {
+            @Override
+            protected void append(ILoggingEvent event) {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        stalled.setContext(context);
+        stalled.start();
+        appender.setContext(context);
+        appender.setName("ASYNC");
+        appender.setQueueSize(100);
+        appender.setDiscardingThreshold(20);
+        appender.addAppender(stalled);
+        appender.start();
+        logger.setAdditive(false);
+        logger.setLevel(Level.DEBUG);
+        logger.addAppender(appender);
+
+        long started = System.nanoTime();
+        for (int i = 0; i < 1_000; i++) {
+            logger.info("Info line");
+            logger.error("Error line");
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+        assertThat(elapsed).isLessThan(Duration.ofSeconds(5));
+        assertThat(appender.getDiscardedCount()).isPositive();
+        assertThat(appender.getOverflowCount()).isPositive();
+        assertThat(appender.getDiscardedCount() + appender.getOverflowCount()).isGreaterThanOrEqualTo(1_700);
+    }
+}
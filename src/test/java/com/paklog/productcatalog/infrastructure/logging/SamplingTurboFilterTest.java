@@ -0,0 +1,76 @@
+package com.paklog.productcatalog.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Sampling Turbo Filter Tests")
+class SamplingTurboFilterTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private final SamplingTurboFilter filter = new SamplingTurboFilter();
+
+    @BeforeEach
+    void setUp() {
+        appender.setContext(context);
+        appender.start();
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.DEBUG);
+        root.addAppender(appender);
+
+        filter.setLoggers("com.example.service, com.example.web");
+        filter.setLevel("INFO");
+        filter.setOneIn(10);
+        filter.setContext(context);
+        filter.start();
+        context.addTurboFilter(filter);
+    }
+
+    @Test
+    @DisplayName("Should keep about one in N lines from the sampled loggers")
+    void shouldSampleConfiguredLoggers() {
+        Logger logger = context.getLogger("com.example.service.CreateService");
+        for (int i = 0; i < 10_000; i++) {
+            logger.atInfo().addKeyValue("sku", "SKU-" + i).log("Product created");
+        }
+
+        assertThat(appender.list.size()).isBetween(700, 1_300);
+        assertThat(filter.getSuppressedCount()).isEqualTo(10_000 - appender.list.size());
+        assertThat(appender.list.get(0).getKeyValuePairs()).singleElement()
+                .satisfies(pair -> assertThat(pair.key).isEqualTo("sku"));
+    }
+
+    @Test
+    @DisplayName("Should keep warnings, exceptions and other loggers")
+    void shouldKeepEverythingElse() {
+        Logger sampled = context.getLogger("com.example.web.Controller");
+        Logger other = context.getLogger("com.example.webhooks.Client");
+        for (int i = 0; i < 100; i++) {
+            sampled.warn("Slow request");
+            sampled.info("Failed request", new IllegalStateException("boom"));
+            other.info("Webhook sent");
+        }
+
+        assertThat(appender.list).hasSize(300);
+        assertThat(filter.getSuppressedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should sample unguarded calls through the classic API as well")
+    void shouldSampleClassicCalls() {
+        Logger logger = context.getLogger("com.example.web");
+        for (int i = 0; i < 10_000; i++) {
+            logger.info("Handled request {}", i);
+        }
+
+        assertThat(appender.list.size()).isBetween(700, 1_300);
+    }
+}
@@ -0,0 +1,83 @@
+package com.paklog.productcatalog.infrastructure.messaging.avro;
+
+import com.paklog.productcatalog.domain.event.DomainEvent;
+import com.paklog.productcatalog.domain.model.*;
+import org.apache.avro.generic.GenericRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Avro Product Event Serializer Tests")
+class AvroProductEventSerializerTest {
+
+    private final FileSchemaRegistry registry = new FileSchemaRegistry("classpath:schemas/avro");
+    private final AvroProductEventSerializer serializer =
+            new AvroProductEventSerializer(registry.latest("product-event"));
+    private final AvroProductEventReader reader = new AvroProductEventReader(registry, "product-event");
+
+    @Test
+    @DisplayName("Should round-trip product state exactly")
+    void shouldRoundTripProductState() {
+        Product product = Product.create(SKU.of("TEST-SKU-123"), "Test Product",
+                createDimensions(), Attributes.of(HazmatInfo.hazmat("UN1950")));
+        DomainEvent event = product.getDomainEvents().get(0);
+
+        byte[] value = serializer.serialize("topic", event);
+        GenericRecord record = reader.read(value);
+
+        assertThat(AvroProductEventReader.isAvro(value)).isTrue();
+        assertThat(ProductEventAvroMapper.eventType(record)).isEqualTo("ProductCreated");
+        assertThat(ProductEventAvroMapper.sku(record)).isEqualTo("TEST-SKU-123");
+        assertThat(ProductEventAvroMapper.toSnapshot(record))
+                .usingRecursiveComparison()
+                .ignoringFields("createdAt", "updatedAt")
+                .isEqualTo(product.snapshot());
+        assertThat(ProductEventAvroMapper.toSnapshot(record).dimensions().item().length().value())
+                .isEqualByComparingTo(new BigDecimal("10.25"));
+    }
+
+    @Test
+    @DisplayName("Should encode deletions without product state")
+    void shouldEncodeDeletion() {
+        Product product = Product.create(SKU.of("TEST-SKU-123"), "Test Product");
+        product.clearDomainEvents();
+        product.markForDeletion();
+
+        GenericRecord record = reader.read(serializer.serialize("topic", product.getDomainEvents().get(0)));
+
+        assertThat(ProductEventAvroMapper.eventType(record)).isEqualTo("ProductDeleted");
+        assertThat(ProductEventAvroMapper.toSnapshot(record)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should be smaller than the JSON encoding and pass tombstones through")
+    void shouldBeSmallerThanJson() {
+        Product product = Product.create(SKU.of("TEST-SKU-123"), "Test Product",
+                createDimensions(), Attributes.withoutHazmat());
+        DomainEvent event = product.getDomainEvents().get(0);
+
+        byte[] avro = serializer.serialize("topic", event);
+        byte[] json = new JsonSerializer<>().serialize("topic", event);
+
+        assertThat(avro.length).isLessThan(json.length / 2);
+        assertThat(serializer.serialize("topic", null)).isNull();
+    }
+
+    private Dimensions createDimensions() {
+        DimensionSet item = DimensionSet.of(
+            DimensionMeasurement.of(new BigDecimal("10.25"), DimensionMeasurement.DimensionUnit.INCHES),
+            DimensionMeasurement.of(8.0, DimensionMeasurement.DimensionUnit.INCHES),
+            DimensionMeasurement.of(3.0, DimensionMeasurement.DimensionUnit.INCHES),
+            WeightMeasurement.of(5.0, WeightMeasurement.WeightUnit.POUNDS));
+        DimensionSet packaging = DimensionSet.of(
+            DimensionMeasurement.of(12.0, DimensionMeasurement.DimensionUnit.INCHES),
+            DimensionMeasurement.of(9.0, DimensionMeasurement.DimensionUnit.INCHES),
+            DimensionMeasurement.of(4.0, DimensionMeasurement.DimensionUnit.INCHES),
+            WeightMeasurement.of(6.0, WeightMeasurement.WeightUnit.POUNDS));
+        return Dimensions.of(item, packaging);
+    }
+}
@@ -0,0 +1,84 @@
+package com.paklog.productcatalog.infrastructure.messaging.avro;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("File Schema Registry Tests")
+class FileSchemaRegistryTest {
+
+    private static final String V1 = """
+        { "type": "record", "name": "Item", "fields": [ { "name": "sku", "type": "string" } ] }
+        """;
+
+    @TempDir
+    Path registryDir;
+
+    @Test
+    @DisplayName("Should load the bundled product event schema")
+    void shouldLoadBundledSchema() {
+        FileSchemaRegistry registry = new FileSchemaRegistry("classpath:schemas/avro");
+
+        SchemaVersion latest = registry.latest("product-event");
+
+        assertThat(latest.version()).isGreaterThanOrEqualTo(1);
+        assertThat(latest.schema().getName()).isEqualTo("ProductEvent");
+    }
+
+    @Test
+    @DisplayName("Should accept a new version that adds a field with a default")
+    void shouldAcceptBackwardCompatibleVersion() throws IOException {
+        writeSchema(1, V1);
+        writeSchema(2, """
+            { "type": "record", "name": "Item", "fields": [
+              { "name": "sku", "type": "string" },
+              { "name": "title", "type": ["null", "string"], "default": null } ] }
+            """);
+
+        FileSchemaRegistry registry = new FileSchemaRegistry(location());
+
+        assertThat(registry.latest("item").version()).isEqualTo(2);
+        assertThat(registry.get("item", 1).schema().getFields()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should reject a new version that adds a required field")
+    void shouldRejectIncompatibleVersion() throws IOException {
+        writeSchema(1, V1);
+        writeSchema(2, """
+            { "type": "record", "name": "Item", "fields": [
+              { "name": "sku", "type": "string" },
+              { "name": "title", "type": "string" } ] }
+            """);
+
+        assertThatThrownBy(() -> new FileSchemaRegistry(location()))
+                .isInstanceOf(SchemaCompatibilityException.class)
+                .hasMessageContaining("v2 cannot read data written with v1");
+    }
+
+    @Test
+    @DisplayName("Should reject gaps in the version sequence")
+    void shouldRejectVersionGaps() throws IOException {
+        writeSchema(1, V1);
+        writeSchema(3, V1);
+
+        assertThatThrownBy(() -> new FileSchemaRegistry(location()))
+                .isInstanceOf(SchemaCompatibilityException.class)
+                .hasMessageContaining("missing v2");
+    }
+
+    private void writeSchema(int version, String schema) throws IOException {
+        Path subject = Files.createDirectories(registryDir.resolve("item"));
+        Files.writeString(subject.resolve("v" + version + ".avsc"), schema);
+    }
+
+    private String location() {
+        return registryDir.toUri().toString();
+    }
+}
@@ -0,0 +1,102 @@
+package com.paklog.productcatalog.infrastructure.messaging.cdc;
+
+import com.paklog.productcatalog.domain.event.DomainEvent;
+import com.paklog.productcatalog.domain.event.ProductCreatedEvent;
+import com.paklog.productcatalog.domain.event.ProductDeletedEvent;
+import com.paklog.productcatalog.domain.event.ProductUpdatedEvent;
+import com.paklog.productcatalog.domain.model.Product;
+import com.paklog.productcatalog.domain.model.SKU;
+import com.paklog.productcatalog.infrastructure.persistence.entity.ProductEntity;
+import com.paklog.productcatalog.infrastructure.persistence.mapper.ProductEntityMapper;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Product Change Event Deriver Tests")
+class ProductChangeEventDeriverTest {
+
+    private final ProductEntityMapper mapper = new ProductEntityMapper();
+    private final MappingMongoConverter converter = converter();
+    private final ProductChangeEventDeriver deriver = new ProductChangeEventDeriver(converter, mapper);
+
+    @Test
+    @DisplayName("Should derive a created event from an insert")
+    void shouldDeriveCreatedFromInsert() {
+        List<DomainEvent> events = deriver.derive("insert", null, document("Widget", null));
+
+        assertThat(events).singleElement().isInstanceOfSatisfying(ProductCreatedEvent.class, event -> {
+            assertThat(event.getSku()).isEqualTo(SKU.of("SKU-1"));
+            assertThat(event.getProduct().title()).isEqualTo("Widget");
+        });
+    }
+
+    @Test
+    @DisplayName("Should derive an updated event only when product state changed")
+    void shouldDeriveUpdatedOnlyOnChange() {
+        assertThat(deriver.derive("replace", document("Widget", null), document("Gadget", null)))
+                .singleElement().isInstanceOf(ProductUpdatedEvent.class);
+        assertThat(deriver.derive("replace", document("Widget", null), document("Widget", null)))
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should treat setting and clearing deletedAt as delete and re-create")
+    void shouldFollowTombstones() {
+        Instant deletedAt = Instant.parse("2024-01-01T00:00:00Z");
+
+        assertThat(deriver.derive("update", document("Widget", null), document("Widget", deletedAt)))
+                .singleElement().isInstanceOf(ProductDeletedEvent.class);
+        assertThat(deriver.derive("replace", document("Widget", deletedAt), document("Widget", null)))
+                .singleElement().isInstanceOf(ProductCreatedEvent.class);
+    }
+
+    @Test
+    @DisplayName("Should ignore tombstone compaction and unattributable deletes")
+    void shouldIgnoreCompaction() {
+        Instant deletedAt = Instant.parse("2024-01-01T00:00:00Z");
+
+        assertThat(deriver.derive("delete", document("Widget", deletedAt), null)).isEmpty();
+        assertThat(deriver.derive("delete", null, null)).isEmpty();
+        assertThat(deriver.derive("delete", document("Widget", null), null))
+                .singleElement().isInstanceOf(ProductDeletedEvent.class);
+    }
+
+    @Test
+    @DisplayName("Should fall back to post-images when no pre-image is recorded")
+    void shouldUsePostImageOnly() {
+        assertThat(deriver.derive("update", null, document("Widget", null)))
+                .singleElement().isInstanceOf(ProductUpdatedEvent.class);
+        assertThat(deriver.derive("update", null, document("Widget", Instant.now())))
+                .singleElement().isInstanceOf(ProductDeletedEvent.class);
+    }
+
+    private Document document(String title, Instant deletedAt) {
+        Product product = Product.create(SKU.of("SKU-1"), title);
+        ProductEntity entity = mapper.toEntity(product);
+        entity.setId("65a000000000000000000001");
+        entity.setDeletedAt(deletedAt);
+        Document document = new Document();
+        converter.write(entity, document);
+        return document;
+    }
+
+    private static MappingMongoConverter converter() {
+        MongoCustomConversions conversions = new MongoCustomConversions(List.of());
+        MongoMappingContext context = new MongoMappingContext();
+        context.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        context.afterPropertiesSet();
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, context);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        return converter;
+    }
+}
@@ -0,0 +1,191 @@
+package com.paklog.productcatalog.infrastructure.messaging.pipeline;
+
+import com.paklog.productcatalog.domain.event.DomainEvent;
+import com.paklog.productcatalog.domain.event.ProductDeletedEvent;
+import com.paklog.productcatalog.domain.model.SKU;
+import com.paklog.productcatalog.infrastructure.config.EventPipelineConfig;
+import com.paklog.productcatalog.shared.exception.EventPipelineFullException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Event Pipeline Tests")
+class EventPipelineTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<DomainEvent> sent = Collections.synchronizedList(new ArrayList<>());
+    private EventPipeline pipeline;
+
+    @AfterEach
+    void tearDown() {
+        if (pipeline != null) {
+            pipeline.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Should deliver buffered events in order and drain them on stop")
+    void shouldDeliverInOrder() {
+        pipeline = pipeline(config(EventPipelineConfig.OverflowPolicy.BLOCK), batch -> {
+            sent.addAll(batch);
+            return CompletableFuture.completedFuture(null);
+        });
+        pipeline.start();
+
+        List<DomainEvent> events = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            events.add(event(i));
+        }
+        events.forEach(pipeline::publish);
+        pipeline.stop();
+
+        assertThat(sent).containsExactlyElementsOf(events);
+        assertThat(meterRegistry.get("domain.event.pipeline.batch.size").summary().count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should count failed batches on its own meter, not the per-send failure counter")
+    void shouldCountFailedBatches() {
+        pipeline = pipeline(config(EventPipelineConfig.OverflowPolicy.BLOCK),
+                batch -> CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+        pipeline.start();
+
+        pipeline.publishAll(List.of(event(1), event(2)));
+        pipeline.stop();
+
+        assertThat(meterRegistry.get("domain.event.pipeline.failed").counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.find("domain.event.failed").counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject writes when full under the FAIL policy")
+    void shouldRejectWhenFull() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        pipeline = pipeline(config(EventPipelineConfig.OverflowPolicy.FAIL), batch -> {
+            awaitQuietly(release);
+            return CompletableFuture.completedFuture(null);
+        });
+        pipeline.start();
+
+        assertThatThrownBy(() -> {
+            for (int i = 0; i < 100; i++) {
+                pipeline.publish(event(i));
+            }
+        }).isInstanceOf(EventPipelineFullException.class);
+
+        release.countDown();
+        assertThat(meterRegistry.get("domain.event.pipeline.overflow").tag("outcome", "rejected")
+                .counter().count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should hand overflow to the spillover under the SPILL policy")
+    void shouldSpillWhenFull() {
+        SpoolingSink sink = new SpoolingSink();
+        pipeline = spillingPipeline(sink);
+        pipeline.start();
+
+        for (int i = 0; i < 100; i++) {
+            pipeline.publish(event(i));
+        }
+
+        assertThat(sink.spooled).isNotEmpty();
+        assertThat(meterRegistry.get("domain.event.pipeline.overflow").tag("outcome", "spilled")
+                .counter().count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should spill overflow behind the events buffered before it")
+    void shouldKeepOrderAcrossSpill() {
+        SpoolingSink sink = new SpoolingSink();
+        pipeline = spillingPipeline(sink);
+        pipeline.start();
+
+        List<DomainEvent> events = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            events.add(event(i));
+        }
+        events.forEach(pipeline::publish);
+        pipeline.stop();
+
+        List<DomainEvent> delivered = new ArrayList<>(sink.sent);
+        delivered.addAll(sink.spooled);
+        assertThat(sink.spooled).isNotEmpty();
+        assertThat(delivered).containsExactlyElementsOf(events);
+    }
+
+    private EventPipeline pipeline(EventPipelineConfig config, EventBatchSink sink) {
+        return new EventPipeline(sink, config, meterRegistry,
+                new StaticListableBeanFactory().getBeanProvider(EventSpillover.class));
+    }
+
+    private EventPipeline spillingPipeline(SpoolingSink sink) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("spillover", sink);
+        return new EventPipeline(sink, config(EventPipelineConfig.OverflowPolicy.SPILL), meterRegistry,
+                beanFactory.getBeanProvider(EventSpillover.class));
+    }
+
+    private static EventPipelineConfig config(EventPipelineConfig.OverflowPolicy policy) {
+        EventPipelineConfig config = new EventPipelineConfig();
+        config.setCapacity(16);
+        config.setMaxBatchSize(8);
+        config.setOverflowPolicy(policy);
+        return config;
+    }
+
+    private static DomainEvent event(int i) {
+        return new ProductDeletedEvent(SKU.of("SKU-" + i));
+    }
+
+    /**
+     * Stands in for the spooling sink: a send hangs on an unresponsive producer until the
+     * sink is diverted, and from then on every event goes to the spool.
+     */
+    private static final class SpoolingSink implements EventBatchSink, EventSpillover {
+
+        private final List<DomainEvent> sent = Collections.synchronizedList(new ArrayList<>());
+        private final List<DomainEvent> spooled = Collections.synchronizedList(new ArrayList<>());
+        private volatile boolean diverted;
+
+        @Override
+        public CompletableFuture<Void> send(List<DomainEvent> batch) {
+            while (!diverted) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+            }
+            spill(batch);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public synchronized void spill(List<DomainEvent> events) {
+            diverted = true;
+            spooled.addAll(events);
+        }
+
+        @Override
+        public void divert() {
+            diverted = true;
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.paklog.productcatalog.infrastructure.messaging.pipeline;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Event Ring Buffer Tests")
+class EventRingBufferTest {
+
+    @Test
+    @DisplayName("Should round capacity up to a power of two")
+    void shouldRoundCapacity() {
+        assertThat(new EventRingBuffer<String>(1000).capacity()).isEqualTo(1024);
+        assertThat(new EventRingBuffer<String>(64).capacity()).isEqualTo(64);
+    }
+
+    @Test
+    @DisplayName("Should drain events in publish order across wrap-around")
+    void shouldDrainInOrder() {
+        EventRingBuffer<Integer> buffer = new EventRingBuffer<>(4);
+        List<Integer> drained = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(buffer.tryPublish(List.of(i))).isTrue();
+            buffer.drainTo(drained, 4);
+        }
+
+        assertThat(drained).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        assertThat(buffer.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should publish all events of a claim or none")
+    void shouldPublishAllOrNothing() {
+        EventRingBuffer<Integer> buffer = new EventRingBuffer<>(4);
+
+        assertThat(buffer.tryPublish(List.of(1, 2, 3))).isTrue();
+        assertThat(buffer.tryPublish(List.of(4, 5))).isFalse();
+        assertThat(buffer.size()).isEqualTo(3);
+
+        List<Integer> drained = new ArrayList<>();
+        assertThat(buffer.drainTo(drained, 2)).isEqualTo(2);
+        assertThat(buffer.tryPublish(List.of(4, 5))).isTrue();
+        buffer.drainTo(drained, 10);
+
+        assertThat(drained).containsExactly(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    @DisplayName("Should keep each producer's events contiguous under contention")
+    void shouldKeepClaimsContiguous() throws InterruptedException {
+        EventRingBuffer<String> buffer = new EventRingBuffer<>(64);
+        int producers = 4;
+        int claimsPerProducer = 1_000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+
+        for (int p = 0; p < producers; p++) {
+            String id = "p" + p;
+            executor.submit(() -> {
+                for (int i = 0; i < claimsPerProducer; i++) {
+                    List<String> claim = List.of(id + ":" + i + ":a", id + ":" + i + ":b");
+                    while (!buffer.tryPublish(claim)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                done.countDown();
+            });
+        }
+
+        List<String> drained = new ArrayList<>();
+        while (drained.size() < producers * claimsPerProducer * 2) {
+            if (buffer.drainTo(drained, 16) == 0) {
+                Thread.onSpinWait();
+            }
+        }
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        for (int i = 0; i < drained.size(); i += 2) {
+            String first = drained.get(i);
+            assertThat(first).endsWith(":a");
+            assertThat(drained.get(i + 1)).isEqualTo(first.substring(0, first.length() - 1) + "b");
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.paklog.productcatalog.infrastructure.messaging.spool;
+
+import com.paklog.productcatalog.domain.event.DomainEvent;
+import com.paklog.productcatalog.domain.event.ProductDeletedEvent;
+import com.paklog.productcatalog.domain.model.SKU;
+import com.paklog.productcatalog.infrastructure.config.EventSpoolConfig;
+import com.paklog.productcatalog.infrastructure.messaging.producer.KafkaDomainEventPublisher;
+import com.paklog.productcatalog.infrastructure.spool.SegmentLog;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Spooling Event Sink Tests")
+class SpoolingEventSinkTest {
+
+    private static final String TOPIC = "product-events";
+
+    @TempDir
+    Path directory;
+
+    private final KafkaDomainEventPublisher kafkaPublisher = mock(KafkaDomainEventPublisher.class);
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, byte[]> replayTemplate = mock(KafkaTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private SegmentLog log;
+    private SpoolingEventSink sink;
+
+    @BeforeEach
+    void setUp() {
+        EventSpoolConfig config = new EventSpoolConfig();
+        config.setReplayInterval(Duration.ofMillis(20));
+        log = new SegmentLog(directory, 4096, false);
+        sink = new SpoolingEventSink(kafkaPublisher, replayTemplate, new JsonSerializer<>(), log, TOPIC,
+                config, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sink.stop();
+        log.close();
+    }
+
+    @Test
+    @DisplayName("Should spool events when the producer rejects them and replay them in order")
+    void shouldSpoolAndReplay() throws InterruptedException {
+        List<DomainEvent> events = List.of(deleted("SKU-1"), deleted("SKU-2"), deleted("SKU-3"));
+        when(kafkaPublisher.send(any(DomainEvent.class))).thenThrow(new TimeoutException("buffer full"));
+
+        sink.send(events).join();
+
+        assertThat(sink.isSpooling()).isTrue();
+        assertThat(log.pendingRecords()).isEqualTo(3);
+        assertThat(meterRegistry.get("domain.event.spool.records").gauge().value()).isEqualTo(3);
+
+        when(replayTemplate.send(anyString(), anyString(), any())).thenReturn(CompletableFuture.completedFuture(null));
+        sink.start();
+        awaitDrained();
+
+        InOrder inOrder = inOrder(replayTemplate);
+        for (String sku : List.of("SKU-1", "SKU-2", "SKU-3")) {
+            inOrder.verify(replayTemplate).send(eq(TOPIC), eq(sku), any(byte[].class));
+            inOrder.verify(replayTemplate).send(TOPIC, sku, null);
+        }
+        assertThat(sink.isSpooling()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should keep spooling new events until the backlog is replayed")
+    void shouldKeepOrderWhileBacklogExists() {
+        when(kafkaPublisher.send(any(DomainEvent.class))).thenThrow(new TimeoutException("buffer full"));
+        sink.send(List.of(deleted("SKU-1"))).join();
+
+        reset(kafkaPublisher);
+        sink.send(List.of(deleted("SKU-1"))).join();
+
+        verifyNoInteractions(kafkaPublisher);
+        assertThat(log.pendingRecords()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should send directly to Kafka while healthy")
+    void shouldSendDirectlyWhenHealthy() {
+        when(kafkaPublisher.send(any(DomainEvent.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        sink.send(List.of(deleted("SKU-1"))).join();
+
+        verify(kafkaPublisher).send(any(DomainEvent.class));
+        assertThat(log.isEmpty()).isTrue();
+    }
+
+    private void awaitDrained() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while ((sink.isSpooling() || !log.isEmpty()) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static DomainEvent deleted(String sku) {
+        return new ProductDeletedEvent(SKU.of(sku));
+    }
+}
@@ -0,0 +1,157 @@
+package com.paklog.productcatalog.infrastructure.persistence.codec;
+
+import com.paklog.productcatalog.domain.model.*;
+import com.paklog.productcatalog.infrastructure.persistence.entity.ProductEntity;
+import com.paklog.productcatalog.infrastructure.persistence.mapper.ProductEntityMapper;
+import org.bson.BsonDecimal128;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
+import org.bson.codecs.EncoderContext;
+import org.bson.types.Decimal128;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Product Codec Tests")
+class ProductCodecTest {
+
+    private final ProductCodec codec = new ProductCodec();
+    private final ProductEntityMapper mapper = new ProductEntityMapper();
+    private final MappingMongoConverter converter = converter();
+
+    @Test
+    @DisplayName("Should round-trip a fully populated product")
+    void shouldRoundTrip() {
+        Product product = product(Instant.parse("2024-02-01T00:00:00Z"));
+
+        Product decoded = decode(encode(product));
+
+        assertSameState(decoded, product);
+    }
+
+    @Test
+    @DisplayName("Should decode documents written by the Spring Data mapping")
+    void shouldDecodeSpringDataDocuments() {
+        Product product = product(null);
+        ProductEntity entity = mapper.toEntity(product);
+        entity.setId("65a000000000000000000001");
+        Document document = new Document();
+        converter.write(entity, document);
+
+        Product decoded = decode(document.toBsonDocument());
+
+        assertSameState(decoded, product);
+    }
+
+    @Test
+    @DisplayName("Should write the same document layout as the Spring Data mapping")
+    void shouldWriteSpringDataLayout() {
+        Product product = product(Instant.parse("2024-02-01T00:00:00Z"));
+        ProductEntity entity = mapper.toEntity(product);
+        Document expected = new Document();
+        converter.write(entity, expected);
+        expected.remove("_class");
+
+        BsonDocument encoded = encode(product);
+
+        assertThat(encoded).isEqualTo(expected.toBsonDocument());
+        assertSameState(mapper.toDomain(converter.read(ProductEntity.class,
+                new DocumentCodec().decode(new BsonDocumentReader(encoded), DecoderContext.builder().build()))), product);
+    }
+
+    @Test
+    @DisplayName("Should accept native numeric measurement values")
+    void shouldAcceptNumericValues() {
+        BsonDocument document = encode(product(null));
+        BsonDocument length = document.getDocument("dimensions").getDocument("item").getDocument("length");
+        length.put("value", new BsonDecimal128(new Decimal128(new BigDecimal("10.5"))));
+
+        Product decoded = decode(document);
+
+        assertThat(decoded.getDimensions().item().length().value()).isEqualByComparingTo("10.5");
+    }
+
+    @Test
+    @DisplayName("Should decode products stored before dimensions were validated strictly")
+    void shouldDecodeLegacyDimensions() {
+        BsonDocument document = encode(product(null));
+        BsonDocument dimensions = document.getDocument("dimensions");
+        BsonDocument itemLength = dimensions.getDocument("item").getDocument("length");
+        itemLength.put("value", new BsonDecimal128(new Decimal128(BigDecimal.ONE)));
+        itemLength.put("unit", new BsonString("FEET"));
+        dimensions.getDocument("packageDimensions").getDocument("length")
+                .put("value", new BsonDecimal128(new Decimal128(BigDecimal.TEN)));
+        dimensions.getDocument("item").getDocument("weight")
+                .put("value", new BsonDecimal128(new Decimal128(new BigDecimal("1.0000000000000000001"))));
+
+        Product decoded = decode(document);
+
+        assertThat(decoded.getDimensions().item().length().unit()).isEqualTo(DimensionMeasurement.DimensionUnit.FEET);
+        assertThat(decoded.getDimensions().item().weight().isPackable()).isFalse();
+        assertThatIllegalArgumentException().isThrownBy(() -> decoded.getDimensions().validate());
+    }
+
+    private BsonDocument encode(Product product) {
+        BsonDocument document = new BsonDocument();
+        codec.encode(new BsonDocumentWriter(document), product, EncoderContext.builder().build());
+        return document;
+    }
+
+    private Product decode(BsonDocument document) {
+        return codec.decode(new BsonDocumentReader(document), DecoderContext.builder().build());
+    }
+
+    private static Product product(Instant deletedAt) {
+        DimensionSet item = DimensionSet.of(
+                DimensionMeasurement.of(new BigDecimal("10.50"), DimensionMeasurement.DimensionUnit.INCHES),
+                DimensionMeasurement.of(new BigDecimal("5"), DimensionMeasurement.DimensionUnit.INCHES),
+                DimensionMeasurement.of(new BigDecimal("2.25"), DimensionMeasurement.DimensionUnit.INCHES),
+                WeightMeasurement.of(new BigDecimal("1.5"), WeightMeasurement.WeightUnit.POUNDS));
+        DimensionSet packageDimensions = DimensionSet.of(
+                DimensionMeasurement.of(new BigDecimal("12"), DimensionMeasurement.DimensionUnit.INCHES),
+                DimensionMeasurement.of(new BigDecimal("6"), DimensionMeasurement.DimensionUnit.INCHES),
+                DimensionMeasurement.of(new BigDecimal("3"), DimensionMeasurement.DimensionUnit.INCHES),
+                WeightMeasurement.of(new BigDecimal("2"), WeightMeasurement.WeightUnit.POUNDS));
+
+        return new Product(SKU.of("SKU-1"), "Widget", Dimensions.of(item, packageDimensions),
+                Attributes.of(HazmatInfo.hazmat("UN1234")),
+                Instant.parse("2024-01-01T10:15:30.123Z"), Instant.parse("2024-01-02T10:15:30.456Z"),
+                3L, deletedAt);
+    }
+
+    private static void assertSameState(Product actual, Product expected) {
+        assertThat(actual.getSku()).isEqualTo(expected.getSku());
+        assertThat(actual.getTitle()).isEqualTo(expected.getTitle());
+        assertThat(actual.getDimensions()).isEqualTo(expected.getDimensions());
+        assertThat(actual.getAttributes()).isEqualTo(expected.getAttributes());
+        assertThat(actual.getCreatedAt()).isEqualTo(expected.getCreatedAt());
+        assertThat(actual.getUpdatedAt()).isEqualTo(expected.getUpdatedAt());
+        assertThat(actual.getVersion()).isEqualTo(expected.getVersion());
+        assertThat(actual.getDeletedAt()).isEqualTo(expected.getDeletedAt());
+    }
+
+    private static MappingMongoConverter converter() {
+        MongoCustomConversions conversions = new MongoCustomConversions(List.of());
+        MongoMappingContext context = new MongoMappingContext();
+        context.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        context.afterPropertiesSet();
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, context);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        return converter;
+    }
+}
@@ -0,0 +1,162 @@
+package com.paklog.productcatalog.infrastructure.persistence.memory;
+
+import com.paklog.productcatalog.domain.model.ChangeCursor;
+import com.paklog.productcatalog.domain.model.Product;
+import com.paklog.productcatalog.domain.model.SKU;
+import com.paklog.productcatalog.shared.exception.ProductAlreadyExistsException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("In-Memory Product Repository Tests")
+class InMemoryProductRepositoryTest {
+
+    private static final Instant T0 = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final InMemoryProductRepository repository = new InMemoryProductRepository();
+
+    @Test
+    @DisplayName("Should not let changes to a loaded product leak into the store until saved")
+    void shouldCopyProducts() {
+        repository.save(Product.create(SKU.of("SKU-1"), "Original"));
+
+        Product loaded = repository.findBySku(SKU.of("SKU-1")).orElseThrow();
+        loaded.updateTitle("Changed");
+
+        assertThat(repository.findBySku(SKU.of("SKU-1"))).map(Product::getTitle).contains("Original");
+        assertThat(repository.findBySku(SKU.of("SKU-1")).orElseThrow().getDomainEvents()).isEmpty();
+
+        repository.save(loaded);
+        assertThat(repository.findBySku(SKU.of("SKU-1"))).map(Product::getTitle).contains("Changed");
+    }
+
+    @Test
+    @DisplayName("Should reject inserting a SKU that already exists")
+    void shouldRejectDuplicateInsert() {
+        repository.save(product("SKU-1", T0, 0L));
+
+        assertThatThrownBy(() -> repository.save(product("SKU-1", T0, 0L)))
+                .isInstanceOf(ProductAlreadyExistsException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject creating a SKU that already exists and keep the stored product")
+    void shouldRejectDuplicateCreate() {
+        repository.save(Product.create(SKU.of("SKU-1"), "First"));
+
+        assertThatThrownBy(() -> repository.save(Product.create(SKU.of("SKU-1"), "Second")))
+                .isInstanceOf(ProductAlreadyExistsException.class);
+
+        assertThat(repository.findBySku(SKU.of("SKU-1"))).map(Product::getTitle).contains("First");
+        assertThat(repository.findBySku(SKU.of("SKU-1"))).map(Product::getVersion).contains(1L);
+    }
+
+    @Test
+    @DisplayName("Should recreate a deleted SKU over its tombstone, past the deleted version")
+    void shouldRecreateDeletedProduct() {
+        repository.save(Product.create(SKU.of("SKU-1"), "Original"));
+        Product loaded = repository.findBySku(SKU.of("SKU-1")).orElseThrow();
+        loaded.updateTitle("Changed");
+        repository.save(loaded);
+        repository.deleteBySku(SKU.of("SKU-1"));
+
+        Product recreated = repository.save(Product.create(SKU.of("SKU-1"), "Recreated"));
+
+        assertThat(recreated.getVersion()).isEqualTo(3L);
+        assertThat(repository.findBySku(SKU.of("SKU-1"))).map(Product::getTitle).contains("Recreated");
+        assertThat(repository.findBySku(SKU.of("SKU-1"))).map(Product::getVersion).contains(3L);
+        assertThat(repository.count()).isEqualTo(1);
+        assertThatThrownBy(() -> repository.save(Product.create(SKU.of("SKU-1"), "Again")))
+                .isInstanceOf(ProductAlreadyExistsException.class);
+    }
+
+    @Test
+    @DisplayName("Should keep deleted products as tombstones for the change feed until purged")
+    void shouldKeepTombstones() {
+        repository.save(product("SKU-1", T0, 1L));
+        repository.save(product("SKU-2", T0.plusSeconds(1), 1L));
+
+        repository.deleteBySku(SKU.of("SKU-1"));
+
+        assertThat(repository.findBySku(SKU.of("SKU-1"))).isEmpty();
+        assertThat(repository.existsBySku(SKU.of("SKU-1"))).isFalse();
+        assertThat(repository.count()).isEqualTo(1);
+
+        List<Product> changes = repository.findChangedSince(ChangeCursor.beginning(), Instant.now().plusSeconds(1), 10);
+        assertThat(changes).extracting(product -> product.getSku().value()).containsExactly("SKU-2", "SKU-1");
+        assertThat(changes.get(1).isDeleted()).isTrue();
+
+        assertThat(repository.purgeTombstones(Instant.now().plusSeconds(1), 10)).isEqualTo(1);
+        assertThat(repository.findChangedSince(ChangeCursor.beginning(), Instant.now().plusSeconds(1), 10)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should page live products in SKU order or by the requested sort")
+    void shouldPage() {
+        repository.save(product("SKU-3", T0, 1L));
+        repository.save(product("SKU-1", T0.plusSeconds(2), 1L));
+        repository.save(product("SKU-2", T0.plusSeconds(1), 1L));
+
+        Page<Product> first = repository.findAll(PageRequest.of(0, 2));
+        assertThat(first.getContent()).extracting(product -> product.getSku().value()).containsExactly("SKU-1", "SKU-2");
+        assertThat(first.getTotalElements()).isEqualTo(3);
+
+        Page<Product> byUpdate = repository.findAll(PageRequest.of(0, 3, Sort.by(Sort.Direction.DESC, "updatedAt")));
+        assertThat(byUpdate.getContent()).extracting(product -> product.getSku().value())
+                .containsExactly("SKU-1", "SKU-2", "SKU-3");
+    }
+
+    @Test
+    @DisplayName("Should write only products still at the version they were read at")
+    void shouldDetectConcurrentChanges() {
+        repository.save(product("SKU-1", T0, 1L));
+        repository.save(product("SKU-2", T0, 1L));
+        repository.save(product("SKU-3", T0, 1L));
+        Product first = repository.findBySku(SKU.of("SKU-1")).orElseThrow();
+        Product second = repository.findBySku(SKU.of("SKU-2")).orElseThrow();
+        Product third = repository.findBySku(SKU.of("SKU-3")).orElseThrow();
+
+        Product concurrent = repository.findBySku(SKU.of("SKU-2")).orElseThrow();
+        concurrent.updateTitle("Written first");
+        repository.save(concurrent);
+        repository.deleteBySku(SKU.of("SKU-3"));
+
+        first.updateTitle("Changed 1");
+        second.updateTitle("Changed 2");
+        third.updateTitle("Changed 3");
+        assertThat(repository.saveAllIfUnmodified(List.of(first, second, third)))
+                .containsExactlyInAnyOrder(SKU.of("SKU-2"), SKU.of("SKU-3"));
+
+        assertThat(first.getVersion()).isEqualTo(3L);
+        assertThat(second.getVersion()).isEqualTo(2L);
+        assertThat(repository.findBySku(SKU.of("SKU-1"))).map(Product::getVersion).contains(3L);
+        assertThat(repository.findBySku(SKU.of("SKU-2"))).map(Product::getTitle).contains("Written first");
+        assertThat(repository.findBySku(SKU.of("SKU-3"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should report the loser when two writers change a product read at the same version")
+    void shouldDetectLostUpdate() {
+        repository.save(product("SKU-1", T0, 1L));
+        Product winner = repository.findBySku(SKU.of("SKU-1")).orElseThrow();
+        Product loser = repository.findBySku(SKU.of("SKU-1")).orElseThrow();
+
+        winner.updateTitle("Winner");
+        assertThat(repository.saveAllIfUnmodified(List.of(winner))).isEmpty();
+        loser.updateTitle("Loser");
+        assertThat(repository.saveAllIfUnmodified(List.of(loser))).containsExactly(SKU.of("SKU-1"));
+
+        assertThat(repository.findBySku(SKU.of("SKU-1"))).map(Product::getTitle).contains("Winner");
+    }
+
+    private static Product product(String sku, Instant updatedAt, Long version) {
+        return new Product(SKU.of(sku), "Product " + sku, null, null, T0, updatedAt, version);
+    }
+}
@@ -0,0 +1,142 @@
+package com.paklog.productcatalog.infrastructure.persistence.repository;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.paklog.productcatalog.domain.model.Product;
+import com.paklog.productcatalog.domain.model.SKU;
+import com.paklog.productcatalog.infrastructure.config.ReadPreferenceConfig;
+import com.paklog.productcatalog.infrastructure.persistence.codec.ProductCodec;
+import com.paklog.productcatalog.infrastructure.persistence.entity.ProductEntity;
+import com.paklog.productcatalog.shared.exception.ProductAlreadyExistsException;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("MongoDB Product Repository Tests")
+@Testcontainers(disabledWithoutDocker = true)
+class MongoProductRepositoryTest {
+
+    @Container
+    static MongoDBContainer mongoDBContainer = new MongoDBContainer("mongo:7.0");
+
+    private static MongoClient client;
+    private static MongoTemplate mongoTemplate;
+    private MongoProductRepository repository;
+
+    @BeforeAll
+    static void connect() {
+        client = MongoClients.create(MongoClientSettings.builder()
+                .applyConnectionString(new ConnectionString(mongoDBContainer.getReplicaSetUrl()))
+                .codecRegistry(CodecRegistries.fromRegistries(
+                        CodecRegistries.fromCodecs(new ProductCodec()),
+                        MongoClientSettings.getDefaultCodecRegistry()))
+                .build());
+        mongoTemplate = new MongoTemplate(client, "productcatalog");
+    }
+
+    @AfterAll
+    static void disconnect() {
+        client.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate.getDb().drop();
+        mongoTemplate.indexOps(ProductEntity.class)
+                .ensureIndex(new Index().on("sku", Sort.Direction.ASC).unique().named("sku_1"));
+        repository = new MongoProductRepository(
+                new MongoRepositoryFactory(mongoTemplate).getRepository(ProductEntityRepository.class),
+                mongoTemplate, new ReadPreferenceConfig());
+    }
+
+    @Test
+    @DisplayName("Should reject creating a SKU that already exists and keep the stored product")
+    void shouldRejectDuplicateCreate() {
+        repository.save(Product.create(SKU.of("SKU-1"), "First"));
+
+        assertThatThrownBy(() -> repository.save(Product.create(SKU.of("SKU-1"), "Second")))
+                .isInstanceOf(ProductAlreadyExistsException.class);
+
+        assertThat(repository.findBySku(SKU.of("SKU-1"))).map(Product::getTitle).contains("First");
+        assertThat(repository.findBySku(SKU.of("SKU-1"))).map(Product::getVersion).contains(1L);
+    }
+
+    @Test
+    @DisplayName("Should recreate a deleted SKU over its tombstone, past the deleted version")
+    void shouldRecreateDeletedProduct() {
+        repository.save(Product.create(SKU.of("SKU-1"), "Original"));
+        Product loaded = repository.findBySku(SKU.of("SKU-1")).orElseThrow();
+        loaded.updateTitle("Changed");
+        repository.save(loaded);
+        repository.deleteBySku(SKU.of("SKU-1"));
+
+        Product recreated = repository.save(Product.create(SKU.of("SKU-1"), "Recreated"));
+
+        assertThat(recreated.getVersion()).isEqualTo(3L);
+        assertThat(repository.findBySku(SKU.of("SKU-1"))).map(Product::getTitle).contains("Recreated");
+        assertThat(repository.findBySku(SKU.of("SKU-1"))).map(Product::getVersion).contains(3L);
+        assertThat(repository.count()).isEqualTo(1);
+        assertThatThrownBy(() -> repository.save(Product.create(SKU.of("SKU-1"), "Again")))
+                .isInstanceOf(ProductAlreadyExistsException.class);
+    }
+
+    @Test
+    @DisplayName("Should report the loser when two writers change a product read at the same version")
+    void shouldDetectLostUpdate() {
+        repository.save(Product.create(SKU.of("SKU-1"), "Original"));
+        Product winner = repository.findBySku(SKU.of("SKU-1")).orElseThrow();
+        Product loser = repository.findBySku(SKU.of("SKU-1")).orElseThrow();
+
+        winner.updateTitle("Winner");
+        assertThat(repository.saveAllIfUnmodified(List.of(winner))).isEmpty();
+        loser.updateTitle("Loser");
+        assertThat(repository.saveAllIfUnmodified(List.of(loser))).containsExactly(SKU.of("SKU-1"));
+
+        assertThat(loser.getVersion()).isEqualTo(1L);
+        assertThat(repository.findBySku(SKU.of("SKU-1"))).map(Product::getTitle).contains("Winner");
+        assertThat(repository.findBySku(SKU.of("SKU-1"))).map(Product::getVersion).contains(2L);
+    }
+
+    @Test
+    @DisplayName("Should write only the products still at the version they were read at")
+    void shouldDetectConcurrentChanges() {
+        repository.save(Product.create(SKU.of("SKU-1"), "Product 1"));
+        repository.save(Product.create(SKU.of("SKU-2"), "Product 2"));
+        repository.save(Product.create(SKU.of("SKU-3"), "Product 3"));
+        Product first = repository.findBySku(SKU.of("SKU-1")).orElseThrow();
+        Product second = repository.findBySku(SKU.of("SKU-2")).orElseThrow();
+        Product third = repository.findBySku(SKU.of("SKU-3")).orElseThrow();
+
+        Product concurrent = repository.findBySku(SKU.of("SKU-2")).orElseThrow();
+        concurrent.updateTitle("Written first");
+        repository.save(concurrent);
+        repository.deleteBySku(SKU.of("SKU-3"));
+
+        first.updateTitle("Changed 1");
+        second.updateTitle("Changed 2");
+        third.updateTitle("Changed 3");
+        assertThat(repository.saveAllIfUnmodified(List.of(first, second, third)))
+                .containsExactlyInAnyOrder(SKU.of("SKU-2"), SKU.of("SKU-3"));
+
+        assertThat(first.getVersion()).isEqualTo(2L);
+        assertThat(repository.findBySku(SKU.of("SKU-1"))).map(Product::getTitle).contains("Changed 1");
+        assertThat(repository.findBySku(SKU.of("SKU-2"))).map(Product::getTitle).contains("Written first");
+        assertThat(repository.findBySku(SKU.of("SKU-3"))).isEmpty();
+    }
+}
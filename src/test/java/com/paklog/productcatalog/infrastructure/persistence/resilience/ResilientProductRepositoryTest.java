@@ -0,0 +1,231 @@
+package com.paklog.productcatalog.infrastructure.persistence.resilience;
+
+import com.mongodb.MongoTimeoutException;
+import com.paklog.productcatalog.domain.model.Product;
+import com.paklog.productcatalog.domain.model.SKU;
+import com.paklog.productcatalog.domain.repository.ProductRepository;
+import com.paklog.productcatalog.infrastructure.config.ResilienceConfig;
+import com.paklog.productcatalog.infrastructure.persistence.memory.InMemoryProductRepository;
+import com.paklog.productcatalog.infrastructure.persistence.support.DelegatingProductRepository;
+import com.paklog.productcatalog.shared.exception.RepositoryUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Resilient Product Repository Tests")
+class ResilientProductRepositoryTest {
+
+    private static final Instant T0 = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final InMemoryProductRepository storage = new InMemoryProductRepository();
+    private final FlakyRepository database = new FlakyRepository(storage);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ResilientProductRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        ResilienceConfig config = new ResilienceConfig();
+        config.setMinimumCalls(4);
+        config.setOpenDuration(Duration.ofMillis(50));
+        config.setHalfOpenCalls(1);
+        repository = new ResilientProductRepository(database, config, meterRegistry, Runnable::run);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Should serve the last value read while the database is down and mark the request stale")
+    void shouldServeStaleOnError() {
+        storage.save(product("SKU-1", "Original"));
+        repository.findBySku(SKU.of("SKU-1"));
+
+        database.down = true;
+
+        assertThat(repository.findBySku(SKU.of("SKU-1"))).map(Product::getTitle).contains("Original");
+        assertThat(repository.existsBySku(SKU.of("SKU-1"))).isTrue();
+        assertThat(RequestContextHolder.currentRequestAttributes()
+                .getAttribute(StaleReads.ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)).isInstanceOf(Instant.class);
+        assertThat(meterRegistry.counter("product.repository.stale.served").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Should fail fast with a retry hint when nothing is cached or the call is not a lookup")
+    void shouldFailFastWithoutCachedValue() {
+        storage.save(product("SKU-1", "Original"));
+        repository.findBySku(SKU.of("SKU-1"));
+        database.down = true;
+
+        assertThatThrownBy(() -> repository.findBySku(SKU.of("SKU-2")))
+                .isInstanceOf(RepositoryUnavailableException.class)
+                .hasCauseInstanceOf(MongoTimeoutException.class);
+        assertThatThrownBy(() -> repository.findAllBySku(List.of(SKU.of("SKU-1"), SKU.of("SKU-2"))))
+                .isInstanceOf(RepositoryUnavailableException.class);
+        assertThatThrownBy(() -> repository.count()).isInstanceOf(MongoTimeoutException.class);
+        assertThat(RequestContextHolder.currentRequestAttributes()
+                .getAttribute(StaleReads.ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should stop calling the database once the breaker opens and refresh stale entries after it closes")
+    void shouldOpenAndRecover() throws InterruptedException {
+        storage.save(product("SKU-1", "Original"));
+        repository.findBySku(SKU.of("SKU-1"));
+        database.down = true;
+
+        for (int i = 0; i < 3; i++) {
+            repository.findBySku(SKU.of("SKU-1"));
+        }
+        assertThat(repository.breaker().state()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        int callsWhenOpened = database.calls.get();
+        assertThat(repository.findBySku(SKU.of("SKU-1"))).isPresent();
+        assertThatThrownBy(() -> repository.count())
+                .isInstanceOfSatisfying(RepositoryUnavailableException.class,
+                        e -> assertThat(e.getRetryAfter()).isPositive());
+        assertThat(database.calls.get()).isEqualTo(callsWhenOpened);
+        assertThat(meterRegistry.counter("product.repository.breaker.rejected").count()).isEqualTo(2.0);
+
+        database.down = false;
+        storage.save(product("SKU-1", "Updated"));
+        TimeUnit.MILLISECONDS.sleep(60);
+
+        assertThat(repository.count()).isEqualTo(1);
+        assertThat(repository.breaker().state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(meterRegistry.counter("product.repository.stale.refreshed").count()).isEqualTo(1.0);
+
+        database.down = true;
+        assertThat(repository.findBySku(SKU.of("SKU-1"))).map(Product::getTitle).contains("Updated");
+    }
+
+    @Test
+    @DisplayName("Should forget products that were deleted or are no longer found")
+    void shouldEvictMissingProducts() {
+        storage.save(product("SKU-1", "Original"));
+        repository.findBySku(SKU.of("SKU-1"));
+        repository.deleteBySku(SKU.of("SKU-1"));
+        database.down = true;
+
+        assertThatThrownBy(() -> repository.findBySku(SKU.of("SKU-1")))
+                .isInstanceOf(RepositoryUnavailableException.class);
+    }
+
+    @Nested
+    @DisplayName("Circuit breaker")
+    class Breaker {
+
+        private final AtomicInteger closed = new AtomicInteger();
+        private final CircuitBreaker breaker = new CircuitBreaker(0.5, 4, TimeUnit.SECONDS.toNanos(10),
+                TimeUnit.MILLISECONDS.toNanos(20), 2, closed::incrementAndGet);
+
+        @Test
+        @DisplayName("Should stay closed below the minimum number of calls or the failure rate")
+        void shouldStayClosed() {
+            for (int i = 0; i < 3; i++) {
+                breaker.onFailure();
+            }
+            assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+            for (int i = 0; i < 5; i++) {
+                breaker.onSuccess();
+            }
+            breaker.onFailure();
+            assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        }
+
+        @Test
+        @DisplayName("Should open at the failure rate, probe after the open duration and close on successful probes")
+        void shouldOpenProbeAndClose() throws InterruptedException {
+            for (int i = 0; i < 4; i++) {
+                breaker.onFailure();
+            }
+            assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+            assertThat(breaker.tryAcquire()).isFalse();
+            assertThat(breaker.remainingOpenNanos()).isPositive();
+
+            TimeUnit.MILLISECONDS.sleep(25);
+            assertThat(breaker.tryAcquire()).isTrue();
+            breaker.onFailure();
+            assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+
+            TimeUnit.MILLISECONDS.sleep(25);
+            assertThat(breaker.tryAcquire()).isTrue();
+            assertThat(breaker.tryAcquire()).isTrue();
+            assertThat(breaker.tryAcquire()).isFalse();
+            breaker.onSuccess();
+            breaker.onSuccess();
+
+            assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+            assertThat(closed).hasValue(1);
+            assertThat(breaker.tryAcquire()).isTrue();
+        }
+    }
+
+    private static Product product(String sku, String title) {
+        return new Product(SKU.of(sku), title, null, null, T0, T0, 1L);
+    }
+
+    /**
+     * Fails lookups, counts and saves with a driver timeout while {@code down} is set.
+     */
+    private static final class FlakyRepository extends DelegatingProductRepository {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private volatile boolean down;
+
+        private FlakyRepository(ProductRepository delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public Optional<Product> findBySku(SKU sku) {
+            check();
+            return super.findBySku(sku);
+        }
+
+        @Override
+        public List<Product> findAllBySku(Collection<SKU> skus) {
+            check();
+            return super.findAllBySku(skus);
+        }
+
+        @Override
+        public boolean existsBySku(SKU sku) {
+            check();
+            return super.existsBySku(sku);
+        }
+
+        @Override
+        public long count() {
+            check();
+            return super.count();
+        }
+
+        private void check() {
+            calls.incrementAndGet();
+            if (down) {
+                throw new MongoTimeoutException("Timed out waiting for a server");
+            }
+        }
+    }
+}
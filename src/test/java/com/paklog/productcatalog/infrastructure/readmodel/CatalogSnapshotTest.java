@@ -0,0 +1,195 @@
+package com.paklog.productcatalog.infrastructure.readmodel;
+
+import com.paklog.productcatalog.domain.event.ProductSnapshot;
+import com.paklog.productcatalog.domain.model.Attributes;
+import com.paklog.productcatalog.domain.model.DimensionMeasurement;
+import com.paklog.productcatalog.domain.model.DimensionSet;
+import com.paklog.productcatalog.domain.model.Dimensions;
+import com.paklog.productcatalog.domain.model.HazmatInfo;
+import com.paklog.productcatalog.domain.model.SKU;
+import com.paklog.productcatalog.domain.model.WeightMeasurement;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Catalog Snapshot Tests")
+class CatalogSnapshotTest {
+
+    private static final Instant T0 = Instant.parse("2024-01-01T00:00:00.123456789Z");
+    private static final String TOPIC = "product-events";
+
+    /**
+     * Products written by the restart test; run with -Dcatalog.snapshot.skus=5000000 for the full-size check.
+     */
+    private static final int RESTART_PRODUCTS = Integer.getInteger("catalog.snapshot.skus", 100_000);
+
+    @TempDir
+    Path directory;
+
+    @Nested
+    @DisplayName("File format")
+    class FileFormat {
+
+        @Test
+        @DisplayName("Should find every product and keep the source offsets")
+        void shouldRoundTripProducts() throws IOException {
+            List<ProductSnapshot> products = List.of(
+                    snapshot("ABCDEFGH", "Shares the whole prefix", T0, null),
+                    snapshot("ABCDEFGH-1", "Same prefix, longer", T0, null),
+                    snapshot("ABCDEFGH-2", "Solvent", T0, Attributes.of(HazmatInfo.hazmat("UN1993"))),
+                    new ProductSnapshot(SKU.of("B"), null, null, null, null, null, null),
+                    snapshot("Ü-1", "Non-ASCII SKU", T0, null));
+            Path file = write(products, Map.of(0, 42L, 1, 7L));
+
+            try (CatalogSnapshot snapshot = CatalogSnapshot.open(file, true)) {
+                for (ProductSnapshot product : products) {
+                    assertThat(snapshot.get(product.sku().value())).contains(product);
+                }
+                assertThat(snapshot.get("ABCDEFG")).isEmpty();
+                assertThat(snapshot.get("ABCDEFGH-3")).isEmpty();
+                assertThat(snapshot.get("A")).isEmpty();
+                assertThat(snapshot.size()).isEqualTo(5);
+                assertThat(snapshot.topic()).isEqualTo(TOPIC);
+                assertThat(snapshot.sourceOffsets()).containsExactlyInAnyOrderEntriesOf(Map.of(0, 42L, 1, 7L));
+
+                List<ProductSnapshot> exported = new ArrayList<>();
+                snapshot.forEach(exported::add);
+                assertThat(exported).containsExactlyElementsOf(products);
+            }
+        }
+
+        @Test
+        @DisplayName("Should reject a file whose contents no longer match the checksum")
+        void shouldRejectCorruptFile() throws IOException {
+            Path file = write(List.of(snapshot("SKU-1", "Original", T0, null)), Map.of(0, 1L));
+            try (RandomAccessFile raw = new RandomAccessFile(file.toFile(), "rw")) {
+                long position = raw.length() - CatalogSnapshot.INDEX_ENTRY_SIZE - 2;
+                raw.seek(position);
+                int value = raw.read();
+                raw.seek(position);
+                raw.write(value ^ 0xFF);
+            }
+
+            assertThatThrownBy(() -> CatalogSnapshot.open(file, true))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("checksum");
+        }
+
+        @Test
+        @DisplayName("Should refuse products out of SKU order")
+        void shouldRejectUnsortedProducts() throws IOException {
+            try (CatalogSnapshotWriter writer = new CatalogSnapshotWriter(directory.resolve("unsorted.snap"),
+                    T0, TOPIC, Map.of())) {
+                writer.append(snapshot("SKU-2", "Second", T0, null));
+
+                assertThatThrownBy(() -> writer.append(snapshot("SKU-1", "First", T0, null)))
+                        .isInstanceOf(IllegalArgumentException.class);
+            }
+            assertThat(directory).isEmptyDirectory();
+        }
+    }
+
+    @Nested
+    @DisplayName("Snapshot-backed store")
+    class SnapshotBackedStore {
+
+        @Test
+        @DisplayName("Should layer later changes over the snapshot")
+        void shouldLayerChangesOverSnapshot() throws IOException {
+            Path file = write(List.of(
+                    snapshot("SKU-1", "Snapshot 1", T0, null),
+                    snapshot("SKU-2", "Snapshot 2", T0, null),
+                    snapshot("SKU-3", "Snapshot 3", T0, null)), Map.of(0, 3L));
+
+            try (CatalogSnapshot snapshot = CatalogSnapshot.open(file, true)) {
+                SnapshotBackedProductReadStore store = new SnapshotBackedProductReadStore(snapshot, new HeapProductReadStore());
+                store.put(snapshot("SKU-1", "Updated 1", T0.plusSeconds(1), null));
+                store.put(snapshot("SKU-2", "Stale 2", T0.minusSeconds(1), null));
+                store.remove("SKU-3");
+                store.put(snapshot("SKU-4", "Created 4", T0.plusSeconds(1), null));
+
+                assertThat(store.get("SKU-1")).map(ProductSnapshot::title).contains("Updated 1");
+                assertThat(store.get("SKU-2")).map(ProductSnapshot::title).contains("Snapshot 2");
+                assertThat(store.get("SKU-3")).isEmpty();
+                assertThat(store.get("SKU-4")).map(ProductSnapshot::title).contains("Created 4");
+                assertThat(store.size()).isEqualTo(3);
+
+                List<String> exported = new ArrayList<>();
+                store.forEach(product -> exported.add(product.title()));
+                assertThat(exported).containsExactlyInAnyOrder("Updated 1", "Snapshot 2", "Created 4");
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Restart")
+    class Restart {
+
+        @Test
+        @DisplayName("Should be ready to serve within a few seconds of restarting")
+        void shouldBeReadyQuickly() throws IOException {
+            CatalogSnapshotDirectory writerSide = new CatalogSnapshotDirectory(directory, TOPIC, 2, true);
+            try (CatalogSnapshotWriter writer = new CatalogSnapshotWriter(writerSide.newFile(T0), T0, TOPIC, Map.of(0, 1L))) {
+                for (int i = 0; i < RESTART_PRODUCTS; i++) {
+                    writer.append(snapshot(String.format("SKU-%08d", i), "Product " + i, T0, null));
+                }
+                writer.commit();
+            }
+
+            long started = System.nanoTime();
+            CatalogSnapshotDirectory restarted = new CatalogSnapshotDirectory(directory, TOPIC, 2, true);
+            CatalogSnapshot snapshot = restarted.load().orElseThrow();
+            ProductReadStore store = new SnapshotBackedProductReadStore(snapshot, new HeapProductReadStore());
+            for (int i = 0; i < 1_000; i++) {
+                int n = ThreadLocalRandom.current().nextInt(RESTART_PRODUCTS);
+                assertThat(store.get(String.format("SKU-%08d", n))).isPresent();
+            }
+            Duration readyAfter = Duration.ofNanos(System.nanoTime() - started);
+            snapshot.close();
+
+            assertThat(store.size()).isEqualTo(RESTART_PRODUCTS);
+            assertThat(readyAfter).isLessThan(Duration.ofSeconds(3));
+        }
+    }
+
+    private Path write(List<ProductSnapshot> products, Map<Integer, Long> offsets) throws IOException {
+        Path file = directory.resolve("catalog.snap");
+        try (CatalogSnapshotWriter writer = new CatalogSnapshotWriter(file, T0, TOPIC, offsets)) {
+            for (ProductSnapshot product : products) {
+                writer.append(product);
+            }
+            writer.commit();
+        }
+        return file;
+    }
+
+    private static ProductSnapshot snapshot(String sku, String title, Instant updatedAt, Attributes attributes) {
+        DimensionSet item = DimensionSet.of(
+                DimensionMeasurement.of(new BigDecimal("10.50"), DimensionMeasurement.DimensionUnit.INCHES),
+                DimensionMeasurement.of(new BigDecimal("5"), DimensionMeasurement.DimensionUnit.CENTIMETERS),
+                DimensionMeasurement.of(new BigDecimal("2.25"), DimensionMeasurement.DimensionUnit.INCHES),
+                WeightMeasurement.of(new BigDecimal("1.5"), WeightMeasurement.WeightUnit.POUNDS));
+        DimensionSet packageDimensions = DimensionSet.of(
+                DimensionMeasurement.of(new BigDecimal("1"), DimensionMeasurement.DimensionUnit.FEET),
+                DimensionMeasurement.of(new BigDecimal("6"), DimensionMeasurement.DimensionUnit.INCHES),
+                DimensionMeasurement.of(new BigDecimal("3"), DimensionMeasurement.DimensionUnit.INCHES),
+                WeightMeasurement.of(new BigDecimal("2"), WeightMeasurement.WeightUnit.KILOGRAMS));
+
+        return new ProductSnapshot(SKU.of(sku), title, Dimensions.of(item, packageDimensions),
+                attributes != null ? attributes : Attributes.withoutHazmat(), T0, updatedAt, 7L);
+    }
+}
@@ -0,0 +1,151 @@
+package com.paklog.productcatalog.infrastructure.readmodel;
+
+import com.paklog.productcatalog.domain.event.ProductSnapshot;
+import com.paklog.productcatalog.domain.model.Attributes;
+import com.paklog.productcatalog.domain.model.DimensionMeasurement;
+import com.paklog.productcatalog.domain.model.DimensionSet;
+import com.paklog.productcatalog.domain.model.Dimensions;
+import com.paklog.productcatalog.domain.model.HazmatInfo;
+import com.paklog.productcatalog.domain.model.SKU;
+import com.paklog.productcatalog.domain.model.WeightMeasurement;
+import com.paklog.productcatalog.infrastructure.config.ReadModelConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Off-Heap Product Read Store Tests")
+class OffHeapProductReadStoreTest {
+
+    private static final Instant T0 = Instant.parse("2024-01-01T00:00:00.123456789Z");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Nested
+    @DisplayName("Reads and writes")
+    class ReadsAndWrites {
+
+        @Test
+        @DisplayName("Should return exactly the snapshot that was stored")
+        void shouldRoundTripSnapshots() {
+            OffHeapProductReadStore store = store(1 << 20, 4 << 20, 16);
+            ProductSnapshot hazmat = snapshot("SKU-1", "Solvent", T0, Attributes.of(HazmatInfo.hazmat("UN1993")));
+            ProductSnapshot plain = new ProductSnapshot(SKU.of("SKU-2"), null, null, null, null, null, null);
+
+            store.put(hazmat);
+            store.put(plain);
+
+            assertThat(store.get("SKU-1")).contains(hazmat);
+            assertThat(store.get("SKU-1").orElseThrow().dimensions().item().length().value())
+                    .isEqualTo(new BigDecimal("10.50"));
+            assertThat(store.get("SKU-2")).contains(plain);
+            assertThat(store.get("SKU-3")).isEmpty();
+            assertThat(store.size()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should keep the newer state and ignore stale writes")
+        void shouldKeepNewerState() {
+            OffHeapProductReadStore store = store(1 << 20, 4 << 20, 16);
+
+            store.put(snapshot("SKU-1", "Second", T0.plusSeconds(1), null));
+            store.put(snapshot("SKU-1", "First", T0, null));
+
+            assertThat(store.get("SKU-1")).map(ProductSnapshot::title).contains("Second");
+            assertThat(store.size()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should grow the index and export every product once")
+        void shouldGrowIndexAndExport() {
+            OffHeapProductReadStore store = store(1 << 20, 16 << 20, 16);
+            for (int i = 0; i < 5_000; i++) {
+                store.put(snapshot("SKU-" + i, "Product " + i, T0, null));
+            }
+            for (int i = 0; i < 5_000; i += 2) {
+                store.remove("SKU-" + i);
+            }
+
+            List<String> exported = new ArrayList<>();
+            store.forEach(snapshot -> exported.add(snapshot.sku().value()));
+
+            assertThat(store.size()).isEqualTo(2_500);
+            assertThat(exported).hasSize(2_500).doesNotHaveDuplicates().allMatch(sku -> {
+                int n = Integer.parseInt(sku.substring(4));
+                return n % 2 == 1;
+            });
+            assertThat(store.get("SKU-4999")).map(ProductSnapshot::title).contains("Product 4999");
+            assertThat(store.get("SKU-4998")).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Memory management")
+    class MemoryManagement {
+
+        @Test
+        @DisplayName("Should compact slabs to make room for updates")
+        void shouldCompactUnderPressure() {
+            OffHeapProductReadStore store = store(4096, 3 * 4096, 16);
+            for (int round = 0; round < 50; round++) {
+                for (int i = 0; i < 20; i++) {
+                    store.put(snapshot("SKU-" + i, "Round " + round, T0.plusSeconds(round), null));
+                }
+            }
+
+            for (int i = 0; i < 20; i++) {
+                assertThat(store.get("SKU-" + i)).map(ProductSnapshot::title).contains("Round 49");
+            }
+            assertThat(meterRegistry.get("product.readmodel.store.compactions").counter().count()).isPositive();
+            assertThat(meterRegistry.get("product.readmodel.store.rejected").counter().count()).isZero();
+            assertThat(store.allocatedBytes()).isLessThanOrEqualTo(3 * 4096);
+            assertThat(store.occupancy()).isBetween(0.0, 1.0);
+        }
+
+        @Test
+        @DisplayName("Should reject writes and drop stale copies when full")
+        void shouldRejectWhenFull() {
+            OffHeapProductReadStore store = store(1024, 1024, 16);
+            int stored = 0;
+            while (meterRegistry.get("product.readmodel.store.rejected").counter().count() == 0) {
+                store.put(snapshot("SKU-" + stored++, "Filler", T0, null));
+            }
+            store.put(snapshot("SKU-0", "Too late", T0.plusSeconds(1), null));
+
+            assertThat(store.get("SKU-" + (stored - 1))).isEmpty();
+            assertThat(store.get("SKU-1")).isPresent();
+            assertThat(store.fragmentation()).isBetween(0.0, 1.0);
+        }
+    }
+
+    private OffHeapProductReadStore store(int slabSize, long maxMemory, int initialCapacity) {
+        ReadModelConfig.OffHeap config = new ReadModelConfig.OffHeap();
+        config.setSlabSize(slabSize);
+        config.setMaxMemory(maxMemory);
+        config.setInitialCapacity(initialCapacity);
+        return new OffHeapProductReadStore(config, meterRegistry);
+    }
+
+    private static ProductSnapshot snapshot(String sku, String title, Instant updatedAt, Attributes attributes) {
+        DimensionSet item = DimensionSet.of(
+                DimensionMeasurement.of(new BigDecimal("10.50"), DimensionMeasurement.DimensionUnit.INCHES),
+                DimensionMeasurement.of(new BigDecimal("5"), DimensionMeasurement.DimensionUnit.CENTIMETERS),
+                DimensionMeasurement.of(new BigDecimal("2.25"), DimensionMeasurement.DimensionUnit.INCHES),
+                WeightMeasurement.of(new BigDecimal("1.5"), WeightMeasurement.WeightUnit.POUNDS));
+        DimensionSet packageDimensions = DimensionSet.of(
+                DimensionMeasurement.of(new BigDecimal("1"), DimensionMeasurement.DimensionUnit.FEET),
+                DimensionMeasurement.of(new BigDecimal("6"), DimensionMeasurement.DimensionUnit.INCHES),
+                DimensionMeasurement.of(new BigDecimal("3"), DimensionMeasurement.DimensionUnit.INCHES),
+                WeightMeasurement.of(new BigDecimal("2"), WeightMeasurement.WeightUnit.KILOGRAMS));
+
+        return new ProductSnapshot(SKU.of(sku), title, Dimensions.of(item, packageDimensions),
+                attributes != null ? attributes : Attributes.withoutHazmat(), T0, updatedAt, 7L);
+    }
+}
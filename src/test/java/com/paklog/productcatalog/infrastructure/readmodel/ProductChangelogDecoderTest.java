@@ -0,0 +1,58 @@
+package com.paklog.productcatalog.infrastructure.readmodel;
+
+import com.paklog.productcatalog.domain.model.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Product Changelog Decoder Tests")
+class ProductChangelogDecoderTest {
+
+    private final ProductChangelogDecoder decoder = new ProductChangelogDecoder();
+    private final JsonSerializer<Object> serializer = new JsonSerializer<>();
+
+    @Test
+    @DisplayName("Should restore the product snapshot from a created event")
+    void shouldRestoreSnapshotFromCreatedEvent() {
+        Product product = Product.create(SKU.of("TEST-SKU-123"), "Test Product",
+                createValidDimensions(), Attributes.of(HazmatInfo.hazmat("UN1950")));
+        byte[] value = serializer.serialize("topic", product.getDomainEvents().get(0));
+
+        var entry = decoder.decode("TEST-SKU-123", value);
+
+        assertThat(entry.isRemoval()).isFalse();
+        assertThat(entry.snapshot()).usingRecursiveComparison()
+                .withComparatorForType(BigDecimal::compareTo, BigDecimal.class)
+                .isEqualTo(product.snapshot());
+    }
+
+    @Test
+    @DisplayName("Should treat deleted events and null values as removals")
+    void shouldTreatDeletionsAsRemovals() {
+        Product product = Product.create(SKU.of("TEST-SKU-123"), "Test Product");
+        product.clearDomainEvents();
+        product.markForDeletion();
+        byte[] value = serializer.serialize("topic", product.getDomainEvents().get(0));
+
+        assertThat(decoder.decode("TEST-SKU-123", value).isRemoval()).isTrue();
+        assertThat(decoder.decode("TEST-SKU-123", null).isRemoval()).isTrue();
+    }
+
+    private Dimensions createValidDimensions() {
+        DimensionSet item = DimensionSet.of(
+            DimensionMeasurement.of(10.0, DimensionMeasurement.DimensionUnit.INCHES),
+            DimensionMeasurement.of(8.0, DimensionMeasurement.DimensionUnit.INCHES),
+            DimensionMeasurement.of(3.0, DimensionMeasurement.DimensionUnit.INCHES),
+            WeightMeasurement.of(5.0, WeightMeasurement.WeightUnit.POUNDS));
+        DimensionSet packaging = DimensionSet.of(
+            DimensionMeasurement.of(12.0, DimensionMeasurement.DimensionUnit.INCHES),
+            DimensionMeasurement.of(9.0, DimensionMeasurement.DimensionUnit.INCHES),
+            DimensionMeasurement.of(4.0, DimensionMeasurement.DimensionUnit.INCHES),
+            WeightMeasurement.of(6.0, WeightMeasurement.WeightUnit.POUNDS));
+        return Dimensions.of(item, packaging);
+    }
+}
@@ -0,0 +1,145 @@
+package com.paklog.productcatalog.infrastructure.spool;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Segment Log Tests")
+class SegmentLogTest {
+
+    private static final int SEGMENT_SIZE = 256;
+
+    @TempDir
+    Path directory;
+
+    @Nested
+    @DisplayName("Append and read")
+    class AppendAndRead {
+
+        @Test
+        @DisplayName("Should read records in append order until acknowledged")
+        void shouldReadInOrder() {
+            try (SegmentLog log = open()) {
+                log.append(bytes("one"));
+                log.append(bytes("two"));
+                log.append(bytes("three"));
+
+                assertThat(payloads(log.read(2))).containsExactly("one", "two");
+                assertThat(payloads(log.read(10))).containsExactly("one", "two", "three");
+
+                log.acknowledge(2);
+
+                assertThat(payloads(log.read(10))).containsExactly("three");
+                assertThat(log.pendingRecords()).isEqualTo(1);
+                assertThat(log.oldestPending()).isPresent();
+            }
+        }
+
+        @Test
+        @DisplayName("Should roll over to new segments and delete consumed ones")
+        void shouldRollAndDeleteSegments() throws IOException {
+            try (SegmentLog log = open()) {
+                for (int i = 0; i < 20; i++) {
+                    log.append(bytes("record-" + i + "-" + "x".repeat(20)));
+                }
+                assertThat(log.segmentCount()).isGreaterThan(1);
+                assertThat(segmentFiles()).isEqualTo(log.segmentCount());
+
+                log.acknowledge(20);
+
+                assertThat(log.isEmpty()).isTrue();
+                assertThat(log.pendingBytes()).isZero();
+                assertThat(log.segmentCount()).isEqualTo(1);
+                assertThat(segmentFiles()).isEqualTo(1);
+            }
+        }
+
+        @Test
+        @DisplayName("Should reject records larger than a segment")
+        void shouldRejectOversizedRecords() {
+            try (SegmentLog log = open()) {
+                assertThatThrownBy(() -> log.append(new byte[SEGMENT_SIZE]))
+                        .isInstanceOf(IllegalArgumentException.class);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Recovery")
+    class Recovery {
+
+        @Test
+        @DisplayName("Should resume from the persisted cursor after reopening")
+        void shouldResumeFromCursor() {
+            try (SegmentLog log = open()) {
+                for (int i = 0; i < 12; i++) {
+                    log.append(bytes("record-" + i + "-" + "x".repeat(20)));
+                }
+                log.acknowledge(5);
+            }
+
+            try (SegmentLog log = open()) {
+                assertThat(log.pendingRecords()).isEqualTo(7);
+                assertThat(payloads(log.read(1)).get(0)).startsWith("record-5-");
+                log.append(bytes("after-restart"));
+                assertThat(payloads(log.read(100))).last().isEqualTo("after-restart");
+            }
+        }
+
+        @Test
+        @DisplayName("Should discard a torn record at the tail")
+        void shouldDiscardCorruptTail() throws IOException {
+            try (SegmentLog log = open()) {
+                log.append(bytes("good"));
+                log.append(bytes("torn"));
+            }
+
+            Path segment;
+            try (Stream<Path> files = Files.list(directory)) {
+                segment = files.filter(path -> path.toString().endsWith(".seg")).findFirst().orElseThrow();
+            }
+            try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+                // Flip a payload byte of the second record
+                long secondPayload = (SegmentLog.HEADER_SIZE + 4) + SegmentLog.HEADER_SIZE;
+                file.seek(secondPayload);
+                file.write('X');
+            }
+
+            try (SegmentLog log = open()) {
+                assertThat(payloads(log.read(10))).containsExactly("good");
+                assertThat(log.discardedRecords()).isEqualTo(1);
+                log.append(bytes("next"));
+                assertThat(payloads(log.read(10))).containsExactly("good", "next");
+            }
+        }
+    }
+
+    private SegmentLog open() {
+        return new SegmentLog(directory, SEGMENT_SIZE, false);
+    }
+
+    private long segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.toString().endsWith(".seg")).count();
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static List<String> payloads(List<LogRecord> records) {
+        return records.stream().map(record -> new String(record.payload(), StandardCharsets.UTF_8)).toList();
+    }
+}
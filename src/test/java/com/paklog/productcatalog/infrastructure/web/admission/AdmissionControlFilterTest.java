@@ -0,0 +1,164 @@
+package com.paklog.productcatalog.infrastructure.web.admission;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paklog.productcatalog.infrastructure.config.AdmissionConfig;
+import com.paklog.productcatalog.infrastructure.config.AdmissionConfig.EndpointClass;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Admission Control Tests")
+class AdmissionControlFilterTest {
+
+    @Nested
+    @DisplayName("AIMD limit")
+    class AimdLimitBehaviour {
+
+        @Test
+        @DisplayName("Should grow by one per timely request while at least half the limit is in use")
+        void shouldIncreaseAdditively() {
+            AimdLimit limit = new AimdLimit(10, 1, 100, 0.5);
+            for (int i = 0; i < 5; i++) {
+                assertThat(limit.tryAcquire(1.0)).isTrue();
+            }
+            limit.release(System.nanoTime(), false);
+            assertThat(limit.limit()).isEqualTo(11);
+
+            limit.release(System.nanoTime(), false);
+            assertThat(limit.limit()).isEqualTo(11);
+        }
+
+        @Test
+        @DisplayName("Should cut multiplicatively once per overload episode")
+        void shouldDecreaseMultiplicatively() {
+            AimdLimit limit = new AimdLimit(40, 1, 100, 0.5);
+            long admitted = System.nanoTime();
+            assertThat(limit.tryAcquire(1.0)).isTrue();
+            assertThat(limit.tryAcquire(1.0)).isTrue();
+
+            limit.release(admitted, true);
+            limit.release(admitted, true);
+            assertThat(limit.limit()).isEqualTo(20);
+
+            assertThat(limit.tryAcquire(1.0)).isTrue();
+            limit.release(System.nanoTime(), true);
+            assertThat(limit.limit()).isEqualTo(10);
+        }
+
+        @Test
+        @DisplayName("Should admit a lower share only up to its fraction of the limit")
+        void shouldHonourShare() {
+            AimdLimit limit = new AimdLimit(10, 1, 100, 0.5);
+            for (int i = 0; i < 5; i++) {
+                assertThat(limit.tryAcquire(0.5)).isTrue();
+            }
+            assertThat(limit.tryAcquire(0.5)).isFalse();
+            assertThat(limit.tryAcquire(1.0)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("Filter")
+    class Filter {
+
+        @Test
+        @DisplayName("Should classify product endpoints")
+        void shouldClassifyEndpoints() {
+            assertThat(AdmissionControlFilter.classify(request("GET", "/products/SKU-1"))).isEqualTo(EndpointClass.READ);
+            assertThat(AdmissionControlFilter.classify(request("GET", "/products"))).isEqualTo(EndpointClass.READ);
+            assertThat(AdmissionControlFilter.classify(request("POST", "/products"))).isEqualTo(EndpointClass.WRITE);
+            assertThat(AdmissionControlFilter.classify(request("DELETE", "/products/SKU-1"))).isEqualTo(EndpointClass.WRITE);
+            assertThat(AdmissionControlFilter.classify(request("POST", "/products/batch-get"))).isEqualTo(EndpointClass.BULK);
+            assertThat(AdmissionControlFilter.classify(request("GET", "/products/changes"))).isEqualTo(EndpointClass.BULK);
+            assertThat(AdmissionControlFilter.classify(request("GET", "/products/export"))).isEqualTo(EndpointClass.EXPORT);
+            assertThat(AdmissionControlFilter.classify(request("POST", "/products/import"))).isEqualTo(EndpointClass.EXPORT);
+        }
+
+        @Test
+        @DisplayName("Should answer 429 with Retry-After once a class is at its limit")
+        void shouldRejectOverClassLimit() throws Exception {
+            AdmissionConfig config = new AdmissionConfig();
+            config.getExport().setInitialLimit(1);
+            config.getExport().setMinLimit(1);
+            config.getExport().setMaxLimit(1);
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            AdmissionControlFilter filter = new AdmissionControlFilter(config, new ObjectMapper(), registry);
+
+            MockHttpServletResponse nested = new MockHttpServletResponse();
+            FilterChain holdsSlot = (req, res) ->
+                    filter.doFilter(request("GET", "/products/export"), nested, new MockFilterChain());
+            filter.doFilter(request("GET", "/products/export"), new MockHttpServletResponse(), holdsSlot);
+
+            assertThat(nested.getStatus()).isEqualTo(429);
+            assertThat(nested.getHeader("Retry-After")).isEqualTo("10");
+            assertThat(nested.getContentAsString()).contains("\"code\":429");
+            assertThat(registry.get("http.admission.rejected").tag("class", "export").tag("reason", "limit")
+                    .counter().count()).isEqualTo(1.0);
+            assertThat(registry.get("http.admission.in.flight").tag("class", "export").gauge().value()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should shed exports before writes when the service is saturated")
+        void shouldShedExportsBeforeWrites() throws Exception {
+            AdmissionConfig config = new AdmissionConfig();
+            config.getGlobal().setInitialLimit(4);
+            config.getGlobal().setMinLimit(4);
+            config.getGlobal().setMaxLimit(4);
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            AdmissionControlFilter filter = new AdmissionControlFilter(config, new ObjectMapper(), registry);
+
+            MockHttpServletResponse export = new MockHttpServletResponse();
+            MockHttpServletResponse write = new MockHttpServletResponse();
+            FilterChain third = (req, res) -> {
+                filter.doFilter(request("GET", "/products/export"), export, new MockFilterChain());
+                filter.doFilter(request("PUT", "/products/SKU-1"), write, new MockFilterChain());
+            };
+            FilterChain second = (req, res) ->
+                    filter.doFilter(request("PUT", "/products/SKU-2"), new MockHttpServletResponse(), third);
+            filter.doFilter(request("PUT", "/products/SKU-3"), new MockHttpServletResponse(), second);
+
+            assertThat(export.getStatus()).isEqualTo(503);
+            assertThat(export.getHeader("Retry-After")).isEqualTo("10");
+            assertThat(write.getStatus()).isEqualTo(200);
+            assertThat(registry.get("http.admission.rejected").tag("class", "export").tag("reason", "shed")
+                    .counter().count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("Should shrink the limit when requests are slow")
+        void shouldShrinkOnSlowRequests() throws Exception {
+            AdmissionConfig config = new AdmissionConfig();
+            config.getRead().setMaxLatency(Duration.ofMillis(5));
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            AdmissionControlFilter filter = new AdmissionControlFilter(config, new ObjectMapper(), registry);
+
+            filter.doFilter(request("GET", "/products/SKU-1"), new MockHttpServletResponse(), (req, res) -> sleep(20));
+
+            assertThat(registry.get("http.admission.limit").tag("class", "read").gauge().value())
+                    .isEqualTo(Math.floor(48 * 0.9));
+        }
+    }
+
+    private static MockHttpServletRequest request(String method, String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRequestURI(uri);
+        return request;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.paklog.productcatalog.infrastructure.writebehind;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.paklog.productcatalog.application.port.output.DomainEventPublisher;
+import com.paklog.productcatalog.application.service.ApplyProductUpdatesService;
+import com.paklog.productcatalog.application.service.DomainEventProcessor;
+import com.paklog.productcatalog.domain.event.DomainEvent;
+import com.paklog.productcatalog.domain.model.Product;
+import com.paklog.productcatalog.domain.model.SKU;
+import com.paklog.productcatalog.domain.repository.ProductRepository;
+import com.paklog.productcatalog.infrastructure.config.WriteBehindConfig;
+import com.paklog.productcatalog.infrastructure.persistence.memory.InMemoryProductRepository;
+import com.paklog.productcatalog.infrastructure.persistence.support.DelegatingProductRepository;
+import com.paklog.productcatalog.infrastructure.spool.SegmentLog;
+import com.paklog.productcatalog.infrastructure.web.dto.ProductDto;
+import com.paklog.productcatalog.infrastructure.web.mapper.ProductDtoMapper;
+import com.paklog.productcatalog.shared.util.MetricsUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Product Write-Behind Tests")
+class ProductWriteBehindTest {
+
+    private static final String BODY = """
+            {"sku":"%s","title":"%s","dimensions":{\
+            "item":{"length":{"value":10,"unit":"INCHES"},"width":{"value":5,"unit":"INCHES"},\
+            "height":{"value":2,"unit":"INCHES"},"weight":{"value":%s,"unit":"POUNDS"}},\
+            "package":{"length":{"value":11,"unit":"INCHES"},"width":{"value":6,"unit":"INCHES"},\
+            "height":{"value":3,"unit":"INCHES"},"weight":{"value":20,"unit":"POUNDS"}}},\
+            "attributes":{"hazmat_info":{"is_hazmat":false}}}""";
+
+    @TempDir
+    Path directory;
+
+    private final InMemoryProductRepository store = new InMemoryProductRepository();
+    private final List<DomainEvent> published = new CopyOnWriteArrayList<>();
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final WriteBehindConfig config = new WriteBehindConfig();
+    private SegmentLog log;
+
+    @AfterEach
+    void tearDown() {
+        if (log != null) {
+            log.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should coalesce updates per SKU into one write and one event each")
+    void shouldCoalesceUpdates() throws IOException {
+        store.save(Product.create(SKU.of("SKU-1"), "Scale 1"));
+        store.save(Product.create(SKU.of("SKU-2"), "Scale 2"));
+        ProductWriteBehind writeBehind = writeBehind(store);
+
+        for (int i = 1; i <= 5; i++) {
+            writeBehind.submit(SKU.of("SKU-1"), body("SKU-1", "Scale 1", "1." + i));
+        }
+        for (int i = 1; i <= 3; i++) {
+            writeBehind.submit(SKU.of("SKU-2"), body("SKU-2", "Scale 2", "2." + i));
+        }
+        writeBehind.submit(SKU.of("SKU-9"), body("SKU-9", "Unknown", "9"));
+
+        assertThat(writeBehind.flush()).isFalse();
+
+        assertThat(weight("SKU-1")).isEqualTo("1.5");
+        assertThat(weight("SKU-2")).isEqualTo("2.3");
+        assertThat(store.findBySku(SKU.of("SKU-1"))).map(Product::getVersion).contains(2L);
+        assertThat(published).hasSize(2);
+        assertThat(log.isEmpty()).isTrue();
+        assertThat(meterRegistry.get("product.write-behind.batch.size").summary().totalAmount()).isEqualTo(9.0);
+        assertThat(meterRegistry.get("product.write-behind.coalescing.ratio").summary().max()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("product.write-behind.dropped").tag("reason", "not-found").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("product.write-behind.accepted").counter().count()).isEqualTo(9.0);
+    }
+
+    @Test
+    @DisplayName("Should apply updates buffered before a restart")
+    void shouldReplayAfterRestart() throws IOException {
+        store.save(Product.create(SKU.of("SKU-1"), "Scale 1"));
+        writeBehind(store).submit(SKU.of("SKU-1"), body("SKU-1", "Scale 1", "7.25"));
+        log.close();
+
+        ProductWriteBehind restarted = writeBehind(store);
+        assertThat(log.pendingRecords()).isEqualTo(1);
+        restarted.flush();
+
+        assertThat(weight("SKU-1")).isEqualTo("7.25");
+        assertThat(log.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should not replay an update written before a crash over a newer write")
+    void shouldNotReplayAppliedUpdate() throws IOException {
+        store.save(Product.create(SKU.of("SKU-1"), "Scale 1"));
+        ProductWriteBehind crashing = writeBehind(new DelegatingProductRepository(store) {
+            @Override
+            public Set<SKU> saveAllIfUnmodified(List<Product> products) {
+                super.saveAllIfUnmodified(products);
+                throw new IllegalStateException("Crashed before acknowledging");
+            }
+        });
+        crashing.submit(SKU.of("SKU-1"), body("SKU-1", "Scale 1", "3"));
+        crashing.flush();
+        assertThat(weight("SKU-1")).isEqualTo("3");
+        log.close();
+
+        Product newer = store.findBySku(SKU.of("SKU-1")).orElseThrow();
+        newer.updateTitle("Renamed later");
+        store.save(newer);
+
+        ProductWriteBehind restarted = writeBehind(store);
+        restarted.flush();
+
+        assertThat(store.findBySku(SKU.of("SKU-1"))).map(Product::getTitle).contains("Renamed later");
+        assertThat(log.isEmpty()).isTrue();
+        assertThat(meterRegistry.get("product.write-behind.dropped").tag("reason", "superseded").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should replay an update journaled but not written before a crash")
+    void shouldReplayUnwrittenUpdate() throws IOException {
+        store.save(Product.create(SKU.of("SKU-1"), "Scale 1"));
+        ProductWriteBehind crashing = writeBehind(new DelegatingProductRepository(store) {
+            @Override
+            public Set<SKU> saveAllIfUnmodified(List<Product> products) {
+                throw new IllegalStateException("Crashed before writing");
+            }
+        });
+        crashing.submit(SKU.of("SKU-1"), body("SKU-1", "Scale 1", "3"));
+        crashing.flush();
+        log.close();
+
+        ProductWriteBehind restarted = writeBehind(store);
+        restarted.flush();
+
+        assertThat(weight("SKU-1")).isEqualTo("3");
+        assertThat(log.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should keep buffered updates while the database is failing")
+    void shouldKeepUpdatesOnFailure() throws IOException {
+        store.save(Product.create(SKU.of("SKU-1"), "Scale 1"));
+        AtomicBoolean failing = new AtomicBoolean(true);
+        ProductWriteBehind writeBehind = writeBehind(new DelegatingProductRepository(store) {
+            @Override
+            public List<Product> findAllBySku(Collection<SKU> skus) {
+                if (failing.get()) {
+                    throw new IllegalStateException("Database unavailable");
+                }
+                return super.findAllBySku(skus);
+            }
+        });
+        writeBehind.submit(SKU.of("SKU-1"), body("SKU-1", "Scale 1", "3"));
+
+        assertThat(writeBehind.flush()).isFalse();
+        assertThat(log.pendingRecords()).isEqualTo(1);
+        assertThat(meterRegistry.get("product.write-behind.flush").tag("outcome", "failure").timer().count())
+                .isEqualTo(1);
+
+        failing.set(false);
+        writeBehind.flush();
+        assertThat(weight("SKU-1")).isEqualTo("3");
+        assertThat(log.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should re-apply an update on top of a product changed between read and write")
+    void shouldRetryOnConcurrentChange() throws IOException {
+        store.save(Product.create(SKU.of("SKU-1"), "Scale 1"));
+        AtomicBoolean interfere = new AtomicBoolean(true);
+        ProductWriteBehind writeBehind = writeBehind(new DelegatingProductRepository(store) {
+            @Override
+            public Set<SKU> saveAllIfUnmodified(List<Product> products) {
+                if (interfere.getAndSet(false)) {
+                    Product other = store.findBySku(SKU.of("SKU-1")).orElseThrow();
+                    other.updateTitle("Renamed meanwhile");
+                    store.save(other);
+                }
+                return super.saveAllIfUnmodified(products);
+            }
+        });
+        writeBehind.submit(SKU.of("SKU-1"), body("SKU-1", "Scale 1", "4"));
+
+        writeBehind.flush();
+
+        Product product = store.findBySku(SKU.of("SKU-1")).orElseThrow();
+        assertThat(weight("SKU-1")).isEqualTo("4");
+        assertThat(product.getVersion()).isEqualTo(3L);
+        assertThat(meterRegistry.get("product.write-behind.dropped").tag("reason", "conflict").counter().count())
+                .isZero();
+    }
+
+    private ProductWriteBehind writeBehind(ProductRepository repository) {
+        MetricsUtil metrics = new MetricsUtil(meterRegistry,
+                meterRegistry.counter("product.created"),
+                meterRegistry.counter("product.updated"),
+                meterRegistry.counter("product.deleted"),
+                meterRegistry.counter("domain.event.published"),
+                meterRegistry.counter("domain.event.failed"));
+        DomainEventPublisher publisher = new DomainEventPublisher() {
+            @Override
+            public void publish(DomainEvent event) {
+                published.add(event);
+            }
+
+            @Override
+            public void publishAll(List<DomainEvent> events) {
+                published.addAll(events);
+            }
+        };
+        var service = new ApplyProductUpdatesService(repository, new DomainEventProcessor(publisher), 3, 1, metrics);
+        config.setDirectory(directory.toString());
+        log = new SegmentLog(directory, 64 * 1024, false);
+        return new ProductWriteBehind(log, service, objectMapper, new ProductDtoMapper(metrics), config, meterRegistry);
+    }
+
+    private ProductDto body(String sku, String title, String weight) throws IOException {
+        return objectMapper.readValue(BODY.formatted(sku, title, weight), ProductDto.class);
+    }
+
+    private String weight(String sku) {
+        return store.findBySku(SKU.of(sku)).orElseThrow()
+                .getDimensions().item().weight().value().stripTrailingZeros().toPlainString();
+    }
+}
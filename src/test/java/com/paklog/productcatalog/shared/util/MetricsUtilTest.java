@@ -0,0 +1,73 @@
+package com.paklog.productcatalog.shared.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Metrics Util Tests")
+class MetricsUtilTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final MetricsUtil metrics = new MetricsUtil(meterRegistry,
+            meterRegistry.counter("product.created"),
+            meterRegistry.counter("product.updated"),
+            meterRegistry.counter("product.deleted"),
+            meterRegistry.counter("domain.event.published"),
+            meterRegistry.counter("domain.event.failed"));
+
+    @Test
+    @DisplayName("Should register every operation timer up front")
+    void shouldRegisterOperationTimersUpFront() {
+        for (MetricsUtil.Operation operation : MetricsUtil.Operation.values()) {
+            assertThat(meterRegistry.find("product.operation")
+                    .tags("operation", MetricsUtil.tagValue(operation), "outcome", MetricsUtil.OUTCOME_SUCCESS)
+                    .timer()).isNotNull();
+            assertThat(meterRegistry.find("product.operation")
+                    .tags("operation", MetricsUtil.tagValue(operation), "outcome", MetricsUtil.OUTCOME_FAILURE)
+                    .timer()).isNotNull();
+        }
+        assertThat(meterRegistry.find("product.operation").tag("operation", "get-batch").timers()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should record into the timer for the operation and outcome")
+    void shouldRecordByOperationAndOutcome() {
+        long started = metrics.start() - TimeUnit.MILLISECONDS.toNanos(20);
+
+        metrics.recordOperation(MetricsUtil.Operation.UPDATE, started, false);
+
+        Timer failed = meterRegistry.get("product.operation").tags("operation", "update", "outcome", "failure").timer();
+        Timer succeeded = meterRegistry.get("product.operation").tags("operation", "update", "outcome", "success").timer();
+        assertThat(failed.count()).isEqualTo(1);
+        assertThat(failed.totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(20);
+        assertThat(succeeded.count()).isZero();
+
+        HistogramSnapshot histogram = failed.takeSnapshot();
+        assertThat(histogram.histogramCounts())
+                .anySatisfy(bucket -> assertThat(bucket.bucket(TimeUnit.MILLISECONDS)).isEqualTo(25.0));
+    }
+
+    @Test
+    @DisplayName("Should count event sends by outcome")
+    void shouldCountEventSends() {
+        metrics.recordEventSend(metrics.start(), true);
+        metrics.recordEventSend(metrics.start(), true);
+        metrics.recordEventSend(metrics.start(), false);
+        metrics.recordEventBatch(3);
+
+        Counter published = meterRegistry.get("domain.event.published").counter();
+        Counter failed = meterRegistry.get("domain.event.failed").counter();
+        assertThat(published.count()).isEqualTo(2);
+        assertThat(failed.count()).isEqualTo(1);
+        assertThat(meterRegistry.get("domain.event.send").tag("outcome", "success").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("domain.event.batch.size").summary().totalAmount()).isEqualTo(3);
+    }
+}